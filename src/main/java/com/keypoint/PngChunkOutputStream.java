@@ -0,0 +1,216 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * PngChunkOutputStream.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * An output stream that packs the bytes written to it into PNG chunks of a
+ * single type (normally "IDAT") and writes each completed chunk to an
+ * underlying stream.  A chunk is emitted whenever the internal buffer is
+ * full, and once more for the remaining bytes when {@link #finish()} is
+ * called.  Each chunk is assembled in one buffer (length, type, data, CRC)
+ * so that it reaches the underlying stream in a single write.
+ */
+class PngChunkOutputStream extends OutputStream {
+
+    /** The underlying stream. */
+    private final OutputStream out;
+
+    /** The chunk type (four bytes). */
+    private final byte[] type;
+
+    /** The chunk buffer, with room for the length, type and CRC fields. */
+    private final byte[] buffer;
+
+    /** The maximum number of data bytes per chunk. */
+    private final int capacity;
+
+    /** The number of data bytes currently held in the buffer. */
+    private int count;
+
+    /** The CRC calculator. */
+    private final CRC32 crc;
+
+    /**
+     * Creates a new stream that uses the given buffer.  The maximum number
+     * of data bytes per chunk is the buffer length less 12 (for the length,
+     * type and CRC fields).
+     *
+     * @param out  the underlying stream (<code>null</code> not permitted).
+     * @param type  the chunk type (four bytes).
+     * @param buffer  the buffer (more than 12 bytes).
+     */
+    PngChunkOutputStream(OutputStream out, byte[] type, byte[] buffer) {
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+        if (buffer.length <= 12) {
+            throw new IllegalArgumentException(
+                    "Requires 'buffer' longer than 12 bytes.");
+        }
+        this.out = out;
+        this.type = type;
+        this.capacity = buffer.length - 12;
+        this.buffer = buffer;
+        this.crc = new CRC32();
+        System.arraycopy(type, 0, this.buffer, 4, 4);
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param b  the byte.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void write(int b) throws IOException {
+        if (this.count == this.capacity) {
+            writeChunk();
+        }
+        this.buffer[8 + this.count] = (byte) b;
+        this.count++;
+    }
+
+    /**
+     * Writes a range of bytes.
+     *
+     * @param data  the data.
+     * @param offset  the offset of the first byte.
+     * @param length  the number of bytes.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void write(byte[] data, int offset, int length)
+            throws IOException {
+        while (length > 0) {
+            if (this.count == this.capacity) {
+                writeChunk();
+            }
+            int n = Math.min(length, this.capacity - this.count);
+            System.arraycopy(data, offset, this.buffer, 8 + this.count, n);
+            this.count += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * Flushes the underlying stream.  Buffered data is not written as a
+     * (short) chunk by this method, use {@link #finish()} for that.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    /**
+     * Writes any buffered data as a final chunk.  The underlying stream is
+     * not closed.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void finish() throws IOException {
+        if (this.count > 0) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * Writes the buffered data as a chunk and empties the buffer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeChunk() throws IOException {
+        int n = this.count;
+        putInt(this.buffer, 0, n);
+        this.crc.reset();
+        this.crc.update(this.buffer, 4, n + 4);
+        putInt(this.buffer, n + 8, (int) this.crc.getValue());
+        this.out.write(this.buffer, 0, n + 12);
+        this.count = 0;
+    }
+
+    /**
+     * Writes a complete chunk to the specified stream.
+     *
+     * @param out  the stream.
+     * @param type  the chunk type (four bytes).
+     * @param data  the chunk data.
+     * @param offset  the offset of the first data byte.
+     * @param length  the number of data bytes.
+     * @param crc  the CRC calculator to use (it will be reset).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    static void writeChunk(OutputStream out, byte[] type, byte[] data,
+            int offset, int length, CRC32 crc) throws IOException {
+        byte[] header = new byte[8];
+        putInt(header, 0, length);
+        System.arraycopy(type, 0, header, 4, 4);
+        crc.reset();
+        crc.update(type);
+        crc.update(data, offset, length);
+        byte[] trailer = new byte[4];
+        putInt(trailer, 0, (int) crc.getValue());
+        out.write(header);
+        out.write(data, offset, length);
+        out.write(trailer);
+    }
+
+    /**
+     * Stores a four-byte big-endian integer in an array.
+     *
+     * @param array  the array.
+     * @param offset  the offset.
+     * @param n  the integer.
+     */
+    static void putInt(byte[] array, int offset, int n) {
+        array[offset] = (byte) ((n >> 24) & 0xff);
+        array[offset + 1] = (byte) ((n >> 16) & 0xff);
+        array[offset + 2] = (byte) ((n >> 8) & 0xff);
+        array[offset + 3] = (byte) (n & 0xff);
+    }
+
+}
@@ -0,0 +1,421 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * PngColorReducer.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+import java.util.Arrays;
+
+/**
+ * Collects the colours used in an image and, when possible, chooses a more
+ * compact PNG colour type than 8-bit truecolour:
+ * <ul>
+ * <li>indexed colour (with a PLTE chunk, and a tRNS chunk for translucent
+ *     colours) at 1, 2, 4 or 8 bits per pixel when there are no more than
+ *     256 distinct colours;</li>
+ * <li>greyscale, or greyscale with alpha, when every pixel is grey;</li>
+ * <li>truecolour without alpha, when alpha is requested but every pixel is
+ *     opaque.</li>
+ * </ul>
+ * Once {@link #finish()} has been called, the reducer is read-only and
+ * {@link #convertRow(byte[], int)} can be called from several threads.
+ */
+class PngColorReducer {
+
+    /** The maximum number of palette entries. */
+    private static final int MAX_COLORS = 256;
+
+    /** The size of the colour hash table (a power of two). */
+    private static final int TABLE_SIZE = 1024;
+
+    /** Is the alpha channel included in the rows? */
+    private final boolean alpha;
+
+    /** The hash table keys (ARGB colours). */
+    private final int[] keys;
+
+    /** The palette index for each key, or -1 for an empty slot. */
+    private final int[] indices;
+
+    /** The colours in the order they were found. */
+    private final int[] colors;
+
+    /** The number of distinct colours (may exceed MAX_COLORS by one). */
+    private int colorCount;
+
+    /** Are all the pixels grey? */
+    private boolean grey;
+
+    /** Are all the pixels opaque? */
+    private boolean opaque;
+
+    /** The PNG colour type (valid after finish()). */
+    private int colorType;
+
+    /** The bit depth (valid after finish()). */
+    private int bitDepth;
+
+    /** The palette, ordered with translucent colours first. */
+    private int[] palette;
+
+    /** The number of translucent palette entries. */
+    private int translucentCount;
+
+    /**
+     * Creates a new reducer.
+     *
+     * @param alpha  do the rows include an alpha channel?
+     */
+    PngColorReducer(boolean alpha) {
+        this.alpha = alpha;
+        this.keys = new int[TABLE_SIZE];
+        this.indices = new int[TABLE_SIZE];
+        Arrays.fill(this.indices, -1);
+        this.colors = new int[MAX_COLORS];
+        this.grey = true;
+        this.opaque = true;
+    }
+
+    /**
+     * Adds the pixels of one row.
+     *
+     * @param row  the row (RGB or RGBA bytes).
+     * @param width  the number of pixels.
+     *
+     * @return <code>false</code> if no reduction is possible (the remaining
+     *     rows need not be added).
+     */
+    boolean addRow(byte[] row, int width) {
+        int pos = 0;
+        for (int x = 0; x < width; x++) {
+            int r = row[pos++] & 0xff;
+            int g = row[pos++] & 0xff;
+            int b = row[pos++] & 0xff;
+            int a = this.alpha ? (row[pos++] & 0xff) : 0xff;
+            add((a << 24) | (r << 16) | (g << 8) | b);
+        }
+        return isReducible();
+    }
+
+    /**
+     * Adds pixels in the default ARGB colour model.
+     *
+     * @param pixels  the pixels.
+     * @param offset  the index of the first pixel.
+     * @param count  the number of pixels.
+     *
+     * @return <code>false</code> if no reduction is possible (the remaining
+     *     pixels need not be added).
+     */
+    boolean addPixels(int[] pixels, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            int p = pixels[i];
+            if (!this.alpha) {
+                p |= 0xff000000;
+            }
+            add(p);
+        }
+        return isReducible();
+    }
+
+    /**
+     * Adds one ARGB colour.
+     *
+     * @param argb  the colour.
+     */
+    private void add(int argb) {
+        if (this.grey) {
+            int r = (argb >> 16) & 0xff;
+            if (r != ((argb >> 8) & 0xff) || r != (argb & 0xff)) {
+                this.grey = false;
+            }
+        }
+        if (this.opaque && (argb >>> 24) != 0xff) {
+            this.opaque = false;
+        }
+        if (this.colorCount <= MAX_COLORS) {
+            int slot = findSlot(argb);
+            if (this.indices[slot] < 0) {
+                if (this.colorCount < MAX_COLORS) {
+                    this.keys[slot] = argb;
+                    this.indices[slot] = this.colorCount;
+                    this.colors[this.colorCount] = argb;
+                }
+                this.colorCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the hash table slot for a colour:  either the slot holding
+     * the colour or the empty slot where it would go.
+     *
+     * @param argb  the colour.
+     *
+     * @return The slot.
+     */
+    private int findSlot(int argb) {
+        int h = argb * 0x9e3779b9;
+        int slot = (h ^ (h >>> 16)) & (TABLE_SIZE - 1);
+        while (this.indices[slot] >= 0 && this.keys[slot] != argb) {
+            slot = (slot + 1) & (TABLE_SIZE - 1);
+        }
+        return slot;
+    }
+
+    /**
+     * Returns <code>true</code> if the pixels added so far can still be
+     * written in a more compact form than the requested truecolour type.
+     *
+     * @return A boolean.
+     */
+    boolean isReducible() {
+        return this.colorCount <= MAX_COLORS || this.grey
+                || (this.alpha && this.opaque);
+    }
+
+    /**
+     * Chooses the colour type and bit depth once all the pixels have been
+     * added.
+     *
+     * @return <code>false</code> if no reduction is possible.
+     */
+    boolean finish() {
+        if (!isReducible()) {
+            return false;
+        }
+        boolean greyOpaque = this.grey && (this.opaque || !this.alpha);
+        if (this.colorCount <= MAX_COLORS
+                && !(greyOpaque && this.colorCount > 16)) {
+            this.colorType = 3;
+            if (this.colorCount <= 2) {
+                this.bitDepth = 1;
+            }
+            else if (this.colorCount <= 4) {
+                this.bitDepth = 2;
+            }
+            else if (this.colorCount <= 16) {
+                this.bitDepth = 4;
+            }
+            else {
+                this.bitDepth = 8;
+            }
+            createPalette();
+        }
+        else if (this.grey) {
+            this.colorType = greyOpaque ? 0 : 4;
+            this.bitDepth = 8;
+        }
+        else {
+            this.colorType = 2;
+            this.bitDepth = 8;
+        }
+        return true;
+    }
+
+    /**
+     * Orders the palette with the translucent colours first (so that the
+     * tRNS chunk can be as short as possible) and updates the hash table.
+     */
+    private void createPalette() {
+        this.palette = new int[this.colorCount];
+        int n = 0;
+        for (int i = 0; i < this.colorCount; i++) {
+            if ((this.colors[i] >>> 24) != 0xff) {
+                this.palette[n++] = this.colors[i];
+            }
+        }
+        this.translucentCount = n;
+        for (int i = 0; i < this.colorCount; i++) {
+            if ((this.colors[i] >>> 24) == 0xff) {
+                this.palette[n++] = this.colors[i];
+            }
+        }
+        for (int i = 0; i < this.palette.length; i++) {
+            this.indices[findSlot(this.palette[i])] = i;
+        }
+    }
+
+    /**
+     * Returns the PNG colour type.
+     *
+     * @return The colour type (0, 2, 3 or 4).
+     */
+    int getColorType() {
+        return this.colorType;
+    }
+
+    /**
+     * Returns the bit depth.
+     *
+     * @return The bit depth (1, 2, 4 or 8).
+     */
+    int getBitDepth() {
+        return this.bitDepth;
+    }
+
+    /**
+     * Returns the number of bytes per pixel used by the filters (1 for
+     * sub-byte bit depths).
+     *
+     * @return The number of bytes per pixel.
+     */
+    int getBytesPerPixel() {
+        switch (this.colorType) {
+            case 2:
+                return 3;
+            case 4:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Returns the number of bytes in a converted row (excluding the filter
+     * type byte).
+     *
+     * @param width  the number of pixels.
+     *
+     * @return The number of bytes.
+     */
+    int getRowBytes(int width) {
+        if (this.colorType == 3) {
+            return (width * this.bitDepth + 7) / 8;
+        }
+        return width * getBytesPerPixel();
+    }
+
+    /**
+     * Returns the data for the PLTE chunk.
+     *
+     * @return The data, or <code>null</code> if the colour type is not
+     *     indexed.
+     */
+    byte[] getPaletteData() {
+        if (this.palette == null) {
+            return null;
+        }
+        byte[] data = new byte[this.palette.length * 3];
+        for (int i = 0; i < this.palette.length; i++) {
+            int c = this.palette[i];
+            data[i * 3] = (byte) (c >> 16);
+            data[i * 3 + 1] = (byte) (c >> 8);
+            data[i * 3 + 2] = (byte) c;
+        }
+        return data;
+    }
+
+    /**
+     * Returns the data for the tRNS chunk.
+     *
+     * @return The data, or <code>null</code> if no tRNS chunk is needed.
+     */
+    byte[] getTransparencyData() {
+        if (this.palette == null || this.translucentCount == 0) {
+            return null;
+        }
+        byte[] data = new byte[this.translucentCount];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (this.palette[i] >>> 24);
+        }
+        return data;
+    }
+
+    /**
+     * Converts a row of RGB or RGBA bytes to the reduced format, in place.
+     *
+     * @param row  the row.
+     * @param width  the number of pixels.
+     */
+    void convertRow(byte[] row, int width) {
+        int in = 0;
+        int out = 0;
+        int step = this.alpha ? 4 : 3;
+        switch (this.colorType) {
+            case 0:
+                for (int x = 0; x < width; x++) {
+                    row[out++] = row[in];
+                    in += step;
+                }
+                break;
+            case 2:
+                for (int x = 0; x < width; x++) {
+                    row[out++] = row[in];
+                    row[out++] = row[in + 1];
+                    row[out++] = row[in + 2];
+                    in += step;
+                }
+                break;
+            case 4:
+                for (int x = 0; x < width; x++) {
+                    byte g = row[in];
+                    byte a = this.alpha ? row[in + 3] : (byte) 0xff;
+                    row[out++] = g;
+                    row[out++] = a;
+                    in += step;
+                }
+                break;
+            default:
+                int depth = this.bitDepth;
+                int perByte = 8 / depth;
+                int acc = 0;
+                int n = 0;
+                for (int x = 0; x < width; x++) {
+                    int argb = ((row[in] & 0xff) << 16)
+                            | ((row[in + 1] & 0xff) << 8)
+                            | (row[in + 2] & 0xff);
+                    argb |= this.alpha ? (row[in + 3] & 0xff) << 24
+                            : 0xff000000;
+                    in += step;
+                    acc = (acc << depth) | this.indices[findSlot(argb)];
+                    if (++n == perByte) {
+                        row[out++] = (byte) acc;
+                        acc = 0;
+                        n = 0;
+                    }
+                }
+                if (n > 0) {
+                    row[out] = (byte) (acc << (depth * (perByte - n)));
+                }
+                break;
+        }
+    }
+
+}
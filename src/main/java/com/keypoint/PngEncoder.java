@@ -5,6 +5,11 @@ import java.awt.image.ImageObserver;
 import java.awt.image.PixelGrabber;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.CRC32;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
@@ -51,6 +56,21 @@ import java.util.zip.DeflaterOutputStream;
  *               Fixed bug with calculation of nRows
  * 15-Aug-2008 : Added scrunch.end() in writeImageData() method - see
  *               JFreeChart bug report 2037930 (David Gilbert);
+ * 16-Oct-2026 : Added encode(OutputStream) and encode(WritableByteChannel)
+ *               methods that stream the PNG to a sink without building the
+ *               whole file in memory;
+ * 16-Oct-2026 : Added parallel compression mode, and made the filtering of
+ *               each strip independent of the encoder state (which fixes the
+ *               sub and up filters across pixel and strip boundaries);
+ * 16-Oct-2026 : Read the pixels of common BufferedImage types directly from
+ *               the data buffer, and reuse the scan line buffers;
+ * 16-Oct-2026 : Added average and Paeth filters, and adaptive selection of
+ *               the filter for each row;
+ * 16-Oct-2026 : Added optional reduction to indexed colour or greyscale
+ *               output;
+ * 16-Oct-2026 : Added recycling of the deflater and work buffers, for use by
+ *               PngEncoderPool;
+ * 17-Oct-2026 : Added @Deprecated annotations to the deprecated members;
  */
 
 public class PngEncoder {
@@ -70,8 +90,21 @@ public class PngEncoder {
     /** Constants for filter (UP). */
     public static final int FILTER_UP = 2;
 
+    /** Constants for filter (AVERAGE). */
+    public static final int FILTER_AVERAGE = 3;
+
+    /** Constants for filter (PAETH). */
+    public static final int FILTER_PAETH = 4;
+
+    /**
+     * Constants for filter (ADAPTIVE).  This is not a PNG filter type:  it
+     * selects the filter for each row that gives the minimum sum of absolute
+     * differences, which usually gives the best compression.
+     */
+    public static final int FILTER_ADAPTIVE = 5;
+
     /** Constants for filter (LAST). */
-    public static final int FILTER_LAST = 2;
+    public static final int FILTER_LAST = 5;
 
     /** IHDR tag. */
     protected static final byte[] IHDR = {73, 72, 68, 82};
@@ -86,13 +119,56 @@ public class PngEncoder {
     protected static final byte[] PHYS = {(byte)'p', (byte)'H', (byte)'Y',
         (byte)'s'};
 
+    /** PLTE tag. */
+    protected static final byte[] PLTE = {80, 76, 84, 69};
+
+    /** tRNS tag. */
+    protected static final byte[] TRNS = {116, 82, 78, 83};
+
+    /** Index of the scan line work buffer. */
+    private static final int SCAN_LINE_BUFFER = 0;
+
+    /** Index of the prior row work buffer. */
+    private static final int PRIOR_BUFFER = 1;
+
+    /** Index of the current row work buffer. */
+    private static final int CURRENT_BUFFER = 2;
+
+    /** Index of the deflater output work buffer. */
+    private static final int DEFLATE_BUFFER = 3;
+
+    /** Index of the IDAT chunk work buffer. */
+    private static final int CHUNK_BUFFER = 4;
+
+    /** The PNG file signature. */
+    protected static final byte[] SIGNATURE = {-119, 80, 78, 71, 13, 10, 26,
+        10};
+
+    /**
+     * The maximum number of data bytes in each IDAT chunk written by the
+     * streaming {@link #encode(OutputStream)} method.
+     */
+    protected static final int IDAT_CHUNK_SIZE = 32768;
+
     /** The png bytes. */
     protected byte[] pngBytes;
 
-    /** The prior row. */
+    /**
+     * The prior row.
+     *
+     * @deprecated No longer used, the scan lines are now filtered by
+     *     {@link #createScanLines(int, int)}.
+     */
+    @Deprecated
     protected byte[] priorRow;
 
-    /** The left bytes. */
+    /**
+     * The left bytes.
+     *
+     * @deprecated No longer used, the scan lines are now filtered by
+     *     {@link #createScanLines(int, int)}.
+     */
+    @Deprecated
     protected byte[] leftBytes;
 
     /** The image. */
@@ -140,6 +216,42 @@ public class PngEncoder {
      */
     protected int compressionLevel;
 
+    /**
+     * Reduce the output to indexed colour or greyscale when the image
+     * allows it?
+     */
+    private boolean reduceColors;
+
+    /**
+     * The colour reducer for the image being encoded (<code>null</code> if
+     * the image is written as 8-bit truecolour).
+     */
+    private PngColorReducer reducer;
+
+    /**
+     * Keep the deflater and work buffers for the next image?  This is used
+     * by {@link PngEncoderPool}.
+     */
+    private boolean recycle;
+
+    /** The deflater kept for the next image (when recycling). */
+    private Deflater deflater;
+
+    /** The work buffers kept for the next image (when recycling). */
+    private byte[][] workBuffers;
+
+    /**
+     * The number of strips that are compressed at the same time (1 = the
+     * image is compressed on the calling thread).
+     */
+    private int parallelism = 1;
+
+    /**
+     * The pool used for parallel compression (if <code>null</code>, a pool
+     * is created for each image).
+     */
+    private ForkJoinPool pool;
+
     /**
      * Class constructor.
      */
@@ -176,7 +288,8 @@ public class PngEncoder {
      *
      * @param image A Java Image object which uses the DirectColorModel
      * @param encodeAlpha Encode the alpha channel? false=no; true=yes
-     * @param whichFilter 0=none, 1=sub, 2=up
+     * @param whichFilter 0=none, 1=sub, 2=up, 3=average, 4=paeth,
+     *        5=adaptive
      * @see java.awt.Image
      */
     public PngEncoder(Image image, boolean encodeAlpha, int whichFilter) {
@@ -190,7 +303,8 @@ public class PngEncoder {
      *
      * @param image A Java Image object
      * @param encodeAlpha Encode the alpha channel? false=no; true=yes
-     * @param whichFilter 0=none, 1=sub, 2=up
+     * @param whichFilter 0=none, 1=sub, 2=up, 3=average, 4=paeth,
+     *        5=adaptive
      * @param compLevel 0..9 (1 = best speed, 9 = best compression, 0 = no
      *        compression)
      * @see java.awt.Image
@@ -234,13 +348,14 @@ public class PngEncoder {
      * @return an array of bytes, or null if there was a problem
      */
     public byte[] pngEncode(boolean encodeAlpha) {
-        byte[]  pngIdBytes = {-119, 80, 78, 71, 13, 10, 26, 10};
-
         if (this.image == null) {
             return null;
         }
         this.width = this.image.getWidth(null);
         this.height = this.image.getHeight(null);
+        if (!analyzeColors()) {
+            return null;
+        }
 
         /*
          * start with an array that is big enough to hold all the pixels
@@ -253,10 +368,11 @@ public class PngEncoder {
          */
         this.maxPos = 0;
 
-        this.bytePos = writeBytes(pngIdBytes, 0);
+        this.bytePos = writeBytes(SIGNATURE, 0);
         //hdrPos = bytePos;
         writeHeader();
         writeResolution();
+        writePalette();
         //dataPos = bytePos;
         if (writeImageData()) {
             writeEnd();
@@ -278,6 +394,95 @@ public class PngEncoder {
         return pngEncode(this.encodeAlpha);
     }
 
+    /**
+     * Writes the PNG equivalent of the current image to an output stream.
+     * Unlike {@link #pngEncode()}, the file is not assembled in memory:  the
+     * signature, header and resolution chunks are written directly, and the
+     * compressed image data is written as a series of IDAT chunks of at most
+     * {@link #IDAT_CHUNK_SIZE} bytes, so that the memory used is bounded by
+     * one strip of scan lines.  The stream is flushed but not closed.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem, or the image pixels
+     *         cannot be grabbed.
+     * @throws IllegalStateException if no image has been set.
+     */
+    public void encode(OutputStream out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+        if (this.image == null) {
+            throw new IllegalStateException("No image to encode.");
+        }
+        this.width = this.image.getWidth(null);
+        this.height = this.image.getHeight(null);
+        if (!analyzeColors()) {
+            throw new IOException("Unable to grab the image pixels.");
+        }
+
+        out.write(SIGNATURE);
+
+        byte[] header = new byte[13];
+        PngChunkOutputStream.putInt(header, 0, this.width);
+        PngChunkOutputStream.putInt(header, 4, this.height);
+        header[8] = (byte) getBitDepth();
+        header[9] = (byte) getColorType();
+        header[10] = 0; // compression method
+        header[11] = 0; // filter method
+        header[12] = 0; // no interlace
+        PngChunkOutputStream.writeChunk(out, IHDR, header, 0, header.length,
+                this.crc);
+
+        if (this.xDpi > 0 && this.yDpi > 0) {
+            byte[] phys = new byte[9];
+            PngChunkOutputStream.putInt(phys, 0, this.xDpi);
+            PngChunkOutputStream.putInt(phys, 4, this.yDpi);
+            phys[8] = 1; // unit is the meter.
+            PngChunkOutputStream.writeChunk(out, PHYS, phys, 0, phys.length,
+                    this.crc);
+        }
+
+        if (this.reducer != null && this.reducer.getColorType() == 3) {
+            byte[] palette = this.reducer.getPaletteData();
+            PngChunkOutputStream.writeChunk(out, PLTE, palette, 0,
+                    palette.length, this.crc);
+            byte[] trns = this.reducer.getTransparencyData();
+            if (trns != null) {
+                PngChunkOutputStream.writeChunk(out, TRNS, trns, 0,
+                        trns.length, this.crc);
+            }
+        }
+
+        PngChunkOutputStream idat = new PngChunkOutputStream(out, IDAT,
+                getWorkBuffer(CHUNK_BUFFER, IDAT_CHUNK_SIZE + 12));
+        if (!writeCompressedData(idat)) {
+            throw new IOException("Unable to grab the image pixels.");
+        }
+        idat.finish();
+
+        PngChunkOutputStream.writeChunk(out, IEND, new byte[0], 0, 0,
+                this.crc);
+        out.flush();
+    }
+
+    /**
+     * Writes the PNG equivalent of the current image to a channel.  See
+     * {@link #encode(OutputStream)} for details.  The channel is not closed.
+     *
+     * @param channel  the channel (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem, or the image pixels
+     *         cannot be grabbed.
+     * @throws IllegalStateException if no image has been set.
+     */
+    public void encode(WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Null 'channel' argument.");
+        }
+        encode(Channels.newOutputStream(channel));
+    }
+
     /**
      * Set the alpha encoding on or off.
      *
@@ -303,7 +508,7 @@ public class PngEncoder {
      */
     public void setFilter(int whichFilter) {
         this.filter = FILTER_NONE;
-        if (whichFilter <= FILTER_LAST) {
+        if (whichFilter >= FILTER_NONE && whichFilter <= FILTER_LAST) {
             this.filter = whichFilter;
         }
     }
@@ -338,6 +543,84 @@ public class PngEncoder {
         return this.compressionLevel;
     }
 
+    /**
+     * Sets the flag that controls whether the encoder looks for a more
+     * compact way to write the image.  When this is enabled, the encoder
+     * makes a quick pass over the pixels before encoding and:
+     * <ul>
+     * <li>writes an indexed colour image (with PLTE, and tRNS if needed) at
+     *     1, 2, 4 or 8 bits per pixel when the image has no more than 256
+     *     distinct colours;</li>
+     * <li>writes a greyscale image (with alpha if needed) when every pixel
+     *     is grey;</li>
+     * <li>drops the alpha channel when every pixel is opaque.</li>
+     * </ul>
+     * Otherwise the image is written as 8-bit truecolour, as usual.  The
+     * flag is off by default.
+     *
+     * @param reduceColors  the flag.
+     */
+    public void setReduceColors(boolean reduceColors) {
+        this.reduceColors = reduceColors;
+    }
+
+    /**
+     * Returns the flag that controls whether the encoder looks for a more
+     * compact way to write the image.
+     *
+     * @return The flag.
+     */
+    public boolean getReduceColors() {
+        return this.reduceColors;
+    }
+
+    /**
+     * Sets the number of strips of the image that are filtered and
+     * compressed at the same time.  The default is 1, which compresses the
+     * image on the calling thread.  Values greater than 1 enable the parallel
+     * mode, which splits the image into strips that are compressed on a
+     * {@link ForkJoinPool} and joined into a single zlib stream.  The output
+     * is slightly larger than in the sequential mode.
+     *
+     * @param parallelism  the parallelism level (values less than 1 are
+     *     treated as 1).
+     *
+     * @see #setForkJoinPool(ForkJoinPool)
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns the number of strips that are compressed at the same time.
+     *
+     * @return The parallelism level (1 = the image is compressed on the
+     *     calling thread).
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the pool used in the parallel mode.  If no pool is set, a pool
+     * with the requested parallelism is created for each image and shut down
+     * afterwards.  The encoder never shuts down a pool passed to this method.
+     *
+     * @param pool  the pool (<code>null</code> permitted).
+     */
+    public void setForkJoinPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the pool used in the parallel mode.
+     *
+     * @return The pool (possibly <code>null</code>).
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return this.pool;
+    }
+
     /**
      * Increase or decrease the length of a byte array.
      *
@@ -447,9 +730,8 @@ public class PngEncoder {
         this.height = this.image.getHeight(null);
         this.bytePos = writeInt4(this.width, this.bytePos);
         this.bytePos = writeInt4(this.height, this.bytePos);
-        this.bytePos = writeByte(8, this.bytePos); // bit depth
-        this.bytePos = writeByte((this.encodeAlpha) ? 6 : 2, this.bytePos);
-            // direct model
+        this.bytePos = writeByte(getBitDepth(), this.bytePos);
+        this.bytePos = writeByte(getColorType(), this.bytePos);
         this.bytePos = writeByte(0, this.bytePos); // compression method
         this.bytePos = writeByte(0, this.bytePos); // filter method
         this.bytePos = writeByte(0, this.bytePos); // no interlace
@@ -468,7 +750,11 @@ public class PngEncoder {
      * @param pixels The array holding the scan lines being built
      * @param startPos Starting position within pixels of bytes to be filtered.
      * @param width Width of a scanline in pixels.
+     *
+     * @deprecated This method does not carry the left bytes over from the
+     *     first pixel of the row, use {@link #createScanLines(int, int)}.
      */
+    @Deprecated
     protected void filterSub(byte[] pixels, int startPos, int width) {
         int offset = this.bytesPerPixel;
         int actualStart = startPos + offset;
@@ -492,7 +778,10 @@ public class PngEncoder {
      * @param pixels The array holding the scan lines being built
      * @param startPos Starting position within pixels of bytes to be filtered.
      * @param width Width of a scanline in pixels.
+     *
+     * @deprecated No longer used, see {@link #createScanLines(int, int)}.
      */
+    @Deprecated
     protected void filterUp(byte[] pixels, int startPos, int width) {
 
         final int nBytes = width * this.bytesPerPixel;
@@ -515,99 +804,14 @@ public class PngEncoder {
      * @return true if no errors; false if error grabbing pixels
      */
     protected boolean writeImageData() {
-        int rowsLeft = this.height;  // number of rows remaining to write
-        int startRow = 0;       // starting row to process this time through
-        int nRows;              // how many rows to grab at a time
-
-        byte[] scanLines;       // the scan lines to be compressed
-        int scanPos;            // where we are in the scan lines
-        int startPos;           // where this line's actual pixels start (used
-                                // for filtering)
-
         byte[] compressedLines; // the resultant compressed lines
         int nCompressed;        // how big is the compressed area?
 
-        //int depth;              // color depth ( handle only 8 or 32 )
-
-        PixelGrabber pg;
-
-        this.bytesPerPixel = (this.encodeAlpha) ? 4 : 3;
-
-        Deflater scrunch = new Deflater(this.compressionLevel);
         ByteArrayOutputStream outBytes = new ByteArrayOutputStream(1024);
-
-        DeflaterOutputStream compBytes = new DeflaterOutputStream(outBytes,
-                scrunch);
         try {
-            while (rowsLeft > 0) {
-                nRows = Math.min(32767 / (this.width
-                        * (this.bytesPerPixel + 1)), rowsLeft);
-                nRows = Math.max(nRows, 1);
-
-                int[] pixels = new int[this.width * nRows];
-
-                pg = new PixelGrabber(this.image, 0, startRow,
-                        this.width, nRows, pixels, 0, this.width);
-                try {
-                    pg.grabPixels();
-                }
-                catch (Exception e) {
-                    System.err.println("interrupted waiting for pixels!");
-                    return false;
-                }
-                if ((pg.getStatus() & ImageObserver.ABORT) != 0) {
-                    System.err.println("image fetch aborted or errored");
-                    return false;
-                }
-
-                /*
-                 * Create a data chunk. scanLines adds "nRows" for
-                 * the filter bytes.
-                 */
-                scanLines = new byte[this.width * nRows * this.bytesPerPixel
-                                     + nRows];
-
-                if (this.filter == FILTER_SUB) {
-                    this.leftBytes = new byte[16];
-                }
-                if (this.filter == FILTER_UP) {
-                    this.priorRow = new byte[this.width * this.bytesPerPixel];
-                }
-
-                scanPos = 0;
-                startPos = 1;
-                for (int i = 0; i < this.width * nRows; i++) {
-                    if (i % this.width == 0) {
-                        scanLines[scanPos++] = (byte) this.filter;
-                        startPos = scanPos;
-                    }
-                    scanLines[scanPos++] = (byte) ((pixels[i] >> 16) & 0xff);
-                    scanLines[scanPos++] = (byte) ((pixels[i] >>  8) & 0xff);
-                    scanLines[scanPos++] = (byte) ((pixels[i]) & 0xff);
-                    if (this.encodeAlpha) {
-                        scanLines[scanPos++] = (byte) ((pixels[i] >> 24)
-                                & 0xff);
-                    }
-                    if ((i % this.width == this.width - 1)
-                            && (this.filter != FILTER_NONE)) {
-                        if (this.filter == FILTER_SUB) {
-                            filterSub(scanLines, startPos, this.width);
-                        }
-                        if (this.filter == FILTER_UP) {
-                            filterUp(scanLines, startPos, this.width);
-                        }
-                    }
-                }
-
-                /*
-                 * Write these lines to the output area
-                 */
-                compBytes.write(scanLines, 0, scanPos);
-
-                startRow += nRows;
-                rowsLeft -= nRows;
+            if (!writeCompressedData(outBytes)) {
+                return false;
             }
-            compBytes.close();
 
             /*
              * Write the compressed bytes
@@ -625,8 +829,6 @@ public class PngEncoder {
 
             this.crcValue = this.crc.getValue();
             this.bytePos = writeInt4((int) this.crcValue, this.bytePos);
-            scrunch.finish();
-            scrunch.end();
             return true;
         }
         catch (IOException e) {
@@ -635,6 +837,353 @@ public class PngEncoder {
         }
     }
 
+    /**
+     * Writes the image data to the given stream as a complete zlib stream,
+     * using the parallel mode if it is enabled.
+     *
+     * @param out  the stream that receives the compressed data.
+     *
+     * @return true if no errors; false if error grabbing pixels
+     *
+     * @throws IOException if there is a problem writing to the stream.
+     */
+    protected boolean writeCompressedData(OutputStream out)
+            throws IOException {
+        if (this.reducer != null) {
+            this.bytesPerPixel = this.reducer.getBytesPerPixel();
+        }
+        else {
+            this.bytesPerPixel = (this.encodeAlpha) ? 4 : 3;
+        }
+        if (this.parallelism > 1) {
+            ForkJoinPool p = this.pool;
+            if (p == null) {
+                p = new ForkJoinPool(this.parallelism);
+            }
+            try {
+                return new PngParallelCompressor(this, p, this.parallelism,
+                        this.compressionLevel).compress(out);
+            }
+            finally {
+                if (p != this.pool) {
+                    p.shutdown();
+                }
+            }
+        }
+        Deflater scrunch = getDeflater();
+        try {
+            DeflaterOutputStream compBytes = new BufferedDeflaterOutputStream(
+                    out, scrunch, getWorkBuffer(DEFLATE_BUFFER,
+                    IDAT_CHUNK_SIZE));
+            if (!writeScanLines(compBytes)) {
+                return false;
+            }
+            compBytes.finish();
+            return true;
+        }
+        finally {
+            if (scrunch != this.deflater) {
+                scrunch.end();
+            }
+        }
+    }
+
+    /**
+     * Converts the image to filtered scan lines and writes them to the given
+     * stream (normally a stream that compresses the data).  In order to
+     * conserve memory, this method processes as many rows as will fit into
+     * 32K bytes, or the whole image; whichever is less, and reuses the same
+     * buffers for each strip.
+     *
+     * @param out  the stream that receives the scan lines.
+     *
+     * @return true if no errors; false if error grabbing pixels
+     *
+     * @throws IOException if there is a problem writing to the stream.
+     */
+    protected boolean writeScanLines(OutputStream out) throws IOException {
+        int rowsLeft = this.height;  // number of rows remaining to write
+        int startRow = 0;       // starting row to process this time through
+        int nRows;              // how many rows to grab at a time
+
+        int rowBytes = getRowBytes();
+        int maxRows = Math.max(1, Math.min(32767 / (rowBytes + 1),
+                rowsLeft));
+        byte[] scanLines = getWorkBuffer(SCAN_LINE_BUFFER,
+                (rowBytes + 1) * maxRows);
+        byte[] prior = getWorkBuffer(PRIOR_BUFFER, getWorkRowBytes());
+        byte[] current = getWorkBuffer(CURRENT_BUFFER, getWorkRowBytes());
+
+        while (rowsLeft > 0) {
+            nRows = Math.min(maxRows, rowsLeft);
+            if (!fillScanLines(startRow, nRows, scanLines, prior, current)) {
+                return false;
+            }
+
+            /*
+             * Write these lines to the output area
+             */
+            out.write(scanLines, 0, (rowBytes + 1) * nRows);
+
+            startRow += nRows;
+            rowsLeft -= nRows;
+        }
+        return true;
+    }
+
+    /**
+     * Creates the filtered scan lines for a strip of the image, each one
+     * starting with its filter type byte.  This method does not depend on
+     * the strips that were created before and can be called for several
+     * strips at the same time.
+     *
+     * @param startRow  the first row of the strip.
+     * @param nRows  the number of rows in the strip.
+     *
+     * @return The scan lines, or <code>null</code> if there was an error
+     *     grabbing the pixels.
+     *
+     * @see #fillScanLines(int, int, byte[], byte[], byte[])
+     */
+    protected byte[] createScanLines(int startRow, int nRows) {
+        int rowBytes = getRowBytes();
+        byte[] scanLines = new byte[(rowBytes + 1) * nRows];
+        if (!fillScanLines(startRow, nRows, scanLines,
+                new byte[getWorkRowBytes()], new byte[getWorkRowBytes()])) {
+            return null;
+        }
+        return scanLines;
+    }
+
+    /**
+     * Fills a buffer with the filtered scan lines for a strip of the image,
+     * each one starting with its filter type byte.  When a filter needs the
+     * prior row, the row above the strip is read as well, so this method
+     * does not depend on the strips that were created before and can be
+     * called for several strips at the same time (with different buffers).
+     * <p>
+     * If the image is a <code>BufferedImage</code> of type
+     * <code>TYPE_INT_ARGB</code>, <code>TYPE_INT_RGB</code>,
+     * <code>TYPE_3BYTE_BGR</code> or <code>TYPE_4BYTE_ABGR</code>, the rows
+     * are read directly from its data buffer.  Other images go through a
+     * <code>PixelGrabber</code>.  Each row is read as 8-bit RGB or RGBA, and
+     * then converted in place if the colours are being reduced.
+     *
+     * @param startRow  the first row of the strip.
+     * @param nRows  the number of rows in the strip.
+     * @param scanLines  the buffer that receives the scan lines (at least
+     *     (bytes per row + 1) * nRows bytes).
+     * @param prior  a work buffer of width * 4 bytes (width * 3 bytes is
+     *     enough when the alpha channel is not encoded).
+     * @param current  another work buffer of the same size.
+     *
+     * @return true if no errors; false if error grabbing pixels
+     */
+    protected boolean fillScanLines(int startRow, int nRows,
+            byte[] scanLines, byte[] prior, byte[] current) {
+        int bpp = this.bytesPerPixel;
+        int rowBytes = getRowBytes();
+        int priorRows = (startRow > 0 && this.filter != FILTER_NONE
+                && this.filter != FILTER_SUB) ? 1 : 0;
+
+        PngRasterReader reader = PngRasterReader.create(this.image);
+        int[] pixels = null;
+        if (reader == null) {
+            pixels = grabPixels(startRow - priorRows, nRows + priorRows);
+            if (pixels == null) {
+                return false;
+            }
+        }
+
+        if (priorRows > 0) {
+            if (reader != null) {
+                reader.readRow(startRow - 1, prior, this.encodeAlpha);
+            }
+            else {
+                unpackRow(pixels, 0, prior);
+            }
+            if (this.reducer != null) {
+                this.reducer.convertRow(prior, this.width);
+            }
+        }
+        else {
+            Arrays.fill(prior, 0, rowBytes, (byte) 0);
+        }
+        int scanPos = 0;
+        for (int row = 0; row < nRows; row++) {
+            if (reader != null) {
+                reader.readRow(startRow + row, current, this.encodeAlpha);
+            }
+            else {
+                unpackRow(pixels, (row + priorRows) * this.width, current);
+            }
+            if (this.reducer != null) {
+                this.reducer.convertRow(current, this.width);
+            }
+            int rowFilter = this.filter;
+            if (rowFilter == FILTER_ADAPTIVE) {
+                rowFilter = chooseFilter(current, prior, bpp, rowBytes);
+            }
+            scanLines[scanPos++] = (byte) rowFilter;
+            filterRow(rowFilter, current, prior, bpp, rowBytes, scanLines,
+                    scanPos);
+            scanPos += rowBytes;
+            byte[] temp = prior;
+            prior = current;
+            current = temp;
+        }
+        return true;
+    }
+
+    /**
+     * Unpacks one row of ARGB pixels into RGB or RGBA bytes.
+     *
+     * @param pixels  the pixels.
+     * @param offset  the index of the first pixel of the row.
+     * @param row  the array that receives the bytes.
+     */
+    private void unpackRow(int[] pixels, int offset, byte[] row) {
+        int pos = 0;
+        for (int i = offset; i < offset + this.width; i++) {
+            int p = pixels[i];
+            row[pos++] = (byte) ((p >> 16) & 0xff);
+            row[pos++] = (byte) ((p >> 8) & 0xff);
+            row[pos++] = (byte) (p & 0xff);
+            if (this.encodeAlpha) {
+                row[pos++] = (byte) ((p >> 24) & 0xff);
+            }
+        }
+    }
+
+    /**
+     * Applies a filter to one row.
+     *
+     * @param filterType  the filter type (not FILTER_ADAPTIVE).
+     * @param row  the unfiltered row.
+     * @param prior  the unfiltered prior row (all zero for the first row).
+     * @param bpp  the number of bytes per pixel.
+     * @param n  the number of bytes in the row.
+     * @param dest  the array that receives the filtered row.
+     * @param destPos  the position of the first filtered byte in dest.
+     */
+    static void filterRow(int filterType, byte[] row, byte[] prior, int bpp,
+            int n, byte[] dest, int destPos) {
+        switch (filterType) {
+            case FILTER_SUB:
+                System.arraycopy(row, 0, dest, destPos, bpp);
+                for (int i = bpp; i < n; i++) {
+                    dest[destPos + i] = (byte) (row[i] - row[i - bpp]);
+                }
+                break;
+            case FILTER_UP:
+                for (int i = 0; i < n; i++) {
+                    dest[destPos + i] = (byte) (row[i] - prior[i]);
+                }
+                break;
+            case FILTER_AVERAGE:
+                for (int i = 0; i < bpp; i++) {
+                    dest[destPos + i] = (byte) (row[i]
+                            - ((prior[i] & 0xff) >>> 1));
+                }
+                for (int i = bpp; i < n; i++) {
+                    dest[destPos + i] = (byte) (row[i] - (((row[i - bpp]
+                            & 0xff) + (prior[i] & 0xff)) >>> 1));
+                }
+                break;
+            case FILTER_PAETH:
+                for (int i = 0; i < bpp; i++) {
+                    dest[destPos + i] = (byte) (row[i] - prior[i]);
+                }
+                for (int i = bpp; i < n; i++) {
+                    dest[destPos + i] = (byte) (row[i] - paeth(
+                            row[i - bpp] & 0xff, prior[i] & 0xff,
+                            prior[i - bpp] & 0xff));
+                }
+                break;
+            default:
+                System.arraycopy(row, 0, dest, destPos, n);
+                break;
+        }
+    }
+
+    /**
+     * Chooses the filter for a row using the minimum sum of absolute
+     * differences heuristic recommended by the PNG specification:  each
+     * filtered byte is treated as a signed value and the filter with the
+     * smallest sum of magnitudes is selected.  The sums for all five filters
+     * are computed in a single pass over the row.
+     *
+     * @param row  the unfiltered row.
+     * @param prior  the unfiltered prior row (all zero for the first row).
+     * @param bpp  the number of bytes per pixel.
+     * @param n  the number of bytes in the row.
+     *
+     * @return The filter type.
+     */
+    static int chooseFilter(byte[] row, byte[] prior, int bpp, int n) {
+        long none = 0;
+        long sub = 0;
+        long up = 0;
+        long average = 0;
+        long paeth = 0;
+        for (int i = 0; i < n; i++) {
+            int x = row[i] & 0xff;
+            int b = prior[i] & 0xff;
+            int a = 0;
+            int c = 0;
+            if (i >= bpp) {
+                a = row[i - bpp] & 0xff;
+                c = prior[i - bpp] & 0xff;
+            }
+            none += Math.abs((byte) x);
+            sub += Math.abs((byte) (x - a));
+            up += Math.abs((byte) (x - b));
+            average += Math.abs((byte) (x - ((a + b) >>> 1)));
+            paeth += Math.abs((byte) (x - paeth(a, b, c)));
+        }
+        int result = FILTER_NONE;
+        long best = none;
+        if (sub < best) {
+            result = FILTER_SUB;
+            best = sub;
+        }
+        if (up < best) {
+            result = FILTER_UP;
+            best = up;
+        }
+        if (average < best) {
+            result = FILTER_AVERAGE;
+            best = average;
+        }
+        if (paeth < best) {
+            result = FILTER_PAETH;
+        }
+        return result;
+    }
+
+    /**
+     * The Paeth predictor.
+     *
+     * @param a  the byte to the left (0-255).
+     * @param b  the byte above (0-255).
+     * @param c  the byte above and to the left (0-255).
+     *
+     * @return The predicted value.
+     */
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        if (pb <= pc) {
+            return b;
+        }
+        return c;
+    }
+
     /**
      * Write a PNG "IEND" chunk into the pngBytes array.
      */
@@ -714,4 +1263,240 @@ public class PngEncoder {
             this.bytePos = writeInt4((int) this.crcValue, this.bytePos);
         }
     }
+
+    /**
+     * Write the PNG "PLTE" chunk, and the "tRNS" chunk if there are
+     * translucent colours, into the pngBytes array.  Nothing is written
+     * unless the image is being written as indexed colour.
+     */
+    protected void writePalette() {
+        if (this.reducer == null || this.reducer.getColorType() != 3) {
+            return;
+        }
+        writeChunk(PLTE, this.reducer.getPaletteData());
+        byte[] trns = this.reducer.getTransparencyData();
+        if (trns != null) {
+            writeChunk(TRNS, trns);
+        }
+    }
+
+    /**
+     * Write a chunk into the pngBytes array.
+     *
+     * @param type  the chunk type.
+     * @param data  the chunk data.
+     */
+    private void writeChunk(byte[] type, byte[] data) {
+        this.bytePos = writeInt4(data.length, this.bytePos);
+        this.bytePos = writeBytes(type, this.bytePos);
+        this.bytePos = writeBytes(data, this.bytePos);
+        this.crc.reset();
+        this.crc.update(type);
+        this.crc.update(data);
+        this.crcValue = this.crc.getValue();
+        this.bytePos = writeInt4((int) this.crcValue, this.bytePos);
+    }
+
+    /**
+     * Returns the PNG colour type of the image being encoded.
+     *
+     * @return The colour type.
+     */
+    private int getColorType() {
+        if (this.reducer != null) {
+            return this.reducer.getColorType();
+        }
+        return (this.encodeAlpha) ? 6 : 2;
+    }
+
+    /**
+     * Returns the bit depth of the image being encoded.
+     *
+     * @return The bit depth.
+     */
+    private int getBitDepth() {
+        if (this.reducer != null) {
+            return this.reducer.getBitDepth();
+        }
+        return 8;
+    }
+
+    /**
+     * Returns the number of bytes in one scan line of the image being
+     * encoded, excluding the filter type byte.
+     *
+     * @return The number of bytes.
+     */
+    int getRowBytes() {
+        if (this.reducer != null) {
+            return this.reducer.getRowBytes(this.width);
+        }
+        return this.width * this.bytesPerPixel;
+    }
+
+    /**
+     * Returns the size of the work buffers used to read one row of the
+     * image as 8-bit RGB or RGBA.
+     *
+     * @return The number of bytes.
+     */
+    private int getWorkRowBytes() {
+        return this.width * ((this.encodeAlpha) ? 4 : 3);
+    }
+
+    /**
+     * Sets the flag that controls whether the deflater and the work buffers
+     * are kept for the next image.  A recycling encoder must be released
+     * with {@link #dispose()} when it is no longer needed.
+     *
+     * @param recycle  the flag.
+     */
+    void setRecycling(boolean recycle) {
+        this.recycle = recycle;
+        if (!recycle) {
+            dispose();
+        }
+    }
+
+    /**
+     * Releases the deflater (and its native memory) and the work buffers
+     * kept by a recycling encoder.
+     */
+    void dispose() {
+        if (this.deflater != null) {
+            this.deflater.end();
+            this.deflater = null;
+        }
+        this.workBuffers = null;
+    }
+
+    /**
+     * Returns a deflater for the current compression level:  either the
+     * recycled deflater, or a new one that the caller must end().
+     *
+     * @return The deflater.
+     */
+    private Deflater getDeflater() {
+        if (!this.recycle) {
+            return new Deflater(this.compressionLevel);
+        }
+        if (this.deflater == null) {
+            this.deflater = new Deflater(this.compressionLevel);
+        }
+        else {
+            this.deflater.reset();
+            this.deflater.setLevel(this.compressionLevel);
+        }
+        return this.deflater;
+    }
+
+    /**
+     * Returns a work buffer of at least the given size:  either a recycled
+     * buffer, or a new one.
+     *
+     * @param which  the buffer index.
+     * @param size  the minimum size.
+     *
+     * @return The buffer.
+     */
+    private byte[] getWorkBuffer(int which, int size) {
+        if (!this.recycle) {
+            return new byte[size];
+        }
+        if (this.workBuffers == null) {
+            this.workBuffers = new byte[CHUNK_BUFFER + 1][];
+        }
+        byte[] buffer = this.workBuffers[which];
+        if (buffer == null || buffer.length < size) {
+            buffer = new byte[size];
+            this.workBuffers[which] = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * Makes a pass over the image to choose a more compact colour type, if
+     * that is enabled.  If no reduction is possible, or it is not enabled,
+     * the image will be written as 8-bit truecolour.
+     *
+     * @return true if no errors; false if error grabbing pixels
+     */
+    private boolean analyzeColors() {
+        this.reducer = null;
+        if (!this.reduceColors) {
+            return true;
+        }
+        PngColorReducer r = new PngColorReducer(this.encodeAlpha);
+        PngRasterReader reader = PngRasterReader.create(this.image);
+        boolean reducible = true;
+        if (reader != null) {
+            byte[] row = new byte[this.width * 4];
+            for (int y = 0; y < this.height && reducible; y++) {
+                reader.readRow(y, row, this.encodeAlpha);
+                reducible = r.addRow(row, this.width);
+            }
+        }
+        else {
+            int nRows = Math.max(1, 8192 / Math.max(1, this.width));
+            for (int y = 0; y < this.height && reducible; y += nRows) {
+                int n = Math.min(nRows, this.height - y);
+                int[] pixels = grabPixels(y, n);
+                if (pixels == null) {
+                    return false;
+                }
+                reducible = r.addPixels(pixels, 0, pixels.length);
+            }
+        }
+        if (reducible && r.finish()) {
+            this.reducer = r;
+        }
+        return true;
+    }
+
+    /**
+     * Grabs a strip of pixels from the image in the default ARGB colour
+     * model.
+     *
+     * @param startRow  the first row.
+     * @param nRows  the number of rows.
+     *
+     * @return The pixels, or <code>null</code> if there was an error.
+     */
+    private int[] grabPixels(int startRow, int nRows) {
+        int[] pixels = new int[this.width * nRows];
+        PixelGrabber pg = new PixelGrabber(this.image, 0, startRow,
+                this.width, nRows, pixels, 0, this.width);
+        try {
+            pg.grabPixels();
+        }
+        catch (Exception e) {
+            System.err.println("interrupted waiting for pixels!");
+            return null;
+        }
+        if ((pg.getStatus() & ImageObserver.ABORT) != 0) {
+            System.err.println("image fetch aborted or errored");
+            return null;
+        }
+        return pixels;
+    }
+
+    /**
+     * A deflater output stream that uses a buffer supplied by the caller.
+     */
+    private static class BufferedDeflaterOutputStream
+            extends DeflaterOutputStream {
+
+        /**
+         * Creates a new stream.
+         *
+         * @param out  the underlying stream.
+         * @param deflater  the deflater.
+         * @param buffer  the output buffer.
+         */
+        BufferedDeflaterOutputStream(OutputStream out, Deflater deflater,
+                byte[] buffer) {
+            super(out, deflater, 1);
+            this.buf = buffer;
+        }
+    }
 }
@@ -0,0 +1,226 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * PngEncoderOptions.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+/**
+ * The settings used by {@link PngEncoderPool} to encode an image.  The
+ * defaults are the same as for a new {@link PngEncoder}.  An instance can be
+ * shared by several threads as long as it is not modified while images are
+ * being encoded.
+ */
+public class PngEncoderOptions {
+
+    /** Encode alpha? */
+    private boolean encodeAlpha;
+
+    /** The filter type. */
+    private int filter;
+
+    /** The compression level. */
+    private int compressionLevel;
+
+    /** Reduce the output to indexed colour or greyscale if possible? */
+    private boolean reduceColors;
+
+    /** The number of dots per inch on the X axis (0 = not written). */
+    private int xDpi;
+
+    /** The number of dots per inch on the Y axis (0 = not written). */
+    private int yDpi;
+
+    /**
+     * Creates a new instance with the default settings.
+     */
+    public PngEncoderOptions() {
+        this(false, PngEncoder.FILTER_NONE, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param encodeAlpha  encode the alpha channel?
+     * @param filter  the filter type (see the constants in
+     *     {@link PngEncoder}).
+     * @param compressionLevel  the compression level (0 to 9).
+     */
+    public PngEncoderOptions(boolean encodeAlpha, int filter,
+            int compressionLevel) {
+        this.encodeAlpha = encodeAlpha;
+        setFilter(filter);
+        setCompressionLevel(compressionLevel);
+    }
+
+    /**
+     * Returns the flag that controls whether the alpha channel is encoded.
+     *
+     * @return The flag.
+     */
+    public boolean getEncodeAlpha() {
+        return this.encodeAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether the alpha channel is encoded.
+     *
+     * @param encodeAlpha  the flag.
+     */
+    public void setEncodeAlpha(boolean encodeAlpha) {
+        this.encodeAlpha = encodeAlpha;
+    }
+
+    /**
+     * Returns the filter type.
+     *
+     * @return The filter type.
+     */
+    public int getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Sets the filter type.
+     *
+     * @param filter  the filter type (see the constants in
+     *     {@link PngEncoder}).
+     *
+     * @throws IllegalArgumentException if the filter type is not valid.
+     */
+    public void setFilter(int filter) {
+        if (filter < PngEncoder.FILTER_NONE
+                || filter > PngEncoder.FILTER_LAST) {
+            throw new IllegalArgumentException("Invalid 'filter' argument.");
+        }
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the compression level.
+     *
+     * @return The compression level.
+     */
+    public int getCompressionLevel() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level.
+     *
+     * @param level  the compression level (1 = best speed, 9 = best
+     *     compression, 0 = no compression).
+     *
+     * @throws IllegalArgumentException if the level is not in the range 0
+     *     to 9.
+     */
+    public void setCompressionLevel(int level) {
+        if (level < 0 || level > 9) {
+            throw new IllegalArgumentException(
+                    "Requires 'level' in the range 0 to 9.");
+        }
+        this.compressionLevel = level;
+    }
+
+    /**
+     * Returns the flag that controls whether the output is reduced to
+     * indexed colour or greyscale when possible.
+     *
+     * @return The flag.
+     *
+     * @see PngEncoder#setReduceColors(boolean)
+     */
+    public boolean getReduceColors() {
+        return this.reduceColors;
+    }
+
+    /**
+     * Sets the flag that controls whether the output is reduced to indexed
+     * colour or greyscale when possible.
+     *
+     * @param reduceColors  the flag.
+     *
+     * @see PngEncoder#setReduceColors(boolean)
+     */
+    public void setReduceColors(boolean reduceColors) {
+        this.reduceColors = reduceColors;
+    }
+
+    /**
+     * Returns the number of dots per inch on the X axis.
+     *
+     * @return The resolution (0 if no resolution is written).
+     */
+    public int getXDpi() {
+        return this.xDpi;
+    }
+
+    /**
+     * Returns the number of dots per inch on the Y axis.
+     *
+     * @return The resolution (0 if no resolution is written).
+     */
+    public int getYDpi() {
+        return this.yDpi;
+    }
+
+    /**
+     * Sets the resolution written to the pHYs chunk.
+     *
+     * @param xDpi  the number of dots per inch on the X axis.
+     * @param yDpi  the number of dots per inch on the Y axis.
+     */
+    public void setDpi(int xDpi, int yDpi) {
+        this.xDpi = xDpi;
+        this.yDpi = yDpi;
+    }
+
+    /**
+     * Applies these settings to an encoder.
+     *
+     * @param encoder  the encoder.
+     */
+    void applyTo(PngEncoder encoder) {
+        encoder.setEncodeAlpha(this.encodeAlpha);
+        encoder.setFilter(this.filter);
+        encoder.setCompressionLevel(this.compressionLevel);
+        encoder.setReduceColors(this.reduceColors);
+        encoder.setDpi(this.xDpi, this.yDpi);
+    }
+
+}
@@ -0,0 +1,181 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * PngEncoderPool.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+import java.awt.Image;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe service for encoding many images as PNG.  The pool keeps a
+ * bounded number of idle {@link PngEncoder} instances, each of which keeps
+ * its <code>Deflater</code> and work buffers from one image to the next, so
+ * that encoding does not allocate (and later finalize) a new zlib stream and
+ * new buffers for every image.  Encoders that do not fit in the pool when
+ * they are returned are released straight away, which frees their native
+ * zlib memory.
+ * <p>
+ * The images are written with the streaming
+ * {@link PngEncoder#encode(OutputStream)} method, on the calling thread.
+ */
+public class PngEncoderPool {
+
+    /** The idle encoders. */
+    private final BlockingQueue idle;
+
+    /** The number of encodes that reused an idle encoder. */
+    private final AtomicLong hitCount;
+
+    /** The number of encodes that needed a new encoder. */
+    private final AtomicLong missCount;
+
+    /**
+     * Creates a new pool that keeps up to twice as many idle encoders as
+     * there are processors.
+     */
+    public PngEncoderPool() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maxIdle  the maximum number of idle encoders kept (at least
+     *     1).
+     */
+    public PngEncoderPool(int maxIdle) {
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("Requires 'maxIdle' >= 1.");
+        }
+        this.idle = new ArrayBlockingQueue(maxIdle);
+        this.hitCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+    }
+
+    /**
+     * Encodes an image as PNG and writes it to a stream.  The stream is
+     * flushed but not closed.  This method can be called by several threads
+     * at the same time.
+     *
+     * @param image  the image (<code>null</code> not permitted).
+     * @param options  the encoder settings (<code>null</code> not
+     *     permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem, or the image pixels
+     *         cannot be grabbed.
+     */
+    public void encode(Image image, PngEncoderOptions options,
+            OutputStream out) throws IOException {
+        if (image == null) {
+            throw new IllegalArgumentException("Null 'image' argument.");
+        }
+        if (options == null) {
+            throw new IllegalArgumentException("Null 'options' argument.");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+        PngEncoder encoder = (PngEncoder) this.idle.poll();
+        if (encoder != null) {
+            this.hitCount.incrementAndGet();
+        }
+        else {
+            this.missCount.incrementAndGet();
+            encoder = new PngEncoder();
+            encoder.setRecycling(true);
+        }
+        try {
+            options.applyTo(encoder);
+            encoder.setImage(image);
+            encoder.encode(out);
+        }
+        finally {
+            encoder.setImage(null);
+            if (!this.idle.offer(encoder)) {
+                encoder.dispose();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of encodes that reused an idle encoder.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Returns the number of encodes that had to create a new encoder.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Returns the number of idle encoders in the pool.
+     *
+     * @return The number of idle encoders.
+     */
+    public int getIdleCount() {
+        return this.idle.size();
+    }
+
+    /**
+     * Releases all the idle encoders.  The pool can still be used
+     * afterwards.
+     */
+    public void clear() {
+        PngEncoder encoder = (PngEncoder) this.idle.poll();
+        while (encoder != null) {
+            encoder.dispose();
+            encoder = (PngEncoder) this.idle.poll();
+        }
+    }
+
+}
@@ -0,0 +1,392 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * PngParallelCompressor.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses the scan lines of a {@link PngEncoder} image on several threads
+ * and writes them as a single zlib stream.
+ * <p>
+ * The image is divided into horizontal strips.  Each strip is filtered and
+ * then deflated as a raw deflate stream, primed with the last 32K of the
+ * preceding strip as a dictionary so that matches can reach back across the
+ * strip boundary.  Every strip except the last ends with a SYNC_FLUSH, which
+ * leaves the output on a byte boundary, so the compressed strips can simply
+ * be concatenated behind a zlib header.  The Adler-32 checksums of the strips
+ * are combined into the checksum for the whole stream.  This is the approach
+ * used by pigz.
+ * <p>
+ * Strips are processed in windows of a few strips per thread so that the
+ * memory used stays bounded for large images.
+ */
+class PngParallelCompressor {
+
+    /** The minimum number of uncompressed bytes in a strip. */
+    private static final int STRIP_SIZE = 131072;
+
+    /** The size of the deflate window (and preset dictionary). */
+    private static final int DICTIONARY_SIZE = 32768;
+
+    /** The number of strips per thread in each window. */
+    private static final int STRIPS_PER_THREAD = 2;
+
+    /** The Adler-32 modulus. */
+    private static final long ADLER_BASE = 65521L;
+
+    /** The encoder that supplies the scan lines. */
+    private final PngEncoder encoder;
+
+    /** The pool that runs the tasks. */
+    private final ForkJoinPool pool;
+
+    /** The number of strips processed together. */
+    private final int windowSize;
+
+    /** The compression level. */
+    private final int level;
+
+    /**
+     * Creates a new compressor.
+     *
+     * @param encoder  the encoder (<code>null</code> not permitted).
+     * @param pool  the pool (<code>null</code> not permitted).
+     * @param parallelism  the number of strips to compress at once.
+     * @param level  the compression level (0 to 9).
+     */
+    PngParallelCompressor(PngEncoder encoder, ForkJoinPool pool,
+            int parallelism, int level) {
+        this.encoder = encoder;
+        this.pool = pool;
+        this.windowSize = Math.max(1, parallelism) * STRIPS_PER_THREAD;
+        this.level = level;
+    }
+
+    /**
+     * Writes the compressed scan lines of the image to the given stream as
+     * a complete zlib stream.
+     *
+     * @param out  the stream.
+     *
+     * @return true if no errors; false if error grabbing pixels
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    boolean compress(OutputStream out) throws IOException {
+        final int height = this.encoder.height;
+        final int rowBytes = this.encoder.getRowBytes() + 1;
+        final int rowsPerStrip = Math.max(1, STRIP_SIZE / rowBytes);
+        final int stripCount = Math.max(1,
+                (height + rowsPerStrip - 1) / rowsPerStrip);
+
+        out.write(createHeader(this.level));
+        long adler = 1L;
+        byte[] previous = null;
+        for (int first = 0; first < stripCount; first += this.windowSize) {
+            int last = Math.min(first + this.windowSize, stripCount);
+
+            // filter the strips in this window...
+            List tasks = new ArrayList(last - first);
+            for (int s = first; s < last; s++) {
+                int startRow = s * rowsPerStrip;
+                int nRows = Math.min(rowsPerStrip, height - startRow);
+                tasks.add(new FilterTask(this.encoder, startRow,
+                        Math.max(nRows, 0)));
+            }
+            Object[] strips = invokeAll(tasks);
+            for (int i = 0; i < strips.length; i++) {
+                if (strips[i] == null) {
+                    return false;
+                }
+            }
+
+            // ...then deflate them, each primed with its predecessor
+            tasks.clear();
+            for (int s = first; s < last; s++) {
+                byte[] dictionary = (s == first) ? previous
+                        : (byte[]) strips[s - first - 1];
+                tasks.add(new DeflateTask((byte[]) strips[s - first],
+                        dictionary, this.level, s == stripCount - 1));
+            }
+            Object[] results = invokeAll(tasks);
+            for (int i = 0; i < results.length; i++) {
+                DeflateResult result = (DeflateResult) results[i];
+                out.write(result.data);
+                adler = combineAdler32(adler, result.adler,
+                        ((byte[]) strips[i]).length);
+            }
+            previous = (byte[]) strips[strips.length - 1];
+        }
+        byte[] trailer = new byte[4];
+        PngChunkOutputStream.putInt(trailer, 0, (int) adler);
+        out.write(trailer);
+        return true;
+    }
+
+    /**
+     * Runs the tasks in the pool and returns their results in order.
+     *
+     * @param tasks  the tasks.
+     *
+     * @return The results.
+     *
+     * @throws IOException if a task failed.
+     */
+    private Object[] invokeAll(List tasks) throws IOException {
+        List futures = this.pool.invokeAll(tasks);
+        Object[] results = new Object[futures.size()];
+        try {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = ((Future) futures.get(i)).get();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing.");
+        }
+        catch (ExecutionException e) {
+            IOException ioe = new IOException("Compression failed.");
+            ioe.initCause(e.getCause());
+            throw ioe;
+        }
+        return results;
+    }
+
+    /**
+     * Creates the two byte zlib header for the given compression level.
+     *
+     * @param level  the compression level.
+     *
+     * @return The header.
+     */
+    static byte[] createHeader(int level) {
+        int cmf = 0x78;  // deflate, 32K window
+        int flevel;
+        if (level < 2) {
+            flevel = 0;
+        }
+        else if (level < 6) {
+            flevel = 1;
+        }
+        else if (level == 6) {
+            flevel = 2;
+        }
+        else {
+            flevel = 3;
+        }
+        int flg = flevel << 6;
+        flg += 31 - ((cmf << 8) + flg) % 31;
+        return new byte[] {(byte) cmf, (byte) flg};
+    }
+
+    /**
+     * Combines two Adler-32 checksums, as zlib's adler32_combine() does.
+     *
+     * @param adler1  the checksum of the first block.
+     * @param adler2  the checksum of the second block.
+     * @param length2  the length of the second block.
+     *
+     * @return The checksum of the two blocks together.
+     */
+    static long combineAdler32(long adler1, long adler2, long length2) {
+        long rem = length2 % ADLER_BASE;
+        long sum1 = adler1 & 0xffff;
+        long sum2 = (rem * sum1) % ADLER_BASE;
+        sum1 += (adler2 & 0xffff) + ADLER_BASE - 1;
+        sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff)
+                + ADLER_BASE - rem;
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+        if (sum2 >= (ADLER_BASE << 1)) {
+            sum2 -= (ADLER_BASE << 1);
+        }
+        if (sum2 >= ADLER_BASE) {
+            sum2 -= ADLER_BASE;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    /**
+     * A task that creates the filtered scan lines for a strip.
+     */
+    private static class FilterTask implements Callable {
+
+        /** The encoder. */
+        private final PngEncoder encoder;
+
+        /** The first row. */
+        private final int startRow;
+
+        /** The number of rows. */
+        private final int nRows;
+
+        /**
+         * Creates a new task.
+         *
+         * @param encoder  the encoder.
+         * @param startRow  the first row.
+         * @param nRows  the number of rows.
+         */
+        FilterTask(PngEncoder encoder, int startRow, int nRows) {
+            this.encoder = encoder;
+            this.startRow = startRow;
+            this.nRows = nRows;
+        }
+
+        /**
+         * Returns the scan lines, or <code>null</code> if the pixels could
+         * not be grabbed.
+         *
+         * @return The scan lines.
+         */
+        public Object call() {
+            return this.encoder.createScanLines(this.startRow, this.nRows);
+        }
+    }
+
+    /**
+     * The compressed data for a strip.
+     */
+    private static class DeflateResult {
+
+        /** The compressed data. */
+        byte[] data;
+
+        /** The Adler-32 checksum of the uncompressed strip. */
+        long adler;
+    }
+
+    /**
+     * A task that deflates a strip.
+     */
+    private static class DeflateTask implements Callable {
+
+        /** The uncompressed strip. */
+        private final byte[] strip;
+
+        /** The preceding strip (<code>null</code> for the first strip). */
+        private final byte[] dictionary;
+
+        /** The compression level. */
+        private final int level;
+
+        /** Is this the last strip in the stream? */
+        private final boolean last;
+
+        /**
+         * Creates a new task.
+         *
+         * @param strip  the uncompressed strip.
+         * @param dictionary  the preceding strip (<code>null</code>
+         *                    permitted).
+         * @param level  the compression level.
+         * @param last  is this the last strip in the stream?
+         */
+        DeflateTask(byte[] strip, byte[] dictionary, int level,
+                boolean last) {
+            this.strip = strip;
+            this.dictionary = dictionary;
+            this.level = level;
+            this.last = last;
+        }
+
+        /**
+         * Compresses the strip.
+         *
+         * @return The result.
+         */
+        public Object call() {
+            DeflateResult result = new DeflateResult();
+            Adler32 checksum = new Adler32();
+            checksum.update(this.strip, 0, this.strip.length);
+            result.adler = checksum.getValue();
+
+            Deflater deflater = new Deflater(this.level, true);
+            try {
+                if (this.dictionary != null) {
+                    int n = Math.min(DICTIONARY_SIZE, this.dictionary.length);
+                    deflater.setDictionary(this.dictionary,
+                            this.dictionary.length - n, n);
+                }
+                deflater.setInput(this.strip);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(
+                        this.strip.length / 4 + 64);
+                byte[] buffer = new byte[8192];
+                if (this.last) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        int n = deflater.deflate(buffer);
+                        out.write(buffer, 0, n);
+                    }
+                }
+                else {
+                    int n;
+                    do {
+                        n = deflater.deflate(buffer, 0, buffer.length,
+                                Deflater.SYNC_FLUSH);
+                        out.write(buffer, 0, n);
+                    }
+                    while (n == buffer.length);
+                }
+                result.data = out.toByteArray();
+            }
+            finally {
+                deflater.end();
+            }
+            return result;
+        }
+    }
+
+}
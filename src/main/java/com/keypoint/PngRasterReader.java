@@ -0,0 +1,203 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * PngRasterReader.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+
+/**
+ * Reads rows of pixels straight from the data buffer of a
+ * <code>BufferedImage</code>, for the image types used by most server side
+ * rendering (<code>TYPE_INT_ARGB</code>, <code>TYPE_INT_RGB</code>,
+ * <code>TYPE_3BYTE_BGR</code> and <code>TYPE_4BYTE_ABGR</code>), so that the
+ * encoder does not need a <code>PixelGrabber</code> and an intermediate
+ * array of pixels.
+ * <p>
+ * Note that reading the data buffer directly means that Java2D can no
+ * longer accelerate the image when it is drawn to the screen.
+ */
+class PngRasterReader {
+
+    /** The image type. */
+    private final int type;
+
+    /** The image width. */
+    private final int width;
+
+    /** The pixel data (for the int image types). */
+    private final int[] intData;
+
+    /** The pixel data (for the byte image types). */
+    private final byte[] byteData;
+
+    /** The offset of the first pixel. */
+    private final int offset;
+
+    /** The number of array elements per row. */
+    private final int scanlineStride;
+
+    /** The number of array elements per pixel (byte image types). */
+    private final int pixelStride;
+
+    /** The offsets of the red, green, blue and alpha bytes. */
+    private final int[] bandOffsets;
+
+    /**
+     * Creates a reader for an image whose type is supported.
+     *
+     * @param image  the image.
+     */
+    private PngRasterReader(BufferedImage image) {
+        this.type = image.getType();
+        this.width = image.getWidth();
+        WritableRaster raster = image.getRaster();
+        DataBuffer buffer = raster.getDataBuffer();
+        int tx = raster.getSampleModelTranslateX();
+        int ty = raster.getSampleModelTranslateY();
+        if (buffer instanceof DataBufferInt) {
+            SinglePixelPackedSampleModel sm
+                    = (SinglePixelPackedSampleModel) raster.getSampleModel();
+            this.intData = ((DataBufferInt) buffer).getData();
+            this.byteData = null;
+            this.scanlineStride = sm.getScanlineStride();
+            this.pixelStride = 1;
+            this.bandOffsets = null;
+        }
+        else {
+            ComponentSampleModel sm
+                    = (ComponentSampleModel) raster.getSampleModel();
+            this.intData = null;
+            this.byteData = ((DataBufferByte) buffer).getData();
+            this.scanlineStride = sm.getScanlineStride();
+            this.pixelStride = sm.getPixelStride();
+            this.bandOffsets = sm.getBandOffsets();
+        }
+        this.offset = buffer.getOffset() - ty * this.scanlineStride
+                - tx * this.pixelStride;
+    }
+
+    /**
+     * Returns a reader for the given image, or <code>null</code> if the
+     * image is not a <code>BufferedImage</code> of a supported type.
+     *
+     * @param image  the image (<code>null</code> permitted).
+     *
+     * @return A reader, or <code>null</code>.
+     */
+    static PngRasterReader create(Image image) {
+        if (!(image instanceof BufferedImage)) {
+            return null;
+        }
+        BufferedImage bi = (BufferedImage) image;
+        switch (bi.getType()) {
+            case BufferedImage.TYPE_INT_ARGB:
+            case BufferedImage.TYPE_INT_RGB:
+                if (bi.getRaster().getDataBuffer() instanceof DataBufferInt
+                        && bi.getSampleModel()
+                        instanceof SinglePixelPackedSampleModel) {
+                    return new PngRasterReader(bi);
+                }
+                return null;
+            case BufferedImage.TYPE_3BYTE_BGR:
+            case BufferedImage.TYPE_4BYTE_ABGR:
+                if (bi.getRaster().getDataBuffer() instanceof DataBufferByte
+                        && bi.getSampleModel()
+                        instanceof ComponentSampleModel) {
+                    return new PngRasterReader(bi);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Reads one row of the image as RGB or RGBA bytes.
+     *
+     * @param y  the row.
+     * @param row  the array that receives the bytes (at least width * 3 or
+     *     width * 4 bytes long).
+     * @param alpha  include the alpha channel?
+     */
+    void readRow(int y, byte[] row, boolean alpha) {
+        int pos = 0;
+        if (this.intData != null) {
+            int[] data = this.intData;
+            int start = this.offset + y * this.scanlineStride;
+            int end = start + this.width;
+            boolean hasAlpha = (this.type == BufferedImage.TYPE_INT_ARGB);
+            for (int i = start; i < end; i++) {
+                int p = data[i];
+                row[pos++] = (byte) (p >> 16);
+                row[pos++] = (byte) (p >> 8);
+                row[pos++] = (byte) p;
+                if (alpha) {
+                    row[pos++] = hasAlpha ? (byte) (p >>> 24) : (byte) 0xff;
+                }
+            }
+        }
+        else {
+            byte[] data = this.byteData;
+            int r = this.bandOffsets[0];
+            int g = this.bandOffsets[1];
+            int b = this.bandOffsets[2];
+            boolean hasAlpha = (this.bandOffsets.length > 3);
+            int a = hasAlpha ? this.bandOffsets[3] : 0;
+            int i = this.offset + y * this.scanlineStride;
+            for (int x = 0; x < this.width; x++) {
+                row[pos++] = data[i + r];
+                row[pos++] = data[i + g];
+                row[pos++] = data[i + b];
+                if (alpha) {
+                    row[pos++] = hasAlpha ? data[i + a] : (byte) 0xff;
+                }
+                i += this.pixelStride;
+            }
+        }
+    }
+
+}
@@ -39,14 +39,17 @@
  * 07-Jun-2004 : Added source headers (DG);
  * 18-Aug-2005 : Added casts to suppress compiler warnings, as suggested in
  *               patch 1260622 (DG);
+ * 16-Oct-2026 : User configuration files can be watched for changes;
  *
  */
 
 package org.jfree.base;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Enumeration;
@@ -78,6 +81,14 @@ import org.jfree.util.ObjectUtilities;
  */
 public abstract class AbstractBoot implements SubSystem {
 
+    /**
+     * The system property that enables the watch mode for user configuration
+     * files on the local file system (see
+     * {@link PropertyFileConfiguration#watch(File)}).
+     */
+    public static final String WATCH_CONFIGURATION_KEY
+            = "org.jfree.base.config.WatchUserConfiguration";
+
     /** The configuration wrapper around the plain configuration. */
     private ExtendedConfigurationWrapper extWrapper;
 
@@ -312,14 +323,22 @@ public abstract class AbstractBoot implements SubSystem {
               try {
                 final PropertyFileConfiguration baseProperty =
                         new PropertyFileConfiguration();
-                final InputStream in = url.openStream();
-                baseProperty.load(in);
-                in.close();
+                if (isWatched(url)) {
+                  baseProperty.watch(new File(url.toURI()));
+                }
+                else {
+                  final InputStream in = url.openStream();
+                  baseProperty.load(in);
+                  in.close();
+                }
                 configs.add(baseProperty);
               }
               catch(IOException ioe) {
                 Log.warn ("Failed to load the user configuration at " + url, ioe);
               }
+              catch(URISyntaxException use) {
+                Log.warn ("Failed to load the user configuration at " + url, use);
+              }
             }
 
             for (int i = configs.size() - 1; i >= 0; i--) {
@@ -340,6 +359,27 @@ public abstract class AbstractBoot implements SubSystem {
         return globalConfig;
     }
 
+    /**
+     * Checks, whether a user configuration should be watched for changes.
+     * This is the case for files on the local file system if the system
+     * property {@link #WATCH_CONFIGURATION_KEY} is set to 'true'.
+     *
+     * @param url  the location of the user configuration.
+     *
+     * @return true, if the configuration should be watched.
+     */
+    private static boolean isWatched(final URL url) {
+        if ("file".equals(url.getProtocol()) == false) {
+            return false;
+        }
+        try {
+            return "true".equals(System.getProperty(WATCH_CONFIGURATION_KEY));
+        }
+        catch (SecurityException se) {
+            return false;
+        }
+    }
+
     /**
      * Returns the global configuration as extended configuration.
      *
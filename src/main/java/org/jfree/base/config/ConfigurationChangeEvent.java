@@ -0,0 +1,100 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * ConfigurationChangeEvent.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added serialVersionUID;
+ *
+ */
+
+package org.jfree.base.config;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EventObject;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An event that names the properties of a configuration that have been
+ * added, changed or removed.
+ */
+public class ConfigurationChangeEvent extends EventObject
+{
+  /** For serialization. */
+  private static final long serialVersionUID = 998129283538932559L;
+
+  /** The keys of the changed properties, in ascending order. */
+  private final Set changedKeys;
+
+  /**
+   * Creates a new event.
+   *
+   * @param source      the changed configuration.
+   * @param changedKeys the keys of the changed properties.
+   */
+  public ConfigurationChangeEvent(final Object source,
+                                  final Collection changedKeys)
+  {
+    super(source);
+    if (changedKeys == null)
+    {
+      throw new NullPointerException();
+    }
+    this.changedKeys = Collections.unmodifiableSet(new TreeSet(changedKeys));
+  }
+
+  /**
+   * Returns the keys of the properties that have been added, changed or
+   * removed, in ascending order.
+   *
+   * @return the keys (an unmodifiable set).
+   */
+  public Set getChangedKeys()
+  {
+    return this.changedKeys;
+  }
+
+  /**
+   * Checks, whether the property with the given key has been changed.
+   *
+   * @param key the key.
+   * @return true, if the property has been changed, false otherwise.
+   */
+  public boolean isChanged(final String key)
+  {
+    return this.changedKeys.contains(key);
+  }
+}
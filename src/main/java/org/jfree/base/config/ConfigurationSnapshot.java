@@ -0,0 +1,478 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * ConfigurationSnapshot.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added isComplete();
+ * 17-Oct-2026 : Check the modification counts of the original configurations
+ *               only;
+ * 17-Oct-2026 : Added getCurrentProperty();
+ *
+ */
+
+package org.jfree.base.config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jfree.util.Configuration;
+
+/**
+ * An immutable copy of all the properties visible through a configuration,
+ * including those inherited from its parent configurations.  The values are
+ * held in a single open-addressed hash table, so that a lookup is one hash
+ * probe (usually) without any locking, no matter how deep the hierarchy of
+ * the original configuration is.
+ * <p>
+ * Instances are created by {@link HierarchicalConfiguration#snapshot()}.
+ */
+public final class ConfigurationSnapshot implements Configuration
+{
+  /** For serialization. */
+  private static final long serialVersionUID = -3570393718839212375L;
+
+  /**
+   * An open-addressed hash table of keys and values.
+   */
+  private static final class Table implements Serializable
+  {
+    /** For serialization. */
+    private static final long serialVersionUID = 2764396245337950128L;
+
+    /** The keys (<code>null</code> for an empty slot). */
+    private final String[] keys;
+
+    /** The values. */
+    private final String[] values;
+
+    /** The table size less one (the size is a power of two). */
+    private final int mask;
+
+    /**
+     * Creates a table.
+     *
+     * @param keys    the keys.
+     * @param values  the values.
+     * @param count   the number of keys and values to use.
+     */
+    private Table(final String[] keys, final String[] values, final int count)
+    {
+      int size = 2;
+      while (size < count * 2)
+      {
+        size = size << 1;
+      }
+      this.mask = size - 1;
+      this.keys = new String[size];
+      this.values = new String[size];
+      for (int i = 0; i < count; i++)
+      {
+        final int slot = findSlot(keys[i]);
+        this.keys[slot] = keys[i];
+        this.values[slot] = values[i];
+      }
+    }
+
+    /**
+     * Creates a table from a map.
+     *
+     * @param map  the keys and values (strings).
+     */
+    private Table(final Map map)
+    {
+      this((String[]) map.keySet().toArray(new String[map.size()]),
+          (String[]) map.values().toArray(new String[map.size()]), map.size());
+    }
+
+    /**
+     * Returns the slot for a key: either the slot that holds the key or the
+     * empty slot where it would go.
+     *
+     * @param key the key.
+     * @return the slot.
+     */
+    private int findSlot(final String key)
+    {
+      final int h = key.hashCode() * 0x9e3779b9;
+      int slot = (h ^ (h >>> 16)) & this.mask;
+      String k = this.keys[slot];
+      while (k != null && !k.equals(key))
+      {
+        slot = (slot + 1) & this.mask;
+        k = this.keys[slot];
+      }
+      return slot;
+    }
+
+    /**
+     * Returns the value for a key.
+     *
+     * @param key the key.
+     * @return the value or <code>null</code>.
+     */
+    private String get(final String key)
+    {
+      return this.values[findSlot(key)];
+    }
+  }
+
+  /** All the visible properties. */
+  private final Table table;
+
+  /** The keys in ascending order. */
+  private final String[] sortedKeys;
+
+  /**
+   * The hierarchical configurations this snapshot was created from
+   * (<code>null</code> after deserialization).
+   */
+  private final transient HierarchicalConfiguration[] levels;
+
+  /** The modification counts of the configurations in {@link #levels}. */
+  private final transient long[] levelVersions;
+
+  /**
+   * The global modification count when the configurations were last found
+   * unchanged.
+   */
+  private transient volatile long checkedVersion;
+
+  /** Whether all the levels of the configuration track their modifications. */
+  private final boolean complete;
+
+  /**
+   * The sources for {@link #getCurrentProperty(String)}, in lookup order, if
+   * the snapshot is not complete: tables of the properties of consecutive
+   * configurations that track their modifications, and the configurations
+   * that do not (<code>null</code> for complete snapshots and after
+   * deserialization).
+   */
+  private final transient Object[] sources;
+
+  /**
+   * Creates a snapshot of a configuration.
+   *
+   * @param config  the configuration (<code>null</code> not permitted).
+   * @param version  the global modification count.
+   */
+  ConfigurationSnapshot(final HierarchicalConfiguration config,
+                        final long version)
+  {
+    final ArrayList allLevels = new ArrayList();
+    final ArrayList hierarchicalLevels = new ArrayList();
+    final ArrayList versions = new ArrayList();
+    boolean tracked = true;
+    Configuration level = config;
+    while (level != null)
+    {
+      allLevels.add(level);
+      if (level instanceof HierarchicalConfiguration)
+      {
+        // read the count before the properties, so that a change made
+        // while the snapshot is created is noticed later
+        final HierarchicalConfiguration hc = (HierarchicalConfiguration) level;
+        hierarchicalLevels.add(hc);
+        versions.add(Long.valueOf(hc.getModificationCount()));
+        if (hc.isModificationTracked() == false)
+        {
+          tracked = false;
+        }
+        level = hc.getParentConfig();
+      }
+      else
+      {
+        tracked = false;
+        level = null;
+      }
+    }
+
+    final HashSet names = new HashSet();
+    for (int i = 0; i < allLevels.size(); i++)
+    {
+      final Enumeration e = ((Configuration) allLevels.get(i))
+          .getConfigProperties();
+      while (e.hasMoreElements())
+      {
+        final Object key = e.nextElement();
+        if (key instanceof String)
+        {
+          names.add(key);
+        }
+      }
+    }
+
+    final String[] allKeys = (String[]) names.toArray(new String[names.size()]);
+    final String[] allValues = new String[allKeys.length];
+    int count = 0;
+    for (int i = 0; i < allKeys.length; i++)
+    {
+      final String value = config.getConfigProperty(allKeys[i]);
+      if (value != null)
+      {
+        allKeys[count] = allKeys[i];
+        allValues[count] = value;
+        count++;
+      }
+    }
+    this.table = new Table(allKeys, allValues, count);
+
+    this.sortedKeys = new String[count];
+    System.arraycopy(allKeys, 0, this.sortedKeys, 0, count);
+    Arrays.sort(this.sortedKeys);
+    this.complete = tracked;
+    this.sources = tracked ? null : createSources(allLevels);
+    this.levels = (HierarchicalConfiguration[]) hierarchicalLevels.toArray
+        (new HierarchicalConfiguration[hierarchicalLevels.size()]);
+    this.levelVersions = new long[this.levels.length];
+    for (int i = 0; i < this.levelVersions.length; i++)
+    {
+      this.levelVersions[i] = ((Long) versions.get(i)).longValue();
+    }
+    this.checkedVersion = version;
+  }
+
+  /**
+   * Creates the sources for {@link #getCurrentProperty(String)}: the local
+   * properties of consecutive configurations that track their modifications
+   * are merged into one table, the other configurations are kept.
+   *
+   * @param allLevels  the configurations, from the first queried one to the
+   *                   root.
+   * @return the sources.
+   */
+  private static Object[] createSources(final ArrayList allLevels)
+  {
+    final ArrayList result = new ArrayList();
+    HashMap merged = new HashMap();
+    for (int i = 0; i < allLevels.size(); i++)
+    {
+      final Object level = allLevels.get(i);
+      if (level instanceof HierarchicalConfiguration
+          && ((HierarchicalConfiguration) level).isModificationTracked())
+      {
+        final HierarchicalConfiguration hc = (HierarchicalConfiguration) level;
+        final Enumeration e = hc.getConfigProperties();
+        while (e.hasMoreElements())
+        {
+          final Object key = e.nextElement();
+          if (key instanceof String && merged.containsKey(key) == false)
+          {
+            final String value = hc.getLocalConfigProperty((String) key);
+            if (value != null)
+            {
+              merged.put(key, value);
+            }
+          }
+        }
+      }
+      else
+      {
+        if (merged.isEmpty() == false)
+        {
+          result.add(new Table(merged));
+          merged = new HashMap();
+        }
+        result.add(level);
+      }
+    }
+    if (merged.isEmpty() == false)
+    {
+      result.add(new Table(merged));
+    }
+    return result.toArray();
+  }
+
+  /**
+   * Checks, whether the configurations this snapshot was created from are
+   * unchanged. The modification counts of the configurations are only
+   * compared if some hierarchical configuration has changed since the last
+   * check.
+   *
+   * @param version  the current global modification count.
+   *
+   * @return true, if the snapshot is up to date.
+   */
+  boolean isCurrent(final long version)
+  {
+    if (this.checkedVersion == version)
+    {
+      return true;
+    }
+    if (this.levels == null)
+    {
+      return false;
+    }
+    for (int i = 0; i < this.levels.length; i++)
+    {
+      if (this.levels[i].getModificationCount() != this.levelVersions[i])
+      {
+        return false;
+      }
+    }
+    this.checkedVersion = version;
+    return true;
+  }
+
+  /**
+   * Returns true, if every level of the original configuration reports its
+   * modifications, so that this snapshot stays up to date for as long as it
+   * is returned by {@link HierarchicalConfiguration#snapshot()}. Returns
+   * false if the configuration contains the system properties or a
+   * non-hierarchical configuration, whose values can change unnoticed.
+   *
+   * @return true, if the snapshot cannot go out of date unnoticed.
+   */
+  public boolean isComplete()
+  {
+    return this.complete;
+  }
+
+  /**
+   * Returns the current value of a property. For a complete snapshot, this
+   * is the value in the snapshot. Otherwise the values of the configurations
+   * that track their modifications are taken from the snapshot, and the
+   * other configurations (such as the system properties) are asked for their
+   * current value, so that the result is the value the original
+   * configuration would return, without walking through all of its
+   * parents.
+   *
+   * @param key the property key.
+   * @return the property value or <code>null</code>.
+   */
+  public String getCurrentProperty(final String key)
+  {
+    if (key == null)
+    {
+      throw new NullPointerException();
+    }
+    final Object[] sources = this.sources;
+    if (sources == null)
+    {
+      return this.table.get(key);
+    }
+    for (int i = 0; i < sources.length; i++)
+    {
+      final Object source = sources[i];
+      final String value;
+      if (source instanceof Table)
+      {
+        value = ((Table) source).get(key);
+      }
+      else if (source instanceof HierarchicalConfiguration)
+      {
+        value = ((HierarchicalConfiguration) source).getLocalConfigProperty(key);
+      }
+      else
+      {
+        value = ((Configuration) source).getConfigProperty(key);
+      }
+      if (value != null)
+      {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the configuration property with the specified key.
+   *
+   * @param key the property key.
+   * @return the property value.
+   */
+  public String getConfigProperty(final String key)
+  {
+    return getConfigProperty(key, null);
+  }
+
+  /**
+   * Returns the configuration property with the specified key (or the
+   * specified default value if there is no such property).
+   *
+   * @param key          the property key.
+   * @param defaultValue the default value.
+   * @return the property value.
+   */
+  public String getConfigProperty(final String key, final String defaultValue)
+  {
+    if (key == null)
+    {
+      throw new NullPointerException();
+    }
+    final String value = this.table.get(key);
+    if (value == null)
+    {
+      return defaultValue;
+    }
+    return value;
+  }
+
+  /**
+   * Returns the keys that start with a given prefix, in ascending order.
+   *
+   * @param prefix the prefix that all selected property keys should share.
+   * @return the keys as iterator.
+   */
+  public Iterator findPropertyKeys(final String prefix)
+  {
+    return new SortedKeyIterator(this.sortedKeys, prefix);
+  }
+
+  /**
+   * Returns all the keys, in ascending order.
+   *
+   * @return the keys.
+   */
+  public Enumeration getConfigProperties()
+  {
+    return new SortedKeyIterator(this.sortedKeys, "");
+  }
+
+  /**
+   * Returns this instance (a snapshot is immutable).
+   *
+   * @return this instance.
+   */
+  public Object clone()
+  {
+    return this;
+  }
+}
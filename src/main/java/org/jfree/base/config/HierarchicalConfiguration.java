@@ -38,6 +38,15 @@
  * -------
  * 07-Jun-2004 : Added JCommon header (DG);
  * 29-Jul-2004 : Replaced 'enum' variable name (reserved word in JDK 1.5) (DG);
+ * 16-Oct-2026 : Added snapshot() and the modification count;
+ * 16-Oct-2026 : findPropertyKeys() uses a sorted key index for each level;
+ * 16-Oct-2026 : Added updateConfiguration() for atomic bulk updates;
+ * 17-Oct-2026 : Added isModificationTracked();
+ * 17-Oct-2026 : Keep a modification count for each configuration, so that
+ *               changes to unrelated configurations keep the snapshots;
+ * 17-Oct-2026 : Changes made directly to the properties returned by
+ *               getConfiguration() are noticed;
+ * 17-Oct-2026 : Added getLocalConfigProperty();
  *
  */
 
@@ -46,11 +55,15 @@ package org.jfree.base.config;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Properties;
-import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import org.jfree.util.Configuration;
 import org.jfree.util.PublicCloneable;
@@ -64,23 +77,172 @@ import org.jfree.util.PublicCloneable;
 public class HierarchicalConfiguration
     implements ModifiableConfiguration, PublicCloneable
 {
+  /**
+   * The local keys of a configuration in ascending order, together with the
+   * modification count at the time they were collected.
+   */
+  private static final class KeyIndex
+  {
+    /** The modification count. */
+    private final long version;
+
+    /** The sorted keys. */
+    private final String[] keys;
+
+    /**
+     * Creates a new index.
+     *
+     * @param version the modification count.
+     * @param keys    the sorted keys.
+     */
+    private KeyIndex(final long version, final String[] keys)
+    {
+      this.version = version;
+      this.keys = keys;
+    }
+  }
+
+  /**
+   * The local properties of a configuration. Changes made through the
+   * <code>Hashtable</code> methods (<code>put</code>, <code>putAll</code>,
+   * <code>remove</code> and <code>clear</code>, and so also
+   * <code>setProperty</code> and <code>load</code>) are recorded as
+   * modifications of the owning configuration, so that subclasses that
+   * modify the properties returned by {@link #getConfiguration()} directly
+   * do not leave outdated snapshots and key indexes behind.
+   * <p>
+   * The properties are written to a stream as plain properties.
+   */
+  private static final class LocalProperties extends Properties
+  {
+    /** For serialization. */
+    private static final long serialVersionUID = 6151219883442581287L;
+
+    /** The configuration that owns the properties. */
+    private final transient HierarchicalConfiguration owner;
+
+    /**
+     * Creates an empty set of properties.
+     *
+     * @param owner the configuration that owns the properties.
+     */
+    private LocalProperties(final HierarchicalConfiguration owner)
+    {
+      this.owner = owner;
+    }
+
+    /**
+     * Maps a key to a value.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the previous value or null.
+     */
+    public Object put(final Object key, final Object value)
+    {
+      final Object result = super.put(key, value);
+      this.owner.configurationChanged();
+      return result;
+    }
+
+    /**
+     * Copies all mappings of the given map.
+     *
+     * @param t the map.
+     */
+    public void putAll(final Map t)
+    {
+      super.putAll(t);
+      this.owner.configurationChanged();
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key.
+     * @return the previous value or null.
+     */
+    public Object remove(final Object key)
+    {
+      final Object result = super.remove(key);
+      this.owner.configurationChanged();
+      return result;
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear()
+    {
+      super.clear();
+      this.owner.configurationChanged();
+    }
+
+    /**
+     * Replaces this object with plain properties when it is serialized.
+     *
+     * @return the plain properties.
+     */
+    private Object writeReplace()
+    {
+      final Properties result = new Properties();
+      result.putAll(this);
+      return result;
+    }
+  }
+
+  /**
+   * The number of changes made to any hierarchical configuration. While
+   * this count is unchanged, no snapshot needs to be checked again.
+   */
+  private static final AtomicLong modificationCount = new AtomicLong();
+
+  /** Updates the local modification counts. */
+  private static final AtomicLongFieldUpdater localModificationCounts =
+      AtomicLongFieldUpdater.newUpdater
+          (HierarchicalConfiguration.class, "localModificationCount");
+
+  /**
+   * The lock held while the local properties are modified and while a
+   * snapshot is created, so that a snapshot never contains a part of an
+   * update.
+   */
+  private static final Object updateLock = new Object();
 
   /**
-   * The instance configuration properties.
+   * The instance configuration properties. Bulk updates replace the whole
+   * object, so that readers see either all or none of the changes.
    */
-  private Properties configuration;
+  private volatile Properties configuration;
 
   /**
    * The parent configuration (null if this is the root configuration).
    */
   private transient Configuration parentConfiguration;
 
+  /**
+   * The last snapshot of this configuration (null if none was created).
+   */
+  private transient volatile ConfigurationSnapshot snapshot;
+
+  /**
+   * The index of the local keys (null if not yet created).
+   */
+  private transient volatile KeyIndex keyIndex;
+
+  /**
+   * The number of changes made to this configuration (its properties or its
+   * parent). A snapshot is valid as long as the counts of all the
+   * configurations it was created from are unchanged.
+   */
+  private transient volatile long localModificationCount;
+
   /**
    * Creates a new configuration.
    */
   public HierarchicalConfiguration()
   {
-    this.configuration = new Properties();
+    this.configuration = new LocalProperties(this);
   }
 
   /**
@@ -146,14 +308,133 @@ public class HierarchicalConfiguration
       throw new NullPointerException();
     }
 
-    if (value == null)
+    synchronized (updateLock)
     {
-      this.configuration.remove(key);
+      if (value == null)
+      {
+        this.configuration.remove(key);
+      }
+      else
+      {
+        this.configuration.setProperty(key, value);
+      }
     }
-    else
+    configurationChanged();
+  }
+
+  /**
+   * Applies a set of changes to the local properties in one step. The
+   * changes are made to a copy of the properties, which then replaces the
+   * current properties, so that readers (and snapshots) never see a part
+   * of the update.
+   *
+   * @param changes     the properties to add or replace.
+   * @param removedKeys the keys of the properties to remove.
+   */
+  protected void updateConfiguration(final Properties changes,
+                                     final Collection removedKeys)
+  {
+    if (changes == null)
     {
-      this.configuration.setProperty(key, value);
+      throw new NullPointerException();
+    }
+    if (removedKeys == null)
+    {
+      throw new NullPointerException();
     }
+    synchronized (updateLock)
+    {
+      final Properties update = new LocalProperties(this);
+      update.putAll(this.configuration);
+      update.keySet().removeAll(removedKeys);
+      update.putAll(changes);
+      this.configuration = update;
+      configurationChanged();
+    }
+  }
+
+  /**
+   * Returns an immutable copy of all the properties visible through this
+   * configuration (including the inherited ones), which can be read
+   * without locking and without walking the parent configurations. Code
+   * that reads properties in a loop should ask for the snapshot once and
+   * read from it.
+   * <p>
+   * The snapshot is created on the first call and returned again until a
+   * property is changed, or a configuration is inserted, in this
+   * configuration or one of its parents. A snapshot that has been handed
+   * out is
+   * never modified. Changes to the system properties, or to
+   * non-hierarchical parent configurations, are not tracked (see
+   * {@link ConfigurationSnapshot#isComplete()}). Changes to the properties
+   * returned by {@link #getConfiguration()} are tracked if they are made
+   * through the <code>Hashtable</code> methods; subclasses that use other
+   * methods or the collection views must call
+   * {@link #configurationChanged()}.
+   *
+   * @return the snapshot.
+   */
+  public Configuration snapshot()
+  {
+    final long version = modificationCount.get();
+    ConfigurationSnapshot result = this.snapshot;
+    if (result == null || result.isCurrent(version) == false)
+    {
+      synchronized (updateLock)
+      {
+        result = new ConfigurationSnapshot(this, modificationCount.get());
+        this.snapshot = result;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Records that a property or the configuration hierarchy has changed, so
+   * that the snapshots of this configuration and the configurations below it
+   * are created again on the next request.
+   */
+  protected void configurationChanged()
+  {
+    localModificationCounts.incrementAndGet(this);
+    modificationCount.incrementAndGet();
+  }
+
+  /**
+   * Returns the number of changes made to this configuration.
+   *
+   * @return the local modification count.
+   */
+  long getModificationCount()
+  {
+    return this.localModificationCount;
+  }
+
+  /**
+   * Returns true, if all changes to the local properties of this
+   * configuration are reported through {@link #configurationChanged()}.
+   * Configurations that read their properties from a source that can change
+   * at any time return false, so that their snapshots are known to be
+   * possibly out of date.
+   *
+   * @return true, if the modifications are tracked.
+   */
+  protected boolean isModificationTracked()
+  {
+    return true;
+  }
+
+  /**
+   * Returns the value of a property defined in this configuration, without
+   * looking at the parent configuration.
+   *
+   * @param key  the property key.
+   *
+   * @return the local value or <code>null</code>.
+   */
+  protected String getLocalConfigProperty(final String key)
+  {
+    return this.configuration.getProperty(key);
   }
 
   /**
@@ -179,7 +460,11 @@ public class HierarchicalConfiguration
   }
 
   /**
-   * Returns the collection of properties for the configuration.
+   * Returns the collection of properties for the configuration. Changes
+   * made through <code>put</code>, <code>putAll</code>, <code>remove</code>
+   * and <code>clear</code> (and so also <code>setProperty</code> and
+   * <code>load</code>) are reported automatically; changes made in any
+   * other way must be followed by a call to {@link #configurationChanged()}.
    *
    * @return the properties.
    */
@@ -215,6 +500,7 @@ public class HierarchicalConfiguration
       throw new IllegalArgumentException("Cannot add myself as parent configuration.");
     }
     this.parentConfiguration = config;
+    configurationChanged();
   }
 
   /**
@@ -242,51 +528,95 @@ public class HierarchicalConfiguration
   }
 
   /**
-   * Searches all property keys that start with a given prefix.
+   * Searches all property keys that start with a given prefix, in this and
+   * all parent configurations. The keys are returned in ascending order,
+   * without duplicates.
+   * <p>
+   * Each configuration keeps a sorted index of its keys (created on the
+   * first query after a change), and the matching runs of the indexes are
+   * merged while the iterator is read, so a query costs time in proportion
+   * to the number of matching keys.</p>
    *
    * @param prefix the prefix that all selected property keys should share
    * @return the properties as iterator.
    */
   public Iterator findPropertyKeys(final String prefix)
   {
-    final TreeSet keys = new TreeSet();
-    collectPropertyKeys(prefix, this, keys);
-    return Collections.unmodifiableSet(keys).iterator();
+    if (prefix == null)
+    {
+      throw new NullPointerException();
+    }
+    final ArrayList iterators = new ArrayList();
+    Configuration config = this;
+    while (config != null)
+    {
+      if (config instanceof HierarchicalConfiguration)
+      {
+        final HierarchicalConfiguration hconfig =
+            (HierarchicalConfiguration) config;
+        iterators.add(hconfig.findLocalPropertyKeys(prefix));
+        config = hconfig.parentConfiguration;
+      }
+      else
+      {
+        iterators.add(new SortedKeyIterator
+            (collectSortedKeys(config.getConfigProperties(), prefix), prefix));
+        config = null;
+      }
+    }
+    if (iterators.size() == 1)
+    {
+      return (Iterator) iterators.get(0);
+    }
+    return new MergedKeyIterator
+        ((Iterator[]) iterators.toArray(new Iterator[iterators.size()]));
   }
 
   /**
-   * Collects property keys from this and all parent report configurations,
-   * which start with the given prefix.
+   * Returns the keys defined in this configuration (not in the parent
+   * configurations) that start with the given prefix, in ascending order.
+   * The default implementation uses an index of the keys returned by
+   * {@link #getConfigProperties()}, which is created again after a change
+   * (see {@link #configurationChanged()}).
    *
-   * @param prefix    the prefix, that selects the property keys.
-   * @param config    the currently processed report configuration.
-   * @param collector the target list, that should receive all valid keys.
+   * @param prefix the prefix.
+   * @return the keys as iterator.
    */
-  private void collectPropertyKeys(final String prefix,
-                                   final Configuration config,
-                                   final TreeSet collector)
+  protected Iterator findLocalPropertyKeys(final String prefix)
   {
-    final Enumeration enum1 = config.getConfigProperties();
-    while (enum1.hasMoreElements())
+    final long version = this.localModificationCount;
+    KeyIndex index = this.keyIndex;
+    if (index == null || index.version != version)
     {
-      final String key = (String) enum1.nextElement();
-      if (key.startsWith(prefix))
-      {
-        if (collector.contains(key) == false)
-        {
-          collector.add(key);
-        }
-      }
+      index = new KeyIndex(version,
+          collectSortedKeys(getConfigProperties(), ""));
+      this.keyIndex = index;
     }
+    return new SortedKeyIterator(index.keys, prefix);
+  }
 
-    if (config instanceof HierarchicalConfiguration)
+  /**
+   * Collects the keys that start with a given prefix, in ascending order.
+   *
+   * @param keys   the keys (keys that are not strings are ignored).
+   * @param prefix the prefix.
+   * @return the sorted keys.
+   */
+  static String[] collectSortedKeys(final Enumeration keys,
+                                    final String prefix)
+  {
+    final ArrayList result = new ArrayList();
+    while (keys.hasMoreElements())
     {
-      final HierarchicalConfiguration hconfig = (HierarchicalConfiguration) config;
-      if (hconfig.parentConfiguration != null)
+      final Object key = keys.nextElement();
+      if (key instanceof String && ((String) key).startsWith(prefix))
       {
-        collectPropertyKeys(prefix, hconfig.parentConfiguration, collector);
+        result.add(key);
       }
     }
+    final String[] array = (String[]) result.toArray(new String[result.size()]);
+    Arrays.sort(array);
+    return array;
   }
 
   /**
@@ -341,6 +671,9 @@ public class HierarchicalConfiguration
       throws IOException, ClassNotFoundException
   {
     in.defaultReadObject();
+    final Properties loaded = this.configuration;
+    this.configuration = new LocalProperties(this);
+    this.configuration.putAll(loaded);
     final boolean readParent = in.readBoolean();
     if (readParent)
     {
@@ -350,6 +683,7 @@ public class HierarchicalConfiguration
     {
         this.parentConfiguration = null;
     }
+    configurationChanged();
     configurationLoaded();
   }
 
@@ -363,7 +697,10 @@ public class HierarchicalConfiguration
   public Object clone() throws CloneNotSupportedException
   {
     HierarchicalConfiguration config = (HierarchicalConfiguration) super.clone();
-    config.configuration = (Properties) this.configuration.clone();
+    config.configuration = new LocalProperties(config);
+    config.configuration.putAll(this.configuration);
+    config.snapshot = null;
+    config.keyIndex = null;
     return config;
   }
 }
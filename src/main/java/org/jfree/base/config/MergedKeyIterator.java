@@ -0,0 +1,150 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * MergedKeyIterator.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.base.config;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only iterator that merges several iterators over sorted keys into
+ * one sorted sequence without duplicates.  The keys are merged as they are
+ * requested, nothing is collected up front.
+ */
+final class MergedKeyIterator implements Iterator
+{
+  /** The iterators (each in ascending order without duplicates). */
+  private final Iterator[] iterators;
+
+  /** The current key of each iterator (null once it is exhausted). */
+  private final String[] heads;
+
+  /** The next key (null if there are no more keys). */
+  private String next;
+
+  /**
+   * Creates a new iterator.
+   *
+   * @param iterators the iterators over sorted keys.
+   */
+  MergedKeyIterator(final Iterator[] iterators)
+  {
+    this.iterators = iterators;
+    this.heads = new String[iterators.length];
+    for (int i = 0; i < iterators.length; i++)
+    {
+      if (iterators[i].hasNext())
+      {
+        this.heads[i] = (String) iterators[i].next();
+      }
+    }
+    advance();
+  }
+
+  /**
+   * Moves to the smallest remaining key, and moves every iterator that is
+   * positioned on that key to its next key.
+   */
+  private void advance()
+  {
+    String min = null;
+    for (int i = 0; i < this.heads.length; i++)
+    {
+      final String head = this.heads[i];
+      if (head != null && (min == null || head.compareTo(min) < 0))
+      {
+        min = head;
+      }
+    }
+    this.next = min;
+    if (min == null)
+    {
+      return;
+    }
+    for (int i = 0; i < this.heads.length; i++)
+    {
+      if (min.equals(this.heads[i]))
+      {
+        if (this.iterators[i].hasNext())
+        {
+          this.heads[i] = (String) this.iterators[i].next();
+        }
+        else
+        {
+          this.heads[i] = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns true, if there are more keys.
+   *
+   * @return true, if there are more keys.
+   */
+  public boolean hasNext()
+  {
+    return this.next != null;
+  }
+
+  /**
+   * Returns the next key.
+   *
+   * @return the key.
+   */
+  public Object next()
+  {
+    final String result = this.next;
+    if (result == null)
+    {
+      throw new NoSuchElementException();
+    }
+    advance();
+    return result;
+  }
+
+  /**
+   * Throws an exception, as the keys cannot be removed.
+   */
+  public void remove()
+  {
+    throw new UnsupportedOperationException("The keys are read-only.");
+  }
+}
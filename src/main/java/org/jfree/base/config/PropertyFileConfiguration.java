@@ -37,12 +37,20 @@
  * Changes
  * -------
  * 14-Jan-2003 : Initial version
+ * 16-Oct-2026 : Invalidate the snapshots after loading;
+ * 16-Oct-2026 : Added watch mode and change listeners;
  */
 package org.jfree.base.config;
 
 import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.Properties;
 
 import org.jfree.util.Log;
@@ -50,11 +58,29 @@ import org.jfree.util.ObjectUtilities;
 
 /**
  * A report configuration that reads its values from an arbitary property file.
+ * <p>
+ * A property file on the local file system can be watched (see
+ * {@link #watch(File)}). The file is then reloaded in a background thread
+ * whenever it changes, the properties that have been added, changed or
+ * removed in the file are applied in one step, and the registered
+ * {@link ConfigurationChangeListener}s are told which keys have changed.
  *
  * @author Thomas Morgner
  */
 public class PropertyFileConfiguration extends HierarchicalConfiguration
 {
+  /** The default maximum time between two checks of a watched file (in milliseconds). */
+  public static final long DEFAULT_POLL_INTERVAL = 2000;
+
+  /** The watcher of the watched file (null if no file is watched). */
+  private transient PropertyFileWatcher watcher;
+
+  /** The properties last read from the watched file (null if none). */
+  private transient Properties fileProperties;
+
+  /** The registered change listeners (null if none). */
+  private transient ArrayList listeners;
+
   /**
    * Default constructor.
    */
@@ -128,8 +154,20 @@ public class PropertyFileConfiguration extends HierarchicalConfiguration
       final BufferedInputStream bin = new BufferedInputStream(in);
       final Properties p = new Properties();
       p.load(bin);
-      this.getConfiguration().putAll(p);
+      final Properties current = getConfiguration();
+      final ArrayList changedKeys = new ArrayList();
+      final Enumeration keys = p.keys();
+      while (keys.hasMoreElements())
+      {
+        final Object key = keys.nextElement();
+        if (p.get(key).equals(current.get(key)) == false)
+        {
+          changedKeys.add(key);
+        }
+      }
+      updateConfiguration(p, Collections.EMPTY_LIST);
       bin.close();
+      fireConfigurationChanged(changedKeys);
     }
     catch (IOException ioe)
     {
@@ -138,4 +176,245 @@ public class PropertyFileConfiguration extends HierarchicalConfiguration
 
   }
 
+  /**
+   * Loads the given property file and watches it, using the default poll
+   * interval.
+   *
+   * @param file the property file.
+   * @see #watch(File, long)
+   */
+  public void watch(final File file)
+  {
+    watch(file, DEFAULT_POLL_INTERVAL);
+  }
+
+  /**
+   * Loads the given property file and watches it for changes. Whenever the
+   * file changes, it is read again in a background thread; the properties
+   * that have been added or changed in the file are set, the properties that
+   * have been removed from the file are removed from this configuration, and
+   * the registered listeners are notified. All changes of one reload are
+   * applied in one step, so that readers never see a half-applied update.
+   * <p>
+   * Changes are detected with a {@link java.nio.file.WatchService} where the
+   * file system supports it; in any case, the file is checked at least once
+   * per poll interval. Watching another file stops watching the previous
+   * one.
+   *
+   * @param file         the property file.
+   * @param pollInterval the maximum time between two checks of the file (in
+   *                     milliseconds).
+   */
+  public void watch(final File file, final long pollInterval)
+  {
+    if (file == null)
+    {
+      throw new NullPointerException();
+    }
+    if (pollInterval <= 0)
+    {
+      throw new IllegalArgumentException("Poll interval must be positive.");
+    }
+    final PropertyFileWatcher newWatcher =
+        new PropertyFileWatcher(this, file, pollInterval);
+    synchronized (this)
+    {
+      if (this.watcher != null)
+      {
+        this.watcher.stop();
+      }
+      this.watcher = newWatcher;
+    }
+    reload(newWatcher);
+    newWatcher.start();
+  }
+
+  /**
+   * Stops watching the property file. The properties read from the file
+   * remain in this configuration.
+   */
+  public synchronized void stopWatching()
+  {
+    if (this.watcher != null)
+    {
+      this.watcher.stop();
+      this.watcher = null;
+    }
+  }
+
+  /**
+   * Returns the watched property file.
+   *
+   * @return the file or null, if no file is watched.
+   */
+  public synchronized File getWatchedFile()
+  {
+    if (this.watcher == null)
+    {
+      return null;
+    }
+    return this.watcher.getFile();
+  }
+
+  /**
+   * Reads the watched file again and applies the differences to the
+   * properties read last time. Does nothing if the watcher has been
+   * replaced or stopped.
+   *
+   * @param source the watcher that requests the reload.
+   */
+  void reload(final PropertyFileWatcher source)
+  {
+    final Properties loaded = new Properties();
+    try
+    {
+      final InputStream in = new BufferedInputStream
+          (new FileInputStream(source.getFile()));
+      try
+      {
+        loaded.load(in);
+      }
+      finally
+      {
+        in.close();
+      }
+    }
+    catch (IOException ioe)
+    {
+      Log.warn("Unable to read configuration file " + source.getFile(), ioe);
+      return;
+    }
+
+    final ArrayList changedKeys = new ArrayList();
+    synchronized (this)
+    {
+      if (this.watcher != source)
+      {
+        return;
+      }
+      final Properties previous =
+          (this.fileProperties != null) ? this.fileProperties : new Properties();
+      final Properties changes = new Properties();
+      final ArrayList removedKeys = new ArrayList();
+      Enumeration keys = loaded.keys();
+      while (keys.hasMoreElements())
+      {
+        final Object key = keys.nextElement();
+        final Object value = loaded.get(key);
+        if (value.equals(previous.get(key)) == false)
+        {
+          changes.put(key, value);
+          changedKeys.add(key);
+        }
+      }
+      keys = previous.keys();
+      while (keys.hasMoreElements())
+      {
+        final Object key = keys.nextElement();
+        if (loaded.containsKey(key) == false)
+        {
+          removedKeys.add(key);
+          changedKeys.add(key);
+        }
+      }
+      this.fileProperties = loaded;
+      if (changedKeys.isEmpty())
+      {
+        return;
+      }
+      updateConfiguration(changes, removedKeys);
+    }
+    Log.debug("Reloaded configuration file " + source.getFile());
+    fireConfigurationChanged(changedKeys);
+  }
+
+  /**
+   * Adds a listener that is notified when properties are loaded or
+   * reloaded.
+   *
+   * @param listener the listener.
+   */
+  public synchronized void addConfigurationChangeListener
+      (final ConfigurationChangeListener listener)
+  {
+    if (listener == null)
+    {
+      throw new NullPointerException();
+    }
+    if (this.listeners == null)
+    {
+      this.listeners = new ArrayList();
+    }
+    this.listeners.add(listener);
+  }
+
+  /**
+   * Removes a change listener.
+   *
+   * @param listener the listener.
+   */
+  public synchronized void removeConfigurationChangeListener
+      (final ConfigurationChangeListener listener)
+  {
+    if (this.listeners != null)
+    {
+      this.listeners.remove(listener);
+    }
+  }
+
+  /**
+   * Notifies the registered listeners that properties have changed. Nothing
+   * is sent if no keys have changed. An exception thrown by a listener is
+   * logged and does not stop the notification of the other listeners.
+   *
+   * @param changedKeys the keys of the changed properties.
+   */
+  protected void fireConfigurationChanged(final Collection changedKeys)
+  {
+    if (changedKeys.isEmpty())
+    {
+      return;
+    }
+    final Object[] targets;
+    synchronized (this)
+    {
+      if (this.listeners == null || this.listeners.isEmpty())
+      {
+        return;
+      }
+      targets = this.listeners.toArray();
+    }
+    final ConfigurationChangeEvent event =
+        new ConfigurationChangeEvent(this, changedKeys);
+    for (int i = 0; i < targets.length; i++)
+    {
+      try
+      {
+        ((ConfigurationChangeListener) targets[i]).propertiesChanged(event);
+      }
+      catch (RuntimeException e)
+      {
+        Log.warn("Configuration change listener failed.", e);
+      }
+    }
+  }
+
+  /**
+   * Returns a clone of this instance. The clone does not watch a file and
+   * has no listeners.
+   *
+   * @return A clone.
+   *
+   * @throws CloneNotSupportedException if there is a problem cloning.
+   */
+  public Object clone() throws CloneNotSupportedException
+  {
+    final PropertyFileConfiguration config =
+        (PropertyFileConfiguration) super.clone();
+    config.watcher = null;
+    config.fileProperties = null;
+    config.listeners = null;
+    return config;
+  }
+
 }
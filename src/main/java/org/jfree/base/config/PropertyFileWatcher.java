@@ -0,0 +1,309 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * PropertyFileWatcher.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.base.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.util.Log;
+
+/**
+ * Watches a property file and asks a {@link PropertyFileConfiguration} to
+ * reload it when it has changed. The file's directory is registered with a
+ * {@link WatchService}; if that is not possible (or the service stops
+ * working) the file's modification time and length are polled instead. The
+ * file is checked at least once per poll interval in either case, and a
+ * change is only reloaded once the file has stopped changing for a short
+ * time, so that a file that is still being written is not read.
+ */
+final class PropertyFileWatcher implements Runnable
+{
+  /** The time a changed file must remain unchanged before it is read. */
+  private static final long SETTLE_TIME = 100;
+
+  /** The configuration that reloads the file. */
+  private final PropertyFileConfiguration configuration;
+
+  /** The watched file. */
+  private final File file;
+
+  /** The maximum time between two checks of the file (in milliseconds). */
+  private final long pollInterval;
+
+  /** The thread running this watcher. */
+  private final Thread thread;
+
+  /** A flag that is set when the watcher should stop. */
+  private volatile boolean stopped;
+
+  /** The modification time of the file when it was last read. */
+  private long lastModified;
+
+  /** The length of the file when it was last read. */
+  private long length;
+
+  /**
+   * Creates a new watcher. The watcher does nothing until it is started.
+   *
+   * @param configuration the configuration.
+   * @param file          the watched file.
+   * @param pollInterval  the maximum time between two checks of the file.
+   */
+  PropertyFileWatcher(final PropertyFileConfiguration configuration,
+                      final File file,
+                      final long pollInterval)
+  {
+    this.configuration = configuration;
+    this.file = file;
+    this.pollInterval = pollInterval;
+    this.lastModified = file.lastModified();
+    this.length = file.length();
+    this.thread = new Thread(this, "PropertyFileWatcher-" + file.getName());
+    this.thread.setDaemon(true);
+  }
+
+  /**
+   * Returns the watched file.
+   *
+   * @return the file.
+   */
+  File getFile()
+  {
+    return this.file;
+  }
+
+  /**
+   * Starts the watcher thread.
+   */
+  void start()
+  {
+    this.thread.start();
+  }
+
+  /**
+   * Stops the watcher thread. A reload that is in progress is completed.
+   */
+  void stop()
+  {
+    this.stopped = true;
+    this.thread.interrupt();
+  }
+
+  /**
+   * Waits for changes of the file until the watcher is stopped.
+   */
+  public void run()
+  {
+    WatchService service = createWatchService();
+    try
+    {
+      while (this.stopped == false)
+      {
+        boolean touched = false;
+        if (service != null)
+        {
+          final WatchKey key;
+          try
+          {
+            key = service.poll(this.pollInterval, TimeUnit.MILLISECONDS);
+          }
+          catch (ClosedWatchServiceException e)
+          {
+            break;
+          }
+          if (key != null)
+          {
+            touched = isFileEvent(key);
+            if (key.reset() == false)
+            {
+              // the directory is gone; fall back to polling
+              closeWatchService(service);
+              service = null;
+            }
+          }
+        }
+        else
+        {
+          Thread.sleep(this.pollInterval);
+        }
+        checkFile(touched);
+      }
+    }
+    catch (InterruptedException e)
+    {
+      // stopped
+    }
+    finally
+    {
+      closeWatchService(service);
+    }
+  }
+
+  /**
+   * Creates a watch service for the file's directory.
+   *
+   * @return the service or null, if the file must be polled.
+   */
+  private WatchService createWatchService()
+  {
+    final File dir = this.file.getAbsoluteFile().getParentFile();
+    if (dir == null)
+    {
+      return null;
+    }
+    WatchService service = null;
+    try
+    {
+      final Path path = dir.toPath();
+      service = path.getFileSystem().newWatchService();
+      path.register(service, new WatchEvent.Kind[]{
+          StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY,
+          StandardWatchEventKinds.ENTRY_DELETE});
+      return service;
+    }
+    catch (IOException e)
+    {
+      Log.debug("Unable to watch " + dir + ", polling instead.", e);
+    }
+    catch (UnsupportedOperationException e)
+    {
+      Log.debug("Unable to watch " + dir + ", polling instead.", e);
+    }
+    closeWatchService(service);
+    return null;
+  }
+
+  /**
+   * Closes a watch service, ignoring errors.
+   *
+   * @param service the service (null permitted).
+   */
+  private static void closeWatchService(final WatchService service)
+  {
+    if (service == null)
+    {
+      return;
+    }
+    try
+    {
+      service.close();
+    }
+    catch (IOException e)
+    {
+      // ignore
+    }
+  }
+
+  /**
+   * Checks, whether any of the key's events concerns the watched file.
+   *
+   * @param key the signalled key.
+   * @return true, if the watched file was touched (or events were lost).
+   */
+  private boolean isFileEvent(final WatchKey key)
+  {
+    boolean touched = false;
+    final Iterator events = key.pollEvents().iterator();
+    while (events.hasNext())
+    {
+      final WatchEvent event = (WatchEvent) events.next();
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+      {
+        touched = true;
+      }
+      else if (event.context() instanceof Path &&
+          this.file.getName().equals(event.context().toString()))
+      {
+        touched = true;
+      }
+    }
+    return touched;
+  }
+
+  /**
+   * Reloads the file if it has changed. A missing file is ignored, so that
+   * the configuration keeps its values while the file is being replaced.
+   *
+   * @param touched true, if the watch service reported a change.
+   * @throws InterruptedException if the watcher is stopped.
+   */
+  private void checkFile(final boolean touched) throws InterruptedException
+  {
+    long modified = this.file.lastModified();
+    long size = this.file.length();
+    if (modified == 0)
+    {
+      return;
+    }
+    if (touched == false && modified == this.lastModified && size == this.length)
+    {
+      return;
+    }
+    while (true)
+    {
+      Thread.sleep(SETTLE_TIME);
+      final long settledModified = this.file.lastModified();
+      final long settledSize = this.file.length();
+      if (settledModified == modified && settledSize == size)
+      {
+        break;
+      }
+      modified = settledModified;
+      size = settledSize;
+    }
+    if (modified == 0 || this.stopped)
+    {
+      return;
+    }
+    this.lastModified = modified;
+    this.length = size;
+    this.configuration.reload(this);
+  }
+}
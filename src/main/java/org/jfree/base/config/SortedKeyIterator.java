@@ -0,0 +1,149 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * SortedKeyIterator.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.base.config;
+
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only iterator over the keys in a sorted array that start with a
+ * given prefix.  The first key is found with a binary search, so the cost
+ * of a query is proportional to the number of matching keys (plus the
+ * logarithm of the number of keys).
+ */
+final class SortedKeyIterator implements Iterator, Enumeration
+{
+  /** The sorted keys. */
+  private final String[] keys;
+
+  /** The index of the next key. */
+  private int index;
+
+  /** The prefix. */
+  private final String prefix;
+
+  /**
+   * Creates an iterator over the keys that start with the given prefix.
+   *
+   * @param keys   the keys, in ascending order (not modified later).
+   * @param prefix the prefix (<code>null</code> not permitted).
+   */
+  SortedKeyIterator(final String[] keys, final String prefix)
+  {
+    if (prefix == null)
+    {
+      throw new NullPointerException();
+    }
+    int low = 0;
+    int high = keys.length;
+    while (low < high)
+    {
+      final int mid = (low + high) >>> 1;
+      if (keys[mid].compareTo(prefix) < 0)
+      {
+        low = mid + 1;
+      }
+      else
+      {
+        high = mid;
+      }
+    }
+    this.keys = keys;
+    this.index = low;
+    this.prefix = prefix;
+  }
+
+  /**
+   * Returns true, if there are more keys.
+   *
+   * @return true, if there are more keys.
+   */
+  public boolean hasNext()
+  {
+    return this.index < this.keys.length
+        && this.keys[this.index].startsWith(this.prefix);
+  }
+
+  /**
+   * Returns the next key.
+   *
+   * @return the key.
+   */
+  public Object next()
+  {
+    if (!hasNext())
+    {
+      throw new NoSuchElementException();
+    }
+    final String key = this.keys[this.index];
+    this.index++;
+    return key;
+  }
+
+  /**
+   * Throws an exception, as the keys cannot be removed.
+   */
+  public void remove()
+  {
+    throw new UnsupportedOperationException("The keys are read-only.");
+  }
+
+  /**
+   * Returns true, if there are more keys.
+   *
+   * @return true, if there are more keys.
+   */
+  public boolean hasMoreElements()
+  {
+    return hasNext();
+  }
+
+  /**
+   * Returns the next key.
+   *
+   * @return the key.
+   */
+  public Object nextElement()
+  {
+    return next();
+  }
+}
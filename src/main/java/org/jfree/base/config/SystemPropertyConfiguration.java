@@ -38,12 +38,16 @@
  * -------------------------
  * 14-Jan-2003 : Initial Version, moved from inner class of ReportConfiguration
  * 05-Feb-2003 : This implementation now handles SecurityExceptions.
+ * 16-Oct-2026 : Added findLocalPropertyKeys() (the keys are not indexed).
+ * 17-Oct-2026 : Added isModificationTracked().
+ * 17-Oct-2026 : Added getLocalConfigProperty().
  * 
  */
 
 package org.jfree.base.config;
 
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.Vector;
 
 /**
@@ -128,4 +132,47 @@ public class SystemPropertyConfiguration extends HierarchicalConfiguration {
             return new Vector().elements();
         }
     }
+
+    /**
+     * Returns false, as the system properties can be changed without notice.
+     *
+     * @return false.
+     */
+    protected boolean isModificationTracked() {
+        return false;
+    }
+
+    /**
+     * Returns the system property with the given key, or the value defined
+     * locally in this configuration, if there is no such system property.
+     *
+     * @param key  the property key.
+     *
+     * @return the local value or <code>null</code>.
+     */
+    protected String getLocalConfigProperty(final String key) {
+        try {
+            final String value = System.getProperty(key);
+            if (value != null) {
+               return value;
+            }
+        }
+        catch (SecurityException se) {
+            // ignore security exceptions, continue as if the property was not set..
+        }
+        return super.getLocalConfigProperty(key);
+    }
+
+    /**
+     * Returns the system property keys that start with the given prefix, in
+     * ascending order. The system properties can change at any time, so
+     * they are scanned on every call instead of being indexed.
+     *
+     * @param prefix the prefix.
+     * @return the keys as iterator.
+     */
+    protected Iterator findLocalPropertyKeys(final String prefix) {
+        return new SortedKeyIterator
+            (collectSortedKeys(getConfigProperties(), prefix), prefix);
+    }
 }
@@ -37,11 +37,15 @@
  * Changes
  * -------
  * 07-Jun-2004 : Added JCommon header (DG);
+ * 16-Oct-2026 : Load the context log levels in init();
  *
  */
 
 package org.jfree.base.log;
 
+import java.util.Iterator;
+import java.util.Map;
+
 import org.jfree.util.Log;
 import org.jfree.util.LogTarget;
 import org.jfree.util.PrintStreamLogTarget;
@@ -93,19 +97,45 @@ public class DefaultLog extends Log {
      */
     public void init() {
         removeTarget(DEFAULT_LOG_TARGET);
-        final String logLevel = LogConfiguration.getLogLevel();
+        final int level = parseLogLevel(LogConfiguration.getLogLevel());
+        if (level >= 0) {
+            setDebuglevel(level);
+        }
+
+        clearContextDebuglevels();
+        final Map contextLevels = LogConfiguration.getContextLogLevels();
+        final Iterator it = contextLevels.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry entry = (Map.Entry) it.next();
+            final int contextLevel = parseLogLevel((String) entry.getValue());
+            if (contextLevel >= 0) {
+                setContextDebuglevel((String) entry.getKey(), contextLevel);
+            }
+        }
+    }
+
+    /**
+     * Converts a log level name (as used in the configuration) into a log
+     * level.
+     *
+     * @param logLevel  the name (not case sensitive).
+     *
+     * @return the log level, or -1 if the name is not valid.
+     */
+    private static int parseLogLevel(final String logLevel) {
         if (logLevel.equalsIgnoreCase("error")) {
-            setDebuglevel(LogTarget.ERROR);
+            return LogTarget.ERROR;
         }
         else if (logLevel.equalsIgnoreCase("warn")) {
-            setDebuglevel(LogTarget.WARN);
+            return LogTarget.WARN;
         }
         else if (logLevel.equalsIgnoreCase("info")) {
-            setDebuglevel(LogTarget.INFO);
+            return LogTarget.INFO;
         }
         else if (logLevel.equalsIgnoreCase("debug")) {
-            setDebuglevel(LogTarget.DEBUG);
+            return LogTarget.DEBUG;
         }
+        return -1;
     }
 
     /**
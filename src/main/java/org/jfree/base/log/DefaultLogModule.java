@@ -41,18 +41,28 @@
  * 25-Nov-2005 : The initialization was overly complicated. There is only
  *               one logtarget here, and additional targets should create
  *               an dependent module.
+ * 16-Oct-2026 : Optionally write the log messages on a background thread;
+ * 16-Oct-2026 : Added the rolling file log target;
+ * 17-Oct-2026 : The async capacity is checked by LogConfiguration;
  */
 
 package org.jfree.base.log;
 
+import java.io.File;
+import java.io.IOException;
+
 import org.jfree.base.modules.AbstractModule;
 import org.jfree.base.modules.ModuleInitializeException;
 import org.jfree.base.modules.SubSystem;
+import org.jfree.util.AsyncLogTarget;
 import org.jfree.util.Log;
+import org.jfree.util.LogTarget;
 import org.jfree.util.PrintStreamLogTarget;
+import org.jfree.util.RollingFileLogTarget;
 
 /**
- * The module definition for the System.out-Logging. This is the default log
+ * The module definition for the System.out-Logging (and the rolling file
+ * logging). This is the default log
  * implementation and is provided to insert the logging initialisation in the
  * module loading process.
  *
@@ -72,7 +82,7 @@ public class DefaultLogModule extends AbstractModule
 
   /**
    * Initalizes the module. This method initializes the logging system, if the
-   * System.out logtarget is selected.
+   * System.out logtarget or the rolling file logtarget is selected.
    *
    * @param subSystem the sub-system.
    * @throws ModuleInitializeException if an error occured.
@@ -85,19 +95,50 @@ public class DefaultLogModule extends AbstractModule
       return;
     }
 
-    if (LogConfiguration.getLogTarget().equals
-            (PrintStreamLogTarget.class.getName()))
+    final String targetName = LogConfiguration.getLogTarget();
+    final boolean async = LogConfiguration.isAsyncLogging();
+    LogTarget target;
+    if (targetName.equals(PrintStreamLogTarget.class.getName()))
     {
-      DefaultLog.installDefaultLog();
-      Log.getInstance().addTarget(new PrintStreamLogTarget());
-
-      if ("true".equals(subSystem.getGlobalConfig().getConfigProperty
-              ("org.jfree.base.LogAutoInit")))
+      target = new PrintStreamLogTarget(System.out, !async);
+    }
+    else if (targetName.equals(RollingFileLogTarget.class.getName()))
+    {
+      try
       {
-        Log.getInstance().init();
+        target = new RollingFileLogTarget
+            (new File(LogConfiguration.getLogFile()),
+             LogConfiguration.getLogFileMaxSize(),
+             LogConfiguration.getLogFileRotationInterval(),
+             LogConfiguration.isLogFileCompress(), !async);
       }
-      Log.info("Default log target started ... previous log messages " +
-              "could have been ignored.");
+      catch (IOException ioe)
+      {
+        throw new ModuleInitializeException
+            ("Unable to open the log file.", ioe);
+      }
+    }
+    else
+    {
+      return;
+    }
+
+    DefaultLog.installDefaultLog();
+    if (async)
+    {
+      target = new AsyncLogTarget
+          (target, LogConfiguration.getAsyncCapacity(),
+           LogConfiguration.getAsyncOverflowPolicy(),
+           LogConfiguration.getAsyncFlushInterval());
+    }
+    Log.getInstance().addTarget(target);
+
+    if ("true".equals(subSystem.getGlobalConfig().getConfigProperty
+            ("org.jfree.base.LogAutoInit")))
+    {
+      Log.getInstance().init();
     }
+    Log.info("Default log target started ... previous log messages " +
+            "could have been ignored.");
   }
 }
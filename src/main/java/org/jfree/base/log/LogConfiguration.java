@@ -37,13 +37,24 @@
  * Changes
  * -------
  * 07-Jun-2004 : Added JCommon header (DG);
+ * 16-Oct-2026 : Added the asynchronous logging properties;
+ * 16-Oct-2026 : Added the context log level properties;
+ * 16-Oct-2026 : Added the log file properties;
+ * 17-Oct-2026 : getAsyncCapacity() returns a valid capacity;
  *
  */
 
 package org.jfree.base.log;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
 import org.jfree.base.BaseBoot;
+import org.jfree.util.AsyncLogTarget;
+import org.jfree.util.Configuration;
 import org.jfree.util.PrintStreamLogTarget;
+import org.jfree.util.RollingFileLogTarget;
 
 /**
  * A log configuration class. This implementation is a simple frontend
@@ -61,6 +72,13 @@ public class LogConfiguration {
   /** The default 'log level' property value. */
   public static final String LOGLEVEL_DEFAULT = "Info";
 
+  /**
+   * The prefix of the 'context log level' property keys. The rest of the
+   * key is the name of a log context (or of a package), for instance
+   * <code>org.jfree.base.LogLevel.org.jfree.base.modules=Debug</code>.
+   */
+  public static final String CONTEXT_LOGLEVEL_PREFIX = LOGLEVEL + ".";
+
   /** The 'log target' property key. */
   public static final String LOGTARGET = "org.jfree.base.LogTarget";
 
@@ -71,6 +89,44 @@ public class LogConfiguration {
   /** The 'disable logging' property key. */
   public static final String DISABLE_LOGGING = "org.jfree.base.NoDefaultDebug"; 
 
+  /** The 'log file' property key. */
+  public static final String LOGFILE = "org.jfree.base.LogFile";
+
+  /** The default 'log file' property value. */
+  public static final String LOGFILE_DEFAULT = "jcommon.log";
+
+  /** The 'log file maximum size' property key. */
+  public static final String LOGFILE_MAX_SIZE = "org.jfree.base.LogFileMaxSize";
+
+  /** The 'log file rotation interval' property key. */
+  public static final String LOGFILE_ROTATION_INTERVAL =
+          "org.jfree.base.LogFileRotationInterval";
+
+  /** The 'compress rotated log files' property key. */
+  public static final String LOGFILE_COMPRESS = "org.jfree.base.LogFileCompress";
+
+  /** The default 'compress rotated log files' property value. */
+  public static final String LOGFILE_COMPRESS_DEFAULT = "false";
+
+  /** The 'asynchronous logging' property key. */
+  public static final String ASYNC = "org.jfree.base.LogAsync";
+
+  /** The default 'asynchronous logging' property value. */
+  public static final String ASYNC_DEFAULT = "false";
+
+  /** The 'asynchronous log buffer size' property key. */
+  public static final String ASYNC_CAPACITY = "org.jfree.base.LogAsyncCapacity";
+
+  /** The 'asynchronous log overflow policy' property key. */
+  public static final String ASYNC_OVERFLOW = "org.jfree.base.LogAsyncOverflow";
+
+  /** The default 'asynchronous log overflow policy' property value. */
+  public static final String ASYNC_OVERFLOW_DEFAULT = "block";
+
+  /** The 'asynchronous log flush interval' property key. */
+  public static final String ASYNC_FLUSH_INTERVAL =
+          "org.jfree.base.LogAsyncFlushInterval";
+
   /**
    * Default constructor.
    */
@@ -138,6 +194,30 @@ public class LogConfiguration {
     BaseBoot.getConfiguration().setConfigProperty(LOGLEVEL, level);
   }
 
+  /**
+   * Returns the log levels defined for individual log contexts. The values
+   * are the same as for {@link #setLogLevel(String)}.
+   *
+   * @return a map of log levels (String) keyed by context name (String).
+   */
+  public static Map getContextLogLevels()
+  {
+    final Configuration config = BaseBoot.getInstance().getGlobalConfig();
+    final HashMap result = new HashMap();
+    final Iterator it = config.findPropertyKeys(CONTEXT_LOGLEVEL_PREFIX);
+    while (it.hasNext())
+    {
+      final String key = (String) it.next();
+      final String context = key.substring(CONTEXT_LOGLEVEL_PREFIX.length());
+      final String level = config.getConfigProperty(key);
+      if (context.length() > 0 && level != null)
+      {
+        result.put(context, level);
+      }
+    }
+    return result;
+  }
+
   /**
    * Returns <code>true</code> if logging is disabled, and <code>false</code> otherwise.
    *
@@ -164,5 +244,154 @@ public class LogConfiguration {
             (DISABLE_LOGGING, String.valueOf(disableLogging));
   }
 
+  /**
+   * Returns the name of the file written by the {@link RollingFileLogTarget}.
+   *
+   * @return the file name.
+   */
+  public static String getLogFile()
+  {
+    return BaseBoot.getInstance().getGlobalConfig().getConfigProperty
+            (LOGFILE, LOGFILE_DEFAULT);
+  }
+
+  /**
+   * Returns the size (in bytes) at which the {@link RollingFileLogTarget}
+   * starts a new file.
+   *
+   * @return the maximum file size (0 for no limit).
+   */
+  public static long getLogFileMaxSize()
+  {
+    return parseLong(BaseBoot.getInstance().getGlobalConfig().getConfigProperty
+        (LOGFILE_MAX_SIZE), RollingFileLogTarget.DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Returns the time between two rotations of the log file written by the
+   * {@link RollingFileLogTarget}.
+   *
+   * @return the rotation interval in milliseconds (0 for no timed
+   *         rotation).
+   */
+  public static long getLogFileRotationInterval()
+  {
+    return parseLong(BaseBoot.getInstance().getGlobalConfig().getConfigProperty
+        (LOGFILE_ROTATION_INTERVAL), 0L);
+  }
+
+  /**
+   * Returns <code>true</code> if rotated log files are gzipped.
+   *
+   * @return true, if rotated log files are compressed, false otherwise.
+   */
+  public static boolean isLogFileCompress()
+  {
+    return BaseBoot.getInstance().getGlobalConfig().getConfigProperty
+        (LOGFILE_COMPRESS, LOGFILE_COMPRESS_DEFAULT).equalsIgnoreCase("true");
+  }
+
+  /**
+   * Returns <code>true</code> if log messages are written by a background
+   * thread (see {@link AsyncLogTarget}).
+   *
+   * @return true, if asynchronous logging is enabled, false otherwise.
+   */
+  public static boolean isAsyncLogging()
+  {
+    return BaseBoot.getInstance().getGlobalConfig().getConfigProperty
+        (ASYNC, ASYNC_DEFAULT).equalsIgnoreCase("true");
+  }
+
+  /**
+   * Returns the number of messages that can wait for the background thread
+   * when asynchronous logging is enabled. The value is kept in the range
+   * accepted by {@link AsyncLogTarget} (1 to
+   * {@link AsyncLogTarget#MAXIMUM_CAPACITY}).
+   *
+   * @return the buffer capacity.
+   */
+  public static int getAsyncCapacity()
+  {
+    final int capacity = parseInt(BaseBoot.getInstance().getGlobalConfig()
+        .getConfigProperty(ASYNC_CAPACITY), AsyncLogTarget.DEFAULT_CAPACITY);
+    return Math.max(1, Math.min(capacity, AsyncLogTarget.MAXIMUM_CAPACITY));
+  }
+
+  /**
+   * Returns the policy used when the asynchronous log buffer is full. The
+   * property value is one of <code>"block"</code>, <code>"drop"</code> and
+   * <code>"sample"</code> (not case sensitive).
+   *
+   * @return one of the <code>OVERFLOW_</code> constants defined by
+   *         {@link AsyncLogTarget}.
+   */
+  public static int getAsyncOverflowPolicy()
+  {
+    final String policy = BaseBoot.getInstance().getGlobalConfig()
+        .getConfigProperty(ASYNC_OVERFLOW, ASYNC_OVERFLOW_DEFAULT);
+    if (policy.equalsIgnoreCase("drop"))
+    {
+      return AsyncLogTarget.OVERFLOW_DROP;
+    }
+    if (policy.equalsIgnoreCase("sample"))
+    {
+      return AsyncLogTarget.OVERFLOW_SAMPLE;
+    }
+    return AsyncLogTarget.OVERFLOW_BLOCK;
+  }
+
+  /**
+   * Returns the minimum time between two flushes of the log output when
+   * asynchronous logging is enabled.
+   *
+   * @return the flush interval in milliseconds.
+   */
+  public static long getAsyncFlushInterval()
+  {
+    return parseInt(BaseBoot.getInstance().getGlobalConfig().getConfigProperty
+        (ASYNC_FLUSH_INTERVAL), (int) AsyncLogTarget.DEFAULT_FLUSH_INTERVAL);
+  }
+
+  /**
+   * Parses a non-negative integer property value.
+   *
+   * @param value the value (<code>null</code> permitted).
+   * @param defaultValue the value returned if the value is missing or
+   *        invalid.
+   *
+   * @return the parsed value.
+   */
+  private static int parseInt(final String value, final int defaultValue)
+  {
+    return (int) Math.min(parseLong(value, defaultValue), Integer.MAX_VALUE);
+  }
+
+  /**
+   * Parses a non-negative long integer property value.
+   *
+   * @param value the value (<code>null</code> permitted).
+   * @param defaultValue the value returned if the value is missing or
+   *        invalid.
+   *
+   * @return the parsed value.
+   */
+  private static long parseLong(final String value, final long defaultValue)
+  {
+    if (value == null)
+    {
+      return defaultValue;
+    }
+    try
+    {
+      final long result = Long.parseLong(value.trim());
+      return result < 0 ? defaultValue : result;
+    }
+    catch (NumberFormatException nfe)
+    {
+      return defaultValue;
+    }
+  }
+
 
 }
@@ -38,6 +38,7 @@
  * -------
  * 26-Jun-2003 : Initial version
  * 07-Jun-2004 : Added JCommon header (DG);
+ * 16-Oct-2026 : Log through a log context, with parameterised messages;
  *
  */
 
@@ -55,6 +56,7 @@ import org.jfree.base.config.PropertyFileConfiguration;
 import org.jfree.base.log.PadMessage;
 import org.jfree.util.Configuration;
 import org.jfree.util.Log;
+import org.jfree.util.LogContext;
 import org.jfree.util.ObjectUtilities;
 
 /**
@@ -97,6 +99,9 @@ public final class PackageManager {
     }
 
 
+    /** The logger. */
+    private static final LogContext logger = Log.createContext(PackageManager.class);
+
     /**
      * An internal constant declaring that the specified module was already loaded.
      */
@@ -215,7 +220,8 @@ public final class PackageManager {
                 }
             }
         }
-        Log.debug("Loaded a total of " + count + " modules under prefix: " + modulePrefix);
+        logger.debug("Loaded a total of {} modules under prefix: {}",
+                Integer.valueOf(count), modulePrefix);
     }
 
     /**
@@ -228,19 +234,19 @@ public final class PackageManager {
 
         for (int i = 0; i < this.modules.size(); i++) {
             final PackageState mod = (PackageState) this.modules.get(i);
-            if (mod.configure(this.booter)) {
-                Log.debug(new Log.SimpleMessage("Conf: ",
+            if (mod.configure(this.booter) && logger.isDebugEnabled()) {
+                logger.debug("Conf: {} [{}]",
                     new PadMessage(mod.getModule().getModuleClass(), 70),
-                    " [", mod.getModule().getSubSystem(), "]"));
+                    mod.getModule().getSubSystem());
             }
         }
 
         for (int i = 0; i < this.modules.size(); i++) {
             final PackageState mod = (PackageState) this.modules.get(i);
-            if (mod.initialize(this.booter)) {
-                Log.debug(new Log.SimpleMessage("Init: ",
+            if (mod.initialize(this.booter) && logger.isDebugEnabled()) {
+                logger.debug("Init: {} [{}]",
                     new PadMessage(mod.getModule().getModuleClass(), 70),
-                    " [", mod.getModule().getSubSystem(), "]"));
+                    mod.getModule().getSubSystem());
             }
         }
     }
@@ -336,8 +342,8 @@ public final class PackageManager {
 
             if (acceptVersion(moduleInfo, module) == false) {
                 // module conflict!
-                Log.warn("Module " + module.getName() + ": required version: " 
-                        + moduleInfo + ", but found Version: \n" + module);
+                logger.warn("Module {}: required version: {}, but found Version: \n{}",
+                        module.getName(), moduleInfo, module);
                 final PackageState state = new PackageState(module, PackageState.STATE_ERROR);
                 dropFailedModule(state);
                 return false;
@@ -346,7 +352,7 @@ public final class PackageManager {
             final int moduleContained = containsModule(modules, module);
             if (moduleContained == RETURN_MODULE_ERROR) {
                 // the module caused harm before ...
-                Log.debug("Indicated failure for module: " + module.getModuleClass());
+                logger.debug("Indicated failure for module: {}", module.getModuleClass());
                 final PackageState state = new PackageState(module, PackageState.STATE_ERROR);
                 dropFailedModule(state);
                 return false;
@@ -354,9 +360,8 @@ public final class PackageManager {
             else if (moduleContained == RETURN_MODULE_UNKNOWN) {
                 if (incompleteModules.contains(module)) {
                     // we assume that loading will continue ...
-                    Log.error(new Log.SimpleMessage
-                        ("Circular module reference: This module definition is invalid: ",
-                            module.getClass()));
+                    logger.error("Circular module reference: This module definition is invalid: {}",
+                            module.getClass());
                     final PackageState state = new PackageState(module, PackageState.STATE_ERROR);
                     dropFailedModule(state);
                     return false;
@@ -365,7 +370,7 @@ public final class PackageManager {
                 final ModuleInfo[] required = module.getRequiredModules();
                 for (int i = 0; i < required.length; i++) {
                     if (loadModule(required[i], incompleteModules, modules, true) == false) {
-                        Log.debug("Indicated failure for module: " + module.getModuleClass());
+                        logger.debug("Indicated failure for module: {}", module.getModuleClass());
                         final PackageState state = new PackageState(module, PackageState.STATE_ERROR);
                         dropFailedModule(state);
                         return false;
@@ -375,8 +380,8 @@ public final class PackageManager {
                 final ModuleInfo[] optional = module.getOptionalModules();
                 for (int i = 0; i < optional.length; i++) {
                     if (loadModule(optional[i], incompleteModules, modules, true) == false) {
-                        Log.debug(new Log.SimpleMessage("Optional module: ",
-                            optional[i].getModuleClass(), " was not loaded."));
+                        logger.debug("Optional module: {} was not loaded.",
+                            optional[i].getModuleClass());
                     }
                 }
                 // maybe a dependent module defined the same base module ...
@@ -389,14 +394,13 @@ public final class PackageManager {
         }
         catch (ClassNotFoundException cnfe) {
             if (fatal) {
-                Log.warn(new Log.SimpleMessage
-                    ("Unresolved dependency for package: ", moduleInfo.getModuleClass()));
+                logger.warn("Unresolved dependency for package: {}", moduleInfo.getModuleClass());
             }
-            Log.debug(new Log.SimpleMessage("ClassNotFound: ", cnfe.getMessage()));
+            logger.debug("ClassNotFound: {}", cnfe.getMessage());
             return false;
         }
         catch (Exception e) {
-            Log.warn(new Log.SimpleMessage("Exception while loading module: ", moduleInfo), e);
+            logger.warn("Exception while loading module: {}", moduleInfo, e);
             return false;
         }
     }
@@ -414,7 +418,7 @@ public final class PackageManager {
             return true;
         }
         if (module.getMajorVersion() == null) {
-            Log.warn("Module " + module.getName() + " does not define a major version.");
+            logger.warn("Module {} does not define a major version.", module.getName());
         }
         else {
             final int compare = acceptVersion(moduleRequirement.getMajorVersion(),
@@ -431,7 +435,7 @@ public final class PackageManager {
             return true;
         }
         if (module.getMinorVersion() == null) {
-            Log.warn("Module " + module.getName() + " does not define a minor version.");
+            logger.warn("Module {} does not define a minor version.", module.getName());
         }
         else {
             final int compare = acceptVersion(moduleRequirement.getMinorVersion(),
@@ -448,14 +452,13 @@ public final class PackageManager {
             return true;
         }
         if (module.getPatchLevel() == null) {
-            Log.debug("Module " + module.getName() + " does not define a patch level.");
+            logger.debug("Module {} does not define a patch level.", module.getName());
         }
         else {
             if (acceptVersion(moduleRequirement.getPatchLevel(),
                 module.getPatchLevel()) > 0) {
-                Log.debug("Did not accept patchlevel: " 
-                        + moduleRequirement.getPatchLevel() + " - " 
-                        + module.getPatchLevel());
+                logger.debug("Did not accept patchlevel: {} - {}",
+                        moduleRequirement.getPatchLevel(), module.getPatchLevel());
                 return false;
             }
         }
@@ -0,0 +1,336 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * AdvanceTextMeasurer.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.text.Bidi;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link TextMeasurer} that measures text by adding up the advance widths
+ * of its characters, taken from tables that are built once for each font
+ * and <code>FontRenderContext</code> and shared by all measurers.  Measuring
+ * a string does not allocate any objects or call the graphics device,
+ * unless the string contains characters that need complex text layout
+ * (for example Arabic or Devanagari, or combining marks), in which case the
+ * string is measured with a laid out <code>GlyphVector</code>.  Fonts with
+ * layout attributes (such as kerning or ligatures) are always measured that
+ * way.
+ * <p>
+ * Instances of this class are immutable and can be shared by several
+ * threads.
+ *
+ * @since 1.0.24
+ */
+public class AdvanceTextMeasurer implements TextMeasurer {
+
+    /** The number of characters in a page of the advance table. */
+    private static final int PAGE_SIZE = 256;
+
+    /** The maximum number of advance tables kept. */
+    private static final int MAX_TABLES = 64;
+
+    /** The advance tables, keyed by {@link TableKey}. */
+    private static final Map tables = new LinkedHashMap(16, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > MAX_TABLES;
+        }
+    };
+
+    /** The font. */
+    private final Font font;
+
+    /** The font render context. */
+    private final FontRenderContext frc;
+
+    /** The advance table (<code>null</code> if the font needs layout). */
+    private final AdvanceTable table;
+
+    /**
+     * Creates a new measurer for the current font of a graphics device.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     */
+    public AdvanceTextMeasurer(Graphics2D g2) {
+        this(g2.getFont(), g2.getFontRenderContext());
+    }
+
+    /**
+     * Creates a new measurer.
+     *
+     * @param font  the font (<code>null</code> not permitted).
+     * @param frc  the font render context (<code>null</code> not
+     *     permitted).
+     */
+    public AdvanceTextMeasurer(Font font, FontRenderContext frc) {
+        if (font == null) {
+            throw new IllegalArgumentException("Null 'font' argument.");
+        }
+        if (frc == null) {
+            throw new IllegalArgumentException("Null 'frc' argument.");
+        }
+        this.font = font;
+        this.frc = frc;
+        this.table = font.hasLayoutAttributes() ? null : getTable(font, frc);
+    }
+
+    /**
+     * Returns the shared advance table for a font and font render context.
+     *
+     * @param font  the font.
+     * @param frc  the font render context.
+     *
+     * @return The table.
+     */
+    private static AdvanceTable getTable(Font font, FontRenderContext frc) {
+        TableKey key = new TableKey(font, frc);
+        synchronized (tables) {
+            AdvanceTable result = (AdvanceTable) tables.get(key);
+            if (result == null) {
+                result = new AdvanceTable(font, frc);
+                tables.put(key, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns the font.
+     *
+     * @return The font.
+     */
+    public Font getFont() {
+        return this.font;
+    }
+
+    /**
+     * Returns the font render context.
+     *
+     * @return The font render context.
+     */
+    public FontRenderContext getFontRenderContext() {
+        return this.frc;
+    }
+
+    /**
+     * Returns the width of the characters from <code>start</code>
+     * (inclusive) to <code>end</code> (exclusive).
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param start  the index of the first character to measure.
+     * @param end  the index after the last character to measure.
+     *
+     * @return The string width.
+     */
+    public float getStringWidth(String text, int start, int end) {
+        if (this.table != null) {
+            float result = 0.0f;
+            for (int i = start; i < end; i++) {
+                float advance = this.table.getAdvance(text.charAt(i));
+                if (Float.isNaN(advance)) {
+                    return getLayoutWidth(text, start, end);
+                }
+                result += advance;
+            }
+            return result;
+        }
+        return getLayoutWidth(text, start, end);
+    }
+
+    /**
+     * Returns the width of some text, measured with a laid out glyph
+     * vector.
+     *
+     * @param text  the text.
+     * @param start  the index of the first character to measure.
+     * @param end  the index after the last character to measure.
+     *
+     * @return The width.
+     */
+    private float getLayoutWidth(String text, int start, int end) {
+        if (end <= start) {
+            return 0.0f;
+        }
+        char[] chars = new char[end - start];
+        text.getChars(start, end, chars, 0);
+        int flags = Bidi.requiresBidi(chars, 0, chars.length)
+                ? Font.LAYOUT_RIGHT_TO_LEFT : Font.LAYOUT_LEFT_TO_RIGHT;
+        GlyphVector gv = this.font.layoutGlyphVector(this.frc, chars, 0,
+                chars.length, flags);
+        return (float) gv.getLogicalBounds().getWidth();
+    }
+
+    /**
+     * The advance widths of the characters in one font, divided into pages
+     * of {@link #PAGE_SIZE} characters that are created when first used.
+     */
+    private static final class AdvanceTable {
+
+        /** The font. */
+        private final Font font;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /** The pages (an entry is <code>null</code> until it is used). */
+        private final AtomicReferenceArray pages;
+
+        /**
+         * Creates a new table.
+         *
+         * @param font  the font.
+         * @param frc  the font render context.
+         */
+        AdvanceTable(Font font, FontRenderContext frc) {
+            this.font = font;
+            this.frc = frc;
+            this.pages = new AtomicReferenceArray(
+                    (Character.MAX_VALUE + 1) / PAGE_SIZE);
+        }
+
+        /**
+         * Returns the advance width of a character.
+         *
+         * @param c  the character.
+         *
+         * @return The advance, or <code>Float.NaN</code> if the character
+         *     needs complex text layout.
+         */
+        float getAdvance(char c) {
+            int index = c / PAGE_SIZE;
+            float[] page = (float[]) this.pages.get(index);
+            if (page == null) {
+                // two threads may create the same page, that does no harm
+                page = createPage(index * PAGE_SIZE);
+                this.pages.set(index, page);
+            }
+            return page[c % PAGE_SIZE];
+        }
+
+        /**
+         * Measures the characters of one page.
+         *
+         * @param first  the first character of the page.
+         *
+         * @return The advances.
+         */
+        private float[] createPage(int first) {
+            char[] chars = new char[PAGE_SIZE];
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                chars[i] = (char) (first + i);
+            }
+            // without layout, the glyph positions are the sums of the
+            // character advances
+            GlyphVector gv = this.font.createGlyphVector(this.frc, chars);
+            float[] positions = gv.getGlyphPositions(0, PAGE_SIZE + 1, null);
+            float[] result = new float[PAGE_SIZE];
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                char c = chars[i];
+                if (Character.isSurrogate(c)
+                        || Font.textRequiresLayout(chars, i, i + 1)) {
+                    result[i] = Float.NaN;
+                }
+                else {
+                    result[i] = positions[2 * i + 2] - positions[2 * i];
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * The key for an advance table.
+     */
+    private static final class TableKey {
+
+        /** The font. */
+        private final Font font;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /**
+         * Creates a new key.
+         *
+         * @param font  the font.
+         * @param frc  the font render context.
+         */
+        TableKey(Font font, FontRenderContext frc) {
+            this.font = font;
+            this.frc = frc;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof TableKey)) {
+                return false;
+            }
+            TableKey that = (TableKey) obj;
+            return this.font.equals(that.font) && this.frc.equals(that.frc);
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return 31 * this.font.hashCode() + this.frc.hashCode();
+        }
+
+    }
+
+}
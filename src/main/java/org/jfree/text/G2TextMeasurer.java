@@ -37,13 +37,16 @@
  * Changes
  * -------
  * 07-Jan-2004 : Version 1 (DG);
+ * 16-Oct-2026 : Added getFont() and getFontRenderContext() methods;
  *
  */
  
 package org.jfree.text;
 
+import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
 import java.awt.geom.Rectangle2D;
 
 /**
@@ -65,6 +68,29 @@ public class G2TextMeasurer implements TextMeasurer {
         this.g2 = g2;
     }
 
+    /**
+     * Returns the font that is used to measure text (the current font of
+     * the graphics device).
+     *
+     * @return The font.
+     *
+     * @since 1.0.24
+     */
+    public Font getFont() {
+        return this.g2.getFont();
+    }
+
+    /**
+     * Returns the font render context of the graphics device.
+     *
+     * @return The font render context.
+     *
+     * @since 1.0.24
+     */
+    public FontRenderContext getFontRenderContext() {
+        return this.g2.getFontRenderContext();
+    }
+
     /**
      * Returns the string width.
      * 
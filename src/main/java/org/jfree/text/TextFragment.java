@@ -47,6 +47,7 @@
  *               --> TextUtilities (DG);
  * 16-Mar-2007 : Fixed serialization for GradientPaint (DG);
  * 01-Sep-2013 : Take into account all TextAnchor offsets (DG);
+ * 16-Oct-2026 : Optionally keep the font metrics between calls;
  * 
  */
  
@@ -57,6 +58,7 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.font.FontRenderContext;
 import java.awt.font.LineMetrics;
 import java.awt.geom.Rectangle2D;
 import java.io.IOException;
@@ -99,6 +101,12 @@ public class TextFragment implements Serializable {
      * superscripts). 
      */
     private float baselineOffset;
+
+    /**
+     * The font metrics for the last font render context, kept if
+     * {@link TextUtilities#getCacheTextMetrics()} is <code>true</code>.
+     */
+    private transient FragmentMetrics metrics;
     
     /** Access to logging facilities. */
     protected static final LogContext logger = Log.createContext(
@@ -227,6 +235,10 @@ public class TextFragment implements Serializable {
      * @return The width and height of the text.
      */
     public Size2D calculateDimensions(final Graphics2D g2) {
+        if (TextUtilities.getCacheTextMetrics()) {
+            final FragmentMetrics m = getMetrics(g2);
+            return new Size2D(m.width, m.height);
+        }
         final FontMetrics fm = g2.getFontMetrics(this.font);
         final Rectangle2D bounds = TextUtilities.getTextBounds(this.text, g2, 
                 fm);
@@ -244,22 +256,69 @@ public class TextFragment implements Serializable {
      * @return the offset.
      */
     public float calculateBaselineOffset(Graphics2D g2, TextAnchor anchor) {
-        float result = 0.0f;
+        if (TextUtilities.getCacheTextMetrics()) {
+            final FragmentMetrics m = getMetrics(g2);
+            return calculateBaselineOffset(anchor, m.ascent, m.descent,
+                    m.leading);
+        }
         final FontMetrics fm = g2.getFontMetrics(this.font);
         final LineMetrics lm = fm.getLineMetrics("ABCxyz", g2);
+        return calculateBaselineOffset(anchor, lm.getAscent(),
+                lm.getDescent(), lm.getLeading());
+    }
+
+    /**
+     * Calculates the vertical offset between the baseline and the specified
+     * text anchor.
+     *
+     * @param anchor  the anchor.
+     * @param ascent  the ascent of the font.
+     * @param descent  the descent of the font.
+     * @param leading  the leading of the font.
+     *
+     * @return The offset.
+     */
+    private static float calculateBaselineOffset(TextAnchor anchor,
+            float ascent, float descent, float leading) {
+        float result = 0.0f;
         if (anchor.isTop()) {
-            result = lm.getAscent();
+            result = ascent;
         }
         else if (anchor.isHalfAscent()) {
-            result = lm.getAscent() / 2.0f;
+            result = ascent / 2.0f;
         }
         else if (anchor.isVerticalCenter()) {
-            result = lm.getAscent() / 2.0f - lm.getDescent() / 2.0f;
+            result = ascent / 2.0f - descent / 2.0f;
         }
         else if (anchor.isBottom()) {
-            result = -lm.getDescent() - lm.getLeading();
+            result = -descent - leading;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the font metrics of this fragment for the font render context
+     * of a graphics device, measuring them only if the font render context
+     * has changed since the last call.
+     *
+     * @param g2  the graphics device.
+     *
+     * @return The metrics.
+     */
+    private FragmentMetrics getMetrics(final Graphics2D g2) {
+        final FontRenderContext frc = g2.getFontRenderContext();
+        FragmentMetrics result = this.metrics;
+        if (result == null || !result.frc.equals(frc)) {
+            final FontMetrics fm = g2.getFontMetrics(this.font);
+            final Rectangle2D bounds = TextUtilities.getTextBounds(this.text,
+                    g2, fm);
+            final LineMetrics lm = fm.getLineMetrics("ABCxyz", g2);
+            result = new FragmentMetrics(frc, bounds.getWidth(),
+                    bounds.getHeight(), lm.getAscent(), lm.getDescent(),
+                    lm.getLeading());
+            this.metrics = result;
         }
-        return result;                                             
+        return result;
     }
     
     /**
@@ -331,5 +390,52 @@ public class TextFragment implements Serializable {
         stream.defaultReadObject();
         this.paint = SerialUtilities.readPaint(stream);
     }
+
+    /**
+     * The font metrics of a fragment for one font render context.
+     * Instances are immutable, so they can be shared between threads
+     * without locking.
+     */
+    private static final class FragmentMetrics {
+
+        /** The font render context. */
+        final FontRenderContext frc;
+
+        /** The width of the text. */
+        final double width;
+
+        /** The height of the text. */
+        final double height;
+
+        /** The ascent of the font. */
+        final float ascent;
+
+        /** The descent of the font. */
+        final float descent;
+
+        /** The leading of the font. */
+        final float leading;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param frc  the font render context.
+         * @param width  the width of the text.
+         * @param height  the height of the text.
+         * @param ascent  the ascent of the font.
+         * @param descent  the descent of the font.
+         * @param leading  the leading of the font.
+         */
+        FragmentMetrics(FontRenderContext frc, double width, double height,
+                float ascent, float descent, float leading) {
+            this.frc = frc;
+            this.width = width;
+            this.height = height;
+            this.ascent = ascent;
+            this.descent = descent;
+            this.leading = leading;
+        }
+
+    }
    
 }
@@ -45,6 +45,9 @@
  * 03-Sep-2004 : Added a method to remove a fragment (DG);
  * 08-Jul-2005 : Fixed bug in calculateBaselineOffset() (DG);
  * 01-Sep-2013 : Updated draw() method to take into account the textAnchor (DG);
+ * 16-Oct-2026 : Optionally keep the dimensions between calls;
+ * 17-Oct-2026 : Keep the dimensions and their font render context in one
+ *               immutable object;
  *
  */
 
@@ -53,6 +56,7 @@ package org.jfree.text;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.font.FontRenderContext;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
@@ -74,6 +78,13 @@ public class TextLine implements Serializable {
     /** Storage for the text fragments that make up the line. */
     private List fragments;
 
+    /**
+     * The dimensions for the last font render context, kept if
+     * {@link TextUtilities#getCacheTextMetrics()} is <code>true</code>
+     * (<code>null</code> if not yet measured).
+     */
+    private transient LineDimensions dimensions;
+
     /**
      * Creates a new empty line.
      */
@@ -131,6 +142,7 @@ public class TextLine implements Serializable {
      */
     public void addFragment(final TextFragment fragment) {
         this.fragments.add(fragment);        
+        this.dimensions = null;
     }
     
     /**
@@ -140,6 +152,7 @@ public class TextLine implements Serializable {
      */
     public void removeFragment(final TextFragment fragment) {
         this.fragments.remove(fragment);
+        this.dimensions = null;
     }
     
     /**
@@ -186,6 +199,27 @@ public class TextLine implements Serializable {
      * @return The width and height.
      */
     public Size2D calculateDimensions(final Graphics2D g2) {
+        if (TextUtilities.getCacheTextMetrics()) {
+            final FontRenderContext frc = g2.getFontRenderContext();
+            LineDimensions d = this.dimensions;
+            if (d == null || !d.frc.equals(frc)) {
+                final Size2D size = measureDimensions(g2);
+                d = new LineDimensions(frc, size.getWidth(), size.getHeight());
+                this.dimensions = d;
+            }
+            return new Size2D(d.width, d.height);
+        }
+        return measureDimensions(g2);
+    }
+
+    /**
+     * Measures the width and height of the text line.
+     *
+     * @param g2  the graphics device.
+     *
+     * @return The width and height.
+     */
+    private Size2D measureDimensions(final Graphics2D g2) {
         double width = 0.0;
         double height = 0.0;
         final Iterator iterator = this.fragments.iterator();
@@ -276,4 +310,34 @@ public class TextLine implements Serializable {
         return (this.fragments != null ? this.fragments.hashCode() : 0);
     }
 
+    /**
+     * The dimensions of a line for one font render context.  Instances are
+     * immutable, so they can be shared between threads without locking.
+     */
+    private static final class LineDimensions {
+
+        /** The font render context. */
+        final FontRenderContext frc;
+
+        /** The width of the line. */
+        final double width;
+
+        /** The height of the line. */
+        final double height;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param frc  the font render context.
+         * @param width  the width of the line.
+         * @param height  the height of the line.
+         */
+        LineDimensions(FontRenderContext frc, double width, double height) {
+            this.frc = frc;
+            this.width = width;
+            this.height = height;
+        }
+
+    }
+
 }
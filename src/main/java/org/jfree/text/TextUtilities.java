@@ -59,6 +59,15 @@
  *               the rotation angle is 0.0 (DG);
  * 25-Oct-2013 : Added drawStringsWithFontAttributes flag (DG);
  * 28-Feb-2014 : Fix endless loop in createTextBlock() (DG);
+ * 16-Oct-2026 : Added a layout cache and a per-thread line break iterator
+ *               to createTextBlock();
+ * 16-Oct-2026 : Cache layouts for AdvanceTextMeasurer too;
+ * 16-Oct-2026 : Added cacheTextMetrics flag;
+ * 16-Oct-2026 : Added createTextBlocks() methods;
+ * 17-Oct-2026 : The layout key includes the measurer class, subclasses of
+ *               the measurers are not cached;
+ * 17-Oct-2026 : The parallel createTextBlocks() tasks bypass the layout
+ *               cache;
  *
  */
 
@@ -76,6 +85,14 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.text.AttributedString;
 import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.jfree.base.BaseBoot;
 import org.jfree.ui.TextAnchor;
@@ -114,6 +131,31 @@ public class TextUtilities {
      */
     private static boolean useFontMetricsGetStringBounds;
 
+    /**
+     * A flag that controls whether text fragments and lines keep their
+     * font metrics between calls (see {@link #setCacheTextMetrics(boolean)}).
+     */
+    private static boolean cacheTextMetrics;
+
+    /** The number of strings laid out by each task in createTextBlocks(). */
+    private static final int BATCH_SIZE = 64;
+
+    /** The default maximum number of entries in the layout cache. */
+    private static final int DEFAULT_LAYOUT_CACHE_SIZE = 1000;
+
+    /**
+     * The line layouts created by createTextBlock(), keyed by
+     * {@link LayoutKey}.  All access is synchronized on the map.
+     */
+    private static final LayoutCache layoutCache = new LayoutCache();
+
+    /** A line break iterator for each thread. */
+    private static final ThreadLocal lineBreakIterator = new ThreadLocal() {
+        protected Object initialValue() {
+            return BreakIterator.getLineInstance();
+        }
+    };
+
     static {
         try {
             boolean isJava14 = ObjectUtilities.isJDK14();
@@ -144,6 +186,25 @@ public class TextUtilities {
             useDrawRotatedStringWorkaround = true;
             useFontMetricsGetStringBounds = true;
         }
+        try {
+            String configLayoutCacheSize = BaseBoot.getInstance()
+                    .getGlobalConfig().getConfigProperty(
+                    "org.jfree.text.LayoutCacheSize",
+                    String.valueOf(DEFAULT_LAYOUT_CACHE_SIZE));
+            setLayoutCacheSize(Integer.parseInt(
+                    configLayoutCacheSize.trim()));
+        }
+        catch (Exception e) {
+            // keep the default size
+        }
+        try {
+            cacheTextMetrics = BaseBoot.getInstance().getGlobalConfig()
+                    .getConfigProperty("org.jfree.text.CacheTextMetrics",
+                    "false").equals("true");
+        }
+        catch (Exception e) {
+            cacheTextMetrics = false;
+        }
     }
 
     /**
@@ -236,44 +297,187 @@ public class TextUtilities {
      */
     public static TextBlock createTextBlock(String text, Font font,
             Paint paint, float maxWidth, int maxLines, TextMeasurer measurer) {
+        return createTextBlock(text, font, paint, maxWidth, maxLines,
+                measurer, true);
+    }
 
+    /**
+     * Creates a new text block from the given string, optionally using the
+     * layout cache.
+     *
+     * @param text  the text.
+     * @param font  the font.
+     * @param paint  the paint.
+     * @param maxWidth  the maximum width for each line.
+     * @param maxLines  the maximum number of lines.
+     * @param measurer  the text measurer.
+     * @param useCache  a flag that controls whether the layout cache is
+     *     used.
+     *
+     * @return A text block.
+     */
+    private static TextBlock createTextBlock(String text, Font font,
+            Paint paint, float maxWidth, int maxLines, TextMeasurer measurer,
+            boolean useCache) {
+
+        // subclasses may measure differently, so only the exact measurer
+        // classes are cached
+        LayoutKey key = null;
+        String[] lines = null;
+        Class measurerClass = measurer != null ? measurer.getClass() : null;
+        if (useCache && measurerClass == G2TextMeasurer.class) {
+            G2TextMeasurer m = (G2TextMeasurer) measurer;
+            key = new LayoutKey(text, measurerClass, m.getFont(),
+                    m.getFontRenderContext(), maxWidth, maxLines);
+        }
+        else if (useCache && measurerClass == AdvanceTextMeasurer.class) {
+            AdvanceTextMeasurer m = (AdvanceTextMeasurer) measurer;
+            key = new LayoutKey(text, measurerClass, m.getFont(),
+                    m.getFontRenderContext(), maxWidth, maxLines);
+        }
+        if (key != null) {
+            lines = layoutCache.get(key);
+        }
+        if (lines == null) {
+            lines = breakLines(text, maxWidth, maxLines, measurer);
+            if (key != null) {
+                layoutCache.put(key, lines);
+            }
+        }
         TextBlock result = new TextBlock();
-        BreakIterator iterator = BreakIterator.getLineInstance();
+        for (int i = 0; i < lines.length; i++) {
+            result.addLine(lines[i], font, paint);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a text block for each string in a list, in the same way as
+     * {@link #createTextBlock(String, Font, Paint, float, int, TextMeasurer)}.
+     * If the measurer can be shared by several threads (an
+     * {@link AdvanceTextMeasurer}) and the list is long enough, the work is
+     * spread over the common fork-join pool.
+     *
+     * @param texts  the strings (<code>null</code> not permitted).
+     * @param font  the font.
+     * @param paint  the paint.
+     * @param maxWidth  the maximum width for each line.
+     * @param maxLines  the maximum number of lines.
+     * @param measurer  the text measurer.
+     *
+     * @return A list of text blocks, in the same order as the strings.
+     *
+     * @since 1.0.24
+     */
+    public static List createTextBlocks(List texts, Font font, Paint paint,
+            float maxWidth, int maxLines, TextMeasurer measurer) {
+        return createTextBlocks(texts, font, paint, maxWidth, maxLines,
+                measurer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a text block for each string in a list, in the same way as
+     * {@link #createTextBlock(String, Font, Paint, float, int, TextMeasurer)}.
+     * If the measurer can be shared by several threads (an
+     * {@link AdvanceTextMeasurer}) and the list is long enough, the work is
+     * spread over the given fork-join pool, otherwise the blocks are
+     * created on the calling thread.  The parallel tasks do not use the
+     * layout cache, so that they do not wait for each other on its lock.
+     *
+     * @param texts  the strings (<code>null</code> not permitted).
+     * @param font  the font.
+     * @param paint  the paint.
+     * @param maxWidth  the maximum width for each line.
+     * @param maxLines  the maximum number of lines.
+     * @param measurer  the text measurer.
+     * @param pool  the pool (<code>null</code> not permitted).
+     *
+     * @return A list of text blocks, in the same order as the strings.
+     *
+     * @since 1.0.24
+     */
+    public static List createTextBlocks(List texts, Font font, Paint paint,
+            float maxWidth, int maxLines, TextMeasurer measurer,
+            ForkJoinPool pool) {
+        if (texts == null) {
+            throw new IllegalArgumentException("Null 'texts' argument.");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Null 'pool' argument.");
+        }
+        // an array is safe to read from several threads, and fast to index
+        Object[] strings = texts.toArray();
+        int count = strings.length;
+        TextBlock[] blocks = new TextBlock[count];
+        if (!(measurer instanceof AdvanceTextMeasurer)
+                || count < 2 * BATCH_SIZE || pool.getParallelism() < 2) {
+            for (int i = 0; i < count; i++) {
+                blocks[i] = createTextBlock((String) strings[i], font,
+                        paint, maxWidth, maxLines, measurer);
+            }
+        }
+        else {
+            pool.invoke(new LayoutTask(strings, 0, count, font, paint,
+                    maxWidth, maxLines, measurer, blocks));
+        }
+        return new ArrayList(Arrays.asList(blocks));
+    }
+
+    /**
+     * Breaks the given string into lines so that the <code>maxWidth</code>
+     * value is respected, adding an ellipsis to the last line if the text
+     * does not fit in <code>maxLines</code> lines.
+     *
+     * @param text  the text.
+     * @param maxWidth  the maximum width for each line.
+     * @param maxLines  the maximum number of lines.
+     * @param measurer  the text measurer.
+     *
+     * @return The lines.
+     */
+    private static String[] breakLines(String text, float maxWidth,
+            int maxLines, TextMeasurer measurer) {
+
+        List result = new ArrayList();
+        BreakIterator iterator = (BreakIterator) lineBreakIterator.get();
         iterator.setText(text);
-        int current = 0;
-        int lines = 0;
-        int length = text.length();
-        while (current < length && lines < maxLines) {
-            int next = nextLineBreak(text, current, maxWidth, iterator,
-                    measurer);
-            if (next == BreakIterator.DONE) {
-                result.addLine(text.substring(current), font, paint);
-                return result;
-            } else if (next == current) {
-                next++; // we must take one more character or we'll loop forever
+        try {
+            int current = 0;
+            int lines = 0;
+            int length = text.length();
+            while (current < length && lines < maxLines) {
+                int next = nextLineBreak(text, current, maxWidth, iterator,
+                        measurer);
+                if (next == BreakIterator.DONE) {
+                    result.add(text.substring(current));
+                    return (String[]) result.toArray(new String[0]);
+                } else if (next == current) {
+                    next++; // we must take one more character or we'll loop
+                            // forever
+                }
+                result.add(text.substring(current, next));
+                lines++;
+                current = next;
+                while (current < text.length()
+                        && text.charAt(current) == '\n') {
+                    current++;
+                }
             }
-            result.addLine(text.substring(current, next), font, paint);
-            lines++;
-            current = next;
-            while (current < text.length()&& text.charAt(current) == '\n') {
-                current++;
+            if (current < length && !result.isEmpty()) {
+                int last = result.size() - 1;
+                String oldStr = (String) result.get(last);
+                String newStr = "...";
+                if (oldStr.length() > 3) {
+                    newStr = oldStr.substring(0, oldStr.length() - 3) + "...";
+                }
+                result.set(last, newStr);
             }
+            return (String[]) result.toArray(new String[0]);
         }
-        if (current < length) {
-            TextLine lastLine = result.getLastLine();
-            TextFragment lastFragment = lastLine.getLastTextFragment();
-            String oldStr = lastFragment.getText();
-            String newStr = "...";
-            if (oldStr.length() > 3) {
-                newStr = oldStr.substring(0, oldStr.length() - 3) + "...";
-            }
-
-            lastLine.removeFragment(lastFragment);
-            TextFragment newFragment = new TextFragment(newStr,
-                    lastFragment.getFont(), lastFragment.getPaint());
-            lastLine.addFragment(newFragment);
+        finally {
+            // don't hold on to the text
+            iterator.setText("");
         }
-        return result;
     }
 
     /**
@@ -306,13 +510,21 @@ public class TextUtilities {
             x += measurer.getStringWidth(text, current, end);
             if (x > width) {
                 if (firstWord) {
-                    while (measurer.getStringWidth(text, start, end) > width) {
-                        end--;
-                        if (end <= start) {
-                            return end;
+                    // find the longest prefix that fits (a binary search,
+                    // since the width grows with the number of characters)
+                    int low = start;
+                    int high = end - 1;
+                    while (low < high) {
+                        int mid = (low + high + 1) >>> 1;
+                        if (measurer.getStringWidth(text, start, mid)
+                                > width) {
+                            high = mid - 1;
+                        }
+                        else {
+                            low = mid;
                         }
                     }
-                    return end;
+                    return low;
                 }
                 else {
                     end = iterator.previous();
@@ -850,4 +1062,406 @@ public class TextUtilities {
         TextUtilities.drawStringsWithFontAttributes = b;
     }
 
+    /**
+     * Returns the flag that controls whether {@link TextFragment} and
+     * {@link TextLine} instances keep their font metrics between calls.
+     * The initial value is read from the configuration property
+     * <code>org.jfree.text.CacheTextMetrics</code> (default
+     * <code>false</code>).
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.24
+     */
+    public static boolean getCacheTextMetrics() {
+        return TextUtilities.cacheTextMetrics;
+    }
+
+    /**
+     * Sets the flag that controls whether {@link TextFragment} and
+     * {@link TextLine} instances keep their font metrics between calls.
+     * When the flag is set, the dimensions and baseline offsets are
+     * measured once for each <code>FontRenderContext</code>, so that
+     * repeated calls to the <code>calculateDimensions()</code>,
+     * <code>calculateBounds()</code> and <code>draw()</code> methods of an
+     * unchanged {@link TextBlock} do not use the font metrics again.
+     *
+     * @param b  the new flag value.
+     *
+     * @since 1.0.24
+     */
+    public static void setCacheTextMetrics(boolean b) {
+        TextUtilities.cacheTextMetrics = b;
+    }
+
+    /**
+     * Returns the maximum number of line layouts held in the cache used by
+     * {@link #createTextBlock(String, Font, Paint, float, int, TextMeasurer)}.
+     * The initial value is read from the configuration property
+     * <code>org.jfree.text.LayoutCacheSize</code> (default 1000).
+     *
+     * @return The cache size (0 if the cache is disabled).
+     *
+     * @since 1.0.24
+     */
+    public static int getLayoutCacheSize() {
+        return layoutCache.getMaxSize();
+    }
+
+    /**
+     * Sets the maximum number of line layouts held in the layout cache.  If
+     * the cache holds more entries, the least recently used are discarded.
+     * Layouts are only cached for a {@link G2TextMeasurer} or an
+     * {@link AdvanceTextMeasurer}, keyed by the text, the font and
+     * <code>FontRenderContext</code> used for measuring, the maximum width
+     * and the maximum number of lines.
+     *
+     * @param size  the maximum number of entries (0 disables the cache).
+     *
+     * @since 1.0.24
+     */
+    public static void setLayoutCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requires 'size' >= 0.");
+        }
+        layoutCache.setMaxSize(size);
+    }
+
+    /**
+     * Returns the number of times that a line layout was found in the
+     * layout cache.
+     *
+     * @return The hit count.
+     *
+     * @since 1.0.24
+     */
+    public static long getLayoutCacheHitCount() {
+        return layoutCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of times that a line layout had to be calculated
+     * because it was not in the layout cache.
+     *
+     * @return The miss count.
+     *
+     * @since 1.0.24
+     */
+    public static long getLayoutCacheMissCount() {
+        return layoutCache.getMissCount();
+    }
+
+    /**
+     * Removes all entries from the layout cache and resets the hit and miss
+     * counts.
+     *
+     * @since 1.0.24
+     */
+    public static void clearLayoutCache() {
+        layoutCache.clear();
+    }
+
+    /**
+     * A task that creates the text blocks for a range of strings, splitting
+     * the range in two until it is no longer than {@link #BATCH_SIZE}.
+     */
+    private static final class LayoutTask extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** The strings. */
+        private final Object[] texts;
+
+        /** The index of the first string. */
+        private final int start;
+
+        /** The index after the last string. */
+        private final int end;
+
+        /** The font. */
+        private final Font font;
+
+        /** The paint. */
+        private final Paint paint;
+
+        /** The maximum line width. */
+        private final float maxWidth;
+
+        /** The maximum number of lines. */
+        private final int maxLines;
+
+        /** The text measurer. */
+        private final TextMeasurer measurer;
+
+        /** The array that receives the blocks. */
+        private final TextBlock[] blocks;
+
+        /**
+         * Creates a new task.
+         *
+         * @param texts  the strings.
+         * @param start  the index of the first string.
+         * @param end  the index after the last string.
+         * @param font  the font.
+         * @param paint  the paint.
+         * @param maxWidth  the maximum line width.
+         * @param maxLines  the maximum number of lines.
+         * @param measurer  the text measurer (thread-safe).
+         * @param blocks  the array that receives the blocks.
+         */
+        LayoutTask(Object[] texts, int start, int end, Font font, Paint paint,
+                float maxWidth, int maxLines, TextMeasurer measurer,
+                TextBlock[] blocks) {
+            this.texts = texts;
+            this.start = start;
+            this.end = end;
+            this.font = font;
+            this.paint = paint;
+            this.maxWidth = maxWidth;
+            this.maxLines = maxLines;
+            this.measurer = measurer;
+            this.blocks = blocks;
+        }
+
+        /**
+         * Creates the text blocks.
+         */
+        protected void compute() {
+            if (this.end - this.start <= BATCH_SIZE) {
+                for (int i = this.start; i < this.end; i++) {
+                    this.blocks[i] = createTextBlock(
+                            (String) this.texts[i], this.font,
+                            this.paint, this.maxWidth, this.maxLines,
+                            this.measurer, false);
+                }
+            }
+            else {
+                int middle = (this.start + this.end) >>> 1;
+                invokeAll(new LayoutTask(this.texts, this.start, middle,
+                        this.font, this.paint, this.maxWidth, this.maxLines,
+                        this.measurer, this.blocks),
+                        new LayoutTask(this.texts, middle, this.end,
+                        this.font, this.paint, this.maxWidth, this.maxLines,
+                        this.measurer, this.blocks));
+            }
+        }
+
+    }
+
+    /**
+     * The key for a line layout in the layout cache.
+     */
+    private static final class LayoutKey {
+
+        /** The text. */
+        private final String text;
+
+        /** The class of the measurer. */
+        private final Class measurerClass;
+
+        /** The font used to measure the text. */
+        private final Font font;
+
+        /** The font render context used to measure the text. */
+        private final FontRenderContext frc;
+
+        /** The maximum line width. */
+        private final float maxWidth;
+
+        /** The maximum number of lines. */
+        private final int maxLines;
+
+        /** The hash code. */
+        private final int hashCode;
+
+        /**
+         * Creates a new key.
+         *
+         * @param text  the text (<code>null</code> not permitted).
+         * @param measurerClass  the class of the measurer
+         *     (<code>null</code> not permitted).
+         * @param font  the font (<code>null</code> permitted).
+         * @param frc  the font render context (<code>null</code>
+         *     permitted).
+         * @param maxWidth  the maximum line width.
+         * @param maxLines  the maximum number of lines.
+         */
+        LayoutKey(String text, Class measurerClass, Font font,
+                FontRenderContext frc, float maxWidth, int maxLines) {
+            this.text = text;
+            this.measurerClass = measurerClass;
+            this.font = font;
+            this.frc = frc;
+            this.maxWidth = maxWidth;
+            this.maxLines = maxLines;
+            int h = text.hashCode();
+            h = 31 * h + measurerClass.hashCode();
+            h = 31 * h + (font != null ? font.hashCode() : 0);
+            h = 31 * h + (frc != null ? frc.hashCode() : 0);
+            h = 31 * h + Float.floatToIntBits(maxWidth);
+            h = 31 * h + maxLines;
+            this.hashCode = h;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof LayoutKey)) {
+                return false;
+            }
+            LayoutKey that = (LayoutKey) obj;
+            return this.hashCode == that.hashCode
+                    && this.maxLines == that.maxLines
+                    && Float.floatToIntBits(this.maxWidth)
+                    == Float.floatToIntBits(that.maxWidth)
+                    && this.text.equals(that.text)
+                    && this.measurerClass == that.measurerClass
+                    && ObjectUtilities.equal(this.font, that.font)
+                    && ObjectUtilities.equal(this.frc, that.frc);
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+    /**
+     * A size-bounded cache of line layouts (arrays of strings, which are
+     * never modified once cached) that discards the least recently used
+     * entries.
+     */
+    private static final class LayoutCache extends LinkedHashMap {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** The maximum number of entries. */
+        private int maxSize;
+
+        /** The number of cache hits. */
+        private long hitCount;
+
+        /** The number of cache misses. */
+        private long missCount;
+
+        /**
+         * Creates a new cache.
+         */
+        LayoutCache() {
+            super(16, 0.75f, true);
+            this.maxSize = DEFAULT_LAYOUT_CACHE_SIZE;
+        }
+
+        /**
+         * Returns the cached layout for a key.
+         *
+         * @param key  the key.
+         *
+         * @return The lines, or <code>null</code>.
+         */
+        synchronized String[] get(LayoutKey key) {
+            if (this.maxSize == 0) {
+                return null;
+            }
+            String[] result = (String[]) super.get(key);
+            if (result != null) {
+                this.hitCount++;
+            }
+            else {
+                this.missCount++;
+            }
+            return result;
+        }
+
+        /**
+         * Adds a layout to the cache.
+         *
+         * @param key  the key.
+         * @param lines  the lines.
+         */
+        synchronized void put(LayoutKey key, String[] lines) {
+            if (this.maxSize > 0) {
+                super.put(key, lines);
+            }
+        }
+
+        /**
+         * Returns <code>true</code> if the eldest entry should be discarded.
+         *
+         * @param eldest  the eldest entry.
+         *
+         * @return A boolean.
+         */
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > this.maxSize;
+        }
+
+        /**
+         * Returns the maximum number of entries.
+         *
+         * @return The maximum number of entries.
+         */
+        synchronized int getMaxSize() {
+            return this.maxSize;
+        }
+
+        /**
+         * Sets the maximum number of entries, discarding the least recently
+         * used entries if necessary.
+         *
+         * @param maxSize  the maximum number of entries.
+         */
+        synchronized void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+            Iterator iterator = keySet().iterator();
+            while (size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        /**
+         * Returns the number of cache hits.
+         *
+         * @return The hit count.
+         */
+        synchronized long getHitCount() {
+            return this.hitCount;
+        }
+
+        /**
+         * Returns the number of cache misses.
+         *
+         * @return The miss count.
+         */
+        synchronized long getMissCount() {
+            return this.missCount;
+        }
+
+        /**
+         * Removes all entries and resets the counts.
+         */
+        public synchronized void clear() {
+            super.clear();
+            this.hitCount = 0;
+            this.missCount = 0;
+        }
+
+    }
+
 }
@@ -0,0 +1,540 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * AsyncLogTarget.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Messages added while the target is closed are not lost;
+ * 17-Oct-2026 : Added MAXIMUM_CAPACITY;
+ *
+ */
+
+package org.jfree.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A log target that hands messages to another log target on a background
+ * thread.  Callers only add the message to a bounded ring buffer (without
+ * locking); a single consumer thread takes the messages from the buffer in
+ * batches and passes them to the underlying target, so the message objects
+ * are converted to text on that thread.  If the underlying target is
+ * {@link Flushable}, it is flushed when the buffer has been emptied, but not
+ * more often than the flush interval.
+ * <p>
+ * When the buffer is full, the overflow policy decides what happens:
+ * <ul>
+ * <li>{@link #OVERFLOW_BLOCK} - the caller waits until there is space;</li>
+ * <li>{@link #OVERFLOW_DROP} - the message is discarded;</li>
+ * <li>{@link #OVERFLOW_SAMPLE} - one in {@link #SAMPLE_RATE} messages waits
+ *     for space, the others are discarded.</li>
+ * </ul>
+ * Error messages are never discarded.  Call {@link #close()} to deliver the
+ * remaining messages and stop the consumer thread (this is also done by a
+ * shutdown hook); messages logged after that are passed straight to the
+ * underlying target.
+ */
+public class AsyncLogTarget implements LogTarget {
+
+    /** Wait for space in the buffer when it is full. */
+    public static final int OVERFLOW_BLOCK = 0;
+
+    /** Discard messages when the buffer is full. */
+    public static final int OVERFLOW_DROP = 1;
+
+    /**
+     * Discard most messages when the buffer is full, but wait for space for
+     * one in {@link #SAMPLE_RATE} of them.
+     */
+    public static final int OVERFLOW_SAMPLE = 2;
+
+    /** The sampling rate for the {@link #OVERFLOW_SAMPLE} policy. */
+    public static final int SAMPLE_RATE = 10;
+
+    /** The default buffer capacity. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** The largest buffer capacity. */
+    public static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** The default flush interval (in milliseconds). */
+    public static final long DEFAULT_FLUSH_INTERVAL = 100L;
+
+    /** The time a waiting thread sleeps before it looks again. */
+    private static final long WAIT_NANOS = 100000L;
+
+    /** The underlying log target. */
+    private final LogTarget target;
+
+    /** The overflow policy. */
+    private final int overflowPolicy;
+
+    /** The minimum time between two flushes, in nanoseconds. */
+    private final long flushIntervalNanos;
+
+    /** The buffer capacity (a power of two). */
+    private final int capacity;
+
+    /**
+     * The sequence number of each slot.  A slot with sequence
+     * <code>n</code> can be written by the producer that claimed position
+     * <code>n</code>, and read by the consumer at position
+     * <code>n - 1</code> once it has been set to <code>n + 1</code>.
+     */
+    private final AtomicLongArray sequences;
+
+    /** The log level in each slot. */
+    private final int[] levels;
+
+    /** The message in each slot. */
+    private final Object[] messages;
+
+    /** The exception in each slot (<code>null</code> permitted). */
+    private final Exception[] exceptions;
+
+    /** The next position to be claimed by a producer. */
+    private final AtomicLong tail;
+
+    /** The next position to be read by the consumer. */
+    private long head;
+
+    /** The number of discarded messages. */
+    private final AtomicLong droppedCount;
+
+    /** The number of messages that found the buffer full. */
+    private final AtomicLong overflowCount;
+
+    /** The consumer thread. */
+    private final Thread consumer;
+
+    /** The shutdown hook. */
+    private final Thread shutdownHook;
+
+    /** Is the consumer thread about to sleep? */
+    private volatile boolean consumerWaiting;
+
+    /** Has this target been closed? */
+    private volatile boolean closed;
+
+    /**
+     * Has the consumer thread delivered the last messages and stopped?  From
+     * then on, producers that added a message while the target was closed
+     * drain the buffer themselves.  Guarded by this object's monitor.
+     */
+    private boolean stopped;
+
+    /**
+     * Creates a new target that writes to <code>System.out</code>, with the
+     * default capacity, overflow policy and flush interval.
+     * <p>
+     * All {@link org.jfree.util.LogTarget} implementations need a default
+     * constructor.
+     */
+    public AsyncLogTarget() {
+        this(new PrintStreamLogTarget(System.out, false));
+    }
+
+    /**
+     * Creates a new target with the default capacity, overflow policy
+     * ({@link #OVERFLOW_BLOCK}) and flush interval.
+     *
+     * @param target  the underlying target (<code>null</code> not
+     *     permitted).
+     */
+    public AsyncLogTarget(final LogTarget target) {
+        this(target, DEFAULT_CAPACITY, OVERFLOW_BLOCK, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a new target.
+     *
+     * @param target  the underlying target (<code>null</code> not
+     *     permitted).
+     * @param capacity  the buffer capacity (rounded up to a power of two).
+     * @param overflowPolicy  the overflow policy (one of
+     *     {@link #OVERFLOW_BLOCK}, {@link #OVERFLOW_DROP} and
+     *     {@link #OVERFLOW_SAMPLE}).
+     * @param flushInterval  the minimum time between two flushes of the
+     *     underlying target, in milliseconds (0 to flush after every batch).
+     */
+    public AsyncLogTarget(final LogTarget target, final int capacity,
+            final int overflowPolicy, final long flushInterval) {
+        if (target == null) {
+            throw new IllegalArgumentException("Null 'target' argument.");
+        }
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Requires 'capacity' in the range 1 to 2^30.");
+        }
+        if (overflowPolicy < OVERFLOW_BLOCK
+                || overflowPolicy > OVERFLOW_SAMPLE) {
+            throw new IllegalArgumentException(
+                    "Invalid 'overflowPolicy' argument.");
+        }
+        if (flushInterval < 0L) {
+            throw new IllegalArgumentException(
+                    "Requires 'flushInterval' >= 0.");
+        }
+        this.target = target;
+        this.overflowPolicy = overflowPolicy;
+        this.flushIntervalNanos = flushInterval * 1000000L;
+        int size = 1;
+        while (size < capacity) {
+            size = size << 1;
+        }
+        this.capacity = size;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+        this.levels = new int[size];
+        this.messages = new Object[size];
+        this.exceptions = new Exception[size];
+        this.tail = new AtomicLong();
+        this.droppedCount = new AtomicLong();
+        this.overflowCount = new AtomicLong();
+
+        this.consumer = new Thread(new Runnable() {
+            public void run() {
+                consume();
+            }
+        }, "AsyncLogTarget");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+
+        Thread hook = new Thread(new Runnable() {
+            public void run() {
+                close();
+            }
+        }, "AsyncLogTarget-shutdown");
+        try {
+            Runtime.getRuntime().addShutdownHook(hook);
+        }
+        catch (SecurityException e) {
+            hook = null;
+        }
+        this.shutdownHook = hook;
+    }
+
+    /**
+     * Returns the underlying log target.
+     *
+     * @return The log target.
+     */
+    public LogTarget getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Returns the overflow policy.
+     *
+     * @return The overflow policy.
+     */
+    public int getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    /**
+     * Returns the buffer capacity.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of messages that were discarded because the buffer
+     * was full.
+     *
+     * @return The number of discarded messages.
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.get();
+    }
+
+    /**
+     * Logs a message at a specified log level.
+     *
+     * @param level  the log level.
+     * @param message  the log message.
+     */
+    public void log(final int level, final Object message) {
+        log(level, message, null);
+    }
+
+    /**
+     * Logs a message at a specified log level.
+     *
+     * @param level  the log level.
+     * @param message  the log message.
+     * @param e  the exception (<code>null</code> permitted).
+     */
+    public void log(final int level, final Object message,
+            final Exception e) {
+        if (this.closed) {
+            deliver(level, message, e);
+            return;
+        }
+        if (!offer(level, message, e)) {
+            boolean wait = (level == ERROR
+                    || this.overflowPolicy == OVERFLOW_BLOCK);
+            if (!wait && this.overflowPolicy == OVERFLOW_SAMPLE) {
+                wait = (this.overflowCount.incrementAndGet() % SAMPLE_RATE
+                        == 0);
+            }
+            if (!wait) {
+                this.droppedCount.incrementAndGet();
+                return;
+            }
+            while (!offer(level, message, e)) {
+                if (this.closed) {
+                    deliver(level, message, e);
+                    return;
+                }
+                LockSupport.unpark(this.consumer);
+                LockSupport.parkNanos(this, WAIT_NANOS);
+            }
+        }
+        if (this.closed) {
+            // the target was closed while the message was added, and the
+            // consumer may already have taken its last look at the buffer
+            drainClosed();
+        }
+        else if (this.consumerWaiting) {
+            LockSupport.unpark(this.consumer);
+        }
+    }
+
+    /**
+     * Delivers the messages that were added to the buffer after the consumer
+     * thread stopped.  Until then the consumer thread delivers them itself.
+     */
+    private synchronized void drainClosed() {
+        if (this.stopped && drain() > 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds a message to the buffer, if there is space.
+     *
+     * @param level  the log level.
+     * @param message  the message.
+     * @param e  the exception (<code>null</code> permitted).
+     *
+     * @return <code>false</code> if the buffer is full.
+     */
+    private boolean offer(final int level, final Object message,
+            final Exception e) {
+        final int mask = this.capacity - 1;
+        long pos = this.tail.get();
+        while (true) {
+            final int index = (int) pos & mask;
+            final long diff = this.sequences.get(index) - pos;
+            if (diff == 0L) {
+                if (this.tail.compareAndSet(pos, pos + 1)) {
+                    this.levels[index] = level;
+                    this.messages[index] = message;
+                    this.exceptions[index] = e;
+                    // publishes the slot to the consumer
+                    this.sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = this.tail.get();
+            }
+            else if (diff < 0L) {
+                return false;
+            }
+            else {
+                pos = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * Passes the messages in the buffer to the underlying target, until the
+     * buffer is empty.
+     *
+     * @return The number of messages passed on.
+     */
+    private int drain() {
+        final int mask = this.capacity - 1;
+        int count = 0;
+        while (true) {
+            final int index = (int) this.head & mask;
+            if (this.sequences.get(index) != this.head + 1) {
+                return count;
+            }
+            final int level = this.levels[index];
+            final Object message = this.messages[index];
+            final Exception e = this.exceptions[index];
+            this.messages[index] = null;
+            this.exceptions[index] = null;
+            // releases the slot to the producers
+            this.sequences.set(index, this.head + this.capacity);
+            this.head++;
+            deliver(level, message, e);
+            count++;
+        }
+    }
+
+    /**
+     * The main loop of the consumer thread.
+     */
+    private void consume() {
+        boolean flushPending = false;
+        long lastFlush = System.nanoTime();
+        while (true) {
+            if (this.closed) {
+                // producers that see the closed flag drain the buffer once
+                // 'stopped' is set, so no message is left behind
+                synchronized (this) {
+                    if (drain() > 0 || flushPending) {
+                        flush();
+                    }
+                    this.stopped = true;
+                }
+                return;
+            }
+            if (drain() > 0) {
+                flushPending = true;
+            }
+            long now = System.nanoTime();
+            if (flushPending && now - lastFlush >= this.flushIntervalNanos) {
+                flush();
+                flushPending = false;
+                lastFlush = now;
+            }
+            this.consumerWaiting = true;
+            if (isEmpty() && !this.closed) {
+                if (flushPending) {
+                    LockSupport.parkNanos(this, this.flushIntervalNanos
+                            - (now - lastFlush));
+                }
+                else {
+                    LockSupport.parkNanos(this, 1000000000L);
+                }
+            }
+            this.consumerWaiting = false;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the buffer is empty (called by the
+     * consumer thread).
+     *
+     * @return A boolean.
+     */
+    private boolean isEmpty() {
+        final int index = (int) this.head & (this.capacity - 1);
+        return this.sequences.get(index) != this.head + 1;
+    }
+
+    /**
+     * Passes a message to the underlying target.
+     *
+     * @param level  the log level.
+     * @param message  the message.
+     * @param e  the exception (<code>null</code> permitted).
+     */
+    private void deliver(final int level, final Object message,
+            final Exception e) {
+        try {
+            if (e == null) {
+                this.target.log(level, message);
+            }
+            else {
+                this.target.log(level, message, e);
+            }
+        }
+        catch (RuntimeException re) {
+            // a failing target must not stop the consumer thread
+        }
+    }
+
+    /**
+     * Flushes the underlying target, if it is {@link Flushable}.
+     */
+    private void flush() {
+        if (this.target instanceof Flushable) {
+            try {
+                ((Flushable) this.target).flush();
+            }
+            catch (IOException e) {
+                // nowhere to report this
+            }
+        }
+    }
+
+    /**
+     * Delivers the messages in the buffer, flushes the underlying target and
+     * stops the consumer thread.  Calling this method more than once has no
+     * effect.
+     */
+    public void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+        }
+        LockSupport.unpark(this.consumer);
+        if (Thread.currentThread() != this.consumer) {
+            try {
+                this.consumer.join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (this.shutdownHook != null
+                && Thread.currentThread() != this.shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+            }
+            catch (IllegalStateException e) {
+                // the virtual machine is shutting down
+            }
+            catch (SecurityException e) {
+                // ignore
+            }
+        }
+    }
+
+}
@@ -37,16 +37,17 @@
  * Changes
  * -------
  * 04.06.2003 : Initial version (TM);
+ * 16-Oct-2026 : findPropertyKeys() sorts only the matching keys;
  *
  */
 
 package org.jfree.util;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.Properties;
-import java.util.TreeSet;
 
 import org.jfree.base.config.ModifiableConfiguration;
 
@@ -95,27 +96,31 @@ public class DefaultConfiguration extends Properties
   }
 
   /**
-   * Searches all property keys that start with a given prefix.
+   * Searches all property keys that start with a given prefix. The keys
+   * are returned in ascending order.
+   * <p>
+   * The keys can be changed through the map views of this class without
+   * notice, so they cannot be indexed; instead the matching keys are
+   * collected in a single pass and only those are sorted.</p>
    *
    * @param prefix the prefix that all selected property keys should share
    * @return the properties as iterator.
    */
   public Iterator findPropertyKeys(final String prefix)
   {
-    final TreeSet collector = new TreeSet();
+    final ArrayList collector = new ArrayList();
     final Enumeration enum1 = keys();
     while (enum1.hasMoreElements())
     {
-      final String key = (String) enum1.nextElement();
-      if (key.startsWith(prefix))
+      final Object key = enum1.nextElement();
+      if (key instanceof String && ((String) key).startsWith(prefix))
       {
-        if (collector.contains(key) == false)
-        {
-          collector.add(key);
-        }
+        collector.add(key);
       }
     }
-    return Collections.unmodifiableSet(collector).iterator();
+    final Object[] result = collector.toArray();
+    Arrays.sort(result);
+    return Arrays.asList(result).iterator();
   }
 
   /**
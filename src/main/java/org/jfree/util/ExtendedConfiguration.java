@@ -37,12 +37,20 @@
  * Changes
  * -------
  * 20-May-2005 : Initial version.
+ * 16-Oct-2026 : Added long, double, duration and enum accessors and bind();
+ * 17-Oct-2026 : Made the new methods default methods, so that existing
+ *               implementations stay compatible;
+ * 17-Oct-2026 : Added bind(Object, String, String[]);
  */
 package org.jfree.util;
 
 /**
  * The extended configuration provides methods to make using the
  * configuration easier.
+ * <p>
+ * The long, double, duration and enum accessors and the bind methods have default
+ * implementations that parse the value returned by
+ * {@link #getConfigProperty(String)} on every call.
  *
  * @author Thomas Morgner
  */
@@ -94,4 +102,129 @@ public interface ExtendedConfiguration extends Configuration
    * @return the boolean value of the property.
    */
   public boolean getBoolProperty (String name, boolean defaultValue);
+
+  /**
+   * Returns a given property as long value. The specified default value is returned if
+   * the property value is no number or the property is not set.
+   *
+   * @param name the name of the property
+   * @param defaultValue the value to be returned if the property is no long value
+   * @return the parsed number value or the specified default value
+   */
+  public default long getLongProperty (final String name, final long defaultValue)
+  {
+    final String value = getConfigProperty(name);
+    if (value == null)
+    {
+      return defaultValue;
+    }
+    try
+    {
+      return Long.parseLong(value.trim());
+    }
+    catch (NumberFormatException e)
+    {
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Returns a given property as double value. The specified default value is returned if
+   * the property value is no number or the property is not set.
+   *
+   * @param name the name of the property
+   * @param defaultValue the value to be returned if the property is no double value
+   * @return the parsed number value or the specified default value
+   */
+  public default double getDoubleProperty (final String name, final double defaultValue)
+  {
+    final String value = getConfigProperty(name);
+    if (value == null)
+    {
+      return defaultValue;
+    }
+    try
+    {
+      return Double.parseDouble(value);
+    }
+    catch (NumberFormatException e)
+    {
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Returns a given property as duration in milliseconds. A duration is a number
+   * followed by an optional unit ('ms', 's', 'm', 'h' or 'd') or an ISO-8601 duration.
+   * The specified default value is returned if the property value is no duration or the
+   * property is not set.
+   *
+   * @param name the name of the property
+   * @param defaultValue the value (in milliseconds) to be returned if the property is
+   *                     no duration
+   * @return the duration in milliseconds or the specified default value
+   */
+  public default long getDurationProperty (final String name, final long defaultValue)
+  {
+    final String value = getConfigProperty(name);
+    if (value == null)
+    {
+      return defaultValue;
+    }
+    final long duration = ExtendedConfigurationWrapper.parseDuration(value);
+    if (duration < 0)
+    {
+      return defaultValue;
+    }
+    return duration;
+  }
+
+  /**
+   * Returns a given property as constant of the given enum type. The specified default
+   * value is returned if the property value names no constant or the property is not
+   * set.
+   *
+   * @param name the name of the property
+   * @param enumType the enum class
+   * @param defaultValue the value to be returned if the property is no constant
+   * @return the enum constant or the specified default value
+   */
+  public default Enum getEnumProperty (final String name,
+                                       final Class enumType,
+                                       final Enum defaultValue)
+  {
+    if (enumType == null || enumType.isEnum() == false)
+    {
+      throw new IllegalArgumentException("Invalid 'enumType' argument.");
+    }
+    return ExtendedConfigurationWrapper.toEnum
+        (getConfigProperty(name), enumType, defaultValue);
+  }
+
+  /**
+   * Copies the values of the properties 'prefix + fieldname' into the public fields of
+   * the given settings object.
+   *
+   * @param settings the settings object.
+   * @param prefix the prefix of the property names.
+   */
+  public default void bind (final Object settings, final String prefix)
+  {
+    new ExtendedConfigurationWrapper(this).bind(settings, prefix);
+  }
+
+  /**
+   * Copies the values of the properties 'prefix + fieldname' into the public fields of
+   * the given settings object. The values of the named long fields are parsed as
+   * durations in milliseconds.
+   *
+   * @param settings the settings object.
+   * @param prefix the prefix of the property names.
+   * @param durationFields the names of the long fields that hold durations.
+   */
+  public default void bind (final Object settings, final String prefix,
+                            final String[] durationFields)
+  {
+    new ExtendedConfigurationWrapper(this).bind(settings, prefix, durationFields);
+  }
 }
@@ -37,24 +37,126 @@
  * Changes
  * -------
  * 20-May-2005 : Initial version.
+ * 16-Oct-2026 : Added cached typed accessors and field binding;
+ * 17-Oct-2026 : System properties are read live instead of from the cache;
+ * 17-Oct-2026 : Only the system properties are read live, parsed values are
+ *               cached by the raw value;
+ * 17-Oct-2026 : toEnum() is package-private for ExtendedConfiguration;
+ * 17-Oct-2026 : bind() parses durations only for the named long fields;
  */
 
 package org.jfree.util;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jfree.base.config.ConfigurationSnapshot;
+import org.jfree.base.config.HierarchicalConfiguration;
 
 /**
  * A wrapper for the extended configuration interface around a plain configuration.
+ * <p>
+ * If the wrapped configuration is a {@link HierarchicalConfiguration}, the typed
+ * property values are parsed once and cached. The cache is discarded whenever the
+ * configuration reports a modification (see {@link HierarchicalConfiguration#snapshot()}),
+ * so that the typed accessors can be called from loops. Levels that do not report their
+ * modifications, such as the system properties, are read on every call (see
+ * {@link ConfigurationSnapshot#getCurrentProperty(String)}) and the cached value is only
+ * used while it was parsed from the current raw value. For other configurations, the
+ * values are parsed on every call.
  *
  * @author Thomas Morgner
  */
 public class ExtendedConfigurationWrapper
         implements ExtendedConfiguration
 {
+  /** The cache index of int values. */
+  private static final int INT_VALUES = 0;
+  /** The cache index of long values. */
+  private static final int LONG_VALUES = 1;
+  /** The cache index of double values. */
+  private static final int DOUBLE_VALUES = 2;
+  /** The cache index of boolean values. */
+  private static final int BOOLEAN_VALUES = 3;
+  /** The cache index of durations. */
+  private static final int DURATION_VALUES = 4;
+  /** The cache index of the enum values (a map for each enum type). */
+  private static final int ENUM_VALUES = 5;
+
+  /** A marker for properties that are not set or that cannot be parsed. */
+  private static final Object NO_VALUE = new Object();
+
+  /**
+   * A parsed value and the raw value it was parsed from.
+   */
+  private static final class CachedValue
+  {
+    /** The raw value (null if the property was not set). */
+    private final String raw;
+    /** The parsed value or NO_VALUE. */
+    private final Object parsed;
+
+    /**
+     * Creates a cache entry.
+     *
+     * @param raw the raw value
+     * @param parsed the parsed value
+     */
+    private CachedValue (final String raw, final Object parsed)
+    {
+      this.raw = raw;
+      this.parsed = parsed;
+    }
+
+    /**
+     * Checks, whether this entry was parsed from the given raw value.
+     *
+     * @param value the current raw value (null permitted)
+     * @return true, if the parsed value can be used.
+     */
+    private boolean isParsedFrom (final String value)
+    {
+      return this.raw == value || (value != null && value.equals(this.raw));
+    }
+  }
+
+  /**
+   * The parsed values of one version of the configuration.
+   */
+  private static final class ValueCache
+  {
+    /** The snapshot the values were parsed from. */
+    private final ConfigurationSnapshot snapshot;
+    /** The parsed values (as CachedValue), one map per type. */
+    private final ConcurrentHashMap[] values;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param snapshot the snapshot of the configuration.
+     */
+    private ValueCache (final ConfigurationSnapshot snapshot)
+    {
+      this.snapshot = snapshot;
+      this.values = new ConcurrentHashMap[ENUM_VALUES + 1];
+      for (int i = 0; i < this.values.length; i++)
+      {
+        this.values[i] = new ConcurrentHashMap();
+      }
+    }
+  }
+
   /** The base configuration. */
   private Configuration parent;
 
+  /** The cached values (null until first used). */
+  private transient volatile ValueCache cache;
+
   /**
    * Creates a wrapper around the given configuration.
    *
@@ -70,6 +172,164 @@ public class ExtendedConfigurationWrapper
     this.parent = parent;
   }
 
+  /**
+   * Returns the value cache for the current version of the configuration, or null
+   * if the wrapped configuration cannot report modifications.
+   *
+   * @return the cache or null.
+   */
+  private ValueCache getCache ()
+  {
+    if (this.parent instanceof HierarchicalConfiguration == false)
+    {
+      return null;
+    }
+    final ConfigurationSnapshot snapshot = (ConfigurationSnapshot)
+        ((HierarchicalConfiguration) this.parent).snapshot();
+    ValueCache c = this.cache;
+    if (c == null || c.snapshot != snapshot)
+    {
+      c = new ValueCache(snapshot);
+      this.cache = c;
+    }
+    return c;
+  }
+
+  /**
+   * Returns the parsed value of the given property, or NO_VALUE if the property is
+   * not set or cannot be parsed.
+   *
+   * @param name the name of the property
+   * @param type the cache index of the value type
+   * @return the parsed value or NO_VALUE.
+   */
+  private Object getValue (final String name, final int type)
+  {
+    final ValueCache c = getCache();
+    if (c == null)
+    {
+      return parse(this.parent.getConfigProperty(name), type);
+    }
+    final String raw = c.snapshot.getCurrentProperty(name);
+    final ConcurrentHashMap values = c.values[type];
+    CachedValue value = (CachedValue) values.get(name);
+    if (value == null || value.isParsedFrom(raw) == false)
+    {
+      value = new CachedValue(raw, parse(raw, type));
+      values.put(name, value);
+    }
+    return value.parsed;
+  }
+
+  /**
+   * Parses a property value.
+   *
+   * @param value the property value (null permitted)
+   * @param type the cache index of the value type
+   * @return the parsed value or NO_VALUE.
+   */
+  private static Object parse (final String value, final int type)
+  {
+    if (value == null)
+    {
+      return NO_VALUE;
+    }
+    try
+    {
+      switch (type)
+      {
+        case INT_VALUES:
+          return Integer.valueOf(value);
+        case LONG_VALUES:
+          return Long.valueOf(value.trim());
+        case DOUBLE_VALUES:
+          return Double.valueOf(value);
+        case BOOLEAN_VALUES:
+          return Boolean.valueOf("true".equals(value));
+        case DURATION_VALUES:
+          final long duration = parseDuration(value);
+          return (duration < 0) ? NO_VALUE : Long.valueOf(duration);
+        default:
+          throw new IllegalArgumentException("Unknown type " + type);
+      }
+    }
+    catch (NumberFormatException e)
+    {
+      return NO_VALUE;
+    }
+  }
+
+  /**
+   * Parses a duration. A duration is a non-negative number followed by an optional
+   * unit: 'ms' (the default), 's', 'm' or 'min', 'h' or 'd'. ISO-8601 durations
+   * such as 'PT30S' are accepted as well.
+   *
+   * @param value the text to parse.
+   * @return the duration in milliseconds or -1 if the text is no valid duration.
+   */
+  public static long parseDuration (final String value)
+  {
+    if (value == null)
+    {
+      throw new NullPointerException("Null 'value' argument.");
+    }
+    final String text = value.trim();
+    if (text.length() > 1 && (text.charAt(0) == 'P' || text.charAt(0) == 'p'))
+    {
+      try
+      {
+        final long millis = java.time.Duration.parse(text).toMillis();
+        return (millis < 0) ? -1 : millis;
+      }
+      catch (RuntimeException e)
+      {
+        return -1;
+      }
+    }
+
+    int end = 0;
+    while (end < text.length() && Character.isDigit(text.charAt(end)))
+    {
+      end += 1;
+    }
+    if (end == 0 || end > 18)
+    {
+      return -1;
+    }
+    final long amount = Long.parseLong(text.substring(0, end));
+    final String unit = text.substring(end).trim().toLowerCase();
+    final long factor;
+    if (unit.length() == 0 || "ms".equals(unit))
+    {
+      factor = 1;
+    }
+    else if ("s".equals(unit))
+    {
+      factor = 1000L;
+    }
+    else if ("m".equals(unit) || "min".equals(unit))
+    {
+      factor = 60 * 1000L;
+    }
+    else if ("h".equals(unit))
+    {
+      factor = 60 * 60 * 1000L;
+    }
+    else if ("d".equals(unit))
+    {
+      factor = 24 * 60 * 60 * 1000L;
+    }
+    else
+    {
+      return -1;
+    }
+    if (amount > Long.MAX_VALUE / factor)
+    {
+      return -1;
+    }
+    return amount * factor;
+  }
+
   /**
    * Returns the boolean value of a given configuration property. The boolean value true
    * is returned, if the contained string is equal to 'true'.
@@ -94,7 +354,12 @@ public class ExtendedConfigurationWrapper
   public boolean getBoolProperty (final String name,
                                   final boolean defaultValue)
   {
-    return "true".equals(this.parent.getConfigProperty(name, String.valueOf(defaultValue)));
+    final Object value = getValue(name, BOOLEAN_VALUES);
+    if (value == NO_VALUE)
+    {
+      return defaultValue;
+    }
+    return ((Boolean) value).booleanValue();
   }
 
   /**
@@ -120,19 +385,254 @@ public class ExtendedConfigurationWrapper
   public int getIntProperty (final String name,
                              final int defaultValue)
   {
-    final String retval = this.parent.getConfigProperty(name);
-    if (retval == null)
+    final Object value = getValue(name, INT_VALUES);
+    if (value == NO_VALUE)
     {
       return defaultValue;
     }
-    try
+    return ((Integer) value).intValue();
+  }
+
+  /**
+   * Returns a given property as long value. The specified default value is returned if
+   * the property value is no number or the property is not set.
+   *
+   * @param name the name of the property
+   * @param defaultValue the value to be returned if the property is no long value
+   * @return the parsed number value or the specified default value
+   */
+  public long getLongProperty (final String name,
+                               final long defaultValue)
+  {
+    final Object value = getValue(name, LONG_VALUES);
+    if (value == NO_VALUE)
     {
-      return Integer.parseInt(retval);
+      return defaultValue;
     }
-    catch (Exception e)
+    return ((Long) value).longValue();
+  }
+
+  /**
+   * Returns a given property as double value. The specified default value is returned if
+   * the property value is no number or the property is not set.
+   *
+   * @param name the name of the property
+   * @param defaultValue the value to be returned if the property is no double value
+   * @return the parsed number value or the specified default value
+   */
+  public double getDoubleProperty (final String name,
+                                   final double defaultValue)
+  {
+    final Object value = getValue(name, DOUBLE_VALUES);
+    if (value == NO_VALUE)
     {
       return defaultValue;
     }
+    return ((Double) value).doubleValue();
+  }
+
+  /**
+   * Returns a given property as duration in milliseconds. See
+   * {@link #parseDuration(String)} for the accepted formats. The specified default
+   * value is returned if the property value is no duration or the property is not set.
+   *
+   * @param name the name of the property
+   * @param defaultValue the value (in milliseconds) to be returned if the property is
+   *                     no duration
+   * @return the duration in milliseconds or the specified default value
+   */
+  public long getDurationProperty (final String name,
+                                   final long defaultValue)
+  {
+    final Object value = getValue(name, DURATION_VALUES);
+    if (value == NO_VALUE)
+    {
+      return defaultValue;
+    }
+    return ((Long) value).longValue();
+  }
+
+  /**
+   * Returns a given property as constant of the given enum type. The constant's name
+   * is matched exactly first and then ignoring the case. The specified default value is
+   * returned if the property value names no constant or the property is not set.
+   *
+   * @param name the name of the property
+   * @param enumType the enum class
+   * @param defaultValue the value to be returned if the property is no constant
+   * @return the enum constant or the specified default value
+   */
+  public Enum getEnumProperty (final String name,
+                               final Class enumType,
+                               final Enum defaultValue)
+  {
+    if (enumType == null || enumType.isEnum() == false)
+    {
+      throw new IllegalArgumentException("Invalid 'enumType' argument.");
+    }
+    final ValueCache c = getCache();
+    if (c == null)
+    {
+      return toEnum(this.parent.getConfigProperty(name), enumType, defaultValue);
+    }
+    final String raw = c.snapshot.getCurrentProperty(name);
+    final ConcurrentHashMap enumValues = c.values[ENUM_VALUES];
+    ConcurrentHashMap values = (ConcurrentHashMap) enumValues.get(enumType);
+    if (values == null)
+    {
+      enumValues.putIfAbsent(enumType, new ConcurrentHashMap());
+      values = (ConcurrentHashMap) enumValues.get(enumType);
+    }
+    CachedValue value = (CachedValue) values.get(name);
+    if (value == null || value.isParsedFrom(raw) == false)
+    {
+      final Enum constant = toEnum(raw, enumType, null);
+      value = new CachedValue(raw, (constant == null) ? NO_VALUE : constant);
+      values.put(name, value);
+    }
+    if (value.parsed == NO_VALUE)
+    {
+      return defaultValue;
+    }
+    return (Enum) value.parsed;
+  }
+
+  /**
+   * Looks up the enum constant for a property value.
+   *
+   * @param value the property value (null permitted)
+   * @param enumType the enum class
+   * @param defaultValue the value to be returned if no constant matches
+   * @return the enum constant or the default value.
+   */
+  static Enum toEnum (final String value,
+                      final Class enumType,
+                      final Enum defaultValue)
+  {
+    if (value == null)
+    {
+      return defaultValue;
+    }
+    final String text = value.trim();
+    final Object[] constants = enumType.getEnumConstants();
+    for (int i = 0; i < constants.length; i++)
+    {
+      final Enum constant = (Enum) constants[i];
+      if (constant.name().equals(text))
+      {
+        return constant;
+      }
+    }
+    for (int i = 0; i < constants.length; i++)
+    {
+      final Enum constant = (Enum) constants[i];
+      if (constant.name().equalsIgnoreCase(text))
+      {
+        return constant;
+      }
+    }
+    return defaultValue;
+  }
+
+  /**
+   * Copies the values of the properties 'prefix + fieldname' into the public,
+   * non-final instance fields of the given settings object, so that code on hot paths
+   * can read plain fields. Fields of type int, long, double, boolean, String and enum
+   * fields are supported. Fields whose property is not set or cannot be parsed keep
+   * their current value.
+   * <p>
+   * The fields are not updated automatically; call this method again after the
+   * configuration has changed.
+   *
+   * @param settings the settings object (<code>null</code> not permitted).
+   * @param prefix the prefix of the property names (<code>null</code> not permitted).
+   */
+  public void bind (final Object settings, final String prefix)
+  {
+    bind(settings, prefix, new String[0]);
+  }
+
+  /**
+   * Copies the values of the properties 'prefix + fieldname' into the public,
+   * non-final instance fields of the given settings object, like
+   * {@link #bind(Object, String)}. The values of the named long fields are parsed as
+   * durations in milliseconds (see {@link #parseDuration(String)}).
+   *
+   * @param settings the settings object (<code>null</code> not permitted).
+   * @param prefix the prefix of the property names (<code>null</code> not permitted).
+   * @param durationFields the names of the long fields that hold durations
+   *                       (<code>null</code> not permitted).
+   */
+  public void bind (final Object settings, final String prefix,
+                    final String[] durationFields)
+  {
+    if (settings == null)
+    {
+      throw new IllegalArgumentException("Null 'settings' argument.");
+    }
+    if (prefix == null)
+    {
+      throw new IllegalArgumentException("Null 'prefix' argument.");
+    }
+    if (durationFields == null)
+    {
+      throw new IllegalArgumentException("Null 'durationFields' argument.");
+    }
+    final HashSet durations = new HashSet(Arrays.asList(durationFields));
+    final Field[] fields = settings.getClass().getFields();
+    for (int i = 0; i < fields.length; i++)
+    {
+      final Field field = fields[i];
+      final int modifiers = field.getModifiers();
+      if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers))
+      {
+        continue;
+      }
+      final String name = prefix + field.getName();
+      final Class type = field.getType();
+      try
+      {
+        if (type == String.class)
+        {
+          final String value = getConfigProperty(name);
+          if (value != null)
+          {
+            field.set(settings, value);
+          }
+        }
+        else if (type == Integer.TYPE)
+        {
+          field.setInt(settings, getIntProperty(name, field.getInt(settings)));
+        }
+        else if (type == Long.TYPE)
+        {
+          if (durations.contains(field.getName()))
+          {
+            field.setLong(settings, getDurationProperty(name, field.getLong(settings)));
+          }
+          else
+          {
+            field.setLong(settings, getLongProperty(name, field.getLong(settings)));
+          }
+        }
+        else if (type == Double.TYPE)
+        {
+          field.setDouble(settings, getDoubleProperty(name, field.getDouble(settings)));
+        }
+        else if (type == Boolean.TYPE)
+        {
+          field.setBoolean(settings, getBoolProperty(name, field.getBoolean(settings)));
+        }
+        else if (type.isEnum())
+        {
+          field.set(settings, getEnumProperty(name, type, (Enum) field.get(settings)));
+        }
+      }
+      catch (IllegalAccessException e)
+      {
+        throw new IllegalArgumentException("Unable to set field " + field.getName());
+      }
+    }
   }
 
   /**
@@ -143,7 +643,12 @@ public class ExtendedConfigurationWrapper
    */
   public boolean isPropertySet (final String name)
   {
-    return this.parent.getConfigProperty(name) != null;
+    final ValueCache c = getCache();
+    if (c == null)
+    {
+      return this.parent.getConfigProperty(name) != null;
+    }
+    return c.snapshot.getCurrentProperty(name) != null;
   }
 
   /**
@@ -38,6 +38,9 @@
  * -------
  * 29-Apr-2003 : Distilled from the JFreeReport project and moved into JCommon
  * 11-Jun-2003 : Removing LogTarget did not work. 
+ * 16-Oct-2026 : Made getInstance() lock-free, and the debug level and log
+ *               targets volatile;
+ * 16-Oct-2026 : Added FormattedMessage and per-context debug levels;
  * 
  */
 
@@ -152,16 +155,199 @@ public class Log {
         }
     }
 
+    /**
+     * A message with <code>{}</code> placeholders that are replaced by the
+     * parameters (in order) when the message is converted to a string.  No
+     * formatting is done until a log target asks for the text, and then it
+     * is done in a buffer that is reused by the calling thread.  Placeholders
+     * without a matching parameter are left as they are, and extra parameters
+     * are ignored.
+     * <p>
+     * The parameters are not copied, so they should not be modified after
+     * the message has been logged.
+     *
+     * @since 1.0.24
+     */
+    public static class FormattedMessage {
+
+        /** The largest buffer kept for reuse by a thread. */
+        private static final int MAX_BUFFER_SIZE = 1024;
+
+        /** The formatting buffers. */
+        private static final ThreadLocal buffers = new ThreadLocal();
+
+        /** The prefix (<code>null</code> permitted). */
+        private final String prefix;
+
+        /** The message pattern. */
+        private final String pattern;
+
+        /** The parameters. */
+        private final Object[] param;
+
+        /**
+         * Creates a new message.
+         *
+         * @param pattern  the message pattern (<code>null</code> not
+         *     permitted).
+         * @param param  the parameters (<code>null</code> permitted).
+         */
+        public FormattedMessage(final String pattern, final Object[] param) {
+            this(null, pattern, param);
+        }
+
+        /**
+         * Creates a new message.  The text of the message is the prefix, a
+         * colon and the formatted pattern, the same as a
+         * {@link LogContext} message.
+         *
+         * @param prefix  the prefix (<code>null</code> permitted).
+         * @param pattern  the message pattern (<code>null</code> not
+         *     permitted).
+         * @param param  the parameters (<code>null</code> permitted).
+         */
+        public FormattedMessage(final String prefix, final String pattern,
+                                final Object[] param) {
+            if (pattern == null) {
+                throw new IllegalArgumentException("Null 'pattern' argument.");
+            }
+            this.prefix = prefix;
+            this.pattern = pattern;
+            this.param = param;
+        }
+
+        /**
+         * Returns the number of placeholders in a pattern.
+         *
+         * @param pattern  the pattern.
+         *
+         * @return The number of placeholders.
+         */
+        static int countPlaceholders(final String pattern) {
+            int count = 0;
+            int pos = pattern.indexOf("{}");
+            while (pos >= 0) {
+                count++;
+                pos = pattern.indexOf("{}", pos + 2);
+            }
+            return count;
+        }
+
+        /**
+         * Returns the formatted message.
+         *
+         * @return The message text.
+         */
+        public String toString() {
+            StringBuilder b = (StringBuilder) buffers.get();
+            if (b == null) {
+                b = new StringBuilder();
+            }
+            else {
+                // a parameter's toString() method may log a message itself
+                buffers.set(null);
+            }
+            try {
+                format(b);
+                return b.toString();
+            }
+            finally {
+                if (b.capacity() <= MAX_BUFFER_SIZE) {
+                    b.setLength(0);
+                    buffers.set(b);
+                }
+            }
+        }
+
+        /**
+         * Writes the formatted message to a buffer.
+         *
+         * @param b  the buffer.
+         */
+        private void format(final StringBuilder b) {
+            if (this.prefix != null) {
+                b.append(this.prefix);
+                b.append(':');
+            }
+            final int count = (this.param != null) ? this.param.length : 0;
+            int start = 0;
+            int index = 0;
+            int pos = this.pattern.indexOf("{}");
+            while (pos >= 0 && index < count) {
+                b.append(this.pattern, start, pos);
+                b.append(this.param[index]);
+                index++;
+                start = pos + 2;
+                pos = this.pattern.indexOf("{}", start);
+            }
+            b.append(this.pattern, start, this.pattern.length());
+        }
+    }
+
+    /**
+     * The debug levels of the singleton instance.  A new (immutable) instance
+     * is created whenever a level changes, so that log contexts can tell
+     * with a single read whether their cached level is still valid.
+     */
+    static final class Levels {
+
+        /** The default debug level. */
+        private final int debuglevel;
+
+        /** The debug levels (Integer) keyed by context name (String). */
+        private final HashMap contextLevels;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param debuglevel  the default debug level.
+         * @param contextLevels  the context levels (not modified later).
+         */
+        Levels(final int debuglevel, final HashMap contextLevels) {
+            this.debuglevel = debuglevel;
+            this.contextLevels = contextLevels;
+        }
+
+        /**
+         * Returns the default debug level.
+         *
+         * @return The debug level.
+         */
+        int getDebuglevel() {
+            return this.debuglevel;
+        }
+
+        /**
+         * Returns the debug level for a context.  The level defined for the
+         * longest dot-separated prefix of the context name is used, or the
+         * default level if there is none.
+         *
+         * @param context  the context name (<code>null</code> permitted).
+         *
+         * @return The debug level.
+         */
+        int getDebuglevel(final String context) {
+            return findDebuglevel(this.contextLevels, context, this.debuglevel);
+        }
+    }
+
 
     /**
      * The logging threshold.
      */
-    private int debuglevel;
+    private volatile int debuglevel;
 
     /**
-     * Storage for the log targets.
+     * Storage for the log targets (replaced, never modified, when targets
+     * are added or removed).
      */
-    private LogTarget[] logTargets;
+    private volatile LogTarget[] logTargets;
+
+    /**
+     * The debug levels (Integer) for log contexts, keyed by context name
+     * (replaced, never modified, when a level changes).
+     */
+    private HashMap contextLevels;
 
     /** The log contexts. */
     private HashMap logContexts;
@@ -169,7 +355,10 @@ public class Log {
     /**
      * the singleton instance of the Log system.
      */
-    private static Log singleton;
+    private static volatile Log singleton;
+
+    /** The debug levels of the singleton instance. */
+    private static volatile Levels currentLevels;
 
     /**
      * Creates a new Log instance. The Log is used to manage the log targets.
@@ -177,6 +366,7 @@ public class Log {
     protected Log() {
         this.logContexts = new HashMap();
         this.logTargets = new LogTarget[0];
+        this.contextLevels = new HashMap();
         this.debuglevel = 100;
     }
 
@@ -185,11 +375,19 @@ public class Log {
      *
      * @return the singleton instance.
      */
-    public static synchronized Log getInstance() {
-        if (singleton == null) {
-            singleton = new Log();
+    public static Log getInstance() {
+        Log result = singleton;
+        if (result == null) {
+            synchronized (Log.class) {
+                result = singleton;
+                if (result == null) {
+                    result = new Log();
+                    singleton = result;
+                    result.publishLevels();
+                }
+            }
         }
-        return singleton;
+        return result;
     }
 
     /**
@@ -199,6 +397,67 @@ public class Log {
      */
     protected static synchronized void defineLog(final Log log) {
         singleton = log;
+        if (log != null) {
+            log.publishLevels();
+        }
+        else {
+            currentLevels = null;
+        }
+    }
+
+    /**
+     * Returns the debug levels of the singleton instance.
+     *
+     * @return The debug levels.
+     */
+    static Levels getLevels() {
+        Levels levels = currentLevels;
+        while (levels == null) {
+            getInstance();
+            levels = currentLevels;
+        }
+        return levels;
+    }
+
+    /**
+     * Makes the debug levels of this instance visible to the log contexts,
+     * if this is the singleton instance.  The caller must hold the lock on
+     * <code>Log.class</code>.
+     */
+    private void publishLevels() {
+        if (singleton == this) {
+            currentLevels = new Levels(this.debuglevel, this.contextLevels);
+        }
+    }
+
+    /**
+     * Returns the debug level defined for the longest dot-separated prefix
+     * of a context name.
+     *
+     * @param contextLevels  the context levels.
+     * @param context  the context name (<code>null</code> permitted).
+     * @param debuglevel  the level returned if no prefix has a level.
+     *
+     * @return The debug level.
+     */
+    private static int findDebuglevel(final HashMap contextLevels,
+                                      final String context,
+                                      final int debuglevel) {
+        if (context == null || contextLevels.isEmpty()) {
+            return debuglevel;
+        }
+        String name = context;
+        while (true) {
+            final Integer level = (Integer) contextLevels.get(name);
+            if (level != null) {
+                return level.intValue();
+            }
+            final int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return debuglevel;
+            }
+            name = name.substring(0, dot);
+        }
     }
 
     /**
@@ -218,7 +477,65 @@ public class Log {
      * @see #getDebuglevel()
      */
     protected void setDebuglevel(final int debuglevel) {
-        this.debuglevel = debuglevel;
+        synchronized (Log.class) {
+            this.debuglevel = debuglevel;
+            publishLevels();
+        }
+    }
+
+    /**
+     * Returns the debug level for a log context.  This is the level defined
+     * for the longest dot-separated prefix of the context name (so a level
+     * defined for <code>"org.jfree.text"</code> applies to the context
+     * <code>"org.jfree.text.TextUtilities"</code>), or the default debug
+     * level if there is none.
+     *
+     * @param context  the context name (<code>null</code> permitted).
+     *
+     * @return the debug level.
+     *
+     * @since 1.0.24
+     */
+    public int getDebuglevel(final String context) {
+        synchronized (Log.class) {
+            return findDebuglevel(this.contextLevels, context, this.debuglevel);
+        }
+    }
+
+    /**
+     * Defines the debug level for a log context and all contexts whose name
+     * starts with the context name followed by a dot.  The level can be
+     * higher or lower than the default debug level.
+     *
+     * @param context  the context name (<code>null</code> not permitted).
+     * @param debuglevel  the debug level.
+     *
+     * @since 1.0.24
+     */
+    protected void setContextDebuglevel(final String context,
+                                        final int debuglevel) {
+        if (context == null) {
+            throw new IllegalArgumentException("Null 'context' argument.");
+        }
+        synchronized (Log.class) {
+            final HashMap levels = new HashMap(this.contextLevels);
+            levels.put(context, Integer.valueOf(debuglevel));
+            this.contextLevels = levels;
+            publishLevels();
+        }
+    }
+
+    /**
+     * Removes all the context debug levels, so that every log context uses
+     * the default debug level.
+     *
+     * @since 1.0.24
+     */
+    protected void clearContextDebuglevels() {
+        synchronized (Log.class) {
+            this.contextLevels = new HashMap();
+            publishLevels();
+        }
     }
 
     /**
@@ -364,9 +681,9 @@ public class Log {
             level = 3;
         }
         if (level <= this.debuglevel) {
-            for (int i = 0; i < this.logTargets.length; i++) {
-                final LogTarget t = this.logTargets[i];
-                t.log(level, message);
+            final LogTarget[] targets = this.logTargets;
+            for (int i = 0; i < targets.length; i++) {
+                targets[i].log(level, message);
             }
         }
     }
@@ -415,9 +732,33 @@ public class Log {
         }
 
         if (level <= this.debuglevel) {
-            for (int i = 0; i < this.logTargets.length; i++) {
-                final LogTarget t = this.logTargets[i];
-                t.log(level, message, e);
+            final LogTarget[] targets = this.logTargets;
+            for (int i = 0; i < targets.length; i++) {
+                targets[i].log(level, message, e);
+            }
+        }
+    }
+
+    /**
+     * Sends a message to all attached log targets without checking the
+     * debug level.  This is used by the log contexts, which check their own
+     * level first.
+     *
+     * @param level   log level of the message (0 to 3).
+     * @param message text to be logged.
+     * @param e       the exception (<code>null</code> permitted).
+     *
+     * @since 1.0.24
+     */
+    protected void dispatch(final int level, final Object message,
+                            final Exception e) {
+        final LogTarget[] targets = this.logTargets;
+        for (int i = 0; i < targets.length; i++) {
+            if (e == null) {
+                targets[i].log(level, message);
+            }
+            else {
+                targets[i].log(level, message, e);
             }
         }
     }
@@ -437,7 +778,7 @@ public class Log {
      * @return true, if messages with an log level of DEBUG are allowed.
      */
     public static boolean isDebugEnabled() {
-        return getInstance().getDebuglevel() >= LogTarget.DEBUG;
+        return getLevels().getDebuglevel() >= LogTarget.DEBUG;
     }
 
     /**
@@ -447,7 +788,7 @@ public class Log {
      * @return true, if messages with an log level of INFO are allowed.
      */
     public static boolean isInfoEnabled() {
-        return getInstance().getDebuglevel() >= LogTarget.INFO;
+        return getLevels().getDebuglevel() >= LogTarget.INFO;
     }
 
     /**
@@ -457,7 +798,7 @@ public class Log {
      * @return true, if messages with an log level of WARN are allowed.
      */
     public static boolean isWarningEnabled() {
-        return getInstance().getDebuglevel() >= LogTarget.WARN;
+        return getLevels().getDebuglevel() >= LogTarget.WARN;
     }
 
     /**
@@ -467,7 +808,7 @@ public class Log {
      * @return true, if messages with an log level of ERROR are allowed.
      */
     public static boolean isErrorEnabled() {
-        return getInstance().getDebuglevel() >= LogTarget.ERROR;
+        return getLevels().getDebuglevel() >= LogTarget.ERROR;
     }
 
     /**
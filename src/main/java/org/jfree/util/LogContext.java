@@ -37,6 +37,7 @@
  * Changes 
  * -------
  * 26-Apr-2004 : Initial version (TM);
+ * 16-Oct-2026 : Added per-context debug levels and parameterised messages;
  *  
  */
 
@@ -49,9 +50,39 @@ package org.jfree.util;
  */
 public class LogContext {
 
+    /**
+     * The debug level of a context, together with the debug levels of the
+     * log system it was computed from.
+     */
+    private static final class ContextLevel {
+
+        /** The debug levels of the log system. */
+        private final Log.Levels levels;
+
+        /** The debug level of the context. */
+        private final int debuglevel;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param levels  the debug levels of the log system.
+         * @param debuglevel  the debug level of the context.
+         */
+        private ContextLevel(final Log.Levels levels, final int debuglevel) {
+            this.levels = levels;
+            this.debuglevel = debuglevel;
+        }
+    }
+
     /** The prefix string. */
     private String contextPrefix;
 
+    /**
+     * The cached debug level (an immutable object, so it can be replaced
+     * without locking).
+     */
+    private ContextLevel level;
+
     /**
      * Creates a new log context.
      * 
@@ -68,7 +99,7 @@ public class LogContext {
      * @return true, if messages with an log level of DEBUG are allowed.
      */
     public boolean isDebugEnabled() {
-        return Log.isDebugEnabled();
+        return isEnabled(LogTarget.DEBUG);
     }
 
     /**
@@ -78,7 +109,7 @@ public class LogContext {
      * @return true, if messages with an log level of INFO are allowed.
      */
     public boolean isInfoEnabled() {
-        return Log.isInfoEnabled();
+        return isEnabled(LogTarget.INFO);
     }
 
     /**
@@ -88,7 +119,7 @@ public class LogContext {
      * @return true, if messages with an log level of WARN are allowed.
      */
     public boolean isWarningEnabled() {
-        return Log.isWarningEnabled();
+        return isEnabled(LogTarget.WARN);
     }
 
     /**
@@ -98,7 +129,41 @@ public class LogContext {
      * @return true, if messages with an log level of ERROR are allowed.
      */
     public boolean isErrorEnabled() {
-        return Log.isErrorEnabled();
+        return isEnabled(LogTarget.ERROR);
+    }
+
+    /**
+     * Returns the debug level of this context.  This is the level defined
+     * for the context (or the nearest enclosing context) in the log system,
+     * or the default debug level.
+     *
+     * @return the debug level.
+     *
+     * @see Log#getDebuglevel(String)
+     *
+     * @since 1.0.24
+     */
+    public int getDebuglevel() {
+        final Log.Levels levels = Log.getLevels();
+        ContextLevel cached = this.level;
+        if (cached == null || cached.levels != levels) {
+            cached = new ContextLevel(levels,
+                    levels.getDebuglevel(this.contextPrefix));
+            this.level = cached;
+        }
+        return cached.debuglevel;
+    }
+
+    /**
+     * Returns true, if messages of the given level are logged for this
+     * context.
+     *
+     * @param level  the log level.
+     *
+     * @return A boolean.
+     */
+    private boolean isEnabled(final int level) {
+        return getDebuglevel() >= level;
     }
 
 
@@ -121,6 +186,24 @@ public class LogContext {
         log(LogTarget.DEBUG, message, e);
     }
 
+    /**
+     * Logs a 'debug' message with <code>{}</code> placeholders.  The message
+     * is only formatted if debug messages are enabled for this context and a
+     * log target asks for the text (see {@link Log.FormattedMessage}).  If
+     * there are more arguments than placeholders and the last argument is
+     * an exception, it is logged as the message's exception.
+     *
+     * @param pattern  the message pattern.
+     * @param args  the arguments.
+     *
+     * @since 1.0.24
+     */
+    public void debug(final String pattern, final Object... args) {
+        if (isEnabled(LogTarget.DEBUG)) {
+            logFormatted(LogTarget.DEBUG, pattern, args);
+        }
+    }
+
     /**
      * A convenience method for logging an 'info' message.
      *
@@ -140,6 +223,24 @@ public class LogContext {
         log(LogTarget.INFO, message, e);
     }
 
+    /**
+     * Logs an 'info' message with <code>{}</code> placeholders.  The message
+     * is only formatted if info messages are enabled for this context and a
+     * log target asks for the text (see {@link Log.FormattedMessage}).  If
+     * there are more arguments than placeholders and the last argument is
+     * an exception, it is logged as the message's exception.
+     *
+     * @param pattern  the message pattern.
+     * @param args  the arguments.
+     *
+     * @since 1.0.24
+     */
+    public void info(final String pattern, final Object... args) {
+        if (isEnabled(LogTarget.INFO)) {
+            logFormatted(LogTarget.INFO, pattern, args);
+        }
+    }
+
     /**
      * A convenience method for logging a 'warning' message.
      *
@@ -159,6 +260,24 @@ public class LogContext {
         log(LogTarget.WARN, message, e);
     }
 
+    /**
+     * Logs a 'warning' message with <code>{}</code> placeholders.  The message
+     * is only formatted if warning messages are enabled for this context and a
+     * log target asks for the text (see {@link Log.FormattedMessage}).  If
+     * there are more arguments than placeholders and the last argument is
+     * an exception, it is logged as the message's exception.
+     *
+     * @param pattern  the message pattern.
+     * @param args  the arguments.
+     *
+     * @since 1.0.24
+     */
+    public void warn(final String pattern, final Object... args) {
+        if (isEnabled(LogTarget.WARN)) {
+            logFormatted(LogTarget.WARN, pattern, args);
+        }
+    }
+
     /**
      * A convenience method for logging an 'error' message.
      *
@@ -178,27 +297,40 @@ public class LogContext {
         log(LogTarget.ERROR, message, e);
     }
 
+    /**
+     * Logs an 'error' message with <code>{}</code> placeholders.  The message
+     * is only formatted if error messages are enabled for this context and a
+     * log target asks for the text (see {@link Log.FormattedMessage}).  If
+     * there are more arguments than placeholders and the last argument is
+     * an exception, it is logged as the message's exception.
+     *
+     * @param pattern  the message pattern.
+     * @param args  the arguments.
+     *
+     * @since 1.0.24
+     */
+    public void error(final String pattern, final Object... args) {
+        if (isEnabled(LogTarget.ERROR)) {
+            logFormatted(LogTarget.ERROR, pattern, args);
+        }
+    }
+
     /**
      * Logs a message to the main log stream.  All attached log targets will also
-     * receive this message. If the given log-level is higher than the given debug-level
-     * in the main config file, no logging will be done.
+     * receive this message. If the given log-level is higher than the debug-level
+     * of this context, no logging will be done.
      *
      * @param level   log level of the message.
      * @param message text to be logged.
      */
     public void log(final int level, final Object message) {
-        if (this.contextPrefix != null) {
-            Log.getInstance().doLog(level, new Log.SimpleMessage(this.contextPrefix, ":", message));
-        }
-        else {
-            Log.getInstance().doLog(level, message);
-        }
+        log(level, message, null);
     }
 
     /**
      * Logs a message to the main log stream. All attached logTargets will also
-     * receive this message. If the given log-level is higher than the given debug-level
-     * in the main config file, no logging will be done.
+     * receive this message. If the given log-level is higher than the debug-level
+     * of this context, no logging will be done.
      * <p>
      * The exception's stacktrace will be appended to the log-stream</p>
      *
@@ -206,15 +338,41 @@ public class LogContext {
      * @param message text to be logged.
      * @param e       the exception, which should be logged.
      */
-    public void log(final int level, final Object message, final Exception e) {
+    public void log(int level, final Object message, final Exception e) {
+        if (level > LogTarget.DEBUG) {
+            level = LogTarget.DEBUG;
+        }
+        if (!isEnabled(level)) {
+            return;
+        }
         if (this.contextPrefix != null) {
-            Log.getInstance().doLog(
+            Log.getInstance().dispatch(
                 level, new Log.SimpleMessage(this.contextPrefix, ":", message), e
             );
         }
         else {
-            Log.getInstance().doLog(level, message, e);
+            Log.getInstance().dispatch(level, message, e);
+        }
+    }
+
+    /**
+     * Logs a message with placeholders (the level has already been checked).
+     *
+     * @param level  the log level.
+     * @param pattern  the message pattern.
+     * @param args  the arguments (<code>null</code> permitted).
+     */
+    private void logFormatted(final int level, final String pattern,
+                              final Object[] args) {
+        final Log.FormattedMessage message
+                = new Log.FormattedMessage(this.contextPrefix, pattern, args);
+        Exception e = null;
+        if (args != null && args.length > 0
+                && args[args.length - 1] instanceof Exception
+                && Log.FormattedMessage.countPlaceholders(pattern) < args.length) {
+            e = (Exception) args[args.length - 1];
         }
+        Log.getInstance().dispatch(level, message, e);
     }
 
     /**
@@ -38,11 +38,18 @@
  * -------
  * 02-Dec-2003 : Initial version
  * 11-Feb-2004 : Added missing Javadocs (DG);
+ * 16-Oct-2026 : Added autoFlush flag and flush() method, and flush the
+ *               print stream rather than System.out;
+ * 17-Oct-2026 : Targets serialized without the autoFlush flag flush after
+ *               each message, as before;
  * 
  */
 
 package org.jfree.util;
 
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.PrintStream;
 import java.io.Serializable;
 
@@ -51,7 +58,8 @@ import java.io.Serializable;
  *
  * @author Thomas Morgner
  */
-public class PrintStreamLogTarget implements LogTarget, Serializable {
+public class PrintStreamLogTarget implements LogTarget, Flushable,
+        Serializable {
 
   /** For serialization. */
   private static final long serialVersionUID = 6510564403264504688L;
@@ -59,6 +67,9 @@ public class PrintStreamLogTarget implements LogTarget, Serializable {
   /** The printstream we use .. */
   private PrintStream printStream;
 
+  /** Flush the stream after each message that is not a debug message? */
+  private boolean autoFlush;
+
   /**
    * The default constructor. Initializes this target with the system.out 
    * stream.
@@ -76,10 +87,58 @@ public class PrintStreamLogTarget implements LogTarget, Serializable {
    * @param printStream the print stream that is used to write the content.
    */
   public PrintStreamLogTarget(final PrintStream printStream) {
+    this(printStream, true);
+  }
+
+  /**
+   * Creates a new target that writes to the given stream.
+   *
+   * @param printStream the print stream that is used to write the content.
+   * @param autoFlush flush the stream after each message that is not a
+   *        debug message? Use <code>false</code> when the target is wrapped
+   *        in an {@link AsyncLogTarget}, which calls {@link #flush()} after
+   *        each batch of messages.
+   */
+  public PrintStreamLogTarget(final PrintStream printStream,
+                              final boolean autoFlush) {
     if (printStream == null) {
       throw new NullPointerException();
     }
     this.printStream = printStream;
+    this.autoFlush = autoFlush;
+  }
+
+  /**
+   * Returns the flag that controls whether the stream is flushed after each
+   * message that is not a debug message.
+   *
+   * @return the flag.
+   */
+  public boolean isAutoFlush() {
+    return this.autoFlush;
+  }
+
+  /**
+   * Restores the state of this target. Targets that were serialized before
+   * the autoFlush flag existed flush the stream after each message, as
+   * they did then.
+   *
+   * @param in the input stream.
+   * @throws IOException if there is an I/O error.
+   * @throws ClassNotFoundException if a class cannot be found.
+   */
+  private void readObject(final ObjectInputStream in)
+      throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    this.printStream = (PrintStream) fields.get("printStream", null);
+    this.autoFlush = fields.get("autoFlush", true);
+  }
+
+  /**
+   * Flushes the print stream.
+   */
+  public void flush() {
+    this.printStream.flush();
   }
 
   /**
@@ -96,8 +155,8 @@ public class PrintStreamLogTarget implements LogTarget, Serializable {
     }
     this.printStream.print(LEVELS[level]);
     this.printStream.println(message);
-    if (level < 3) {
-      System.out.flush();
+    if (level < 3 && this.autoFlush) {
+      this.printStream.flush();
     }
   }
 
@@ -119,8 +178,8 @@ public class PrintStreamLogTarget implements LogTarget, Serializable {
     this.printStream.print(LEVELS[level]);
     this.printStream.println(message);
     e.printStackTrace(this.printStream);
-    if (level < 3) {
-      System.out.flush();
+    if (level < 3 && this.autoFlush) {
+      this.printStream.flush();
     }
   }
 }
@@ -38,12 +38,18 @@
  * -------
  * 18-Dec-2008 : Use ResourceBundleWrapper - see JFreeChart patch 1607918 by
  *               Jess Thrysoee (DG);
+ * 16-Oct-2026 : Made getString() lock-free and cached global forwards;
+ * 16-Oct-2026 : Cache the compiled message formats, added formatMessages();
+ * 16-Oct-2026 : Cache icons, resource URLs and mnemonics, added preloadIcons();
+ * 17-Oct-2026 : Local forwards are resolved through internalGetString(String)
+ *               again, the lookup path is kept for each thread;
  *
  */
 
 package org.jfree.util;
 
 import java.awt.Image;
+import java.awt.MediaTracker;
 import java.awt.Toolkit;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
@@ -52,11 +58,14 @@ import java.lang.reflect.Field;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
-import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
@@ -81,6 +90,18 @@ import javax.swing.KeyStroke;
  */
 public class ResourceBundleSupport
 {
+  /**
+   * The decoded (and scaled) icon images, keyed by the image URL and the
+   * icon size. The cache is shared by all instances, as many bundles refer
+   * to the same images.
+   */
+  private static final SoftCache ICON_CACHE = new SoftCache(512);
+
+  /**
+   * The parsed mnemonics, keyed by the mnemonic string.
+   */
+  private static final SoftCache MNEMONIC_CACHE = new SoftCache(256);
+
   /**
    * The resource bundle that will be used for local lookups.
    */
@@ -88,14 +109,28 @@ public class ResourceBundleSupport
 
   /**
    * A cache for string values, as looking up the cache is faster than looking
-   * up the value in the bundle.
+   * up the value in the bundle. The cache can be read without locking, so
+   * that several threads can look up strings at the same time.
+   */
+  private final ConcurrentHashMap cache;
+
+  /**
+   * The keys visited by the lookup of the current thread (a TreeSet, only
+   * present while a local forward is followed), used to detect loops.
+   */
+  private final ThreadLocal lookupPath;
+
+  /**
+   * The compiled message formats, keyed by the resource bundle key. The
+   * formats are never used directly (a MessageFormat is not thread-safe),
+   * each formatting call works on a clone.
    */
-  private TreeMap cache;
+  private final ConcurrentHashMap formats;
+
   /**
-   * The current lookup path when performing non local lookups. This prevents
-   * infinite loops during such lookups.
+   * The URLs of the resources that have been found, keyed by resource name.
    */
-  private TreeSet lookupPath;
+  private final ConcurrentHashMap resourceURLs;
 
   /**
    * The name of the local resource bundle.
@@ -147,8 +182,10 @@ public class ResourceBundleSupport
     this.locale = locale;
     this.resources = resourceBundle;
     this.resourceBase = baseName;
-    this.cache = new TreeMap();
-    this.lookupPath = new TreeSet();
+    this.cache = new ConcurrentHashMap();
+    this.lookupPath = new ThreadLocal();
+    this.formats = new ConcurrentHashMap();
+    this.resourceURLs = new ConcurrentHashMap();
   }
 
   /**
@@ -222,14 +259,13 @@ public class ResourceBundleSupport
    * @throws ClassCastException       if the object found for the given key is
    *                                  not a string
    */
-  public synchronized String getString(final String key)
+  public String getString(final String key)
   {
     final String retval = (String) this.cache.get(key);
     if (retval != null)
     {
       return retval;
     }
-    this.lookupPath.clear();
     return internalGetString(key);
   }
 
@@ -242,11 +278,12 @@ public class ResourceBundleSupport
    */
   protected String internalGetString(final String key)
   {
-    if (this.lookupPath.contains(key))
+    TreeSet lookupPath = (TreeSet) this.lookupPath.get();
+    if (lookupPath != null && lookupPath.contains(key))
     {
       throw new MissingResourceException
           ("InfiniteLoop in resource lookup",
-              getResourceBase(), this.lookupPath.toString());
+              getResourceBase(), lookupPath.toString());
     }
     final String fromResBundle = this.resources.getString(key);
     if (fromResBundle.startsWith("@@"))
@@ -262,7 +299,9 @@ public class ResourceBundleSupport
       {
         final ResourceBundle res = ResourceBundleWrapper.getBundle
             (fromResBundle.substring(2, idx));
-        return res.getString(fromResBundle.substring(idx + 1));
+        final String retval = res.getString(fromResBundle.substring(idx + 1));
+        this.cache.put(key, retval);
+        return retval;
       }
       catch (Exception e)
       {
@@ -275,8 +314,25 @@ public class ResourceBundleSupport
     {
       // local forward ...
       final String newKey = fromResBundle.substring(1);
-      this.lookupPath.add(key);
-      final String retval = internalGetString(newKey);
+      final boolean outermost = (lookupPath == null);
+      if (outermost)
+      {
+        lookupPath = new TreeSet();
+        this.lookupPath.set(lookupPath);
+      }
+      lookupPath.add(key);
+      final String retval;
+      try
+      {
+        retval = internalGetString(newKey);
+      }
+      finally
+      {
+        if (outermost)
+        {
+          this.lookupPath.remove();
+        }
+      }
 
       this.cache.put(key, retval);
       return retval;
@@ -480,7 +536,7 @@ public class ResourceBundleSupport
   public URL getResourceURL(final String key)
   {
     final String name = getString(key);
-    final URL in = ObjectUtilities.getResource(name, ResourceBundleSupport.class);
+    final URL in = findResource(name);
     if (in == null)
     {
       Log.warn("Unable to find file in the class path: " + name + "; key=" + key);
@@ -488,10 +544,117 @@ public class ResourceBundleSupport
     return in;
   }
 
+  /**
+   * Looks up a resource in the classpath. Resources that have been found
+   * are remembered, so that the classpath is searched only once.
+   *
+   * @param resourceName the global resource name.
+   * @return the resource URL or null, if the resource does not exist.
+   */
+  private URL findResource(final String resourceName)
+  {
+    URL url = (URL) this.resourceURLs.get(resourceName);
+    if (url == null)
+    {
+      url = ObjectUtilities.getResource(resourceName, ResourceBundleSupport.class);
+      if (url != null)
+      {
+        this.resourceURLs.put(resourceName, url);
+      }
+    }
+    return url;
+  }
+
+  /**
+   * Loads the icons of all keys with the given prefix in a background
+   * thread, so that later calls to {@link #getIcon(String, boolean)} find
+   * them in the icon cache. A key refers to an icon if its value is the name
+   * of a GIF, PNG or JPEG file; both the small (16x16) and the large (24x24)
+   * scaled icons are loaded.
+   *
+   * @param keyPrefix the common prefix of the keys (an empty string selects
+   *                  all keys).
+   * @return a future that is done when all icons have been loaded.
+   */
+  public Future preloadIcons(final String keyPrefix)
+  {
+    if (keyPrefix == null)
+    {
+      throw new NullPointerException("Prefix must not be null");
+    }
+    final FutureTask task = new FutureTask(new Runnable()
+    {
+      public void run()
+      {
+        loadIcons(keyPrefix);
+      }
+    }, null);
+    final Thread thread = new Thread(task, "ResourceBundleSupport-IconPreloader");
+    thread.setDaemon(true);
+    thread.setPriority(Thread.MIN_PRIORITY);
+    thread.start();
+    return task;
+  }
+
+  /**
+   * Loads the icons of all keys with the given prefix into the icon cache.
+   *
+   * @param keyPrefix the common prefix of the keys.
+   */
+  private void loadIcons(final String keyPrefix)
+  {
+    final Enumeration keys = this.resources.getKeys();
+    while (keys.hasMoreElements())
+    {
+      final String key = (String) keys.nextElement();
+      if (key.startsWith(keyPrefix) == false)
+      {
+        continue;
+      }
+      final String name;
+      try
+      {
+        name = getString(key);
+      }
+      catch (RuntimeException e)
+      {
+        // not a string or a broken link; such keys are no icons anyway.
+        continue;
+      }
+      if (isImageName(name))
+      {
+        createIcon(name, true, false);
+        createIcon(name, true, true);
+      }
+    }
+  }
+
+  /**
+   * Checks, whether the given resource name denotes an image file.
+   *
+   * @param name the resource name.
+   * @return true, if the name ends with a known image file extension.
+   */
+  private static boolean isImageName(final String name)
+  {
+    final String lcName = name.toLowerCase();
+    return lcName.endsWith(".gif") || lcName.endsWith(".png") ||
+        lcName.endsWith(".jpg") || lcName.endsWith(".jpeg");
+  }
+
+  /**
+   * Removes all icons from the icon cache, which is shared by all instances.
+   */
+  public static void clearIconCache()
+  {
+    ICON_CACHE.clear();
+  }
+
 
   /**
    * Attempts to load an image from classpath. If this fails, an empty image
-   * icon is returned.
+   * icon is returned. Successfully decoded images are kept in the icon cache,
+   * but each call returns a new icon.
    *
    * @param resourceName the name of the image. The name should be a global
    *                     resource name.
@@ -503,28 +666,49 @@ public class ResourceBundleSupport
   private ImageIcon createIcon(final String resourceName, final boolean scale,
                                final boolean large)
   {
-    final URL in = ObjectUtilities.getResource(resourceName, ResourceBundleSupport.class);
-    ;
+    final URL in = findResource(resourceName);
     if (in == null)
     {
       Log.warn("Unable to find file in the class path: " + resourceName);
       return new ImageIcon(createTransparentImage(1, 1));
     }
+    final int size;
+    if (scale)
+    {
+      size = large ? 24 : 16;
+    }
+    else
+    {
+      size = 0;
+    }
+    final String cacheKey = in.toExternalForm() + '#' + size;
+    final Image cached = (Image) ICON_CACHE.get(cacheKey);
+    if (cached != null)
+    {
+      return new ImageIcon(cached);
+    }
+
     final Image img = Toolkit.getDefaultToolkit().createImage(in);
     if (img == null)
     {
       Log.warn("Unable to instantiate the image: " + resourceName);
       return new ImageIcon(createTransparentImage(1, 1));
     }
+    final ImageIcon icon;
     if (scale)
     {
-      if (large)
-      {
-        return new ImageIcon(img.getScaledInstance(24, 24, Image.SCALE_SMOOTH));
-      }
-      return new ImageIcon(img.getScaledInstance(16, 16, Image.SCALE_SMOOTH));
+      icon = new ImageIcon(img.getScaledInstance(size, size, Image.SCALE_SMOOTH));
+    }
+    else
+    {
+      icon = new ImageIcon(img);
     }
-    return new ImageIcon(img);
+    // the ImageIcon constructor waits until the image is decoded
+    if (icon.getImageLoadStatus() == MediaTracker.COMPLETE)
+    {
+      ICON_CACHE.put(cacheKey, icon.getImage());
+    }
+    return icon;
   }
 
   /**
@@ -544,6 +728,11 @@ public class ResourceBundleSupport
     {
       throw new IllegalArgumentException("Key is empty.");
     }
+    final Integer cached = (Integer) MNEMONIC_CACHE.get(keyString);
+    if (cached != null)
+    {
+      return cached;
+    }
     int character = keyString.charAt(0);
     if (keyString.startsWith("VK_"))
     {
@@ -558,7 +747,9 @@ public class ResourceBundleSupport
         // ignore the exception ...
       }
     }
-    return new Integer(character);
+    final Integer mnemonic = new Integer(character);
+    MNEMONIC_CACHE.put(keyString, mnemonic);
+    return mnemonic;
   }
 
   /**
@@ -649,9 +840,93 @@ public class ResourceBundleSupport
    */
   public String formatMessage(final String key, final Object[] parameters)
   {
-    final MessageFormat format = new MessageFormat(getString(key));
-    format.setLocale(getLocale());
-    return format.format(parameters);
+    return createMessageFormat(key).format(parameters);
+  }
+
+  /**
+   * Formats the message stored in the resource bundle (using a
+   * MessageFormat) and appends it to the given buffer.
+   *
+   * @param key        the resourcebundle key
+   * @param parameters the parameter collection for the message
+   * @param buffer     the buffer that receives the message
+   * @return the buffer
+   */
+  public StringBuffer formatMessage(final String key,
+                                    final Object[] parameters,
+                                    final StringBuffer buffer)
+  {
+    return createMessageFormat(key).format(parameters, buffer, null);
+  }
+
+  /**
+   * Formats the message stored in the resource bundle once for each set of
+   * parameters. The pattern is looked up and copied only once, and all
+   * messages are formatted in the same buffer.
+   *
+   * @param key        the resourcebundle key
+   * @param parameters the parameter collections, one for each message
+   * @return the formated strings
+   */
+  public String[] formatMessages(final String key, final Object[][] parameters)
+  {
+    final MessageFormat format = createMessageFormat(key);
+    final StringBuffer buffer = new StringBuffer();
+    final String[] retval = new String[parameters.length];
+    for (int i = 0; i < parameters.length; i++)
+    {
+      buffer.setLength(0);
+      retval[i] = format.format(parameters[i], buffer, null).toString();
+    }
+    return retval;
+  }
+
+  /**
+   * Formats the message stored in the resource bundle once for each set of
+   * parameters and appends the messages to the given buffer, separated by
+   * the given separator.
+   *
+   * @param key        the resourcebundle key
+   * @param parameters the parameter collections, one for each message
+   * @param separator  the text between two messages
+   * @param buffer     the buffer that receives the messages
+   * @return the buffer
+   */
+  public StringBuffer formatMessages(final String key,
+                                     final Object[][] parameters,
+                                     final String separator,
+                                     final StringBuffer buffer)
+  {
+    final MessageFormat format = createMessageFormat(key);
+    for (int i = 0; i < parameters.length; i++)
+    {
+      if (i > 0)
+      {
+        buffer.append(separator);
+      }
+      format.format(parameters[i], buffer, null);
+    }
+    return buffer;
+  }
+
+  /**
+   * Returns a message format for the pattern stored at the given key. The
+   * pattern is parsed once (using the locale of this resource bundle); the
+   * caller receives a private copy of the compiled format, which it can use
+   * without synchronization.
+   *
+   * @param key the resourcebundle key
+   * @return the message format
+   */
+  protected MessageFormat createMessageFormat(final String key)
+  {
+    MessageFormat format = (MessageFormat) this.formats.get(key);
+    if (format == null)
+    {
+      format = new MessageFormat(getString(key), getLocale());
+      this.formats.put(key, format);
+    }
+    return (MessageFormat) format.clone();
   }
 
   /**
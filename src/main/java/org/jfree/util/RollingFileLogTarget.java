@@ -0,0 +1,553 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * RollingFileLogTarget.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A log target that appends messages to a file, and starts a new file when
+ * the current one reaches a given size or at fixed intervals.  The messages
+ * are encoded (as UTF-8) into a direct buffer that is written to a
+ * <code>FileChannel</code> when it is full, when {@link #flush()} is called
+ * and, if auto-flush is on, after each message that is not a debug message
+ * (the same as {@link PrintStreamLogTarget}).  Wrap this target in an
+ * {@link AsyncLogTarget} (with auto-flush off) to move the writing off the
+ * logging threads.
+ * <p>
+ * When the file is rotated it is renamed to
+ * <code>&lt;name&gt;.&lt;yyyyMMdd-HHmmss&gt;</code> (with a counter appended
+ * if that file exists already) and a new file is started.  If compression
+ * is on, the renamed file is then gzipped (to <code>.gz</code>) on a
+ * background thread, and removed once that has succeeded.
+ * <p>
+ * A shutdown hook writes the buffered messages when the virtual machine
+ * exits; call {@link #close()} to close the file earlier.
+ * <p>
+ * I/O errors cannot be passed to the caller of a log target, so they are
+ * reported on <code>System.err</code> (once until the next successful
+ * write) and the buffered messages are discarded.
+ */
+public class RollingFileLogTarget implements LogTarget, Flushable {
+
+    /** The default maximum file size (10 MB). */
+    public static final long DEFAULT_MAX_SIZE = 10L * 1024L * 1024L;
+
+    /** The buffer size. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The line separator. */
+    private static final String LINE_SEPARATOR
+            = System.getProperty("line.separator", "\n");
+
+    /** The log file. */
+    private final File file;
+
+    /** The file size that triggers a rotation (0 = no limit). */
+    private final long maxSize;
+
+    /** The rotation interval in milliseconds (0 = no timed rotation). */
+    private final long rotationInterval;
+
+    /** Gzip the rotated files? */
+    private final boolean compress;
+
+    /** Flush after each message that is not a debug message? */
+    private final boolean autoFlush;
+
+    /** The output buffer. */
+    private final ByteBuffer buffer;
+
+    /** The encoder. */
+    private final CharsetEncoder encoder;
+
+    /** A buffer for formatting a message. */
+    private final StringBuilder text;
+
+    /** The format for the suffix of rotated files. */
+    private final SimpleDateFormat suffixFormat;
+
+    /** The shutdown hook (<code>null</code> if it was not registered). */
+    private final Thread shutdownHook;
+
+    /** The channel (<code>null</code> once closed). */
+    private FileChannel channel;
+
+    /** The number of bytes written to the channel. */
+    private long written;
+
+    /** The time of the next timed rotation. */
+    private long nextRotation;
+
+    /** Has an I/O error been reported since the last successful write? */
+    private boolean failed;
+
+    /**
+     * Creates a new target that rotates the file when it reaches
+     * {@link #DEFAULT_MAX_SIZE} bytes, without compression.
+     *
+     * @param file  the log file (<code>null</code> not permitted).
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public RollingFileLogTarget(final File file) throws IOException {
+        this(file, DEFAULT_MAX_SIZE, 0L, false, true);
+    }
+
+    /**
+     * Creates a new target.  Messages are appended to the file if it exists
+     * already.
+     *
+     * @param file  the log file (<code>null</code> not permitted).
+     * @param maxSize  the file size (in bytes) that triggers a rotation (0
+     *     for no limit).
+     * @param rotationInterval  the time between two rotations, in
+     *     milliseconds (0 for no timed rotation).  The rotations happen at
+     *     multiples of the interval since the epoch (UTC), so an interval of
+     *     one day starts a new file at midnight UTC.
+     * @param compress  gzip the rotated files?
+     * @param autoFlush  write the buffer to the file after each message
+     *     that is not a debug message?  Use <code>false</code> when the
+     *     target is wrapped in an {@link AsyncLogTarget}, which calls
+     *     {@link #flush()} after each batch of messages.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public RollingFileLogTarget(final File file, final long maxSize,
+            final long rotationInterval, final boolean compress,
+            final boolean autoFlush) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        if (maxSize < 0L) {
+            throw new IllegalArgumentException("Requires 'maxSize' >= 0.");
+        }
+        if (rotationInterval < 0L) {
+            throw new IllegalArgumentException(
+                    "Requires 'rotationInterval' >= 0.");
+        }
+        this.file = file;
+        this.maxSize = maxSize;
+        this.rotationInterval = rotationInterval;
+        this.compress = compress;
+        this.autoFlush = autoFlush;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.text = new StringBuilder(256);
+        this.suffixFormat = new SimpleDateFormat("yyyyMMdd-HHmmss");
+        open();
+        this.nextRotation = computeNextRotation(currentTimeMillis());
+
+        Thread hook = new Thread(new Runnable() {
+            public void run() {
+                flush();
+            }
+        }, "RollingFileLogTarget-shutdown");
+        try {
+            Runtime.getRuntime().addShutdownHook(hook);
+        }
+        catch (SecurityException e) {
+            hook = null;
+        }
+        this.shutdownHook = hook;
+    }
+
+    /**
+     * Returns the log file.
+     *
+     * @return The log file.
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the file size that triggers a rotation.
+     *
+     * @return The size in bytes (0 = no limit).
+     */
+    public long getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Returns the time between two timed rotations.
+     *
+     * @return The interval in milliseconds (0 = no timed rotation).
+     */
+    public long getRotationInterval() {
+        return this.rotationInterval;
+    }
+
+    /**
+     * Returns the flag that controls whether rotated files are gzipped.
+     *
+     * @return The flag.
+     */
+    public boolean isCompress() {
+        return this.compress;
+    }
+
+    /**
+     * Returns the flag that controls whether the buffer is written after
+     * each message that is not a debug message.
+     *
+     * @return The flag.
+     */
+    public boolean isAutoFlush() {
+        return this.autoFlush;
+    }
+
+    /**
+     * Logs a message.
+     *
+     * @param level  the log level.
+     * @param message  the message.
+     */
+    public void log(final int level, final Object message) {
+        log(level, message, null);
+    }
+
+    /**
+     * Logs a message, followed by the stack trace of an exception.
+     *
+     * @param level  the log level.
+     * @param message  the message.
+     * @param e  the exception (<code>null</code> permitted).
+     */
+    public synchronized void log(int level, final Object message,
+            final Exception e) {
+        if (level > 3) {
+            level = 3;
+        }
+        if (this.channel == null) {
+            return;
+        }
+        try {
+            if (this.rotationInterval > 0L
+                    && currentTimeMillis() >= this.nextRotation) {
+                this.nextRotation = computeNextRotation(currentTimeMillis());
+                if (getSize() > 0L) {
+                    rotate();
+                }
+            }
+            this.text.setLength(0);
+            this.text.append(LEVELS[level]);
+            this.text.append(message);
+            this.text.append(LINE_SEPARATOR);
+            if (e != null) {
+                final StringWriter sw = new StringWriter();
+                e.printStackTrace(new PrintWriter(sw));
+                this.text.append(sw.getBuffer());
+            }
+            encode(this.text);
+            if (this.maxSize > 0L && getSize() >= this.maxSize) {
+                rotate();
+            }
+            else if (level < 3 && this.autoFlush) {
+                drain();
+            }
+        }
+        catch (IOException ioe) {
+            handleError(ioe);
+        }
+        if (this.text.capacity() > BUFFER_SIZE) {
+            this.text.setLength(0);
+            this.text.trimToSize();
+        }
+    }
+
+    /**
+     * Writes the buffered messages to the file.
+     */
+    public synchronized void flush() {
+        if (this.channel == null) {
+            return;
+        }
+        try {
+            drain();
+        }
+        catch (IOException ioe) {
+            handleError(ioe);
+        }
+    }
+
+    /**
+     * Writes the buffered messages and closes the file.  Messages logged
+     * after this are ignored.  Calling this method more than once has no
+     * effect.
+     */
+    public synchronized void close() {
+        if (this.channel == null) {
+            return;
+        }
+        try {
+            drain();
+        }
+        catch (IOException ioe) {
+            handleError(ioe);
+        }
+        try {
+            this.channel.close();
+        }
+        catch (IOException ioe) {
+            handleError(ioe);
+        }
+        this.channel = null;
+        if (this.shutdownHook != null
+                && Thread.currentThread() != this.shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+            }
+            catch (IllegalStateException e) {
+                // the virtual machine is shutting down
+            }
+            catch (SecurityException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * Returns the current time.  This method is overridden by the tests.
+     *
+     * @return The time in milliseconds.
+     */
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the size of the current file, including the buffered bytes.
+     *
+     * @return The size in bytes.
+     */
+    private long getSize() {
+        return this.written + this.buffer.position();
+    }
+
+    /**
+     * Returns the time of the first rotation after the given time.
+     *
+     * @param now  the time.
+     *
+     * @return The time of the next rotation (<code>Long.MAX_VALUE</code> if
+     *     there is no timed rotation).
+     */
+    private long computeNextRotation(final long now) {
+        if (this.rotationInterval == 0L) {
+            return Long.MAX_VALUE;
+        }
+        return (now / this.rotationInterval + 1) * this.rotationInterval;
+    }
+
+    /**
+     * Opens (or creates) the log file for appending.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void open() throws IOException {
+        this.channel = FileChannel.open(this.file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.written = this.channel.size();
+    }
+
+    /**
+     * Encodes text into the buffer, writing the buffer to the file whenever
+     * it is full.
+     *
+     * @param chars  the text.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void encode(final CharSequence chars) throws IOException {
+        final CharBuffer in = CharBuffer.wrap(chars);
+        this.encoder.reset();
+        CoderResult result = this.encoder.encode(in, this.buffer, true);
+        while (result.isOverflow()) {
+            drain();
+            result = this.encoder.encode(in, this.buffer, true);
+        }
+        result = this.encoder.flush(this.buffer);
+        while (result.isOverflow()) {
+            drain();
+            result = this.encoder.flush(this.buffer);
+        }
+    }
+
+    /**
+     * Writes the buffer to the file and clears it.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void drain() throws IOException {
+        this.buffer.flip();
+        try {
+            while (this.buffer.hasRemaining()) {
+                this.written += this.channel.write(this.buffer);
+            }
+        }
+        finally {
+            this.buffer.clear();
+        }
+        this.failed = false;
+    }
+
+    /**
+     * Closes the current file, renames it and opens a new file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void rotate() throws IOException {
+        drain();
+        this.channel.close();
+        this.channel = null;
+        final File target = createRotatedFile();
+        try {
+            Files.move(this.file.toPath(), target.toPath());
+        }
+        finally {
+            open();
+        }
+        if (this.compress) {
+            final Thread t = new Thread(new Runnable() {
+                public void run() {
+                    gzip(target);
+                }
+            }, "RollingFileLogTarget-gzip");
+            t.setDaemon(true);
+            t.start();
+        }
+    }
+
+    /**
+     * Returns an unused name for a rotated file.
+     *
+     * @return The file.
+     */
+    private File createRotatedFile() {
+        final String base = this.file.getName() + "."
+                + this.suffixFormat.format(new Date(currentTimeMillis()));
+        final File dir = this.file.getAbsoluteFile().getParentFile();
+        File result = new File(dir, base);
+        int count = 1;
+        while (result.exists() || new File(dir, result.getName() + ".gz")
+                .exists()) {
+            result = new File(dir, base + "." + count);
+            count++;
+        }
+        return result;
+    }
+
+    /**
+     * Compresses a rotated file and removes the original.
+     *
+     * @param source  the file.
+     */
+    static void gzip(final File source) {
+        final File target = new File(source.getPath() + ".gz");
+        try {
+            final InputStream in = new FileInputStream(source);
+            try {
+                final OutputStream out = new GZIPOutputStream(
+                        new FileOutputStream(target), BUFFER_SIZE);
+                try {
+                    final byte[] data = new byte[BUFFER_SIZE];
+                    int n = in.read(data);
+                    while (n >= 0) {
+                        out.write(data, 0, n);
+                        n = in.read(data);
+                    }
+                }
+                finally {
+                    out.close();
+                }
+            }
+            finally {
+                in.close();
+            }
+            Files.delete(source.toPath());
+        }
+        catch (IOException ioe) {
+            System.err.println("RollingFileLogTarget: Unable to compress "
+                    + source + ": " + ioe);
+            target.delete();
+        }
+    }
+
+    /**
+     * Reports an I/O error (once until the next successful write) and
+     * discards the buffered messages.
+     *
+     * @param ioe  the exception.
+     */
+    private void handleError(final IOException ioe) {
+        this.buffer.clear();
+        if (!this.failed) {
+            this.failed = true;
+            System.err.println("RollingFileLogTarget: Unable to write to "
+                    + this.file + ": " + ioe);
+        }
+    }
+
+}
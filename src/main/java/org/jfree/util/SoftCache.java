@@ -0,0 +1,130 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------
+ * SoftCache.java
+ * --------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A small thread-safe cache that holds its values through soft references,
+ * so that the garbage collector can reclaim them when memory is short.  The
+ * number of entries is bounded; when the cache is full, the least recently
+ * used entry is removed.
+ */
+final class SoftCache {
+
+    /** The maximum number of entries. */
+    private final int maxSize;
+
+    /** The entries (soft references), in access order. */
+    private final LinkedHashMap map;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize  the maximum number of entries (at least 1).
+     */
+    SoftCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Requires 'maxSize' >= 1.");
+        }
+        this.maxSize = maxSize;
+        this.map = new LinkedHashMap(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the value for a key.
+     *
+     * @param key  the key.
+     *
+     * @return The value, or <code>null</code> if there is no value or it
+     *     has been reclaimed.
+     */
+    synchronized Object get(Object key) {
+        SoftReference ref = (SoftReference) this.map.get(key);
+        if (ref == null) {
+            return null;
+        }
+        Object value = ref.get();
+        if (value == null) {
+            this.map.remove(key);
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value, removing the least recently used entry if the cache
+     * is full.
+     *
+     * @param key  the key.
+     * @param value  the value (<code>null</code> not permitted).
+     */
+    synchronized void put(Object key, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null 'value' argument.");
+        }
+        this.map.put(key, new SoftReference(value));
+        if (this.map.size() > this.maxSize) {
+            Iterator iterator = this.map.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns the number of entries (including entries whose values have
+     * been reclaimed but not yet removed).
+     *
+     * @return The number of entries.
+     */
+    synchronized int size() {
+        return this.map.size();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    synchronized void clear() {
+        this.map.clear();
+    }
+
+}
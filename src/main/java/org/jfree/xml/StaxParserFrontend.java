@@ -0,0 +1,488 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * StaxParserFrontend.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URL;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLResolver;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jfree.util.Log;
+import org.jfree.xml.parser.RootXmlReadHandler;
+import org.jfree.xml.parser.XmlObjectCallback;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * A parser frontend that reads the document with a StAX stream reader
+ * instead of a SAX parser. The events are passed to the same
+ * {@link FrontendDefaultHandler} (and therefore to the same tree of
+ * handlers) as with the SAX based {@link ParserFrontend}.
+ * <p>
+ * For large documents, use
+ * {@link #parse(URL, URL, XmlObjectCallback)}: each top-level object is
+ * handed to the callback as soon as its element is closed. Together with
+ * a root handler that does not keep its child handlers (like
+ * {@link org.jfree.xml.parser.ObjectStreamReadHandler}), the memory used
+ * does not grow with the size of the document.
+ * <p>
+ * The StAX parser of the JDK does not validate against a DTD, so the
+ * validation flag is a hint only.
+ */
+public class StaxParserFrontend extends ParserFrontend {
+
+    /**
+     * Adapts the current position of a stream reader to a SAX locator.
+     */
+    private static class StaxLocator implements Locator {
+
+        /** The stream reader. */
+        private final XMLStreamReader reader;
+
+        /**
+         * Creates a new locator.
+         *
+         * @param reader  the stream reader.
+         */
+        protected StaxLocator(final XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the public identifier of the document.
+         *
+         * @return the public id or null.
+         */
+        public String getPublicId() {
+            return this.reader.getLocation().getPublicId();
+        }
+
+        /**
+         * Returns the system identifier of the document.
+         *
+         * @return the system id or null.
+         */
+        public String getSystemId() {
+            return this.reader.getLocation().getSystemId();
+        }
+
+        /**
+         * Returns the current line number.
+         *
+         * @return the line number or -1.
+         */
+        public int getLineNumber() {
+            return this.reader.getLocation().getLineNumber();
+        }
+
+        /**
+         * Returns the current column number.
+         *
+         * @return the column number or -1.
+         */
+        public int getColumnNumber() {
+            return this.reader.getLocation().getColumnNumber();
+        }
+    }
+
+    /**
+     * Resolves external entities with a SAX entity resolver.
+     */
+    private static class EntityResolverAdapter implements XMLResolver {
+
+        /** The SAX entity resolver. */
+        private final EntityResolver resolver;
+
+        /**
+         * Creates a new adapter.
+         *
+         * @param resolver  the SAX entity resolver.
+         */
+        protected EntityResolverAdapter(final EntityResolver resolver) {
+            this.resolver = resolver;
+        }
+
+        /**
+         * Resolves an entity.
+         *
+         * @param publicID  the public id.
+         * @param systemID  the system id.
+         * @param baseURI  the base URI.
+         * @param namespace  the namespace.
+         *
+         * @return the input stream or reader for the entity, or null to use
+         *         the default resolution.
+         *
+         * @throws XMLStreamException if the entity cannot be resolved.
+         */
+        public Object resolveEntity(final String publicID, final String systemID,
+                                    final String baseURI, final String namespace)
+            throws XMLStreamException {
+            try {
+                final InputSource source = this.resolver.resolveEntity(publicID, systemID);
+                if (source == null) {
+                    return null;
+                }
+                if (source.getByteStream() != null) {
+                    return source.getByteStream();
+                }
+                if (source.getCharacterStream() != null) {
+                    return source.getCharacterStream();
+                }
+                if (source.getSystemId() != null) {
+                    return new URL(source.getSystemId()).openStream();
+                }
+                return null;
+            }
+            catch (SAXException se) {
+                throw new XMLStreamException(se);
+            }
+            catch (IOException ioe) {
+                throw new XMLStreamException(ioe);
+            }
+        }
+    }
+
+    /** The stream reader factory. */
+    private XMLInputFactory inputFactory;
+
+    /**
+     * Creates a new frontend.
+     *
+     * @param parser the parser that is used to coordinate the parsing process.
+     */
+    protected StaxParserFrontend(final FrontendDefaultHandler parser) {
+        super(parser);
+    }
+
+    /**
+     * Returns the stream reader factory.
+     *
+     * @return the factory.
+     */
+    protected XMLInputFactory getInputFactory() {
+        if (this.inputFactory == null) {
+            final XMLInputFactory factory = XMLInputFactory.newInstance();
+            try {
+                // the handlers expect qualified names, as with the SAX frontend
+                factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+            }
+            catch (IllegalArgumentException iae) {
+                Log.debug("The stream reader will resolve namespaces.");
+            }
+            if (isValidateDTD()) {
+                try {
+                    factory.setProperty(XMLInputFactory.IS_VALIDATING, Boolean.TRUE);
+                }
+                catch (IllegalArgumentException iae) {
+                    Log.debug("The stream reader will not validate the xml document.", iae);
+                }
+            }
+            this.inputFactory = factory;
+        }
+        return this.inputFactory;
+    }
+
+    /**
+     * Parses an XML document read from the given input source.
+     *
+     * @param input  the input source.
+     * @param contentBase  the content base.
+     *
+     * @return the parse result.
+     *
+     * @throws ElementDefinitionException if an error occurred.
+     */
+    protected Object parse(final InputSource input, final URL contentBase)
+        throws ElementDefinitionException {
+        return parse(input, contentBase, createDefaultHandler(contentBase));
+    }
+
+    /**
+     * Parses an XML file which is loaded using the given URL, and passes
+     * each top-level object to the given callback as soon as it has been
+     * read. The default handler must be a {@link RootXmlReadHandler}.
+     *
+     * @param file  the URL of the document.
+     * @param contentBase  the URL for the content base.
+     * @param callback  the callback for the top-level objects.
+     *
+     * @return the result of the root handler.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @throws ElementDefinitionException if there is a problem parsing the document.
+     */
+    public Object parse(final URL file, final URL contentBase,
+                        final XmlObjectCallback callback)
+        throws ElementDefinitionException, IOException {
+        if (file == null) {
+            throw new NullPointerException("File may not be null");
+        }
+        if (callback == null) {
+            throw new NullPointerException("Callback may not be null");
+        }
+        final FrontendDefaultHandler handler = createDefaultHandler(contentBase);
+        if (!(handler instanceof RootXmlReadHandler)) {
+            throw new ElementDefinitionException
+                ("Streaming requires a RootXmlReadHandler as default handler.");
+        }
+        ((RootXmlReadHandler) handler).setObjectCallback(callback);
+
+        final BufferedInputStream bin = new BufferedInputStream(file.openStream());
+        try {
+            final InputSource in = new InputSource(bin);
+            in.setSystemId(file.toString());
+            return parse(in, contentBase, handler);
+        }
+        finally {
+            bin.close();
+        }
+    }
+
+    /**
+     * Parses an XML document and passes the events to the given handler.
+     *
+     * @param input  the input source.
+     * @param contentBase  the content base.
+     * @param handler  the handler.
+     *
+     * @return the parse result.
+     *
+     * @throws ElementDefinitionException if an error occurred.
+     */
+    private Object parse(final InputSource input, final URL contentBase,
+                         final FrontendDefaultHandler handler)
+        throws ElementDefinitionException {
+        InputStream opened = null;
+        XMLStreamReader reader = null;
+        try {
+            if (input.getCharacterStream() == null && input.getByteStream() == null) {
+                if (input.getSystemId() == null) {
+                    throw new ElementDefinitionException
+                        ("The input source defines no input.");
+                }
+                opened = new BufferedInputStream(new URL(input.getSystemId()).openStream());
+            }
+            reader = createReader(input, opened);
+            handler.setDocumentLocator(new StaxLocator(reader));
+            handler.startDocument();
+            processEvents(reader, handler);
+            handler.endDocument();
+            return handler.getResult();
+        }
+        catch (XMLStreamException e) {
+            if (reader != null) {
+                throw new ElementDefinitionException(e, new StaxLocator(reader));
+            }
+            throw new ElementDefinitionException(e);
+        }
+        catch (ElementDefinitionException e) {
+            throw e;
+        }
+        catch (SAXException e) {
+            throw new ElementDefinitionException(e);
+        }
+        catch (IOException e) {
+            throw new ElementDefinitionException(e);
+        }
+        finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                }
+                catch (XMLStreamException e) {
+                    Log.debug("Unable to close the stream reader.", e);
+                }
+            }
+            if (opened != null) {
+                try {
+                    opened.close();
+                }
+                catch (IOException e) {
+                    Log.debug("Unable to close the input stream.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a stream reader for the given input source.
+     *
+     * @param input  the input source.
+     * @param opened  the stream opened for the system id of the input
+     *                source, or null if the input source defines a stream.
+     *
+     * @return the stream reader.
+     *
+     * @throws XMLStreamException if the reader cannot be created.
+     */
+    private XMLStreamReader createReader(final InputSource input,
+                                         final InputStream opened)
+        throws XMLStreamException {
+        final XMLInputFactory factory = getInputFactory();
+        if (getEntityResolver() != null) {
+            factory.setXMLResolver(new EntityResolverAdapter(getEntityResolver()));
+        }
+        else {
+            factory.setXMLResolver(null);
+        }
+        final String systemId = input.getSystemId();
+        final Reader characterStream = input.getCharacterStream();
+        if (characterStream != null) {
+            return factory.createXMLStreamReader(systemId, characterStream);
+        }
+        InputStream byteStream = input.getByteStream();
+        if (byteStream == null) {
+            byteStream = opened;
+        }
+        if (input.getEncoding() != null) {
+            return factory.createXMLStreamReader(byteStream, input.getEncoding());
+        }
+        return factory.createXMLStreamReader(systemId, byteStream);
+    }
+
+    /**
+     * Reads all events from the stream reader and passes them to the
+     * handler.
+     *
+     * @param reader  the stream reader.
+     * @param handler  the handler.
+     *
+     * @throws XMLStreamException if the document is not well-formed.
+     * @throws SAXException if the handler reports an error.
+     */
+    private void processEvents(final XMLStreamReader reader,
+                               final FrontendDefaultHandler handler)
+        throws XMLStreamException, SAXException {
+        // the attributes are reused, handlers must copy what they need (as with SAX)
+        final AttributesImpl attributes = new AttributesImpl();
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT: {
+                    attributes.clear();
+                    final int count = reader.getAttributeCount();
+                    for (int i = 0; i < count; i++) {
+                        attributes.addAttribute(nonNull(reader.getAttributeNamespace(i)),
+                            reader.getAttributeLocalName(i),
+                            getQName(reader.getAttributePrefix(i),
+                                reader.getAttributeLocalName(i)),
+                            reader.getAttributeType(i), reader.getAttributeValue(i));
+                    }
+                    handler.startElement(nonNull(reader.getNamespaceURI()),
+                        reader.getLocalName(),
+                        getQName(reader.getPrefix(), reader.getLocalName()), attributes);
+                    break;
+                }
+                case XMLStreamConstants.END_ELEMENT: {
+                    handler.endElement(nonNull(reader.getNamespaceURI()),
+                        reader.getLocalName(),
+                        getQName(reader.getPrefix(), reader.getLocalName()));
+                    break;
+                }
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA: {
+                    handler.characters(reader.getTextCharacters(),
+                        reader.getTextStart(), reader.getTextLength());
+                    break;
+                }
+                case XMLStreamConstants.SPACE: {
+                    handler.ignorableWhitespace(reader.getTextCharacters(),
+                        reader.getTextStart(), reader.getTextLength());
+                    break;
+                }
+                case XMLStreamConstants.COMMENT: {
+                    handler.getCommentHandler().comment(reader.getTextCharacters(),
+                        reader.getTextStart(), reader.getTextLength());
+                    break;
+                }
+                case XMLStreamConstants.PROCESSING_INSTRUCTION: {
+                    handler.processingInstruction(reader.getPITarget(),
+                        nonNull(reader.getPIData()));
+                    break;
+                }
+                default:
+                    // document start and end, DTD and entity events are
+                    // handled by the stream reader itself
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Builds the qualified name of an element or attribute.
+     *
+     * @param prefix  the prefix (null permitted).
+     * @param localName  the local name.
+     *
+     * @return the qualified name.
+     */
+    private static String getQName(final String prefix, final String localName) {
+        if (prefix == null || prefix.length() == 0) {
+            return localName;
+        }
+        return prefix + ":" + localName;
+    }
+
+    /**
+     * Replaces null strings with the empty string, as SAX does.
+     *
+     * @param s  the string.
+     *
+     * @return the string or the empty string.
+     */
+    private static String nonNull(final String s) {
+        if (s == null) {
+            return "";
+        }
+        return s;
+    }
+
+}
@@ -41,16 +41,22 @@
  *               JCommon (TM);
  * 18-Aug-2005 : Added casts to suppress compiler warnings, as suggested in 
  *               patch 1260622 (DG);
+ * 16-Oct-2026 : Bind the constructor and the property accessors once and
+ *               share them between all instances of a description;
  *
  */
 
 package org.jfree.xml.factory.objects;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Iterator;
 import java.util.TreeSet;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.beans.Introspector;
 import java.beans.IntrospectionException;
 import java.beans.BeanInfo;
@@ -59,6 +65,7 @@ import java.io.ObjectInputStream;
 import java.io.IOException;
 
 import org.jfree.util.Log;
+import org.jfree.xml.util.PropertyAccessor;
 
 /**
  * An object-description for a bean object. This object description
@@ -71,6 +78,8 @@ public class BeanObjectDescription extends AbstractObjectDescription {
 
     private TreeSet ignoredParameters;
     private transient HashMap properties;
+    private transient ConcurrentHashMap accessors;
+    private transient volatile MethodHandle constructor;
 
     /**
      * Creates a new object description.
@@ -120,7 +129,7 @@ public class BeanObjectDescription extends AbstractObjectDescription {
      */
     public Object createObject() {
         try {
-            final Object o = getObjectClass().newInstance();
+            final Object o = (Object) getConstructor().invokeExact();
             // now add the various parameters ...
 
             final Iterator it = getParameterNames();
@@ -131,13 +140,13 @@ public class BeanObjectDescription extends AbstractObjectDescription {
                     continue;
                 }
 
-                final Method method = findSetMethod(name);
+                final PropertyAccessor accessor = findAccessor(name);
                 final Object parameterValue = getParameter(name);
                 if (parameterValue == null) {
                     // Log.debug ("Parameter: " + name + " is null");
                 }
                 else {
-                    method.invoke(o, new Object[]{parameterValue});
+                    accessor.setValue(o, parameterValue);
                 }
             }
             return o;
@@ -145,32 +154,53 @@ public class BeanObjectDescription extends AbstractObjectDescription {
         catch (Exception e) {
             Log.error("Unable to invoke bean method", e);
         }
+        catch (Throwable t) {
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            Log.error("Unable to invoke bean method");
+        }
         return null;
     }
 
     /**
-     * Finds a set method in the bean.
+     * Returns the bound default constructor of the bean class. The
+     * constructor is looked up once and then shared by all instances
+     * of this description.
      *
-     * @param parameterName  the parameter name.
+     * @return The constructor handle.
      *
-     * @return The method.
+     * @throws Exception if there is no accessible default constructor.
      */
-    private Method findSetMethod(final String parameterName) {
-        final PropertyDescriptor descriptor 
-            = (PropertyDescriptor) this.properties.get(parameterName);
-        return descriptor.getWriteMethod();
+    private MethodHandle getConstructor() throws Exception {
+        MethodHandle c = this.constructor;
+        if (c == null) {
+            c = MethodHandles.publicLookup().findConstructor
+                (getObjectClass(), MethodType.methodType(Void.TYPE))
+                .asType(MethodType.methodType(Object.class));
+            this.constructor = c;
+        }
+        return c;
     }
 
     /**
-     * Finds a get method in the bean.
+     * Finds the bound accessor for a bean property. The accessor is 
+     * created when first needed.
      *
-     * @param parameterName  the paramater name.
-     * @return The method.
+     * @param parameterName  the parameter name.
+     *
+     * @return The accessor.
      */
-    private Method findGetMethod(final String parameterName) {
-        final PropertyDescriptor descriptor 
-            = (PropertyDescriptor) this.properties.get(parameterName);
-        return descriptor.getReadMethod();
+    private PropertyAccessor findAccessor(final String parameterName) {
+        PropertyAccessor accessor 
+            = (PropertyAccessor) this.accessors.get(parameterName);
+        if (accessor == null) {
+            final PropertyDescriptor descriptor 
+                = (PropertyDescriptor) this.properties.get(parameterName);
+            accessor = new PropertyAccessor(descriptor);
+            this.accessors.put(parameterName, accessor);
+        }
+        return accessor;
     }
 
     /**
@@ -200,8 +230,8 @@ public class BeanObjectDescription extends AbstractObjectDescription {
             }
 
             try {
-                final Method method = findGetMethod(propertyName);
-                final Object retval = method.invoke(o, (Object[]) null);
+                final PropertyAccessor accessor = findAccessor(propertyName);
+                final Object retval = accessor.getValue(o);
                 if (retval != null) {
                     setParameter(propertyName, retval);
                 }
@@ -243,6 +273,8 @@ public class BeanObjectDescription extends AbstractObjectDescription {
   private void readBeanDescription(final Class className, final boolean init) {
     try {
         this.properties = new HashMap();
+        this.accessors = new ConcurrentHashMap();
+        this.constructor = null;
 
         final BeanInfo bi = Introspector.getBeanInfo(className);
         final PropertyDescriptor[] propertyDescriptors 
@@ -40,6 +40,9 @@
  * 29-Apr-2003 : Distilled from the JFreeReport project and moved into JCommon
  * 03-Jun-2003 : Adding factories configures the new factory.
  * 29-Jul-2004 : Replaced 'enum' variable name (reserved word in JDK 1.5) (DG);
+ * 16-Oct-2026 : Cache the super class lookups per class;
+ * 17-Oct-2026 : The cached lookups follow registrations in the collected
+ *               factories;
  */
 
 package org.jfree.xml.factory.objects;
@@ -56,9 +59,39 @@ import org.jfree.util.Configuration;
  */
 public class ClassFactoryCollector extends ClassFactoryImpl {
 
+    /** A marker for lookups that found no description. */
+    private static final Object NO_DESCRIPTION = new Object();
+
+    /**
+     * The super class lookups made while the registration count had a
+     * given value.
+     */
+    private static final class CollectedLookups {
+
+        /** The registration count when the lookups were started. */
+        private final long version;
+
+        /** The lookups. */
+        private final ClassValue lookups;
+
+        /**
+         * Creates a new, empty set of lookups.
+         *
+         * @param version  the registration count.
+         * @param lookups  the lookups.
+         */
+        private CollectedLookups(final long version, final ClassValue lookups) {
+            this.version = version;
+            this.lookups = lookups;
+        }
+    }
+
     /** Storage for the class factories. */
     private ArrayList factories;
 
+    /** The cached super class lookups, created when first needed. */
+    private transient volatile CollectedLookups collectedLookups;
+
     /**
      * Creates a new class factory collector.
      */
@@ -73,6 +106,7 @@ public class ClassFactoryCollector extends ClassFactoryImpl {
      */
     public void addFactory(final ClassFactory factory) {
         this.factories.add(factory);
+        invalidateSuperClassLookups();
         if (getConfig() != null) {
             factory.configure(getConfig());
         }
@@ -107,34 +141,78 @@ public class ClassFactoryCollector extends ClassFactoryImpl {
 
     /**
      * Returns an object-description for the super class of a class.
+     * <p>
+     * Lookups without a known super class are cached per class, until a
+     * class is registered or a factory is added in this or any other
+     * {@link ClassFactoryImpl}, including the collected factories. Changes
+     * to collected factories that do not extend {@link ClassFactoryImpl}
+     * are not noticed.
      *
      * @param d  the class.
      * @param knownSuperClass the last known super class or null.
      * @return The object description.
      */
     public ObjectDescription getSuperClassObjectDescription
+        (final Class d, final ObjectDescription knownSuperClass) {
+        if (knownSuperClass != null) {
+            return collectSuperClassObjectDescription(d, knownSuperClass);
+        }
+        if (d == null) {
+            throw new NullPointerException("Description class must not be null.");
+        }
+        final Object od = getCollectedLookups().get(d);
+        if (od == NO_DESCRIPTION) {
+            return null;
+        }
+        return ((ObjectDescription) od).getInstance();
+    }
+
+    /**
+     * Queries all factories for the most specific object-description for
+     * the super class of a class.
+     *
+     * @param d  the class.
+     * @param knownSuperClass the last known super class or null.
+     * @return The object description.
+     */
+    private ObjectDescription collectSuperClassObjectDescription
         (final Class d, ObjectDescription knownSuperClass) {
         for (int i = 0; i < this.factories.size(); i++) {
             final ClassFactory f = (ClassFactory) this.factories.get(i);
             final ObjectDescription od = f.getSuperClassObjectDescription(d, knownSuperClass);
             if (od != null) {
-                if (knownSuperClass == null) {
-                    knownSuperClass = od;
-                }
-                else {
-                    if (getComparator().isComparable(knownSuperClass.getObjectClass(),
-                        od.getObjectClass())) {
-                        if (getComparator().compare(knownSuperClass.getObjectClass(),
-                            od.getObjectClass()) < 0) {
-                            knownSuperClass = od;
-                        }
-                    }
-                }
+                knownSuperClass = selectMoreSpecific(knownSuperClass, od);
             }
         }
         return super.getSuperClassObjectDescription(d, knownSuperClass);
     }
 
+    /**
+     * Returns the cache of super class lookups.
+     *
+     * @return The cache.
+     */
+    private ClassValue getCollectedLookups() {
+        // read the count first, so that a registration made while the
+        // lookups are computed makes them stale
+        final long version = getRegistrationCount();
+        CollectedLookups lookups = this.collectedLookups;
+        if (lookups == null || lookups.version != version) {
+            lookups = new CollectedLookups(version, new ClassValue() {
+                protected Object computeValue(final Class type) {
+                    final ObjectDescription od = 
+                        collectSuperClassObjectDescription(type, null);
+                    if (od == null) {
+                        return NO_DESCRIPTION;
+                    }
+                    return od;
+                }
+            });
+            this.collectedLookups = lookups;
+        }
+        return lookups.lookups;
+    }
+
     /**
      * Returns an iterator that provices access to the registered classes.
      *
@@ -39,13 +39,17 @@
  * 19-Feb-2003 : Added standard header and Javadocs (DG);
  * 29-Apr-2003 : Distilled from the JFreeReport project and moved into JCommon
  * 29-Jul-2004 : Replaced 'enum' variable name (reserved word in JDK 1.5) (DG);
+ * 16-Oct-2026 : Cache the super class lookups per class;
+ * 17-Oct-2026 : Added the registration count;
  *
  */
 
 package org.jfree.xml.factory.objects;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jfree.util.Configuration;
 import org.jfree.util.ClassComparator;
@@ -56,12 +60,47 @@ import org.jfree.util.ClassComparator;
  */
 public abstract class ClassFactoryImpl implements ClassFactory {
 
+    /**
+     * The result of a super class lookup: all registered descriptions for
+     * super classes of the looked up class (in the order they are found
+     * in the registry), and the most specific of these descriptions.
+     */
+    private static final class SuperClassLookup {
+
+        /** The descriptions that match the looked up class. */
+        private final ObjectDescription[] candidates;
+
+        /** The most specific description or null, if none matched. */
+        private final ObjectDescription mostSpecific;
+
+        /**
+         * Creates a new lookup result.
+         *
+         * @param candidates  the matching descriptions.
+         * @param mostSpecific  the most specific description.
+         */
+        private SuperClassLookup(final ObjectDescription[] candidates,
+                                 final ObjectDescription mostSpecific) {
+            this.candidates = candidates;
+            this.mostSpecific = mostSpecific;
+        }
+    }
+
+    /**
+     * The number of times a class was registered, or a factory added, in
+     * any class factory. Cached lookups that depend on other factories are
+     * valid as long as this count is unchanged.
+     */
+    private static final AtomicLong registrationCount = new AtomicLong();
+
     /** Storage for the classes. */
     private HashMap classes;
     /** A class comparator for searching the super class */
     private ClassComparator comparator;
     /** The parser/report configuration */
     private Configuration config;
+    /** The cached super class lookups, created when first needed. */
+    private transient volatile ClassValue superClassLookups;
 
     /**
      * Creates a new class factory.
@@ -110,29 +149,109 @@ public abstract class ClassFactoryImpl implements ClassFactory {
         if (d == null) {
             throw new NullPointerException("Description class must not be null.");
         }
+        final SuperClassLookup lookup = 
+            (SuperClassLookup) getSuperClassLookups().get(d);
+        if (knownSuperClass == null) {
+            knownSuperClass = lookup.mostSpecific;
+        }
+        else {
+            for (int i = 0; i < lookup.candidates.length; i++) {
+                knownSuperClass = selectMoreSpecific(knownSuperClass, lookup.candidates[i]);
+            }
+        }
+        if (knownSuperClass == null) {
+            return null;
+        }
+        return knownSuperClass.getInstance();
+    }
+
+    /**
+     * Returns the more specific of the two object descriptions. If the
+     * described classes are not related, the known description is kept.
+     *
+     * @param knownSuperClass  the description found so far (null permitted).
+     * @param od  the candidate description.
+     *
+     * @return The more specific description.
+     */
+    protected ObjectDescription selectMoreSpecific
+        (final ObjectDescription knownSuperClass, final ObjectDescription od) {
+        if (knownSuperClass == null) {
+            return od;
+        }
+        if (this.comparator.isComparable
+            (knownSuperClass.getObjectClass(), od.getObjectClass())) {
+            if (this.comparator.compare
+                (knownSuperClass.getObjectClass(), od.getObjectClass()) < 0) {
+                return od;
+            }
+        }
+        return knownSuperClass;
+    }
+
+    /**
+     * Returns the cache of super class lookups. The registry is searched
+     * only once per class; later lookups for the same class (including
+     * the ones that found nothing) are answered from the cache.
+     *
+     * @return The cache.
+     */
+    private ClassValue getSuperClassLookups() {
+        ClassValue lookups = this.superClassLookups;
+        if (lookups == null) {
+            lookups = new ClassValue() {
+                protected Object computeValue(final Class type) {
+                    return lookupSuperClasses(type);
+                }
+            };
+            this.superClassLookups = lookups;
+        }
+        return lookups;
+    }
+
+    /**
+     * Searches the registered classes for all super classes of the given
+     * class.
+     *
+     * @param d  the class.
+     *
+     * @return The lookup result.
+     */
+    private SuperClassLookup lookupSuperClasses(final Class d) {
+        final ArrayList candidates = new ArrayList();
+        ObjectDescription mostSpecific = null;
         final Iterator iterator = this.classes.keySet().iterator();
         while (iterator.hasNext()) {
             final Class keyClass = (Class) iterator.next();
             if (keyClass.isAssignableFrom(d)) {
                 final ObjectDescription od = (ObjectDescription) this.classes.get(keyClass);
-                if (knownSuperClass == null) {
-                    knownSuperClass = od;
-                }
-                else {
-                    if (this.comparator.isComparable
-                        (knownSuperClass.getObjectClass(), od.getObjectClass())) {
-                        if (this.comparator.compare
-                            (knownSuperClass.getObjectClass(), od.getObjectClass()) < 0) {
-                            knownSuperClass = od;
-                        }
-                    }
-                }
+                candidates.add(od);
+                mostSpecific = selectMoreSpecific(mostSpecific, od);
             }
         }
-        if (knownSuperClass == null) {
-            return null;
-        }
-        return knownSuperClass.getInstance();
+        return new SuperClassLookup((ObjectDescription[]) candidates.toArray
+            (new ObjectDescription[candidates.size()]), mostSpecific);
+    }
+
+    /**
+     * Discards all cached super class lookups and increases the registration
+     * count. This method is called whenever a new class is registered.
+     */
+    protected void invalidateSuperClassLookups() {
+        this.superClassLookups = null;
+        registrationCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of times a class was registered, or a factory
+     * added, in any class factory. Lookups that combine the results of
+     * several factories can be cached for as long as this count is
+     * unchanged.
+     *
+     * @return The registration count.
+     */
+    protected static long getRegistrationCount() {
+        return registrationCount.get();
     }
 
     /**
@@ -143,6 +262,7 @@ public abstract class ClassFactoryImpl implements ClassFactory {
      */
     protected void registerClass(final Class key, final ObjectDescription od) {
         this.classes.put(key, od);
+        invalidateSuperClassLookups();
         if (this.config != null) {
             od.configure(this.config);
         }
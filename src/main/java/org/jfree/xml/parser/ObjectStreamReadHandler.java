@@ -0,0 +1,110 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * ObjectStreamReadHandler.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.parser;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+
+/**
+ * A handler for a document element whose children are a sequence of
+ * independent objects. The handler for each child is created by the
+ * root handler for the configured base class, and is not kept once the
+ * child element is closed, so that the objects can be passed on to an
+ * {@link XmlObjectCallback} one by one without collecting the whole
+ * document in memory.
+ * <p>
+ * The handler returns the number of objects read as its result.
+ */
+public class ObjectStreamReadHandler extends AbstractXmlReadHandler {
+
+    /** The base class of the objects. */
+    private final Class baseClass;
+
+    /** The number of objects read so far. */
+    private int count;
+
+    /**
+     * Creates a new handler that reads objects of any type. The concrete
+     * type is selected by the multiplex mappings of the root handler.
+     */
+    public ObjectStreamReadHandler() {
+        this(Object.class);
+    }
+
+    /**
+     * Creates a new handler.
+     *
+     * @param baseClass  the base class of the objects in the stream.
+     */
+    public ObjectStreamReadHandler(final Class baseClass) {
+        if (baseClass == null) {
+            throw new NullPointerException("Base class must not be null.");
+        }
+        this.baseClass = baseClass;
+    }
+
+    /**
+     * Returns the handler for a child element.
+     *
+     * @param tagName  the tag name.
+     * @param atts  the attributes.
+     *
+     * @return the handler.
+     *
+     * @throws SAXException  if there is a parsing error.
+     * @throws XmlReaderException if there is a reader error.
+     */
+    protected XmlReadHandler getHandlerForChild(final String tagName, final Attributes atts)
+        throws XmlReaderException, SAXException {
+        this.count += 1;
+        return getRootHandler().createHandler(this.baseClass, tagName, atts);
+    }
+
+    /**
+     * Returns the number of objects read so far.
+     *
+     * @return the number of objects as <code>Integer</code>.
+     */
+    public Object getObject() {
+        return Integer.valueOf(this.count);
+    }
+
+}
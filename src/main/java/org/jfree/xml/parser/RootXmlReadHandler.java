@@ -38,6 +38,10 @@
  * --------------------------
  * 25-Nov-2003 : Added Javadocs (DG);
  * 22-Feb-2005 : Fixed a bug when ending nested tags with the same tagname.
+ * 16-Oct-2026 : Cache the resolved handler factory for each class;
+ * 16-Oct-2026 : Added the object callback for streaming documents;
+ * 17-Oct-2026 : Use loadHandlerClass() for the manual mappings if a subclass
+ *               overrides it;
  */
 package org.jfree.xml.parser;
 
@@ -51,6 +55,9 @@ import java.awt.RenderingHints;
 import java.awt.Stroke;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -73,6 +80,7 @@ import org.jfree.xml.parser.coretypes.Point2DReadHandler;
 import org.jfree.xml.parser.coretypes.Rectangle2DReadHandler;
 import org.jfree.xml.parser.coretypes.RenderingHintsReadHandler;
 import org.jfree.xml.parser.coretypes.StringReadHandler;
+import org.jfree.xml.util.GenericObjectFactory;
 import org.jfree.xml.util.ManualMappingDefinition;
 import org.jfree.xml.util.MultiplexMappingDefinition;
 import org.jfree.xml.util.MultiplexMappingEntry;
@@ -86,6 +94,242 @@ import org.xml.sax.SAXException;
  */
 public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
 
+    /**
+     * Creates the handlers for one class (or, for multiplexed classes, for
+     * one class and type attribute value).
+     */
+    private abstract class HandlerFactory {
+
+        /**
+         * Creates a new handler.
+         *
+         * @param atts  the attributes of the element.
+         * @param history  the multiplexed classes visited so far (null if
+         *                 none).
+         *
+         * @return The handler, or null if there is no handler for the class.
+         *
+         * @throws XmlReaderException if there is a problem with the reader.
+         */
+        abstract XmlReadHandler createHandler(Attributes atts,
+                                              ArrayList history)
+            throws XmlReaderException;
+    }
+
+    /**
+     * A factory for classes without any handler.
+     */
+    private class NullHandlerFactory extends HandlerFactory {
+
+        /**
+         * Returns null.
+         *
+         * @param atts  the attributes of the element.
+         * @param history  the multiplexed classes visited so far.
+         *
+         * @return null.
+         */
+        XmlReadHandler createHandler(final Attributes atts,
+                                     final ArrayList history) {
+            return null;
+        }
+    }
+
+    /**
+     * A factory for manually mapped handler classes, which calls the
+     * handler's default constructor through a method handle. If a subclass
+     * overrides {@link RootXmlReadHandler#loadHandlerClass(String)}, that
+     * method creates the handlers instead.
+     */
+    private class ConstructorHandlerFactory extends HandlerFactory {
+
+        /** The handler class name. */
+        private final String className;
+
+        /**
+         * The default constructor (null if it is not accessible or if
+         * {@link RootXmlReadHandler#loadHandlerClass(String)} is overridden,
+         * in which case that method is used).
+         */
+        private final MethodHandle constructor;
+
+        /**
+         * Creates a new factory.
+         *
+         * @param className  the handler class name.
+         *
+         * @throws XmlReaderException if the class cannot be loaded.
+         */
+        ConstructorHandlerFactory(final String className)
+            throws XmlReaderException {
+            this.className = className;
+            MethodHandle handle = null;
+            if (RootXmlReadHandler.this.loadHandlerClassOverridden == false) {
+                final Class c = loadClass(className);
+                try {
+                    handle = MethodHandles.lookup().findConstructor
+                        (c, MethodType.methodType(Void.TYPE)).asType
+                        (MethodType.methodType(XmlReadHandler.class));
+                }
+                catch (Exception e) {
+                    // not a public handler class; loadHandlerClass reports this
+                }
+            }
+            this.constructor = handle;
+        }
+
+        /**
+         * Creates a new handler instance.
+         *
+         * @param atts  the attributes of the element.
+         * @param history  the multiplexed classes visited so far.
+         *
+         * @return The handler.
+         *
+         * @throws XmlReaderException if the handler cannot be created.
+         */
+        XmlReadHandler createHandler(final Attributes atts,
+                                     final ArrayList history)
+            throws XmlReaderException {
+            if (this.constructor == null) {
+                return loadHandlerClass(this.className);
+            }
+            try {
+                return (XmlReadHandler) this.constructor.invokeExact();
+            }
+            catch (Error e) {
+                throw e;
+            }
+            catch (Exception e) {
+                throw new XmlReaderException
+                    ("LoadHanderClass: Unable to instantiate " + this.className, e);
+            }
+            catch (Throwable t) {
+                throw new XmlReaderException
+                    ("LoadHanderClass: Unable to instantiate " + this.className
+                        + ": " + t);
+            }
+        }
+    }
+
+    /**
+     * A factory for classes that are read by a {@link GenericReadHandler}.
+     */
+    private class GenericHandlerFactory extends HandlerFactory {
+
+        /** The object factory that is copied for each handler. */
+        private final GenericObjectFactory objectFactory;
+
+        /**
+         * Creates a new factory.
+         *
+         * @param objectFactory  the object factory.
+         */
+        GenericHandlerFactory(final GenericObjectFactory objectFactory) {
+            this.objectFactory = objectFactory;
+        }
+
+        /**
+         * Creates a new handler.
+         *
+         * @param atts  the attributes of the element.
+         * @param history  the multiplexed classes visited so far.
+         *
+         * @return The handler.
+         */
+        XmlReadHandler createHandler(final Attributes atts,
+                                     final ArrayList history) {
+            return new GenericReadHandler(this.objectFactory.getInstance());
+        }
+    }
+
+    /**
+     * A factory for multiplexed classes, which selects the factory of the
+     * target class by the value of the type attribute.
+     */
+    private class MultiplexHandlerFactory extends HandlerFactory {
+
+        /** The multiplexed class. */
+        private final Class classToRead;
+
+        /** The multiplex definition. */
+        private final MultiplexMappingDefinition mplex;
+
+        /** The factory used if the target class is the base class. */
+        private final HandlerFactory baseFactory;
+
+        /** The factories for the type attribute values seen so far. */
+        private final HashMap factories;
+
+        /**
+         * Creates a new factory.
+         *
+         * @param classToRead  the multiplexed class.
+         * @param mplex  the multiplex definition.
+         * @param baseFactory  the factory used if the target class is the
+         *                     base class.
+         */
+        MultiplexHandlerFactory(final Class classToRead,
+                                final MultiplexMappingDefinition mplex,
+                                final HandlerFactory baseFactory) {
+            this.classToRead = classToRead;
+            this.mplex = mplex;
+            this.baseFactory = baseFactory;
+            this.factories = new HashMap();
+        }
+
+        /**
+         * Creates a handler for the target class selected by the type
+         * attribute.
+         *
+         * @param atts  the attributes of the element.
+         * @param history  the multiplexed classes visited so far.
+         *
+         * @return The handler, or null if there is no handler.
+         *
+         * @throws XmlReaderException if the type attribute is missing or
+         *                            invalid.
+         */
+        XmlReadHandler createHandler(final Attributes atts, ArrayList history)
+            throws XmlReaderException {
+            final String attributeValue = atts.getValue(this.mplex.getAttributeName());
+            if (attributeValue == null) {
+                throw new XmlReaderException(
+                    "Multiplexer type attribute is not defined: "
+                    + this.mplex.getAttributeName() + " for " + this.classToRead
+                );
+            }
+            if (history == null) {
+                history = new ArrayList();
+            }
+            else if (history.contains(this.classToRead)) {
+                throw new IllegalStateException("Circular reference detected: " + history);
+            }
+            history.add(this.classToRead);
+
+            HandlerFactory factory = (HandlerFactory) this.factories.get(attributeValue);
+            if (factory == null) {
+                final MultiplexMappingEntry entry =
+                    this.mplex.getEntryForType(attributeValue);
+                if (entry == null) {
+                    throw new XmlReaderException(
+                        "Invalid type attribute value: " + this.mplex.getAttributeName()
+                        + " = " + attributeValue
+                    );
+                }
+                final Class c = loadClass(entry.getTargetClass());
+                if (c.equals(this.mplex.getBaseClass())) {
+                    factory = this.baseFactory;
+                }
+                else {
+                    factory = getHandlerFactory(c);
+                }
+                this.factories.put(attributeValue, factory);
+            }
+            return factory.createHandler(atts, history);
+        }
+    }
+
     /** The current handlers. */
     private Stack currentHandlers;
 
@@ -101,14 +345,49 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
     /** Maps classes to handlers. */
     private SimpleObjectFactory classToHandlerMapping;
 
+    /**
+     * The resolved handler factories, keyed by the class to read. The cache
+     * is cleared when a mapping is added.
+     */
+    private HashMap handlerFactories;
+
     private boolean rootHandlerInitialized;
 
+    /** The callback for completed top-level objects (optional). */
+    private XmlObjectCallback objectCallback;
+
+    /** Whether a subclass overrides {@link #loadHandlerClass(String)}. */
+    private final boolean loadHandlerClassOverridden;
+
     /**
      * Creates a new root SAX handler.
      */
     public RootXmlReadHandler() {
         this.objectRegistry = new HashMap();
         this.classToHandlerMapping = new SimpleObjectFactory();
+        this.handlerFactories = new HashMap();
+        this.loadHandlerClassOverridden = isLoadHandlerClassOverridden();
+    }
+
+    /**
+     * Checks, whether the class of this handler overrides
+     * {@link #loadHandlerClass(String)}.
+     *
+     * @return true, if the method is overridden.
+     */
+    private boolean isLoadHandlerClassOverridden() {
+        Class c = getClass();
+        while (c != RootXmlReadHandler.class) {
+            try {
+                c.getDeclaredMethod("loadHandlerClass",
+                    new Class[] {String.class});
+                return true;
+            }
+            catch (NoSuchMethodException e) {
+                c = c.getSuperclass();
+            }
+        }
+        return false;
     }
 
     /**
@@ -189,6 +468,7 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
         }
         this.classToHandlerMapping.addManualMapping
             (new ManualMappingDefinition(classToRead, handler.getName(), null));
+        this.handlerFactories.clear();
     }
 
     /**
@@ -205,6 +485,7 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
         this.classToHandlerMapping.addMultiplexMapping(
             new MultiplexMappingDefinition(baseClass, typeAttr, mdef)
         );
+        this.handlerFactories.clear();
     }
 
     /**
@@ -234,7 +515,11 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
     }
 
     /**
-     * Creates a SAX handler for the specified class.
+     * Creates a SAX handler for the specified class. The mappings are
+     * searched only once per class (and type attribute value, for
+     * multiplexed classes); the result is cached, so that later calls only
+     * create the handler. The mappings of the object factory returned by
+     * {@link #getFactoryLoader()} must not change while this handler is used.
      *
      * @param classToRead  the class.
      * @param tagName  the tag name.
@@ -247,7 +532,8 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
     public XmlReadHandler createHandler(final Class classToRead, final String tagName, final Attributes atts)
         throws XmlReaderException {
 
-        final XmlReadHandler retval = findHandlerForClass(classToRead, atts, new ArrayList());
+        final XmlReadHandler retval =
+            getHandlerFactory(classToRead).createHandler(atts, null);
         if (retval == null) {
             throw new NullPointerException("Unable to find handler for class: " + classToRead);
         }
@@ -256,25 +542,38 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
     }
 
     /**
-     * Finds a handler for the specified class.
+     * Returns the handler factory for the specified class, resolving the
+     * mappings on the first request.
+     *
+     * @param classToRead  the class to be read.
+     *
+     * @return The handler factory (never null).
+     *
+     * @throws XmlReaderException if there is a problem with the reader.
+     */
+    private HandlerFactory getHandlerFactory(final Class classToRead)
+        throws XmlReaderException {
+        HandlerFactory factory = (HandlerFactory) this.handlerFactories.get(classToRead);
+        if (factory == null) {
+            factory = resolveHandlerFactory(classToRead);
+            this.handlerFactories.put(classToRead, factory);
+        }
+        return factory;
+    }
+
+    /**
+     * Searches the mappings for the specified class.
      *
      * @param classToRead  the class to be read.
-     * @param atts  the attributes.
-     * @param history  the history.
      *
-     * @return A handler for the specified class.
+     * @return A handler factory for the specified class (never null).
      *
      * @throws XmlReaderException if there is a problem with the reader.
      */
-    private XmlReadHandler findHandlerForClass(final Class classToRead, final Attributes atts,
-                                               final ArrayList history)
+    private HandlerFactory resolveHandlerFactory(final Class classToRead)
         throws XmlReaderException {
         final ObjectFactory genericFactory = getFactoryLoader();
 
-        if (history.contains(classToRead)) {
-            throw new IllegalStateException("Circular reference detected: " + history);
-        }
-        history.add(classToRead);
         // check the manual mappings ...
         ManualMappingDefinition manualDefinition =
             this.classToHandlerMapping.getManualMappingDefinition(classToRead);
@@ -282,50 +581,39 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
             manualDefinition = genericFactory.getManualMappingDefinition(classToRead);
         }
         if (manualDefinition != null) {
-            // Log.debug ("Locating handler for " + manualDefinition.getBaseClass());
-            return loadHandlerClass(manualDefinition.getReadHandler());
+            return new ConstructorHandlerFactory(manualDefinition.getReadHandler());
         }
 
         // check whether a multiplexer is defined ...
-        // find multiplexer for this class...
         MultiplexMappingDefinition mplex =
-            getFactoryLoader().getMultiplexDefinition(classToRead);
+            genericFactory.getMultiplexDefinition(classToRead);
         if (mplex == null) {
             mplex = this.classToHandlerMapping.getMultiplexDefinition(classToRead);
         }
         if (mplex != null) {
-            final String attributeValue = atts.getValue(mplex.getAttributeName());
-            if (attributeValue == null) {
-                throw new XmlReaderException(
-                    "Multiplexer type attribute is not defined: " + mplex.getAttributeName()
-                    + " for " + classToRead
-                );
-            }
-            final MultiplexMappingEntry entry =
-                mplex.getEntryForType(attributeValue);
-            if (entry == null) {
-                throw new XmlReaderException(
-                    "Invalid type attribute value: " + mplex.getAttributeName() + " = "
-                    + attributeValue
-                );
-            }
-            final Class c = loadClass(entry.getTargetClass());
-            if (!c.equals(mplex.getBaseClass())) {
-                return findHandlerForClass(c, atts, history);
-            }
+            return new MultiplexHandlerFactory
+                (classToRead, mplex, resolveGenericHandlerFactory(classToRead));
         }
+        return resolveGenericHandlerFactory(classToRead);
+    }
 
-        // check for generic classes ...
-        // and finally try the generic handler matches ...
+    /**
+     * Searches the generic mappings for the specified class.
+     *
+     * @param classToRead  the class to be read.
+     *
+     * @return A handler factory for the specified class (never null).
+     */
+    private HandlerFactory resolveGenericHandlerFactory(final Class classToRead) {
         if (this.classToHandlerMapping.isGenericHandler(classToRead)) {
-            return new GenericReadHandler
+            return new GenericHandlerFactory
                 (this.classToHandlerMapping.getFactoryForClass(classToRead));
         }
         if (getFactoryLoader().isGenericHandler(classToRead)) {
-            return new GenericReadHandler
+            return new GenericHandlerFactory
                 (getFactoryLoader().getFactoryForClass(classToRead));
         }
-        return null;
+        return new NullHandlerFactory();
     }
 
     /**
@@ -347,6 +635,31 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
         return this.rootHandler;
     }
 
+    /**
+     * Returns the callback that receives the completed top-level objects.
+     *
+     * @return the callback or null, if no callback is set.
+     */
+    public XmlObjectCallback getObjectCallback() {
+        return this.objectCallback;
+    }
+
+    /**
+     * Defines the callback that receives the completed top-level objects.
+     * A top-level object is the object read from a direct child element
+     * of the document element; the callback is invoked as soon as the
+     * child element is closed.
+     * <p>
+     * To process large documents with bounded memory, the root handler
+     * should not keep the handlers of its child elements (see
+     * {@link ObjectStreamReadHandler}).
+     *
+     * @param objectCallback  the callback (<code>null</code> permitted).
+     */
+    public void setObjectCallback(final XmlObjectCallback objectCallback) {
+        this.objectCallback = objectCallback;
+    }
+
     /**
      * Start a new handler stack and delegate to another handler.
      *
@@ -394,11 +707,16 @@ public abstract class RootXmlReadHandler extends FrontendDefaultHandler {
      */
     public void unwind(final String tagName) throws SAXException, XmlReaderException {
       // remove current handler from stack ..
-        this.currentHandlers.pop();
+        final XmlReadHandler handler = (XmlReadHandler) this.currentHandlers.pop();
         if (this.currentHandlers.isEmpty() && !this.outerScopes.isEmpty()) {
             // if empty, but "recurse" had been called, then restore the old handler stack ..
             // but do not end the recursed element ..
             this.currentHandlers = (Stack) this.outerScopes.pop();
+            if (this.outerScopes.isEmpty() && this.objectCallback != null) {
+                // back on the document level, so this was a top-level object
+                this.objectCallback.objectCompleted(tagName, handler.getObject());
+                getCommentHandler().clearComments();
+            }
         }
         else if (!this.currentHandlers.isEmpty()) {
             // if there are some handlers open, close them too (these handlers must be delegates)..
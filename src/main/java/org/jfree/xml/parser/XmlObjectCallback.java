@@ -0,0 +1,63 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * XmlObjectCallback.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.parser;
+
+/**
+ * Receives the top-level objects of a document while the document is
+ * parsed. A top-level object is the object read from a direct child
+ * element of the document element.
+ *
+ * @see RootXmlReadHandler#setObjectCallback(XmlObjectCallback)
+ */
+public interface XmlObjectCallback {
+
+    /**
+     * Called as soon as the element of a top-level object has been closed.
+     *
+     * @param tagName  the tag name of the element.
+     * @param object  the object read from the element (may be null).
+     *
+     * @throws XmlReaderException to abort the parsing.
+     */
+    public void objectCompleted(String tagName, Object object)
+        throws XmlReaderException;
+
+}
@@ -37,6 +37,8 @@
  * Changes
  * -------
  * 23-Sep-2003 : Initial version (TM);
+ * 16-Oct-2026 : Bind the constructor and the property accessors once and
+ *               share them between all copies of a factory;
  *
  */
 
@@ -46,9 +48,12 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The generic object factory contains all methods necessary to collect
@@ -56,6 +61,26 @@ import java.util.HashMap;
  */
 public final class GenericObjectFactory {
 
+    /**
+     * The accessors bound for the base class. They are created when first
+     * needed and are shared by all copies of the factory.
+     */
+    private static final class BoundAccessors {
+
+        /** The bound constructor, spreading an object array. */
+        private volatile MethodHandle constructor;
+
+        /** The property accessors, keyed by property name. */
+        private final ConcurrentHashMap properties;
+
+        /**
+         * Creates a new, empty set of accessors.
+         */
+        private BoundAccessors() {
+            this.properties = new ConcurrentHashMap();
+        }
+    }
+
     /** Storage for the constructor definitions. */
     private final ConstructorDefinition[] constructorDefinitions;
     
@@ -83,6 +108,9 @@ public final class GenericObjectFactory {
     /** The register name. */
     private final String registerName;
 
+    /** The bound constructor and property accessors. */
+    private final BoundAccessors accessors;
+
     /**
      * Creates a new generic object factory.
      * 
@@ -114,6 +142,7 @@ public final class GenericObjectFactory {
 
         this.propertyInfos = new HashMap();
         this.propertyValues = new HashMap();
+        this.accessors = new BoundAccessors();
 
         this.constructorDefinitions = constructors;
         this.propertyDefinitions = propertyDefinitions;
@@ -150,6 +179,7 @@ public final class GenericObjectFactory {
         this.propertyInfos = factory.propertyInfos;
         this.registerName = factory.registerName;
         this.lookupDefinitions = factory.lookupDefinitions;
+        this.accessors = factory.accessors;
     }
 
     /**
@@ -181,6 +211,52 @@ public final class GenericObjectFactory {
         return (PropertyDescriptor) this.propertyInfos.get(propertyName);
     }
 
+    /**
+     * Returns the bound accessor for a property, creating it if necessary.
+     * 
+     * @param propertyName  the property name.
+     * 
+     * @return the accessor or null, if there is no such property.
+     */
+    private PropertyAccessor getPropertyAccessor(final String propertyName) {
+        PropertyAccessor accessor = 
+            (PropertyAccessor) this.accessors.properties.get(propertyName);
+        if (accessor == null) {
+            final PropertyDescriptor pdescr = getPropertyDescriptor(propertyName);
+            if (pdescr == null) {
+                return null;
+            }
+            accessor = new PropertyAccessor(pdescr);
+            this.accessors.properties.put(propertyName, accessor);
+        }
+        return accessor;
+    }
+
+    /**
+     * Returns the bound constructor, looking it up if necessary. The handle
+     * takes the constructor arguments as an object array and returns the
+     * new object.
+     * 
+     * @return the constructor handle.
+     * 
+     * @throws Exception if the constructor cannot be found or accessed.
+     */
+    private MethodHandle getConstructor() throws Exception {
+        MethodHandle constructor = this.accessors.constructor;
+        if (constructor == null) {
+            final Class[] cArgs = new Class[this.constructorDefinitions.length];
+            for (int i = 0; i < cArgs.length; i++) {
+                cArgs[i] = this.constructorDefinitions[i].getType();
+            }
+            final Constructor constr = this.baseClass.getConstructor(cArgs);
+            constructor = MethodHandles.publicLookup().unreflectConstructor(constr)
+                .asSpreader(Object[].class, cArgs.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+            this.accessors.constructor = constructor;
+        }
+        return constructor;
+    }
+
     /**
      * Returns the class for a tag name.
      * 
@@ -324,11 +400,9 @@ public final class GenericObjectFactory {
      * @throws ObjectDescriptionException if there is a problem with the object description.
      */
     public Object createObject() throws ObjectDescriptionException {
-        final Class[] cArgs = new Class[this.constructorDefinitions.length];
         final Object[] oArgs = new Object[this.constructorDefinitions.length];
-        for (int i = 0; i < cArgs.length; i++) {
+        for (int i = 0; i < oArgs.length; i++) {
             final ConstructorDefinition cDef = this.constructorDefinitions[i];
-            cArgs[i] = cDef.getType();
             if (cDef.isNull()) {
                 oArgs[i] = null;
             }
@@ -338,13 +412,18 @@ public final class GenericObjectFactory {
         }
 
         try {
-            final Constructor constr = this.baseClass.getConstructor(cArgs);
-            final Object o = constr.newInstance(oArgs);
+            final Object o = (Object) getConstructor().invokeExact(oArgs);
             return o;
         }
         catch (Exception e) {
             throw new ObjectDescriptionException("Ugh! Constructor made a buuuh!", e);
         }
+        catch (Throwable t) {
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new ObjectDescriptionException("Ugh! Constructor made a buuuh!");
+        }
     }
 
     /**
@@ -424,9 +503,8 @@ public final class GenericObjectFactory {
                     // do nothing if value is not defined ...
                     continue;
                 }
-                final PropertyDescriptor pdescr = getPropertyDescriptor(name);
-                final Method setter = pdescr.getWriteMethod();
-                setter.invoke(object, new Object[]{value});
+                final PropertyAccessor accessor = getPropertyAccessor(name);
+                accessor.setValue(object, value);
             }
             catch (Exception e) {
                 throw new ObjectDescriptionException(
@@ -448,12 +526,11 @@ public final class GenericObjectFactory {
         for (int i = 0; i < this.orderedPropertyNames.length; i++) {
             try {
                 final String name = this.orderedPropertyNames[i];
-                final PropertyDescriptor pdescr = getPropertyDescriptor(name);
-                if (pdescr == null) {
+                final PropertyAccessor accessor = getPropertyAccessor(name);
+                if (accessor == null) {
                     throw new IllegalStateException("No property defined: " + name);
                 }
-                final Method setter = pdescr.getReadMethod();
-                final Object value = setter.invoke(object, new Object[0]);
+                final Object value = accessor.getValue(object);
                 if (value == null) {
                     // do nothing if value is not defined ... or null
                     continue;
@@ -0,0 +1,323 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * PropertyAccessor.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.util;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Reads and writes a bean property through accessors that are bound once,
+ * when the instance is created. Where possible the read and write methods
+ * are bound into lambdas (using the <code>LambdaMetafactory</code>), so that
+ * each call is a plain interface call instead of a reflective invocation.
+ * Methods that cannot be bound this way (for instance because they are
+ * declared in a non-public class or the bean class is not visible from this
+ * class loader) are invoked through reflection.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class PropertyAccessor {
+
+    /** The lookup used to bind the accessors. */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** The property descriptor. */
+    private final PropertyDescriptor descriptor;
+
+    /** The read method (possibly <code>null</code>). */
+    private final Method readMethod;
+
+    /** The write method (possibly <code>null</code>). */
+    private final Method writeMethod;
+
+    /** The bound read method (<code>null</code> if not bound). */
+    private final Function getter;
+
+    /** The bound write method (<code>null</code> if not bound). */
+    private final BiConsumer setter;
+
+    /**
+     * Creates a new accessor for the specified property.
+     *
+     * @param descriptor  the property descriptor (<code>null</code> not
+     *                    permitted).
+     */
+    public PropertyAccessor(final PropertyDescriptor descriptor) {
+        if (descriptor == null) {
+            throw new NullPointerException("Descriptor must not be null.");
+        }
+        this.descriptor = descriptor;
+        this.readMethod = descriptor.getReadMethod();
+        this.writeMethod = descriptor.getWriteMethod();
+        this.getter = bindGetter(this.readMethod);
+        this.setter = bindSetter(this.writeMethod);
+    }
+
+    /**
+     * Returns the property descriptor.
+     *
+     * @return the property descriptor.
+     */
+    public PropertyDescriptor getPropertyDescriptor() {
+        return this.descriptor;
+    }
+
+    /**
+     * Returns true, if the property can be read.
+     *
+     * @return true, if there is a read method.
+     */
+    public boolean isReadable() {
+        return this.readMethod != null;
+    }
+
+    /**
+     * Returns true, if the property can be written.
+     *
+     * @return true, if there is a write method.
+     */
+    public boolean isWritable() {
+        return this.writeMethod != null;
+    }
+
+    /**
+     * Returns true, if both accessor methods (if present) are bound into
+     * lambdas.
+     *
+     * @return true, if no reflection is used by this accessor.
+     */
+    public boolean isBound() {
+        return (this.readMethod == null || this.getter != null)
+            && (this.writeMethod == null || this.setter != null);
+    }
+
+    /**
+     * Reads the property value from the given bean.
+     *
+     * @param bean  the bean.
+     *
+     * @return the property value.
+     *
+     * @throws IllegalAccessException if the read method is not accessible.
+     * @throws InvocationTargetException if the read method failed.
+     */
+    public Object getValue(final Object bean)
+        throws IllegalAccessException, InvocationTargetException {
+        if (this.getter != null) {
+            try {
+                return this.getter.apply(bean);
+            }
+            catch (Exception e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+        if (this.readMethod == null) {
+            throw new IllegalAccessException
+                ("Property is not readable: " + this.descriptor.getName());
+        }
+        return this.readMethod.invoke(bean, (Object[]) null);
+    }
+
+    /**
+     * Writes the property value into the given bean.
+     *
+     * @param bean  the bean.
+     * @param value  the new value.
+     *
+     * @throws IllegalAccessException if the write method is not accessible.
+     * @throws InvocationTargetException if the write method failed.
+     */
+    public void setValue(final Object bean, final Object value)
+        throws IllegalAccessException, InvocationTargetException {
+        if (this.setter != null) {
+            try {
+                this.setter.accept(bean, value);
+                return;
+            }
+            catch (Exception e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+        if (this.writeMethod == null) {
+            throw new IllegalAccessException
+                ("Property is not writable: " + this.descriptor.getName());
+        }
+        this.writeMethod.invoke(bean, new Object[]{value});
+    }
+
+    /**
+     * Binds a read method into a <code>Function</code>.
+     *
+     * @param method  the read method (<code>null</code> permitted).
+     *
+     * @return the bound function or null, if the method cannot be bound.
+     */
+    private static Function bindGetter(final Method method) {
+        if (!isBindable(method)) {
+            return null;
+        }
+        try {
+            final MethodHandle handle = LOOKUP.unreflect(method);
+            final CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+                "apply", MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class), handle,
+                MethodType.methodType(wrap(method.getReturnType()),
+                    method.getDeclaringClass()));
+            return (Function) site.getTarget().invoke();
+        }
+        catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Binds a write method into a <code>BiConsumer</code>.
+     *
+     * @param method  the write method (<code>null</code> permitted).
+     *
+     * @return the bound consumer or null, if the method cannot be bound.
+     */
+    private static BiConsumer bindSetter(final Method method) {
+        if (!isBindable(method)) {
+            return null;
+        }
+        try {
+            final MethodHandle handle = LOOKUP.unreflect(method);
+            final CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+                "accept", MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(Void.TYPE, Object.class, Object.class),
+                handle, MethodType.methodType(Void.TYPE,
+                    method.getDeclaringClass(),
+                    wrap(method.getParameterTypes()[0])));
+            return (BiConsumer) site.getTarget().invoke();
+        }
+        catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks, whether the given method can be bound into a lambda. The
+     * generated lambda classes are defined in this class' class loader, so
+     * all types used by the method must be visible from there.
+     *
+     * @param method  the method (<code>null</code> permitted).
+     *
+     * @return true, if the method can be bound.
+     */
+    private static boolean isBindable(final Method method) {
+        if (method == null) {
+            return false;
+        }
+        final int mods = method.getModifiers();
+        if (!Modifier.isPublic(mods) || Modifier.isStatic(mods)) {
+            return false;
+        }
+        final Class declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+        if (!isVisible(declaringClass)
+            || !isVisible(method.getReturnType())) {
+            return false;
+        }
+        final Class[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!isVisible(parameterTypes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks, whether the given class is visible from this class' class
+     * loader.
+     *
+     * @param c  the class.
+     *
+     * @return true, if the class is visible.
+     */
+    private static boolean isVisible(Class c) {
+        while (c.isArray()) {
+            c = c.getComponentType();
+        }
+        if (c.isPrimitive()) {
+            return true;
+        }
+        final ClassLoader loader = c.getClassLoader();
+        if (loader == null) {
+            return true;
+        }
+        try {
+            return Class.forName(c.getName(), false,
+                PropertyAccessor.class.getClassLoader()) == c;
+        }
+        catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the wrapper class for primitive types. Other types are
+     * returned unchanged.
+     *
+     * @param c  the class.
+     *
+     * @return the wrapper class.
+     */
+    private static Class wrap(final Class c) {
+        if (!c.isPrimitive()) {
+            return c;
+        }
+        return MethodType.methodType(c).wrap().returnType();
+    }
+
+}
@@ -38,6 +38,8 @@
  * -------
  * 25-Sep-2003 : Initial version (TM);
  * 26-Nov-2003 : Javadoc updates (DG);
+ * 17-Oct-2026 : Added indexed access and clear(), moved the implementation
+ *               into unsynchronized methods for UnsynchronizedAttributeList;
  *
  */
 
@@ -218,6 +220,16 @@ public class AttributeList {
      * @param value the value of the attribute.
      */
     public synchronized void setAttribute(final String name, final String value) {
+        putAttribute(name, value);
+    }
+
+    /**
+     * Defines an attribute without synchronizing on this list.
+     * 
+     * @param name the name of the attribute to be defined
+     * @param value the value of the attribute.
+     */
+    void putAttribute(final String name, final String value) {
         final AttributeEntry entry = new AttributeEntry(name, value);
         final int pos = this.entryList.indexOf(entry);
         if (pos != -1) {
@@ -247,6 +259,19 @@ public class AttributeList {
      * @return the attribute value or the defaultValue.
      */
     public synchronized String getAttribute(final String name, final String defaultValue) {
+        return findAttribute(name, defaultValue);
+    }
+
+    /**
+     * Returns the attribute value for the given attribute name or the given
+     * defaultvalue without synchronizing on this list.
+     *
+     * @param name the name of the attribute.
+     * @param defaultValue  the default value.
+     * 
+     * @return the attribute value or the defaultValue.
+     */
+    String findAttribute(final String name, final String defaultValue) {
         for (int i = 0; i < this.entryList.size(); i++) {
             final AttributeEntry ae = (AttributeEntry) this.entryList.get(i);
             if (ae.getName().equals(name)) {
@@ -262,6 +287,16 @@ public class AttributeList {
      * @param name the name of the attribute which should be removed..
      */
     public synchronized void removeAttribute(final String name) {
+        deleteAttribute(name);
+    }
+
+    /**
+     * Removes the attribute with the given name without synchronizing on 
+     * this list.
+     *
+     * @param name the name of the attribute which should be removed..
+     */
+    void deleteAttribute(final String name) {
         for (int i = 0; i < this.entryList.size(); i++) {
             final AttributeEntry ae = (AttributeEntry) this.entryList.get(i);
             if (ae.getName().equals(name)) {
@@ -270,4 +305,51 @@ public class AttributeList {
             }
         }
     }
+
+    /**
+     * Removes all attributes, so that the list can be reused.
+     */
+    public synchronized void clear() {
+        clearAttributes();
+    }
+
+    /**
+     * Removes all attributes without synchronizing on this list.
+     */
+    void clearAttributes() {
+        this.entryList.clear();
+    }
+
+    /**
+     * Returns the number of attributes in this list. Together with
+     * {@link #getName(int)} and {@link #getValue(int)}, this allows the
+     * writer to read the attributes without creating an iterator.
+     *
+     * @return the number of attributes.
+     */
+    int getLength() {
+        return this.entryList.size();
+    }
+
+    /**
+     * Returns the name of the attribute at the given position.
+     *
+     * @param index  the position.
+     *
+     * @return the attribute name.
+     */
+    String getName(final int index) {
+        return ((AttributeEntry) this.entryList.get(index)).getName();
+    }
+
+    /**
+     * Returns the value of the attribute at the given position.
+     *
+     * @param index  the position.
+     *
+     * @return the attribute value.
+     */
+    String getValue(final int index) {
+        return ((AttributeEntry) this.entryList.get(index)).getValue();
+    }
 }
@@ -0,0 +1,106 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------------
+ * UnsynchronizedAttributeList.java
+ * --------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.writer;
+
+/**
+ * An attribute list that does not synchronize its methods. Use this list
+ * when it is filled and written by a single thread, which is the normal
+ * case for write handlers.
+ */
+public class UnsynchronizedAttributeList extends AttributeList {
+
+    /**
+     * Creates an empty attribute list.
+     */
+    public UnsynchronizedAttributeList() {
+    }
+
+    /**
+     * Defines an attribute.
+     * 
+     * @param name the name of the attribute to be defined
+     * @param value the value of the attribute.
+     */
+    public void setAttribute(final String name, final String value) {
+        putAttribute(name, value);
+    }
+
+    /**
+     * Returns the attribute value for the given attribute name or null,
+     * if the attribute is not defined in this list.
+     *
+     * @param name the name of the attribute
+     * @return the attribute value or null.
+     */
+    public String getAttribute(final String name) {
+        return findAttribute(name, null);
+    }
+
+    /**
+     * Returns the attribute value for the given attribute name or the given
+     * defaultvalue, if the attribute is not defined in this list.
+     *
+     * @param name the name of the attribute.
+     * @param defaultValue  the default value.
+     * 
+     * @return the attribute value or the defaultValue.
+     */
+    public String getAttribute(final String name, final String defaultValue) {
+        return findAttribute(name, defaultValue);
+    }
+
+    /**
+     * Removes the attribute with the given name from the list.
+     *
+     * @param name the name of the attribute which should be removed..
+     */
+    public void removeAttribute(final String name) {
+        deleteAttribute(name);
+    }
+
+    /**
+     * Removes all attributes, so that the list can be reused.
+     */
+    public void clear() {
+        clearAttributes();
+    }
+
+}
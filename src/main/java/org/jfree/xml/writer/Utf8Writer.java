@@ -0,0 +1,260 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------
+ * Utf8Writer.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * A buffered writer that encodes characters as UTF-8 without going through
+ * a charset encoder. ASCII characters, which make up most of a typical XML
+ * document, are copied with a single comparison each. Unpaired surrogates
+ * are written as '?'.
+ * <p>
+ * This writer is not synchronized.
+ */
+class Utf8Writer extends Writer {
+
+    /** The size of the byte buffer. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The underlying byte stream. */
+    private final OutputStream out;
+
+    /** The byte buffer. */
+    private final byte[] buffer;
+
+    /** The number of bytes in the buffer. */
+    private int count;
+
+    /** A high surrogate waiting for its low surrogate, or 0. */
+    private char highSurrogate;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param out  the byte stream (<code>null</code> not permitted).
+     */
+    Utf8Writer(final OutputStream out) {
+        if (out == null) {
+            throw new NullPointerException("Stream must not be null.");
+        }
+        this.out = out;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Writes a single character.
+     *
+     * @param c  the character.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void write(final int c) throws IOException {
+        if (this.count + 4 > BUFFER_SIZE) {
+            flushBuffer();
+        }
+        encode((char) c);
+    }
+
+    /**
+     * Writes a part of a character array.
+     *
+     * @param cbuf  the characters.
+     * @param off  the index of the first character.
+     * @param len  the number of characters.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void write(final char[] cbuf, final int off, final int len) 
+            throws IOException {
+        final int end = off + len;
+        int i = off;
+        while (i < end) {
+            // make sure that the next character always fits
+            if (this.count + 4 > BUFFER_SIZE) {
+                flushBuffer();
+            }
+            // copy a run of ASCII characters
+            final int limit = Math.min(end, i + (BUFFER_SIZE - 4 - this.count));
+            while (i < limit && this.highSurrogate == 0) {
+                final char c = cbuf[i];
+                if (c >= 0x80) {
+                    break;
+                }
+                this.buffer[this.count] = (byte) c;
+                this.count += 1;
+                i += 1;
+            }
+            if (i < end && this.count + 4 <= BUFFER_SIZE) {
+                encode(cbuf[i]);
+                i += 1;
+            }
+        }
+    }
+
+    /**
+     * Writes a part of a string.
+     *
+     * @param str  the string.
+     * @param off  the index of the first character.
+     * @param len  the number of characters.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void write(final String str, final int off, final int len) 
+            throws IOException {
+        final int end = off + len;
+        int i = off;
+        while (i < end) {
+            if (this.count + 4 > BUFFER_SIZE) {
+                flushBuffer();
+            }
+            final int limit = Math.min(end, i + (BUFFER_SIZE - 4 - this.count));
+            while (i < limit && this.highSurrogate == 0) {
+                final char c = str.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                this.buffer[this.count] = (byte) c;
+                this.count += 1;
+                i += 1;
+            }
+            if (i < end && this.count + 4 <= BUFFER_SIZE) {
+                encode(str.charAt(i));
+                i += 1;
+            }
+        }
+    }
+
+    /**
+     * Encodes a character into the buffer. The buffer must have room for at
+     * least four bytes.
+     *
+     * @param c  the character.
+     */
+    private void encode(final char c) {
+        if (this.highSurrogate != 0) {
+            final char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int cp = Character.toCodePoint(high, c);
+                put((byte) (0xf0 | (cp >> 18)));
+                put((byte) (0x80 | ((cp >> 12) & 0x3f)));
+                put((byte) (0x80 | ((cp >> 6) & 0x3f)));
+                put((byte) (0x80 | (cp & 0x3f)));
+                return;
+            }
+            // the high surrogate was unpaired
+            put((byte) '?');
+        }
+        if (c < 0x80) {
+            put((byte) c);
+        }
+        else if (c < 0x800) {
+            put((byte) (0xc0 | (c >> 6)));
+            put((byte) (0x80 | (c & 0x3f)));
+        }
+        else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        }
+        else if (Character.isLowSurrogate(c)) {
+            put((byte) '?');
+        }
+        else {
+            put((byte) (0xe0 | (c >> 12)));
+            put((byte) (0x80 | ((c >> 6) & 0x3f)));
+            put((byte) (0x80 | (c & 0x3f)));
+        }
+    }
+
+    /**
+     * Adds a byte to the buffer.
+     *
+     * @param b  the byte.
+     */
+    private void put(final byte b) {
+        this.buffer[this.count] = b;
+        this.count += 1;
+    }
+
+    /**
+     * Writes the buffered bytes to the byte stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void flushBuffer() throws IOException {
+        if (this.count > 0) {
+            this.out.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+
+    /**
+     * Writes the buffered bytes and flushes the byte stream. A pending high
+     * surrogate is kept until the next character is written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        this.out.flush();
+    }
+
+    /**
+     * Writes the buffered bytes and closes the byte stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+            if (this.count + 1 > BUFFER_SIZE) {
+                flushBuffer();
+            }
+            put((byte) '?');
+        }
+        flushBuffer();
+        this.out.close();
+    }
+
+}
@@ -37,12 +37,15 @@
  * Changes (from 26-Nov-2003)
  * --------------------------
  * 26-Nov-2003 : Added standard header and Javadocs (DG);
+ * 17-Oct-2026 : Added UTF-8 output to byte streams, writeNormalizedText()
+ *               and flush();
  *
  */
 
 package org.jfree.xml.writer;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.util.Properties;
 
@@ -66,6 +69,31 @@ public class XMLWriter extends XMLWriterSupport {
         this(writer, "    ");
     }
 
+    /**
+     * Creates a new XML writer that writes UTF-8 encoded characters to the 
+     * specified byte stream. The output is buffered, call {@link #flush()} 
+     * or {@link #close()} when the document is complete. By default, four 
+     * spaces are used for indentation.
+     *
+     * @param out  the byte stream.
+     */
+    public XMLWriter(final OutputStream out) {
+        this(out, "    ");
+    }
+
+    /**
+     * Creates a new XML writer that writes UTF-8 encoded characters to the 
+     * specified byte stream. The output is buffered, call {@link #flush()} 
+     * or {@link #close()} when the document is complete.
+     *
+     * @param out  the byte stream.
+     * @param indentString the string used for indentation (should contain 
+     *                     white space, for example four spaces).
+     */
+    public XMLWriter(final OutputStream out, final String indentString) {
+        this(new Utf8Writer(out), indentString);
+    }
+
     /**
      * Creates a new XML writer for the specified character stream.
      *
@@ -105,7 +133,7 @@ public class XMLWriter extends XMLWriterSupport {
     public void writeTag(final String name, final boolean close) 
             throws IOException {
         if (close) {
-            writeTag(this.writer, name, new AttributeList(), close);
+            writeTag(this.writer, name, null, null, close);
         }
         else {
             writeTag(this.writer, name);
@@ -175,6 +203,27 @@ public class XMLWriter extends XMLWriterSupport {
         this.writer.write(text);
     }
 
+    /**
+     * Writes some text to the character stream, replacing the characters 
+     * that would corrupt the XML text with their escape sequences.
+     *
+     * @param text the text.
+     * @throws IOException if there is a problem writing to the character 
+     *                     stream.
+     */
+    public void writeNormalizedText(final String text) throws IOException {
+        writeNormalized(this.writer, text);
+    }
+
+    /**
+     * Flushes the underlying character stream.
+     * 
+     * @throws IOException if there is a problem flushing the character stream.
+     */
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
     /**
      * Closes the underlying character stream.
      * 
@@ -38,6 +38,10 @@
  * -------
  * 21-Jun-2003 : Initial version (TM);
  * 26-Nov-2003 : Updated Javadocs (DG);
+ * 17-Oct-2026 : Assemble tags in a reusable buffer and escape text with a
+ *               lookup table, leaving clean strings unchanged;
+ * 17-Oct-2026 : Read the attributes of AttributeList subclasses through
+ *               their public methods;
  *
  */
 
@@ -71,6 +75,22 @@ public class XMLWriterSupport {
     /** A constant for open. */
     public static final boolean OPEN = false;
 
+    /** The size of the buffer used to assemble tags. */
+    private static final int BUFFER_SIZE = 4096;
+
+    /** 
+     * The escape sequences for the characters below 64, or null if the 
+     * character is written unchanged. Line feeds are handled separately.
+     */
+    private static final char[][] ESCAPES = new char[64][];
+
+    static {
+        ESCAPES['<'] = "&lt;".toCharArray();
+        ESCAPES['>'] = "&gt;".toCharArray();
+        ESCAPES['&'] = "&amp;".toCharArray();
+        ESCAPES['"'] = "&quot;".toCharArray();
+    }
+
     /** The line separator. */
     private static String lineSeparator;
 
@@ -89,6 +109,15 @@ public class XMLWriterSupport {
      */
     private boolean newLineOk;
 
+    /** The buffer used to assemble tags (created when first needed). */
+    private char[] buffer;
+
+    /** The number of characters in the buffer. */
+    private int bufferLength;
+
+    /** The indent string, repeated for the highest indent level so far. */
+    private char[] indentChars;
+
     /**
      * Default Constructor. The created XMLWriterSupport will not have no safe 
      * tags and starts with an indention level of 0.  
@@ -185,12 +214,13 @@ public class XMLWriterSupport {
         }
         indent(w, OPEN_TAG_INCREASE);
 
-        w.write("<");
-        w.write(name);
-        w.write(">");
+        append(w, '<');
+        append(w, name);
+        append(w, '>');
         if (getSafeTags().isSafeForOpen(name)) {
-            w.write(getLineSeparator());
+            append(w, getLineSeparator());
         }
+        flushBuffer(w);
     }
 
     /**
@@ -213,12 +243,14 @@ public class XMLWriterSupport {
         else {
             decreaseIndent();
         }
-        w.write("</");
-        w.write(tag);
-        w.write(">");
+        append(w, '<');
+        append(w, '/');
+        append(w, tag);
+        append(w, '>');
         if (getSafeTags().isSafeForClose(tag)) {
-            w.write(getLineSeparator());
+            append(w, getLineSeparator());
         }
+        flushBuffer(w);
         this.newLineOk = false;
     }
 
@@ -236,11 +268,15 @@ public class XMLWriterSupport {
     public void writeTag(final Writer w, final String name, 
             final String attributeName, final String attributeValue,
             final boolean close) throws IOException {
-        final AttributeList attr = new AttributeList();
+        if (attributeName != null && attributeValue == null) {
+            throw new NullPointerException("Value must not be null. [" 
+                                           + attributeName + ", null]");
+        }
+        startTag(w, name);
         if (attributeName != null) {
-            attr.setAttribute(attributeName, attributeValue);
+            appendAttribute(w, attributeName, attributeValue);
         }
-        writeTag(w, name, attr, close);
+        endTag(w, name, close);
     }
 
     /**
@@ -257,7 +293,7 @@ public class XMLWriterSupport {
     public void writeTag(final Writer w, final String name, 
             final Properties attributes, final boolean close)
             throws IOException {
-        final AttributeList attList = new AttributeList();
+        final AttributeList attList = new UnsynchronizedAttributeList();
         final Enumeration keys = attributes.keys();
         while (keys.hasMoreElements()) {
             final String key = (String) keys.nextElement();
@@ -279,38 +315,298 @@ public class XMLWriterSupport {
     public void writeTag(final Writer w, final String name, 
             final AttributeList attributes, final boolean close)
             throws IOException {
+        startTag(w, name);
+        final Class type = attributes.getClass();
+        if (type == UnsynchronizedAttributeList.class) {
+            appendAttributes(w, attributes);
+        }
+        else if (type == AttributeList.class) {
+            synchronized (attributes) {
+                appendAttributes(w, attributes);
+            }
+        }
+        else {
+            // other subclasses may override the public accessors
+            final Iterator keys = attributes.keys();
+            while (keys.hasNext()) {
+                final String key = (String) keys.next();
+                appendAttribute(w, key, attributes.getAttribute(key));
+            }
+        }
+        endTag(w, name, close);
+    }
 
+    /**
+     * Appends all attributes of a list to the tag in the buffer, reading
+     * the list directly.  The caller must hold the lock of a synchronized
+     * list.
+     *
+     * @param w  the writer.
+     * @param attributes  the attributes.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void appendAttributes(final Writer w,
+            final AttributeList attributes) throws IOException {
+        final int length = attributes.getLength();
+        for (int i = 0; i < length; i++) {
+            appendAttribute(w, attributes.getName(i), attributes.getValue(i));
+        }
+    }
+
+    /**
+     * Writes the line break and indention for an opening tag and starts 
+     * the tag in the buffer.
+     *
+     * @param w  the writer.
+     * @param name  the tag name.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void startTag(final Writer w, final String name) 
+            throws IOException {
         if (this.newLineOk) {
             w.write(getLineSeparator());
             this.newLineOk = false;
         }
         indent(w, OPEN_TAG_INCREASE);
 
-        w.write("<");
-        w.write(name);
-        final Iterator keys = attributes.keys();
-        while (keys.hasNext()) {
-            final String key = (String) keys.next();
-            final String value = attributes.getAttribute(key);
-            w.write(" ");
-            w.write(key);
-            w.write("=\"");
-            w.write(normalize(value));
-            w.write("\"");
-        }
+        append(w, '<');
+        append(w, name);
+    }
+
+    /**
+     * Appends an attribute to the tag in the buffer.
+     *
+     * @param w  the writer.
+     * @param name  the attribute name.
+     * @param value  the attribute value.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void appendAttribute(final Writer w, final String name, 
+            final String value) throws IOException {
+        append(w, ' ');
+        append(w, name);
+        append(w, '=');
+        append(w, '"');
+        appendNormalized(w, value);
+        append(w, '"');
+    }
+
+    /**
+     * Ends the tag in the buffer and writes the buffer.
+     *
+     * @param w  the writer.
+     * @param name  the tag name.
+     * @param close  controls whether the tag is closed.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void endTag(final Writer w, final String name, 
+            final boolean close) throws IOException {
         if (close) {
-            w.write("/>");
+            append(w, '/');
+            append(w, '>');
             if (getSafeTags().isSafeForClose(name)) {
-                w.write(getLineSeparator());
+                append(w, getLineSeparator());
             }
             decreaseIndent();
         }
         else {
-            w.write(">");
+            append(w, '>');
             if (getSafeTags().isSafeForOpen(name)) {
-                w.write(getLineSeparator());
+                append(w, getLineSeparator());
+            }
+        }
+        flushBuffer(w);
+    }
+
+    /**
+     * Writes a string in normalised form (see {@link #normalize(String)}).
+     * Strings that contain no characters that must be escaped are written 
+     * unchanged.
+     *
+     * @param w  the writer.
+     * @param s  the string (<code>null</code> permitted).
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    public void writeNormalized(final Writer w, final String s) 
+            throws IOException {
+        appendNormalized(w, s);
+        flushBuffer(w);
+    }
+
+    /**
+     * Appends a string in normalised form to the buffer.
+     *
+     * @param w  the writer that receives the buffer when it is full.
+     * @param s  the string (<code>null</code> permitted).
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void appendNormalized(final Writer w, final String s) 
+            throws IOException {
+        if (s == null) {
+            return;
+        }
+        final String lineSeparator = getLineSeparator();
+        final int first = indexOfEscape(s, lineSeparator);
+        if (first < 0) {
+            append(w, s);
+            return;
+        }
+        append(w, s, 0, first);
+        final int len = s.length();
+        char last = (first > 0) ? s.charAt(first - 1) : 0;
+        for (int i = first; i < len; i++) {
+            final char ch = s.charAt(i);
+            if (ch < ESCAPES.length) {
+                final char[] escape = ESCAPES[ch];
+                if (escape != null) {
+                    append(w, escape);
+                    last = ';';
+                    continue;
+                }
+                if (ch == '\n') {
+                    if (last == '\r') {
+                        append(w, '\n');
+                        last = '\n';
+                    }
+                    else if (lineSeparator.length() > 0) {
+                        append(w, lineSeparator);
+                        last = lineSeparator.charAt(lineSeparator.length() - 1);
+                    }
+                    continue;
+                }
+            }
+            append(w, ch);
+            last = ch;
+        }
+    }
+
+    /**
+     * Returns the position of the first character in the string that is 
+     * changed by {@link #normalize(String)}.
+     *
+     * @param s  the string.
+     * @param lineSeparator  the line separator.
+     *
+     * @return the position or -1, if the string is written unchanged.
+     */
+    private static int indexOfEscape(final String s, 
+            final String lineSeparator) {
+        // a line feed only changes if the line separator is not a line feed
+        final boolean escapeLineFeed = !"\n".equals(lineSeparator);
+        final int len = s.length();
+        for (int i = 0; i < len; i++) {
+            final char ch = s.charAt(i);
+            if (ch < ESCAPES.length) {
+                if (ESCAPES[ch] != null) {
+                    return i;
+                }
+                if (ch == '\n' && escapeLineFeed) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends a character to the buffer.
+     *
+     * @param w  the writer that receives the buffer when it is full.
+     * @param ch  the character.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void append(final Writer w, final char ch) throws IOException {
+        if (this.buffer == null) {
+            this.buffer = new char[BUFFER_SIZE];
+        }
+        else if (this.bufferLength == this.buffer.length) {
+            flushBuffer(w);
+        }
+        this.buffer[this.bufferLength] = ch;
+        this.bufferLength += 1;
+    }
+
+    /**
+     * Appends the characters of an array to the buffer.
+     *
+     * @param w  the writer that receives the buffer when it is full.
+     * @param chars  the characters.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void append(final Writer w, final char[] chars) 
+            throws IOException {
+        if (this.buffer == null) {
+            this.buffer = new char[BUFFER_SIZE];
+        }
+        else if (this.bufferLength + chars.length > this.buffer.length) {
+            flushBuffer(w);
+        }
+        System.arraycopy(chars, 0, this.buffer, this.bufferLength, chars.length);
+        this.bufferLength += chars.length;
+    }
+
+    /**
+     * Appends a string to the buffer.
+     *
+     * @param w  the writer that receives the buffer when it is full.
+     * @param s  the string.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void append(final Writer w, final String s) throws IOException {
+        append(w, s, 0, s.length());
+    }
+
+    /**
+     * Appends a part of a string to the buffer. Parts that are larger 
+     * than the buffer are written directly.
+     *
+     * @param w  the writer that receives the buffer when it is full.
+     * @param s  the string.
+     * @param start  the index of the first character.
+     * @param end  the index after the last character.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void append(final Writer w, final String s, final int start, 
+            final int end) throws IOException {
+        final int len = end - start;
+        if (this.buffer == null) {
+            this.buffer = new char[BUFFER_SIZE];
+        }
+        if (this.bufferLength + len > this.buffer.length) {
+            flushBuffer(w);
+            if (len > this.buffer.length) {
+                w.write(s, start, len);
+                return;
             }
         }
+        s.getChars(start, end, this.buffer, this.bufferLength);
+        this.bufferLength += len;
+    }
+
+    /**
+     * Writes the contents of the buffer and empties it.
+     *
+     * @param w  the writer.
+     *
+     * @throws java.io.IOException if there is an I/O problem.
+     */
+    private void flushBuffer(final Writer w) throws IOException {
+        if (this.bufferLength > 0) {
+            final int len = this.bufferLength;
+            // reset first, the buffer must be empty even if writing fails
+            this.bufferLength = 0;
+            w.write(this.buffer, 0, len);
+        }
     }
 
     /**
@@ -325,55 +621,35 @@ public class XMLWriterSupport {
         if (s == null) {
             return "";
         }
-        final StringBuffer str = new StringBuffer();
+        final String lineSeparator = getLineSeparator();
+        final int first = indexOfEscape(s, lineSeparator);
+        if (first < 0) {
+            // nothing to escape, the string can be used as it is
+            return s;
+        }
         final int len = s.length();
+        final StringBuffer str = new StringBuffer(len + 16);
+        str.append(s, 0, first);
 
-        for (int i = 0; i < len; i++) {
+        for (int i = first; i < len; i++) {
             final char ch = s.charAt(i);
-
-            switch (ch) {
-                case '<':
-                    {
-                        str.append("&lt;");
-                        break;
-                    }
-                case '>':
-                    {
-                        str.append("&gt;");
-                        break;
+            if (ch < ESCAPES.length) {
+                final char[] escape = ESCAPES[ch];
+                if (escape != null) {
+                    str.append(escape);
+                    continue;
+                }
+                if (ch == '\n') {
+                    if (str.length() > 0 && str.charAt(str.length() - 1) == '\r') {
+                        str.append('\n');
                     }
-                case '&':
-                    {
-                        str.append("&amp;");
-                        break;
-                    }
-                case '"':
-                    {
-                        str.append("&quot;");
-                        break;
-                    }
-                case '\n':
-                    {
-                        if (i > 0) {
-                            final char lastChar = str.charAt(str.length() - 1);
-
-                            if (lastChar != '\r') {
-                                str.append(getLineSeparator());
-                            }
-                            else {
-                                str.append('\n');
-                            }
-                        }
-                        else {
-                            str.append(getLineSeparator());
-                        }
-                        break;
-                    }
-                default :
-                    {
-                        str.append(ch);
+                    else {
+                        str.append(lineSeparator);
                     }
+                    continue;
+                }
             }
+            str.append(ch);
         }
 
         return (str.toString());
@@ -391,10 +667,16 @@ public class XMLWriterSupport {
         if (increase == CLOSE_TAG_DECREASE) {
             decreaseIndent();
         }
-        for (int i = 0; i < this.indentLevel; i++) {
-            writer.write(this.indentString); // 4 spaces, we could also try tab,
-            // but I do not know whether this works
-            // with our XML edit pane
+        if (this.indentLevel > 0) {
+            final int len = this.indentLevel * this.indentString.length();
+            if (this.indentChars == null || this.indentChars.length < len) {
+                final StringBuffer b = new StringBuffer(len);
+                for (int i = 0; i < this.indentLevel; i++) {
+                    b.append(this.indentString);
+                }
+                this.indentChars = b.toString().toCharArray();
+            }
+            writer.write(this.indentChars, 0, len);
         }
         if (increase == OPEN_TAG_INCREASE) {
             increaseIndent();
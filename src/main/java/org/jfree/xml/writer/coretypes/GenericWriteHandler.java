@@ -38,6 +38,8 @@
  * -------
  * 23-Sep-2003 : Initial version (TM);
  * 23-Dec-2003 : Added missing Javadocs (DG);
+ * 17-Oct-2026 : Use an unsynchronized attribute list, skip building the
+ *               debug message when debug logging is disabled;
  * 
  */
 
@@ -54,6 +56,7 @@ import org.jfree.xml.util.PropertyDefinition;
 import org.jfree.xml.writer.AbstractXmlWriteHandler;
 import org.jfree.xml.writer.AttributeList;
 import org.jfree.xml.writer.RootXmlWriteHandler;
+import org.jfree.xml.writer.UnsynchronizedAttributeList;
 import org.jfree.xml.writer.XMLWriter;
 import org.jfree.xml.writer.XMLWriterException;
 
@@ -92,7 +95,7 @@ public class GenericWriteHandler extends AbstractXmlWriteHandler {
         try {
             this.factory.readProperties(object);
 
-            final AttributeList attributes = new AttributeList();
+            final AttributeList attributes = new UnsynchronizedAttributeList();
             if (mPlexAttribute != null) {
                 attributes.setAttribute(mPlexAttribute, mPlexValue);
             }
@@ -103,9 +106,11 @@ public class GenericWriteHandler extends AbstractXmlWriteHandler {
                 final String pName = adef.getAttributeName();
                 final Object propValue = this.factory.getProperty(adef.getPropertyName());
                 if (propValue != null) {
-                    Log.debug(
-                        "Here: " + this.factory.getBaseClass() + " -> " + adef.getPropertyName()
-                    );
+                    if (Log.isDebugEnabled()) {
+                        Log.debug(
+                            "Here: " + this.factory.getBaseClass() + " -> " + adef.getPropertyName()
+                        );
+                    }
                     final String value = adef.getHandler().toAttributeValue(propValue);
                     if (value != null) {
                         attributes.setAttribute(pName, value);
@@ -0,0 +1,166 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * PngEncoderPoolTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes:
+ * --------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link PngEncoderPool} class.
+ */
+public class PngEncoderPoolTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(PngEncoderPoolTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public PngEncoderPoolTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Encodes several images with one pool and checks that the encoders are
+     * reused and that the output is the same as for a new encoder.
+     */
+    public void testEncode() throws IOException {
+        final PngEncoderPool pool = new PngEncoderPool(1);
+        final PngEncoderOptions options = new PngEncoderOptions(true,
+                PngEncoder.FILTER_ADAPTIVE, 6);
+        for (int i = 0; i < 3; i++) {
+            final BufferedImage image = PngEncoderTest.createImage(
+                    40 + i * 10, 30, BufferedImage.TYPE_INT_ARGB);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            pool.encode(image, options, out);
+            final PngEncoder encoder = new PngEncoder(image, true,
+                    PngEncoder.FILTER_ADAPTIVE, 6);
+            assertTrue(Arrays.equals(encoder.pngEncode(),
+                    out.toByteArray()));
+            PngEncoderTest.assertSamePixels(image, out.toByteArray(), true);
+        }
+        assertEquals(1, pool.getMissCount());
+        assertEquals(2, pool.getHitCount());
+        assertEquals(1, pool.getIdleCount());
+        pool.clear();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    /**
+     * Encodes images from several threads at the same time.
+     */
+    public void testConcurrentEncode() throws Exception {
+        final PngEncoderPool pool = new PngEncoderPool(2);
+        final PngEncoderOptions options = new PngEncoderOptions();
+        options.setReduceColors(true);
+        final BufferedImage image = PngEncoderTest.createImage(64, 48,
+                BufferedImage.TYPE_INT_RGB);
+        final Throwable[] failure = new Throwable[1];
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread() {
+                public void run() {
+                    try {
+                        for (int i = 0; i < 10; i++) {
+                            ByteArrayOutputStream out
+                                    = new ByteArrayOutputStream();
+                            pool.encode(image, options, out);
+                            PngEncoderTest.assertSamePixels(image,
+                                    out.toByteArray(), false);
+                        }
+                    }
+                    catch (Throwable e) {
+                        synchronized (failure) {
+                            failure[0] = e;
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        if (failure[0] != null) {
+            fail(failure[0].toString());
+        }
+        assertEquals(40, pool.getHitCount() + pool.getMissCount());
+        assertTrue(pool.getHitCount() > 0);
+        assertTrue(pool.getIdleCount() <= 2);
+    }
+
+    /**
+     * Checks the argument checks.
+     */
+    public void testNullArguments() throws IOException {
+        final PngEncoderPool pool = new PngEncoderPool();
+        try {
+            pool.encode(null, new PngEncoderOptions(),
+                    new ByteArrayOutputStream());
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new PngEncoderOptions(false, 99, 0);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
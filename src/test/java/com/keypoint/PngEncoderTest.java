@@ -0,0 +1,376 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * PngEncoderTest.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes:
+ * --------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package com.keypoint;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.zip.Adler32;
+
+import javax.imageio.ImageIO;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link PngEncoder} class.
+ */
+public class PngEncoderTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(PngEncoderTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public PngEncoderTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a test image with a gradient background and some flat areas.
+     *
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param type  the image type.
+     *
+     * @return The image.
+     */
+    static BufferedImage createImage(int width, int height, int type) {
+        final BufferedImage image = new BufferedImage(width, height, type);
+        final Graphics2D g2 = image.createGraphics();
+        g2.setPaint(new GradientPaint(0f, 0f, Color.white, width, height,
+                new Color(0, 0, 255, 128)));
+        g2.fillRect(0, 0, width, height);
+        g2.setPaint(Color.red);
+        g2.fillRect(width / 4, height / 4, width / 2, height / 2);
+        g2.setPaint(Color.black);
+        g2.drawLine(0, height - 1, width - 1, 0);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that a decoded image has the same pixels as the original.
+     *
+     * @param expected  the original image.
+     * @param bytes  the encoded PNG.
+     * @param alpha  compare the alpha channel?
+     *
+     * @throws IOException if the PNG cannot be decoded.
+     */
+    static void assertSamePixels(BufferedImage expected, byte[] bytes,
+            boolean alpha) throws IOException {
+        final BufferedImage actual = ImageIO.read(
+                new ByteArrayInputStream(bytes));
+        assertNotNull(actual);
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        final int mask = alpha ? 0xffffffff : 0x00ffffff;
+        // getRGB() applies a gamma conversion to greyscale images, so read
+        // their samples directly
+        final boolean grey = actual.getColorModel().getColorSpace().getType()
+                == ColorSpace.TYPE_GRAY;
+        final Raster raster = actual.getRaster();
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int rgb = actual.getRGB(x, y);
+                if (grey) {
+                    final int g = raster.getSample(x, y, 0);
+                    final int a = raster.getNumBands() > 1
+                            ? raster.getSample(x, y, 1) : 0xff;
+                    rgb = (a << 24) | (g << 16) | (g << 8) | g;
+                }
+                assertEquals("pixel " + x + ", " + y,
+                        expected.getRGB(x, y) & mask, rgb & mask);
+            }
+        }
+    }
+
+    /**
+     * The streaming encoder should produce a valid PNG with the same pixels
+     * for each filter type, with and without alpha.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEncodeOutputStream() throws IOException {
+        final BufferedImage image = createImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        for (int filter = 0; filter <= PngEncoder.FILTER_LAST; filter++) {
+            for (int a = 0; a < 2; a++) {
+                final boolean alpha = (a == 1);
+                final PngEncoder encoder = new PngEncoder(image, alpha,
+                        filter, 9);
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                encoder.encode(out);
+                assertSamePixels(image, out.toByteArray(), alpha);
+            }
+        }
+    }
+
+    /**
+     * An image whose compressed data spans several IDAT chunks can be
+     * written to a channel, and pngEncode() still works afterwards.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEncodeChannel() throws IOException {
+        final BufferedImage image = createImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        final PngEncoder encoder = new PngEncoder(image, false,
+                PngEncoder.FILTER_NONE, 0);
+        encoder.setDpi(72, 72);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(Channels.newChannel(out));
+        final byte[] bytes = out.toByteArray();
+        assertTrue(bytes.length > 3 * PngEncoder.IDAT_CHUNK_SIZE);
+        assertSamePixels(image, bytes, false);
+        final BufferedImage copy = ImageIO.read(
+                new ByteArrayInputStream(encoder.pngEncode()));
+        assertEquals(image.getRGB(10, 10), copy.getRGB(10, 10));
+    }
+
+    /**
+     * The parallel mode should produce a valid PNG with the same pixels for
+     * each filter type and several compression levels.  The image is large
+     * enough to be split into many strips.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testParallelEncode() throws IOException {
+        final BufferedImage image = createImage(500, 700,
+                BufferedImage.TYPE_INT_ARGB);
+        final int[] levels = {0, 1, 6, 9};
+        for (int filter = 0; filter <= PngEncoder.FILTER_LAST; filter++) {
+            for (int i = 0; i < levels.length; i++) {
+                final PngEncoder encoder = new PngEncoder(image, true,
+                        filter, levels[i]);
+                encoder.setParallelism(3);
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                encoder.encode(out);
+                assertSamePixels(image, out.toByteArray(), true);
+                assertSamePixels(image, encoder.pngEncode(), true);
+            }
+        }
+    }
+
+    /**
+     * Images of the types that are read directly from the data buffer, a
+     * sub-image (whose raster is offset in the data buffer) and a type that
+     * goes through the PixelGrabber should all round trip.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testImageTypes() throws IOException {
+        final int[] types = {BufferedImage.TYPE_INT_ARGB,
+                BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_3BYTE_BGR,
+                BufferedImage.TYPE_4BYTE_ABGR, BufferedImage.TYPE_INT_ARGB_PRE,
+                BufferedImage.TYPE_USHORT_565_RGB};
+        for (int i = 0; i < types.length; i++) {
+            final BufferedImage image = createImage(120, 90, types[i]);
+            final BufferedImage sub = image.getSubimage(10, 20, 70, 50);
+            for (int a = 0; a < 2; a++) {
+                final boolean alpha = (a == 1);
+                final PngEncoder encoder = new PngEncoder(image, alpha,
+                        PngEncoder.FILTER_UP, 6);
+                assertSamePixels(image, encoder.pngEncode(), alpha);
+                encoder.setImage(sub);
+                assertSamePixels(sub, encoder.pngEncode(), alpha);
+            }
+        }
+    }
+
+    /**
+     * For an image with gradients, adaptive filtering should compress better
+     * than no filtering.
+     */
+    public void testAdaptiveFilter() {
+        final BufferedImage image = createImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        final PngEncoder encoder = new PngEncoder(image, false,
+                PngEncoder.FILTER_NONE, 9);
+        final int unfiltered = encoder.pngEncode().length;
+        encoder.setFilter(PngEncoder.FILTER_ADAPTIVE);
+        assertEquals(PngEncoder.FILTER_ADAPTIVE, encoder.getFilter());
+        assertTrue(encoder.pngEncode().length < unfiltered);
+    }
+
+    /**
+     * Creates an image that uses the given number of distinct colours.
+     *
+     * @param colors  the number of colours.
+     * @param grey  use grey colours only?
+     * @param alpha  use translucent colours?
+     *
+     * @return The image.
+     */
+    private static BufferedImage createImageWithColors(int colors,
+            boolean grey, boolean alpha) {
+        final BufferedImage image = new BufferedImage(67, 41,
+                BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                final int c = (x + y * image.getWidth()) % colors;
+                int argb;
+                if (grey) {
+                    final int g = c * 255 / Math.max(1, colors - 1);
+                    argb = (g << 16) | (g << 8) | g;
+                }
+                else {
+                    argb = c * 0x010309;
+                }
+                final int a = alpha ? 255 - (c % 3) * 100 : 255;
+                image.setRGB(x, y, (a << 24) | (argb & 0xffffff));
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Encodes an image with colour reduction and checks the colour type and
+     * bit depth in the header, and the pixels.
+     *
+     * @param image  the image.
+     * @param alpha  encode alpha?
+     * @param colorType  the expected colour type.
+     * @param bitDepth  the expected bit depth.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void checkReduced(BufferedImage image, boolean alpha,
+            int colorType, int bitDepth) throws IOException {
+        final PngEncoder encoder = new PngEncoder(image, alpha,
+                PngEncoder.FILTER_ADAPTIVE, 9);
+        encoder.setReduceColors(true);
+        final byte[] bytes = encoder.pngEncode();
+        assertEquals(bitDepth, bytes[24]);
+        assertEquals(colorType, bytes[25]);
+        assertSamePixels(image, bytes, alpha);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.setParallelism(2);
+        encoder.encode(out);
+        assertEquals(colorType, out.toByteArray()[25]);
+        assertSamePixels(image, out.toByteArray(), alpha);
+    }
+
+    /**
+     * Check the colour types chosen by the colour reduction mode.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testReduceColors() throws IOException {
+        checkReduced(createImageWithColors(2, false, false), false, 3, 1);
+        checkReduced(createImageWithColors(4, false, true), true, 3, 2);
+        checkReduced(createImageWithColors(16, false, false), true, 3, 4);
+        checkReduced(createImageWithColors(200, false, true), true, 3, 8);
+        checkReduced(createImageWithColors(12, true, false), false, 3, 4);
+        checkReduced(createImageWithColors(256, true, false), true, 0, 8);
+        checkReduced(createImageWithColors(256, true, true), true, 3, 8);
+        checkReduced(createImageWithColors(1000, true, true), true, 4, 8);
+        checkReduced(createImageWithColors(1000, false, false), true, 2, 8);
+        checkReduced(createImageWithColors(1000, false, true), true, 6, 8);
+        checkReduced(createImageWithColors(1000, false, false), false, 2, 8);
+
+        // an image type that is read through the PixelGrabber
+        final BufferedImage bgr = new BufferedImage(67, 41,
+                BufferedImage.TYPE_INT_BGR);
+        final Graphics2D g2 = bgr.createGraphics();
+        g2.drawImage(createImageWithColors(16, false, false), 0, 0, null);
+        g2.dispose();
+        checkReduced(bgr, true, 3, 4);
+    }
+
+    /**
+     * Check the combined Adler-32 checksum against one computed in a single
+     * pass.
+     */
+    public void testCombineAdler32() {
+        final byte[] data = new byte[100000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31 + i / 7);
+        }
+        final Adler32 whole = new Adler32();
+        whole.update(data);
+        final Adler32 part1 = new Adler32();
+        part1.update(data, 0, 70001);
+        final Adler32 part2 = new Adler32();
+        part2.update(data, 70001, data.length - 70001);
+        long combined = PngParallelCompressor.combineAdler32(1L,
+                part1.getValue(), 70001);
+        combined = PngParallelCompressor.combineAdler32(combined,
+                part2.getValue(), data.length - 70001);
+        assertEquals(whole.getValue(), combined);
+    }
+
+    /**
+     * Encoding without an image is an error.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEncodeWithoutImage() throws IOException {
+        final PngEncoder encoder = new PngEncoder();
+        try {
+            encoder.encode(new ByteArrayOutputStream());
+            fail("Expected IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+}
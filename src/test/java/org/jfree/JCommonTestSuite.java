@@ -42,6 +42,8 @@
  * 09-Jan-2004 : Added new org.jfree.ui package tests (DG);
  * 22-Mar-2004 : Added tests for the org.jfree.text package (DG);
  * 18-Jan-2005 : Added main() method (DG);
+ * 16-Oct-2026 : Added the org.jfree.base.config package tests;
+ * 17-Oct-2026 : Added the org.jfree.xml package tests;
  *
  */
 
@@ -50,11 +52,13 @@ package org.jfree;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
+import org.jfree.base.config.ConfigPackageTests;
 import org.jfree.date.DatePackageTests;
 import org.jfree.io.IOPackageTests;
 import org.jfree.text.TextPackageTests;
 import org.jfree.ui.UIPackageTests;
 import org.jfree.util.UtilPackageTests;
+import org.jfree.xml.XmlPackageTests;
 
 /**
  * A test suite for the JCommon class library that can be run using JUnit 
@@ -69,11 +73,13 @@ public class JCommonTestSuite extends TestCase {
      */
     public static Test suite() {
         final TestSuite suite = new TestSuite("JCommon");
+        suite.addTest(ConfigPackageTests.suite());
         suite.addTest(DatePackageTests.suite());
         suite.addTest(IOPackageTests.suite());
         suite.addTest(TextPackageTests.suite());
         suite.addTest(UIPackageTests.suite());
         suite.addTest(UtilPackageTests.suite());
+        suite.addTest(XmlPackageTests.suite());
         return suite;
     }
 
@@ -0,0 +1,308 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * ConfigurationSnapshotTest.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added testUnrelatedChange() and testClone();
+ * 17-Oct-2026 : Added testCurrentProperty();
+ *
+ */
+
+package org.jfree.base.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.util.Configuration;
+
+/**
+ * Tests for the {@link ConfigurationSnapshot} class.
+ */
+public class ConfigurationSnapshotTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ConfigurationSnapshotTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ConfigurationSnapshotTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a three level configuration (like the global configuration
+     * of a booter).
+     *
+     * @return The configuration.
+     */
+    private HierarchicalConfiguration createConfiguration() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        final PropertyFileConfiguration root = new PropertyFileConfiguration();
+        root.setConfigProperty("a.x", "root");
+        root.setConfigProperty("a.y", "root");
+        root.setConfigProperty("b", "root");
+        config.insertConfiguration(root);
+        final HierarchicalConfiguration middle
+                = new HierarchicalConfiguration();
+        middle.setConfigProperty("a.y", "middle");
+        config.insertConfiguration(middle);
+        config.setConfigProperty("c", "top");
+        return config;
+    }
+
+    /**
+     * Returns the keys of an iterator as a list.
+     *
+     * @param it  the iterator.
+     *
+     * @return The keys.
+     */
+    private static List toList(final Iterator it) {
+        final List result = new ArrayList();
+        while (it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the snapshot gives the same values as the configuration.
+     */
+    public void testLookup() {
+        final HierarchicalConfiguration config = createConfiguration();
+        final Configuration snapshot = config.snapshot();
+        assertEquals("root", snapshot.getConfigProperty("a.x"));
+        assertEquals("middle", snapshot.getConfigProperty("a.y"));
+        assertEquals("root", snapshot.getConfigProperty("b"));
+        assertEquals("top", snapshot.getConfigProperty("c"));
+        assertNull(snapshot.getConfigProperty("d"));
+        assertEquals("default", snapshot.getConfigProperty("d", "default"));
+        assertEquals(Arrays.asList(new String[] {"a.x", "a.y"}),
+                toList(snapshot.findPropertyKeys("a.")));
+        assertEquals(Arrays.asList(new String[] {"a.x", "a.y", "b", "c"}),
+                toList(snapshot.findPropertyKeys("")));
+        assertFalse(snapshot.findPropertyKeys("zz").hasNext());
+    }
+
+    /**
+     * Checks a larger configuration.
+     */
+    public void testManyKeys() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        for (int i = 0; i < 1000; i++) {
+            config.setConfigProperty("key" + i, "value" + i);
+        }
+        final Configuration snapshot = config.snapshot();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value" + i, snapshot.getConfigProperty("key" + i));
+        }
+        assertEquals(111, toList(snapshot.findPropertyKeys("key1")).size());
+    }
+
+    /**
+     * Checks that the snapshot is reused until a configuration changes.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testInvalidation() throws IOException {
+        final HierarchicalConfiguration config = createConfiguration();
+        final PropertyFileConfiguration root = findRoot(config);
+        final Configuration s1 = config.snapshot();
+        assertSame(s1, config.snapshot());
+
+        // a change in a parent configuration
+        root.setConfigProperty("b", "changed");
+        final Configuration s2 = config.snapshot();
+        assertNotSame(s1, s2);
+        assertEquals("root", s1.getConfigProperty("b"));
+        assertEquals("changed", s2.getConfigProperty("b"));
+
+        // a loaded property file
+        root.load(new ByteArrayInputStream("e=loaded".getBytes("ISO-8859-1")));
+        assertEquals("loaded", config.snapshot().getConfigProperty("e"));
+
+        // an inserted configuration
+        final HierarchicalConfiguration inserted
+                = new HierarchicalConfiguration();
+        inserted.setConfigProperty("c", "ignored");
+        inserted.setConfigProperty("f", "inserted");
+        config.insertConfiguration(inserted);
+        final Configuration s3 = config.snapshot();
+        assertEquals("top", s3.getConfigProperty("c"));
+        assertEquals("inserted", s3.getConfigProperty("f"));
+
+        // removing a property
+        config.setConfigProperty("c", null);
+        assertEquals("ignored", config.snapshot().getConfigProperty("c"));
+    }
+
+    /**
+     * Checks that changes to other configurations, and to configurations
+     * below this one, keep the snapshot.
+     */
+    public void testUnrelatedChange() {
+        final HierarchicalConfiguration config = createConfiguration();
+        final HierarchicalConfiguration child
+                = new HierarchicalConfiguration(config);
+        final Configuration s1 = config.snapshot();
+        new HierarchicalConfiguration().setConfigProperty("c", "other");
+        child.setConfigProperty("c", "child");
+        assertSame(s1, config.snapshot());
+        assertEquals("child", child.snapshot().getConfigProperty("c"));
+        config.setConfigProperty("c", "changed");
+        assertNotSame(s1, config.snapshot());
+        assertEquals("child", child.snapshot().getConfigProperty("c"));
+        assertEquals("changed", config.snapshot().getConfigProperty("c"));
+    }
+
+    /**
+     * Checks that a clone does not share the snapshot of the original.
+     *
+     * @throws CloneNotSupportedException if cloning fails.
+     */
+    public void testClone() throws CloneNotSupportedException {
+        final HierarchicalConfiguration config = createConfiguration();
+        assertEquals("top", config.snapshot().getConfigProperty("c"));
+        final HierarchicalConfiguration clone
+                = (HierarchicalConfiguration) config.clone();
+        clone.setConfigProperty("c", "clone");
+        assertEquals("clone", clone.snapshot().getConfigProperty("c"));
+        assertEquals("top", config.snapshot().getConfigProperty("c"));
+    }
+
+    /**
+     * Returns the root of a configuration hierarchy.
+     *
+     * @param config  the configuration.
+     *
+     * @return The root configuration.
+     */
+    private static PropertyFileConfiguration findRoot(
+            final HierarchicalConfiguration config) {
+        HierarchicalConfiguration c = config;
+        while (c.getParentConfig() != null) {
+            c = (HierarchicalConfiguration) c.getParentConfig();
+        }
+        return (PropertyFileConfiguration) c;
+    }
+
+    /**
+     * Checks that the system properties are included.
+     */
+    public void testSystemProperties() {
+        final HierarchicalConfiguration config = createConfiguration();
+        config.insertConfiguration(new SystemPropertyConfiguration());
+        final Configuration snapshot = config.snapshot();
+        assertEquals(System.getProperty("java.version"),
+                snapshot.getConfigProperty("java.version"));
+        assertEquals("root", snapshot.getConfigProperty("a.x"));
+    }
+
+    /**
+     * Checks that the current value of the system properties is returned,
+     * unless the property is defined in a configuration that overrides them.
+     */
+    public void testCurrentProperty() {
+        final String key = "org.jfree.base.config.ConfigurationSnapshotTest.key";
+        final HierarchicalConfiguration defaults
+                = new HierarchicalConfiguration();
+        defaults.setConfigProperty(key, "default");
+        defaults.setConfigProperty("b", "default");
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration(defaults);
+        config.insertConfiguration(new SystemPropertyConfiguration());
+        config.setConfigProperty("b", "local");
+        System.clearProperty(key);
+        try {
+            final ConfigurationSnapshot snapshot
+                    = (ConfigurationSnapshot) config.snapshot();
+            assertFalse(snapshot.isComplete());
+            assertEquals("default", snapshot.getCurrentProperty(key));
+            assertEquals("local", snapshot.getCurrentProperty("b"));
+            assertNull(snapshot.getCurrentProperty("missing.key"));
+            System.setProperty(key, "system");
+            System.setProperty("b", "system");
+            assertSame(snapshot, config.snapshot());
+            assertEquals("system", snapshot.getCurrentProperty(key));
+            assertEquals("local", snapshot.getCurrentProperty("b"));
+            assertEquals("default", snapshot.getConfigProperty(key));
+
+            final ConfigurationSnapshot complete
+                    = (ConfigurationSnapshot) defaults.snapshot();
+            assertTrue(complete.isComplete());
+            assertEquals("default", complete.getCurrentProperty(key));
+        }
+        finally {
+            System.clearProperty(key);
+            System.clearProperty("b");
+        }
+    }
+
+    /**
+     * Checks that a snapshot cannot be modified through its iterators.
+     */
+    public void testReadOnly() {
+        final Iterator it = createConfiguration().snapshot()
+                .findPropertyKeys("");
+        it.next();
+        try {
+            it.remove();
+            fail();
+        }
+        catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,234 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------------
+ * HierarchicalConfigurationTest.java
+ * ----------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added testDirectChanges() and testSerialization();
+ *
+ */
+
+package org.jfree.base.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.util.DefaultConfiguration;
+
+/**
+ * Tests for the {@link HierarchicalConfiguration} class.
+ */
+public class HierarchicalConfigurationTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(HierarchicalConfigurationTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public HierarchicalConfigurationTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Returns the keys of an iterator as a list.
+     *
+     * @param it  the iterator.
+     *
+     * @return The keys.
+     */
+    private static List toList(final Iterator it) {
+        final List result = new ArrayList();
+        while (it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the keys of all levels are merged in order, without
+     * duplicates.
+     */
+    public void testFindPropertyKeys() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        final HierarchicalConfiguration parent
+                = new HierarchicalConfiguration();
+        config.insertConfiguration(parent);
+        parent.setConfigProperty("m.b", "1");
+        parent.setConfigProperty("m.d", "1");
+        parent.setConfigProperty("n.a", "1");
+        config.setConfigProperty("m.a", "2");
+        config.setConfigProperty("m.b", "2");
+        config.setConfigProperty("m", "2");
+
+        assertEquals(Arrays.asList(new String[] {"m.a", "m.b", "m.d"}),
+                toList(config.findPropertyKeys("m.")));
+        assertEquals(Arrays.asList(new String[] {"m", "m.a", "m.b", "m.d",
+                "n.a"}), toList(config.findPropertyKeys("")));
+        assertFalse(config.findPropertyKeys("o").hasNext());
+
+        // the index is updated after a change
+        parent.setConfigProperty("m.c", "1");
+        config.setConfigProperty("m.a", null);
+        assertEquals(Arrays.asList(new String[] {"m.b", "m.c", "m.d"}),
+                toList(config.findPropertyKeys("m.")));
+    }
+
+    /**
+     * Checks the keys of a non-hierarchical parent configuration.
+     */
+    public void testDefaultConfigurationParent() {
+        final DefaultConfiguration parent = new DefaultConfiguration();
+        parent.setConfigProperty("k.2", "1");
+        parent.setConfigProperty("k.1", "1");
+        parent.setConfigProperty("j", "1");
+        assertEquals(Arrays.asList(new String[] {"k.1", "k.2"}),
+                toList(parent.findPropertyKeys("k.")));
+
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration(parent);
+        config.setConfigProperty("k.3", "2");
+        assertEquals(Arrays.asList(new String[] {"k.1", "k.2", "k.3"}),
+                toList(config.findPropertyKeys("k.")));
+    }
+
+    /**
+     * Checks the keys of the system properties.
+     */
+    public void testSystemProperties() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        config.insertConfiguration(new SystemPropertyConfiguration());
+        config.setConfigProperty("java.version.test", "x");
+        final List keys = toList(config.findPropertyKeys("java.version"));
+        assertTrue(keys.contains("java.version"));
+        assertTrue(keys.contains("java.version.test"));
+    }
+
+    /**
+     * Checks that changes made directly to the properties returned by
+     * getConfiguration() are seen by the key index and the snapshot.
+     */
+    public void testDirectChanges() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        config.setConfigProperty("a", "1");
+        assertEquals(Arrays.asList(new String[] {"a"}),
+                toList(config.findPropertyKeys("")));
+        assertEquals("1", config.snapshot().getConfigProperty("a"));
+
+        final Properties properties = config.getConfiguration();
+        properties.put("b", "2");
+        properties.put("a", "3");
+        assertEquals(Arrays.asList(new String[] {"a", "b"}),
+                toList(config.findPropertyKeys("")));
+        assertEquals("3", config.snapshot().getConfigProperty("a"));
+
+        properties.remove("a");
+        assertEquals(Arrays.asList(new String[] {"b"}),
+                toList(config.findPropertyKeys("")));
+        properties.clear();
+        assertFalse(config.findPropertyKeys("").hasNext());
+        assertNull(config.snapshot().getConfigProperty("b"));
+    }
+
+    /**
+     * Checks that the properties are serialized as plain properties, and
+     * that changes to a deserialized configuration are tracked.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testSerialization() throws Exception {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        config.setConfigProperty("a", "1");
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(buffer);
+        out.writeObject(config);
+        out.close();
+        assertEquals(-1, new String(buffer.toByteArray(), "ISO-8859-1")
+                .indexOf("LocalProperties"));
+
+        final ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        final HierarchicalConfiguration copy
+                = (HierarchicalConfiguration) in.readObject();
+        in.close();
+        assertEquals("1", copy.getConfigProperty("a"));
+        assertEquals("1", copy.snapshot().getConfigProperty("a"));
+        copy.getConfiguration().put("b", "2");
+        assertEquals("2", copy.snapshot().getConfigProperty("b"));
+        assertEquals(Arrays.asList(new String[] {"a", "b"}),
+                toList(copy.findPropertyKeys("")));
+    }
+
+    /**
+     * Checks that the keys cannot be removed through the iterator.
+     */
+    public void testReadOnly() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        config.setConfigProperty("a", "1");
+        final Iterator it = config.findPropertyKeys("");
+        it.next();
+        try {
+            it.remove();
+            fail();
+        }
+        catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+}
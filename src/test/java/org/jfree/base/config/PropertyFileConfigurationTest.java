@@ -0,0 +1,236 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------------
+ * PropertyFileConfigurationTest.java
+ * ----------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.base.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.util.Configuration;
+
+/**
+ * Tests for the {@link PropertyFileConfiguration} class.
+ */
+public class PropertyFileConfigurationTest extends TestCase {
+
+    /**
+     * A listener that queues the events it receives.
+     */
+    private static class QueueListener implements ConfigurationChangeListener {
+
+        /** The received events. */
+        private final BlockingQueue events = new ArrayBlockingQueue(10);
+
+        /**
+         * Queues the event.
+         *
+         * @param event  the event.
+         */
+        public void propertiesChanged(final ConfigurationChangeEvent event) {
+            this.events.add(event);
+        }
+
+        /**
+         * Waits for the next event and returns its keys.
+         *
+         * @return The changed keys.
+         *
+         * @throws InterruptedException if interrupted.
+         */
+        public Set nextKeys() throws InterruptedException {
+            final ConfigurationChangeEvent event = (ConfigurationChangeEvent)
+                    this.events.poll(10, TimeUnit.SECONDS);
+            assertNotNull("No event received", event);
+            return event.getChangedKeys();
+        }
+    }
+
+    /** The temporary file. */
+    private File file;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(PropertyFileConfigurationTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public PropertyFileConfigurationTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the temporary file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    protected void setUp() throws IOException {
+        this.file = File.createTempFile("jcommon", ".properties");
+    }
+
+    /**
+     * Deletes the temporary file.
+     */
+    protected void tearDown() {
+        this.file.delete();
+    }
+
+    /**
+     * Writes the temporary file and moves its modification time forward, so
+     * that the change is seen even if the file system has a coarse clock.
+     *
+     * @param text  the file contents.
+     * @param step  the number of seconds to move the time forward.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeFile(final String text, final int step)
+            throws IOException {
+        final OutputStream out = new FileOutputStream(this.file);
+        try {
+            out.write(text.getBytes("ISO-8859-1"));
+        }
+        finally {
+            out.close();
+        }
+        this.file.setLastModified(System.currentTimeMillis() + step * 1000L);
+    }
+
+    /**
+     * Creates a set of keys.
+     *
+     * @param keys  the keys.
+     *
+     * @return The set.
+     */
+    private static Set keys(final String[] keys) {
+        return new TreeSet(Arrays.asList(keys));
+    }
+
+    /**
+     * Loading from a stream notifies the listeners of the changed keys.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testLoadNotifies() throws Exception {
+        final PropertyFileConfiguration config
+                = new PropertyFileConfiguration();
+        config.setConfigProperty("a", "1");
+        final QueueListener listener = new QueueListener();
+        config.addConfigurationChangeListener(listener);
+        config.load(new ByteArrayInputStream("a=1\nb=2\n".getBytes()));
+        assertEquals(keys(new String[] {"b"}), listener.nextKeys());
+        assertEquals("1", config.getConfigProperty("a"));
+        assertEquals("2", config.getConfigProperty("b"));
+    }
+
+    /**
+     * A watched file is reloaded and only the changed keys are reported.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testWatch() throws Exception {
+        writeFile("a=1\nb=2\n", 0);
+        final PropertyFileConfiguration config
+                = new PropertyFileConfiguration();
+        final QueueListener listener = new QueueListener();
+        config.addConfigurationChangeListener(listener);
+        config.watch(this.file, 50);
+        try {
+            assertEquals(this.file, config.getWatchedFile());
+            assertEquals(keys(new String[] {"a", "b"}), listener.nextKeys());
+            final Configuration before = config.snapshot();
+
+            writeFile("a=1\nb=22\nc=3\n", 2);
+            assertEquals(keys(new String[] {"b", "c"}), listener.nextKeys());
+            assertEquals("22", config.getConfigProperty("b"));
+            assertEquals("3", config.getConfigProperty("c"));
+            assertEquals("2", before.getConfigProperty("b"));
+
+            writeFile("a=1\nc=3\n", 4);
+            assertEquals(keys(new String[] {"b"}), listener.nextKeys());
+            assertNull(config.getConfigProperty("b"));
+            assertEquals("1", config.getConfigProperty("a"));
+        }
+        finally {
+            config.stopWatching();
+        }
+        assertNull(config.getWatchedFile());
+        assertEquals("1", config.getConfigProperty("a"));
+    }
+
+    /**
+     * Checks the atomic bulk update.
+     */
+    public void testUpdateConfiguration() {
+        final PropertyFileConfiguration config
+                = new PropertyFileConfiguration();
+        config.setConfigProperty("a", "1");
+        config.setConfigProperty("b", "2");
+        final Properties changes = new Properties();
+        changes.setProperty("c", "3");
+        config.updateConfiguration(changes, Arrays.asList(new String[] {"a"}));
+        assertNull(config.getConfigProperty("a"));
+        assertEquals("2", config.getConfigProperty("b"));
+        assertEquals("3", config.getConfigProperty("c"));
+    }
+
+}
@@ -0,0 +1,159 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * AdvanceTextMeasurerTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes:
+ * --------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link AdvanceTextMeasurer} class.
+ */
+public class AdvanceTextMeasurerTest extends TestCase {
+
+    /** Some sample strings. */
+    private static final String[] TEXT = {"Hello World!",
+            "Umsatz in € (Tausend) äöüß",
+            "Αθήνα Москв"
+            + "а", "x", ""};
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(AdvanceTextMeasurerTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public AdvanceTextMeasurerTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks the widths against those from a {@link G2TextMeasurer}, with
+     * and without fractional metrics.
+     */
+    public void testSameAsG2TextMeasurer() {
+        final BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2 = image.createGraphics();
+        final Object[] fm = {RenderingHints.VALUE_FRACTIONALMETRICS_OFF,
+                RenderingHints.VALUE_FRACTIONALMETRICS_ON};
+        final Font[] fonts = {new Font("SansSerif", Font.PLAIN, 12),
+                new Font("Serif", Font.BOLD, 17)};
+        for (int f = 0; f < fonts.length; f++) {
+            for (int h = 0; h < fm.length; h++) {
+                g2.setFont(fonts[f]);
+                g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                        fm[h]);
+                final TextMeasurer expected = new G2TextMeasurer(g2);
+                final TextMeasurer measurer = new AdvanceTextMeasurer(g2);
+                for (int i = 0; i < TEXT.length; i++) {
+                    final String s = TEXT[i];
+                    assertEquals(s, expected.getStringWidth(s, 0, s.length()),
+                            measurer.getStringWidth(s, 0, s.length()), 0.01);
+                    if (s.length() > 2) {
+                        assertEquals(s,
+                                expected.getStringWidth(s, 1, s.length() - 1),
+                                measurer.getStringWidth(s, 1, s.length() - 1),
+                                0.01);
+                    }
+                }
+            }
+        }
+        g2.dispose();
+    }
+
+    /**
+     * Text that needs complex layout is measured with a laid out glyph
+     * vector.
+     */
+    public void testComplexText() {
+        final Font font = new Font("Dialog", Font.PLAIN, 14);
+        final FontRenderContext frc = new FontRenderContext(null, true,
+                true);
+        final AdvanceTextMeasurer measurer = new AdvanceTextMeasurer(font,
+                frc);
+        final String[] text = {"مرحبا",
+                "नमस्ते", "été"};
+        for (int i = 0; i < text.length; i++) {
+            final float expected = new TextLayout(text[i], font, frc)
+                    .getAdvance();
+            assertEquals(text[i], expected, measurer.getStringWidth(text[i],
+                    0, text[i].length()), 0.01);
+        }
+    }
+
+    /**
+     * Checks the argument checks.
+     */
+    public void testConstructor() {
+        try {
+            new AdvanceTextMeasurer(null, new FontRenderContext(null, true,
+                    true));
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new AdvanceTextMeasurer(new Font("Dialog", Font.PLAIN, 10), null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
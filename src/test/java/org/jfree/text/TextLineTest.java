@@ -37,11 +37,16 @@
  * Changes:
  * --------
  * 22-Mar-2004 : Version 1 (DG);
+ * 16-Oct-2026 : Added testCachedDimensions();
  *
  */
 
 package org.jfree.text;
 
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
@@ -53,6 +58,9 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.ui.Size2D;
+import org.jfree.ui.TextAnchor;
+
 /**
  * Tests for the {@link TextLine} class.
  */
@@ -113,4 +121,56 @@ public class TextLineTest extends TestCase {
 
     }
 
+    /**
+     * Checks that the cached dimensions are the same as the measured ones,
+     * and that they are updated when the line or the font render context
+     * changes.
+     */
+    public void testCachedDimensions() {
+        final BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2 = image.createGraphics();
+        final boolean saved = TextUtilities.getCacheTextMetrics();
+        try {
+            final TextLine line = new TextLine("Test",
+                    new Font("SansSerif", Font.PLAIN, 12));
+            TextUtilities.setCacheTextMetrics(false);
+            final Size2D expected = line.calculateDimensions(g2);
+            final float offset = line.getFirstTextFragment()
+                    .calculateBaselineOffset(g2, TextAnchor.TOP_LEFT);
+
+            TextUtilities.setCacheTextMetrics(true);
+            assertEquals(expected, line.calculateDimensions(g2));
+            assertEquals(expected, line.calculateDimensions(g2));
+            assertEquals(offset, line.getFirstTextFragment()
+                    .calculateBaselineOffset(g2, TextAnchor.TOP_LEFT), 0.0f);
+
+            // the returned dimensions can be modified by the caller
+            line.calculateDimensions(g2).setWidth(0.0);
+            assertEquals(expected, line.calculateDimensions(g2));
+
+            // adding a fragment changes the dimensions
+            line.addFragment(new TextFragment(" more text",
+                    new Font("Serif", Font.BOLD, 20)));
+            final Size2D d2 = line.calculateDimensions(g2);
+            assertTrue(d2.getWidth() > expected.getWidth());
+            assertTrue(d2.getHeight() > expected.getHeight());
+            TextUtilities.setCacheTextMetrics(false);
+            assertEquals(line.calculateDimensions(g2), d2);
+
+            // a new font render context
+            TextUtilities.setCacheTextMetrics(true);
+            g2.scale(2.0, 2.0);
+            g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                    RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            final Size2D d3 = line.calculateDimensions(g2);
+            TextUtilities.setCacheTextMetrics(false);
+            assertEquals(line.calculateDimensions(g2), d3);
+        }
+        finally {
+            TextUtilities.setCacheTextMetrics(saved);
+            g2.dispose();
+        }
+    }
+
 }
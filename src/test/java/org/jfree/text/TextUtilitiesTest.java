@@ -0,0 +1,319 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * TextUtilitiesTest.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes:
+ * --------
+ * 16-Oct-2026 : Version 1;
+ * 16-Oct-2026 : Added testCreateTextBlocks();
+ * 17-Oct-2026 : Added testLayoutCacheMeasurer();
+ * 17-Oct-2026 : testCreateTextBlocks() clears the cache and shuts down
+ *               its pool;
+ *
+ */
+
+package org.jfree.text;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link TextUtilities} class.
+ */
+public class TextUtilitiesTest extends TestCase {
+
+    /** A sample text. */
+    private static final String TEXT = "The quick brown fox jumps over the "
+            + "lazy dog.  Pack my box with five dozen liquor jugs.";
+
+    /** A graphics device for measuring text. */
+    private Graphics2D g2;
+
+    /** The original layout cache size. */
+    private int cacheSize;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(TextUtilitiesTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public TextUtilitiesTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the graphics device and clears the layout cache.
+     */
+    protected void setUp() {
+        final BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        this.g2 = image.createGraphics();
+        this.g2.setFont(new Font("SansSerif", Font.PLAIN, 12));
+        this.cacheSize = TextUtilities.getLayoutCacheSize();
+        TextUtilities.clearLayoutCache();
+    }
+
+    /**
+     * Releases the graphics device and restores the layout cache size.
+     */
+    protected void tearDown() {
+        this.g2.dispose();
+        TextUtilities.setLayoutCacheSize(this.cacheSize);
+        TextUtilities.clearLayoutCache();
+    }
+
+    /**
+     * Returns the text of the lines in a block.
+     *
+     * @param block  the block.
+     *
+     * @return The lines.
+     */
+    private static String[] getLines(final TextBlock block) {
+        final List lines = block.getLines();
+        final String[] result = new String[lines.size()];
+        for (int i = 0; i < result.length; i++) {
+            final TextLine line = (TextLine) lines.get(i);
+            result[i] = line.getFirstTextFragment().getText();
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the lines fit in the maximum width.
+     */
+    public void testCreateTextBlock() {
+        final TextMeasurer measurer = new G2TextMeasurer(this.g2);
+        final TextBlock block = TextUtilities.createTextBlock(TEXT,
+                this.g2.getFont(), Color.black, 100.0f, measurer);
+        final String[] lines = getLines(block);
+        assertTrue(lines.length > 1);
+        final StringBuffer all = new StringBuffer();
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(measurer.getStringWidth(lines[i].trim(), 0,
+                    lines[i].trim().length()) <= 100.0f);
+            all.append(lines[i]);
+        }
+        assertEquals(TEXT, all.toString());
+    }
+
+    /**
+     * A word that is wider than the maximum width is split.
+     */
+    public void testCreateTextBlockLongWord() {
+        final TextMeasurer measurer = new G2TextMeasurer(this.g2);
+        final String word = "Supercalifragilisticexpialidocious";
+        final TextBlock block = TextUtilities.createTextBlock(word,
+                this.g2.getFont(), Color.black, 40.0f, measurer);
+        final String[] lines = getLines(block);
+        assertTrue(lines.length > 1);
+        final StringBuffer all = new StringBuffer();
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(measurer.getStringWidth(lines[i], 0,
+                    lines[i].length()) <= 40.0f || lines[i].length() == 1);
+            if (i < lines.length - 1) {
+                // each line takes as many characters as fit
+                assertTrue(measurer.getStringWidth(word, all.length(),
+                        all.length() + lines[i].length() + 1) > 40.0f);
+            }
+            all.append(lines[i]);
+        }
+        assertEquals(word, all.toString());
+    }
+
+    /**
+     * An ellipsis is added when the text does not fit in the maximum number
+     * of lines.
+     */
+    public void testCreateTextBlockMaxLines() {
+        final TextMeasurer measurer = new G2TextMeasurer(this.g2);
+        final TextBlock block = TextUtilities.createTextBlock(TEXT,
+                this.g2.getFont(), Color.black, 100.0f, 2, measurer);
+        final String[] lines = getLines(block);
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].endsWith("..."));
+    }
+
+    /**
+     * Repeated layouts are taken from the cache and return new, equal
+     * blocks.
+     */
+    public void testLayoutCache() {
+        final TextMeasurer measurer = new G2TextMeasurer(this.g2);
+        final Font font = this.g2.getFont();
+        final TextBlock b1 = TextUtilities.createTextBlock(TEXT, font,
+                Color.black, 100.0f, 3, measurer);
+        assertEquals(0, TextUtilities.getLayoutCacheHitCount());
+        assertEquals(1, TextUtilities.getLayoutCacheMissCount());
+        final TextBlock b2 = TextUtilities.createTextBlock(TEXT, font,
+                Color.black, 100.0f, 3, measurer);
+        assertEquals(1, TextUtilities.getLayoutCacheHitCount());
+        assertNotSame(b1, b2);
+        assertEquals(b1, b2);
+
+        // a different width, line count or font is a different layout
+        TextUtilities.createTextBlock(TEXT, font, Color.black, 120.0f, 3,
+                measurer);
+        TextUtilities.createTextBlock(TEXT, font, Color.black, 100.0f, 4,
+                measurer);
+        this.g2.setFont(font.deriveFont(20.0f));
+        final TextBlock b3 = TextUtilities.createTextBlock(TEXT, font,
+                Color.black, 100.0f, 3, measurer);
+        assertEquals(1, TextUtilities.getLayoutCacheHitCount());
+        assertEquals(4, TextUtilities.getLayoutCacheMissCount());
+        assertFalse(b1.equals(b3));
+
+        // the paint is not part of the layout
+        this.g2.setFont(font);
+        final TextBlock b4 = TextUtilities.createTextBlock(TEXT, font,
+                Color.red, 100.0f, 3, measurer);
+        assertEquals(2, TextUtilities.getLayoutCacheHitCount());
+        assertEquals(Color.red, b4.getLastLine().getFirstTextFragment()
+                .getPaint());
+    }
+
+    /**
+     * Layouts are cached separately for each measurer class, and not at all
+     * for subclasses of the measurers.
+     */
+    public void testLayoutCacheMeasurer() {
+        final Font font = this.g2.getFont();
+        TextUtilities.createTextBlock(TEXT, font, Color.black, 100.0f,
+                new G2TextMeasurer(this.g2));
+        final TextBlock b1 = TextUtilities.createTextBlock(TEXT, font,
+                Color.black, 100.0f, new AdvanceTextMeasurer(this.g2));
+        assertEquals(0, TextUtilities.getLayoutCacheHitCount());
+        assertEquals(2, TextUtilities.getLayoutCacheMissCount());
+
+        final TextMeasurer wide = new AdvanceTextMeasurer(this.g2) {
+            public float getStringWidth(String text, int start, int end) {
+                return 2.0f * super.getStringWidth(text, start, end);
+            }
+        };
+        final TextBlock b2 = TextUtilities.createTextBlock(TEXT, font,
+                Color.black, 100.0f, wide);
+        assertEquals(0, TextUtilities.getLayoutCacheHitCount());
+        assertEquals(2, TextUtilities.getLayoutCacheMissCount());
+        assertTrue(b2.getLines().size() > b1.getLines().size());
+    }
+
+    /**
+     * The cache is bounded, and can be disabled.
+     */
+    public void testLayoutCacheSize() {
+        final TextMeasurer measurer = new G2TextMeasurer(this.g2);
+        final Font font = this.g2.getFont();
+        TextUtilities.setLayoutCacheSize(2);
+        TextUtilities.createTextBlock("A", font, Color.black, 100.0f,
+                measurer);
+        TextUtilities.createTextBlock("B", font, Color.black, 100.0f,
+                measurer);
+        TextUtilities.createTextBlock("C", font, Color.black, 100.0f,
+                measurer);
+        TextUtilities.createTextBlock("C", font, Color.black, 100.0f,
+                measurer);
+        assertEquals(1, TextUtilities.getLayoutCacheHitCount());
+        // "A" was the least recently used entry
+        TextUtilities.createTextBlock("A", font, Color.black, 100.0f,
+                measurer);
+        assertEquals(1, TextUtilities.getLayoutCacheHitCount());
+
+        TextUtilities.setLayoutCacheSize(0);
+        TextUtilities.createTextBlock("C", font, Color.black, 100.0f,
+                measurer);
+        assertEquals(1, TextUtilities.getLayoutCacheHitCount());
+
+        try {
+            TextUtilities.setLayoutCacheSize(-1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The batch method returns the same blocks as the single string method,
+     * in the same order, whether or not the work is done in parallel.
+     */
+    public void testCreateTextBlocks() {
+        final Font font = this.g2.getFont();
+        final List texts = new ArrayList();
+        for (int i = 0; i < 500; i++) {
+            texts.add("Label " + i + " "
+                    + TEXT.substring(0, i % TEXT.length()));
+        }
+        final TextMeasurer[] measurers = {new G2TextMeasurer(this.g2),
+                new AdvanceTextMeasurer(this.g2)};
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int m = 0; m < measurers.length; m++) {
+                // don't compare against layouts cached by the batch call
+                TextUtilities.clearLayoutCache();
+                final List blocks = TextUtilities.createTextBlocks(texts,
+                        font, Color.black, 80.0f, 3, measurers[m], pool);
+                assertEquals(texts.size(), blocks.size());
+                TextUtilities.clearLayoutCache();
+                for (int i = 0; i < texts.size(); i++) {
+                    assertEquals(TextUtilities.createTextBlock(
+                            (String) texts.get(i), font, Color.black, 80.0f,
+                            3, measurers[m]), blocks.get(i));
+                }
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+        assertTrue(TextUtilities.createTextBlocks(new ArrayList(), font,
+                Color.black, 80.0f, 3, measurers[0]).isEmpty());
+    }
+
+}
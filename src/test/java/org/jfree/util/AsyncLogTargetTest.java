@@ -0,0 +1,260 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * AsyncLogTargetTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added testCloseWhileLogging();
+ *
+ */
+
+package org.jfree.util;
+
+import java.io.Flushable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link AsyncLogTarget} class.
+ */
+public class AsyncLogTargetTest extends TestCase {
+
+    /**
+     * A log target that records the messages it receives.
+     */
+    static class RecordingLogTarget implements LogTarget, Flushable {
+
+        /** The messages. */
+        final List messages = new ArrayList();
+
+        /** The thread that received the messages. */
+        Thread thread;
+
+        /** The number of flushes. */
+        int flushCount;
+
+        /** A latch that blocks the first message (null permitted). */
+        CountDownLatch gate;
+
+        /**
+         * Records a message.
+         *
+         * @param level  the log level.
+         * @param message  the log message.
+         */
+        public synchronized void log(final int level, final Object message) {
+            this.thread = Thread.currentThread();
+            await();
+            this.messages.add(LEVELS[level] + message);
+        }
+
+        /**
+         * Records a message.
+         *
+         * @param level  the log level.
+         * @param message  the log message.
+         * @param e  the exception
+         */
+        public synchronized void log(final int level, final Object message,
+                final Exception e) {
+            log(level, message + " " + e.getMessage());
+        }
+
+        /**
+         * Counts a flush.
+         */
+        public synchronized void flush() {
+            this.flushCount++;
+        }
+
+        /**
+         * Waits for the gate, if there is one.
+         */
+        private void await() {
+            if (this.gate != null) {
+                try {
+                    this.gate.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(AsyncLogTargetTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public AsyncLogTargetTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * All the messages from several threads are delivered, on the consumer
+     * thread, in the order each thread logged them.
+     */
+    public void testDelivery() throws InterruptedException {
+        final RecordingLogTarget recorder = new RecordingLogTarget();
+        final AsyncLogTarget target = new AsyncLogTarget(recorder, 16,
+                AsyncLogTarget.OVERFLOW_BLOCK, 0L);
+        assertEquals(16, target.getCapacity());
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int id = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    for (int i = 0; i < 1000; i++) {
+                        target.log(LogTarget.INFO, id + ":" + i);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        target.log(LogTarget.ERROR, "failed", new Exception("reason"));
+        target.close();
+
+        assertEquals(4001, recorder.messages.size());
+        assertEquals("ERROR: failed reason", recorder.messages.get(4000));
+        assertNotSame(Thread.currentThread(), recorder.thread);
+        final int[] next = new int[threads.length];
+        for (int i = 0; i < 4000; i++) {
+            final String s = ((String) recorder.messages.get(i)).substring(7);
+            final int id = Integer.parseInt(s.substring(0, s.indexOf(':')));
+            assertEquals(next[id]++, Integer.parseInt(s.substring(
+                    s.indexOf(':') + 1)));
+        }
+        assertTrue(recorder.flushCount > 0);
+        assertEquals(0, target.getDroppedCount());
+
+        // after closing, messages go straight to the target
+        target.log(LogTarget.WARN, "late");
+        assertEquals("WARN:  late", recorder.messages.get(4001));
+        assertSame(Thread.currentThread(), recorder.thread);
+    }
+
+    /**
+     * No message is lost when the target is closed while other threads are
+     * logging.
+     */
+    public void testCloseWhileLogging() throws InterruptedException {
+        for (int run = 0; run < 20; run++) {
+            final RecordingLogTarget recorder = new RecordingLogTarget();
+            final AsyncLogTarget target = new AsyncLogTarget(recorder, 16,
+                    AsyncLogTarget.OVERFLOW_BLOCK, 0L);
+            final CountDownLatch started = new CountDownLatch(4);
+            final Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread() {
+                    public void run() {
+                        started.countDown();
+                        for (int i = 0; i < 500; i++) {
+                            target.log(LogTarget.INFO, "message");
+                        }
+                    }
+                };
+                threads[t].start();
+            }
+            started.await();
+            target.close();
+            for (int t = 0; t < threads.length; t++) {
+                threads[t].join();
+            }
+            synchronized (recorder) {
+                assertEquals(2000, recorder.messages.size());
+            }
+        }
+    }
+
+    /**
+     * Messages are discarded when the buffer is full, except errors.
+     */
+    public void testDrop() {
+        final RecordingLogTarget recorder = new RecordingLogTarget();
+        recorder.gate = new CountDownLatch(1);
+        final AsyncLogTarget target = new AsyncLogTarget(recorder, 4,
+                AsyncLogTarget.OVERFLOW_DROP, 0L);
+        for (int i = 0; i < 100; i++) {
+            target.log(LogTarget.DEBUG, "message " + i);
+        }
+        assertTrue(target.getDroppedCount() >= 100 - 5);
+        recorder.gate.countDown();
+        target.log(LogTarget.ERROR, "error");
+        target.close();
+        assertEquals(100 - target.getDroppedCount() + 1,
+                recorder.messages.size());
+        assertEquals("ERROR: error",
+                recorder.messages.get(recorder.messages.size() - 1));
+    }
+
+    /**
+     * Checks the argument checks.
+     */
+    public void testConstructor() {
+        try {
+            new AsyncLogTarget(null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new AsyncLogTarget(new RecordingLogTarget(), 16, 3, 0L);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,330 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * -------------------------------------
+ * ExtendedConfigurationWrapperTest.java
+ * -------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added testSystemProperties();
+ * 17-Oct-2026 : Added testDefaultMethods();
+ * 17-Oct-2026 : Added testBindDurations();
+ *
+ */
+
+package org.jfree.util;
+
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.base.config.HierarchicalConfiguration;
+import org.jfree.base.config.SystemPropertyConfiguration;
+
+/**
+ * Tests for the {@link ExtendedConfigurationWrapper} class.
+ */
+public class ExtendedConfigurationWrapperTest extends TestCase {
+
+    /**
+     * A settings object for the binding test.
+     */
+    public static class Settings {
+        /** An int setting. */
+        public int size = 5;
+        /** A long setting. */
+        public long timeout = 100;
+        /** A double setting. */
+        public double ratio = 0.5;
+        /** A boolean setting. */
+        public boolean enabled;
+        /** A string setting. */
+        public String name = "default";
+        /** An enum setting. */
+        public TimeUnit unit = TimeUnit.SECONDS;
+        /** A constant, never bound. */
+        public static final int CONSTANT = 1;
+    }
+
+    /**
+     * An extended configuration that only implements the methods that
+     * existed before the long, double, duration and enum accessors.
+     */
+    private static class LegacyConfiguration extends DefaultConfiguration
+            implements ExtendedConfiguration {
+        public boolean isPropertySet(final String name) {
+            return getConfigProperty(name) != null;
+        }
+        public int getIntProperty(final String name) {
+            return getIntProperty(name, 0);
+        }
+        public int getIntProperty(final String name, final int defaultValue) {
+            try {
+                return Integer.parseInt(getConfigProperty(name));
+            }
+            catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        public boolean getBoolProperty(final String name) {
+            return getBoolProperty(name, false);
+        }
+        public boolean getBoolProperty(final String name,
+                final boolean defaultValue) {
+            final String value = getConfigProperty(name);
+            return (value == null) ? defaultValue : "true".equals(value);
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ExtendedConfigurationWrapperTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ExtendedConfigurationWrapperTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks the typed accessors.
+     */
+    public void testTypedAccessors() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        config.setConfigProperty("int", "42");
+        config.setConfigProperty("long", " 12345678901 ");
+        config.setConfigProperty("double", "2.5");
+        config.setConfigProperty("bool", "true");
+        config.setConfigProperty("enum", "milliseconds");
+        config.setConfigProperty("bad", "x");
+        final ExtendedConfigurationWrapper wrapper
+                = new ExtendedConfigurationWrapper(config);
+        assertEquals(42, wrapper.getIntProperty("int"));
+        assertEquals(42, wrapper.getIntProperty("int", 7));
+        assertEquals(7, wrapper.getIntProperty("bad", 7));
+        assertEquals(7, wrapper.getIntProperty("missing", 7));
+        assertEquals(12345678901L, wrapper.getLongProperty("long", 0));
+        assertEquals(3L, wrapper.getLongProperty("bad", 3));
+        assertEquals(2.5, wrapper.getDoubleProperty("double", 0), 0.0);
+        assertEquals(1.5, wrapper.getDoubleProperty("bad", 1.5), 0.0);
+        assertTrue(wrapper.getBoolProperty("bool"));
+        assertFalse(wrapper.getBoolProperty("bad", true));
+        assertTrue(wrapper.getBoolProperty("missing", true));
+        assertEquals(TimeUnit.MILLISECONDS, wrapper.getEnumProperty("enum",
+                TimeUnit.class, TimeUnit.DAYS));
+        assertEquals(TimeUnit.DAYS, wrapper.getEnumProperty("bad",
+                TimeUnit.class, TimeUnit.DAYS));
+        assertTrue(wrapper.isPropertySet("bad"));
+        assertFalse(wrapper.isPropertySet("missing"));
+    }
+
+    /**
+     * Checks that the cached values follow changes of the configuration.
+     */
+    public void testInvalidation() {
+        final HierarchicalConfiguration parent
+                = new HierarchicalConfiguration();
+        parent.setConfigProperty("n", "1");
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration(parent);
+        final ExtendedConfigurationWrapper wrapper
+                = new ExtendedConfigurationWrapper(config);
+        assertEquals(1, wrapper.getIntProperty("n"));
+        parent.setConfigProperty("n", "2");
+        assertEquals(2, wrapper.getIntProperty("n"));
+        config.setConfigProperty("n", "3");
+        assertEquals(3, wrapper.getIntProperty("n"));
+        config.setConfigProperty("n", null);
+        assertEquals(2, wrapper.getIntProperty("n"));
+    }
+
+    /**
+     * Checks that changes of the system properties are seen, although they
+     * are not reported as modifications.
+     */
+    public void testSystemProperties() {
+        final String key = "org.jfree.util.ExtendedConfigurationWrapperTest.knob";
+        final HierarchicalConfiguration defaults
+                = new HierarchicalConfiguration();
+        defaults.setConfigProperty(key, "7");
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration(defaults);
+        config.insertConfiguration(new SystemPropertyConfiguration());
+        final ExtendedConfigurationWrapper wrapper
+                = new ExtendedConfigurationWrapper(config);
+        System.clearProperty(key);
+        try {
+            assertEquals(7, wrapper.getIntProperty(key, -1));
+            System.setProperty(key, "42");
+            assertEquals(42, wrapper.getIntProperty(key, -1));
+            assertEquals(TimeUnit.DAYS, wrapper.getEnumProperty(key,
+                    TimeUnit.class, TimeUnit.DAYS));
+            System.setProperty(key, "43");
+            assertEquals(43, wrapper.getIntProperty(key, -1));
+            System.clearProperty(key);
+            assertEquals(7, wrapper.getIntProperty(key, -1));
+
+            final ExtendedConfigurationWrapper sysWrapper
+                    = new ExtendedConfigurationWrapper(
+                    new SystemPropertyConfiguration());
+            assertFalse(sysWrapper.isPropertySet(key));
+            assertEquals(-1, sysWrapper.getIntProperty(key, -1));
+            System.setProperty(key, "42");
+            assertTrue(sysWrapper.isPropertySet(key));
+            assertEquals(42, sysWrapper.getIntProperty(key, -1));
+        }
+        finally {
+            System.clearProperty(key);
+        }
+    }
+
+    /**
+     * Checks the duration parser.
+     */
+    public void testParseDuration() {
+        assertEquals(250, ExtendedConfigurationWrapper.parseDuration("250"));
+        assertEquals(250, ExtendedConfigurationWrapper.parseDuration("250ms"));
+        assertEquals(5000, ExtendedConfigurationWrapper.parseDuration("5s"));
+        assertEquals(120000,
+                ExtendedConfigurationWrapper.parseDuration(" 2 min "));
+        assertEquals(120000, ExtendedConfigurationWrapper.parseDuration("2m"));
+        assertEquals(3600000, ExtendedConfigurationWrapper.parseDuration("1h"));
+        assertEquals(86400000, ExtendedConfigurationWrapper.parseDuration("1d"));
+        assertEquals(30000, ExtendedConfigurationWrapper.parseDuration("PT30S"));
+        assertEquals(-1, ExtendedConfigurationWrapper.parseDuration("-5s"));
+        assertEquals(-1, ExtendedConfigurationWrapper.parseDuration("5 years"));
+        assertEquals(-1, ExtendedConfigurationWrapper.parseDuration(""));
+        assertEquals(-1, ExtendedConfigurationWrapper.parseDuration("PTx"));
+    }
+
+    /**
+     * Checks that the values are also read from a plain configuration.
+     */
+    public void testPlainConfiguration() {
+        final DefaultConfiguration config = new DefaultConfiguration();
+        config.setProperty("t", "3s");
+        final ExtendedConfigurationWrapper wrapper
+                = new ExtendedConfigurationWrapper(config);
+        assertEquals(3000, wrapper.getDurationProperty("t", 0));
+        config.setProperty("t", "4s");
+        assertEquals(4000, wrapper.getDurationProperty("t", 0));
+    }
+
+    /**
+     * Checks the default methods of the extended configuration interface.
+     */
+    public void testDefaultMethods() {
+        final LegacyConfiguration config = new LegacyConfiguration();
+        config.setProperty("long", " 12345678901 ");
+        config.setProperty("double", "2.5");
+        config.setProperty("enum", "milliseconds");
+        config.setProperty("t", "3s");
+        config.setProperty("bad", "x");
+        assertEquals(12345678901L, config.getLongProperty("long", 0));
+        assertEquals(3L, config.getLongProperty("bad", 3));
+        assertEquals(3L, config.getLongProperty("missing", 3));
+        assertEquals(2.5, config.getDoubleProperty("double", 0), 0.0);
+        assertEquals(1.5, config.getDoubleProperty("bad", 1.5), 0.0);
+        assertEquals(3000, config.getDurationProperty("t", 0));
+        assertEquals(5, config.getDurationProperty("bad", 5));
+        assertEquals(TimeUnit.MILLISECONDS, config.getEnumProperty("enum",
+                TimeUnit.class, TimeUnit.DAYS));
+        assertEquals(TimeUnit.DAYS, config.getEnumProperty("bad",
+                TimeUnit.class, TimeUnit.DAYS));
+
+        config.setProperty("s.size", "10");
+        config.setProperty("s.name", "test");
+        final Settings settings = new Settings();
+        config.bind(settings, "s.");
+        assertEquals(10, settings.size);
+        assertEquals("test", settings.name);
+    }
+
+    /**
+     * Checks the binding of a settings object.
+     */
+    public void testBind() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        config.setConfigProperty("s.size", "10");
+        config.setConfigProperty("s.timeout", "2s");
+        config.setConfigProperty("s.ratio", "bad");
+        config.setConfigProperty("s.enabled", "true");
+        config.setConfigProperty("s.name", "test");
+        config.setConfigProperty("s.unit", "MINUTES");
+        config.setConfigProperty("s.CONSTANT", "2");
+        final Settings settings = new Settings();
+        new ExtendedConfigurationWrapper(config).bind(settings, "s.");
+        assertEquals(10, settings.size);
+        assertEquals(100, settings.timeout);
+        assertEquals(0.5, settings.ratio, 0.0);
+        assertTrue(settings.enabled);
+        assertEquals("test", settings.name);
+        assertEquals(TimeUnit.MINUTES, settings.unit);
+        assertEquals(1, Settings.CONSTANT);
+
+        config.setConfigProperty("s.timeout", "2500");
+        new ExtendedConfigurationWrapper(config).bind(settings, "s.");
+        assertEquals(2500, settings.timeout);
+    }
+
+    /**
+     * Checks that only the named long fields are parsed as durations.
+     */
+    public void testBindDurations() {
+        final HierarchicalConfiguration config
+                = new HierarchicalConfiguration();
+        config.setConfigProperty("s.timeout", "2s");
+        final Settings settings = new Settings();
+        final ExtendedConfigurationWrapper wrapper
+                = new ExtendedConfigurationWrapper(config);
+        wrapper.bind(settings, "s.", new String[] {"timeout"});
+        assertEquals(2000, settings.timeout);
+
+        config.setConfigProperty("s.timeout", "2500");
+        wrapper.bind(settings, "s.", new String[] {"timeout"});
+        assertEquals(2500, settings.timeout);
+    }
+
+}
@@ -0,0 +1,282 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * LogContextTest.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link LogContext} class.
+ */
+public class LogContextTest extends TestCase {
+
+    /**
+     * A log that can be installed by the tests.
+     */
+    static class TestLog extends Log {
+
+        /**
+         * Creates a new log.
+         *
+         * @param debuglevel  the debug level.
+         */
+        TestLog(final int debuglevel) {
+            setDebuglevel(debuglevel);
+        }
+    }
+
+    /**
+     * A log target that records the messages and exceptions it receives.
+     */
+    static class RecordingLogTarget implements LogTarget {
+
+        /** The messages. */
+        final List messages = new ArrayList();
+
+        /** The exceptions. */
+        final List exceptions = new ArrayList();
+
+        /**
+         * Records a message.
+         *
+         * @param level  the log level.
+         * @param message  the log message.
+         */
+        public void log(final int level, final Object message) {
+            this.messages.add(message);
+            this.exceptions.add(null);
+        }
+
+        /**
+         * Records a message.
+         *
+         * @param level  the log level.
+         * @param message  the log message.
+         * @param e  the exception.
+         */
+        public void log(final int level, final Object message,
+                        final Exception e) {
+            this.messages.add(message);
+            this.exceptions.add(e);
+        }
+    }
+
+    /**
+     * An object that counts the calls to its toString() method.
+     */
+    static class CountingObject {
+
+        /** The number of calls to toString(). */
+        int count;
+
+        /**
+         * Returns a string.
+         *
+         * @return "X".
+         */
+        public String toString() {
+            this.count++;
+            return "X";
+        }
+    }
+
+    /** The log that was installed before the test. */
+    private Log savedLog;
+
+    /** The test log. */
+    private TestLog log;
+
+    /** The log target. */
+    private RecordingLogTarget target;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(LogContextTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public LogContextTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Installs a test log.
+     */
+    protected void setUp() {
+        this.savedLog = Log.getInstance();
+        this.log = new TestLog(LogTarget.WARN);
+        this.target = new RecordingLogTarget();
+        this.log.addTarget(this.target);
+        Log.defineLog(this.log);
+    }
+
+    /**
+     * Restores the original log.
+     */
+    protected void tearDown() {
+        Log.defineLog(this.savedLog);
+    }
+
+    /**
+     * Checks the formatting of parameterised messages.
+     */
+    public void testFormattedMessage() {
+        assertEquals("a 1 b 2", new Log.FormattedMessage("a {} b {}",
+                new Object[] {new Integer(1), new Integer(2)}).toString());
+        assertEquals("a 1 b {}", new Log.FormattedMessage("a {} b {}",
+                new Object[] {new Integer(1)}).toString());
+        assertEquals("a 1", new Log.FormattedMessage("a {}",
+                new Object[] {new Integer(1), new Integer(2)}).toString());
+        assertEquals("a {}", new Log.FormattedMessage("a {}",
+                null).toString());
+        assertEquals("p:a null", new Log.FormattedMessage("p", "a {}",
+                new Object[] {null}).toString());
+
+        // a parameter that formats another message
+        final Object nested = new Object() {
+            public String toString() {
+                return new Log.FormattedMessage("<{}>",
+                        new Object[] {"n"}).toString();
+            }
+        };
+        assertEquals("x <n> y", new Log.FormattedMessage("x {} y",
+                new Object[] {nested}).toString());
+    }
+
+    /**
+     * Checks that disabled messages are not formatted and enabled messages
+     * are formatted only when a target asks for the text.
+     */
+    public void testDeferredFormatting() {
+        final LogContext ctx = new LogContext("test");
+        final CountingObject arg = new CountingObject();
+        ctx.debug("value {}", arg);
+        assertEquals(0, this.target.messages.size());
+        assertEquals(0, arg.count);
+
+        ctx.warn("value {}", arg);
+        assertEquals(1, this.target.messages.size());
+        assertEquals(0, arg.count);
+        assertEquals("test:value X", this.target.messages.get(0).toString());
+        assertEquals(1, arg.count);
+    }
+
+    /**
+     * Checks that a trailing exception is passed to the log targets.
+     */
+    public void testTrailingException() {
+        final LogContext ctx = new LogContext(null);
+        final Exception e = new Exception();
+        ctx.error("failed: {}", "x", e);
+        // an exception that is used by a placeholder
+        ctx.error("failed: {}", (Object) e);
+        assertEquals("failed: x", this.target.messages.get(0).toString());
+        assertSame(e, this.target.exceptions.get(0));
+        assertEquals("failed: " + e, this.target.messages.get(1).toString());
+        assertNull(this.target.exceptions.get(1));
+    }
+
+    /**
+     * Checks the context debug levels.
+     */
+    public void testContextDebuglevel() {
+        final LogContext a = new LogContext("org.jfree.a.Foo");
+        final LogContext b = new LogContext("org.jfree.b.Foo");
+        assertFalse(a.isDebugEnabled());
+        assertTrue(a.isWarningEnabled());
+
+        this.log.setContextDebuglevel("org.jfree.a", LogTarget.DEBUG);
+        this.log.setContextDebuglevel("org.jfree.b", LogTarget.ERROR);
+        assertEquals(LogTarget.DEBUG, this.log.getDebuglevel("org.jfree.a.Foo"));
+        assertEquals(LogTarget.WARN, this.log.getDebuglevel("org.jfree.aa"));
+        assertTrue(a.isDebugEnabled());
+        assertFalse(b.isWarningEnabled());
+        assertTrue(b.isErrorEnabled());
+        assertFalse(Log.isDebugEnabled());
+
+        a.debug("a");
+        b.warn("b");
+        Log.debug("c");
+        assertEquals(1, this.target.messages.size());
+        assertEquals("org.jfree.a.Foo:a",
+                this.target.messages.get(0).toString());
+
+        // a more specific context wins
+        this.log.setContextDebuglevel("org.jfree.a.Foo", LogTarget.INFO);
+        assertFalse(a.isDebugEnabled());
+        assertTrue(a.isInfoEnabled());
+
+        this.log.clearContextDebuglevels();
+        assertFalse(a.isInfoEnabled());
+        assertTrue(b.isWarningEnabled());
+
+        // changing the default level is seen by existing contexts
+        this.log.setDebuglevel(LogTarget.DEBUG);
+        assertTrue(a.isDebugEnabled());
+        assertTrue(Log.isDebugEnabled());
+    }
+
+    /**
+     * Checks that a context picks up the levels of a newly defined log.
+     */
+    public void testDefineLog() {
+        final LogContext ctx = new LogContext("test");
+        assertFalse(ctx.isDebugEnabled());
+        final TestLog other = new TestLog(LogTarget.DEBUG);
+        Log.defineLog(other);
+        assertTrue(ctx.isDebugEnabled());
+        Log.defineLog(this.log);
+        assertFalse(ctx.isDebugEnabled());
+    }
+
+}
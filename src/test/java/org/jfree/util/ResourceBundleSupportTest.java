@@ -0,0 +1,426 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * ResourceBundleSupportTest.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added testOverriddenLookup();
+ *
+ */
+
+package org.jfree.util;
+
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import javax.swing.KeyStroke;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link ResourceBundleSupport} class.
+ */
+public class ResourceBundleSupportTest extends TestCase {
+
+    /** The resource name of the test icon (written by the tests). */
+    static final String ICON_NAME
+            = "org/jfree/util/ResourceBundleSupportTest.png";
+
+    /**
+     * The bundle used by the tests.
+     */
+    public static class TestBundle extends ListResourceBundle {
+        /**
+         * Returns the contents of the bundle.
+         *
+         * @return The contents.
+         */
+        protected Object[][] getContents() {
+            return new Object[][] {
+                {"plain", "Plain"},
+                {"local", "@plain"},
+                {"local2", "@local"},
+                {"global", "@@" + GlobalBundle.class.getName() + "@target"},
+                {"globalMissing", "@@" + GlobalBundle.class.getName()
+                        + "@missing"},
+                {"loop1", "@loop2"},
+                {"loop2", "@loop1"},
+                {"format", "{0} of {1}"},
+                {"mnemonic", "VK_ENTER"},
+                {"mnemonic2", "F"},
+                {"icon.save", ICON_NAME},
+                {"icon.missing", "org/jfree/util/no-such-icon.png"},
+                {"number", "{0,number,#,##0.00}"},
+            };
+        }
+    }
+
+    /**
+     * The bundle referenced by global forwards, which counts the lookups.
+     */
+    public static class GlobalBundle extends ResourceBundle {
+        /** The number of lookups of the 'target' key. */
+        static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+        /**
+         * Looks up a value and counts the lookups of the 'target' key.
+         *
+         * @param key  the key.
+         *
+         * @return The value.
+         */
+        protected Object handleGetObject(final String key) {
+            if ("target".equals(key)) {
+                LOOKUPS.incrementAndGet();
+                return "Global";
+            }
+            return null;
+        }
+
+        /**
+         * Returns the keys of the bundle.
+         *
+         * @return The keys.
+         */
+        public Enumeration getKeys() {
+            return Collections.enumeration(Collections.singleton("target"));
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ResourceBundleSupportTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ResourceBundleSupportTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the bundle support used by the tests.
+     *
+     * @return The bundle support.
+     */
+    static ResourceBundleSupport createSupport() {
+        return new ResourceBundleSupport(Locale.US,
+                TestBundle.class.getName());
+    }
+
+    /**
+     * Checks the lookup of plain strings and forwards.
+     */
+    public void testGetString() {
+        final ResourceBundleSupport support = createSupport();
+        assertEquals("Plain", support.getString("plain"));
+        assertEquals("Plain", support.getString("local"));
+        assertEquals("Plain", support.getString("local2"));
+        assertEquals("Global", support.getString("global"));
+        try {
+            support.getString("unknown");
+            fail("Should have thrown MissingResourceException");
+        }
+        catch (MissingResourceException e) {
+            // expected
+        }
+        try {
+            support.getString("globalMissing");
+            fail("Should have thrown MissingResourceException");
+        }
+        catch (MissingResourceException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A forward loop is reported each time, not only on the first lookup.
+     */
+    public void testLoop() {
+        final ResourceBundleSupport support = createSupport();
+        for (int i = 0; i < 2; i++) {
+            try {
+                support.getString("loop1");
+                fail("Should have thrown MissingResourceException");
+            }
+            catch (MissingResourceException e) {
+                // expected
+            }
+        }
+        assertEquals("Plain", support.getString("local2"));
+    }
+
+    /**
+     * Local forwards are resolved through the overridable lookup method.
+     */
+    public void testOverriddenLookup() {
+        final List keys = new ArrayList();
+        final ResourceBundleSupport support = new ResourceBundleSupport
+                (Locale.US, TestBundle.class.getName()) {
+            protected String internalGetString(final String key) {
+                keys.add(key);
+                return super.internalGetString(key);
+            }
+        };
+        assertEquals("Plain", support.getString("local2"));
+        assertEquals(Arrays.asList(new String[] {"local2", "local", "plain"}),
+                keys);
+        try {
+            support.getString("loop1");
+            fail("Should have thrown MissingResourceException");
+        }
+        catch (MissingResourceException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Global forwards are resolved only once.
+     */
+    public void testGlobalForwardCached() {
+        final ResourceBundleSupport support = createSupport();
+        support.getString("global");
+        final int lookups = GlobalBundle.LOOKUPS.get();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Global", support.getString("global"));
+        }
+        assertEquals(lookups, GlobalBundle.LOOKUPS.get());
+    }
+
+    /**
+     * Checks the message formatting.
+     */
+    public void testFormatMessage() {
+        final ResourceBundleSupport support = createSupport();
+        assertEquals("1 of 2", support.formatMessage("format", "1", "2"));
+        assertEquals("3 of 4", support.formatMessage("format", "3", "4"));
+        assertEquals("1,234.50", support.formatMessage("number",
+                new Double(1234.5)));
+        final StringBuffer buffer = new StringBuffer("x: ");
+        support.formatMessage("format", new Object[] {"a", "b"}, buffer);
+        assertEquals("x: a of b", buffer.toString());
+
+        // the pattern is compiled with the locale of the bundle support
+        final ResourceBundleSupport german = new ResourceBundleSupport(
+                Locale.GERMANY, TestBundle.class.getName());
+        assertEquals("1.234,50", german.formatMessage("number",
+                new Double(1234.5)));
+    }
+
+    /**
+     * Checks the bulk formatting methods.
+     */
+    public void testFormatMessages() {
+        final ResourceBundleSupport support = createSupport();
+        final Object[][] parameters = {{"1", "3"}, {"2", "3"}, {"3", "3"}};
+        final String[] messages = support.formatMessages("format",
+                parameters);
+        assertEquals(3, messages.length);
+        assertEquals("1 of 3", messages[0]);
+        assertEquals("3 of 3", messages[2]);
+        final StringBuffer buffer = support.formatMessages("format",
+                parameters, ", ", new StringBuffer());
+        assertEquals("1 of 3, 2 of 3, 3 of 3", buffer.toString());
+    }
+
+    /**
+     * Checks the mnemonics and key strokes.
+     */
+    public void testMnemonic() {
+        final ResourceBundleSupport support = createSupport();
+        assertEquals(KeyEvent.VK_ENTER,
+                support.getMnemonic("mnemonic").intValue());
+        assertEquals(KeyEvent.VK_ENTER,
+                support.getMnemonic("mnemonic").intValue());
+        assertEquals('F', support.getMnemonic("mnemonic2").intValue());
+        assertEquals(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER,
+                InputEvent.SHIFT_MASK),
+                support.getKeyStroke("mnemonic", InputEvent.SHIFT_MASK));
+    }
+
+    /**
+     * Writes the test icon to the class path.
+     *
+     * @throws Exception if there is a problem.
+     */
+    private void writeIcon() throws Exception {
+        final URL dir = ResourceBundleSupportTest.class.getResource("");
+        final File file = new File(new File(dir.toURI()),
+                "ResourceBundleSupportTest.png");
+        if (!file.exists()) {
+            final BufferedImage image = new BufferedImage(32, 32,
+                    BufferedImage.TYPE_INT_ARGB);
+            ImageIO.write(image, "png", file);
+        }
+    }
+
+    /**
+     * Decoded icons are cached, but each call returns a new icon.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testIconCache() throws Exception {
+        writeIcon();
+        ResourceBundleSupport.clearIconCache();
+        final ResourceBundleSupport support = createSupport();
+        final ImageIcon small1 = (ImageIcon) support.getIcon("icon.save",
+                false);
+        final ImageIcon small2 = (ImageIcon) support.getIcon("icon.save",
+                false);
+        final ImageIcon large = (ImageIcon) support.getIcon("icon.save",
+                true);
+        assertNotSame(small1, small2);
+        assertSame(small1.getImage(), small2.getImage());
+        assertEquals(16, small1.getIconWidth());
+        assertEquals(24, large.getIconWidth());
+        assertEquals(32, support.getIcon("icon.save").getIconWidth());
+        assertEquals(1, support.getIcon("icon.missing", false).getIconWidth());
+        assertNotNull(support.getResourceURL("icon.save"));
+    }
+
+    /**
+     * The icons of a prefix can be loaded in the background.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testPreloadIcons() throws Exception {
+        writeIcon();
+        ResourceBundleSupport.clearIconCache();
+        final ResourceBundleSupport support = createSupport();
+        final Future future = support.preloadIcons("icon.");
+        future.get(30, TimeUnit.SECONDS);
+        final ImageIcon small1 = (ImageIcon) support.getIcon("icon.save",
+                false);
+        final ImageIcon small2 = (ImageIcon) createSupport().getIcon(
+                "icon.save", false);
+        assertSame(small1.getImage(), small2.getImage());
+    }
+
+    /**
+     * Several threads format messages at the same time.
+     *
+     * @throws InterruptedException if interrupted.
+     */
+    public void testConcurrentFormatting() throws InterruptedException {
+        final ResourceBundleSupport support = createSupport();
+        final AtomicInteger errors = new AtomicInteger();
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final Integer id = new Integer(t);
+            threads[t] = new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < 2000; i++) {
+                        final String expected = i + " of " + id;
+                        if (!expected.equals(support.formatMessage("format",
+                                String.valueOf(i), id))) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        assertEquals(0, errors.get());
+    }
+
+    /**
+     * Several threads look up strings (and hit a loop) at the same time.
+     *
+     * @throws InterruptedException if interrupted.
+     */
+    public void testConcurrentLookups() throws InterruptedException {
+        final ResourceBundleSupport support = createSupport();
+        final String[] keys = {"plain", "local", "local2", "global"};
+        final String[] values = {"Plain", "Plain", "Plain", "Global"};
+        final AtomicInteger errors = new AtomicInteger();
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        final int k = (i + offset) % keys.length;
+                        if (!values[k].equals(support.getString(keys[k]))) {
+                            errors.incrementAndGet();
+                        }
+                        if (i % 1000 == 0) {
+                            try {
+                                support.getString("loop1");
+                                errors.incrementAndGet();
+                            }
+                            catch (MissingResourceException e) {
+                                // expected
+                            }
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        assertEquals(0, errors.get());
+    }
+
+}
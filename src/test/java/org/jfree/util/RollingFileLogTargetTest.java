@@ -0,0 +1,276 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * RollingFileLogTargetTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link RollingFileLogTarget} class.
+ */
+public class RollingFileLogTargetTest extends TestCase {
+
+    /** The time returned by the {@link ClockLogTarget} instances. */
+    static long now;
+
+    /**
+     * A target that uses {@link RollingFileLogTargetTest#now} as the
+     * current time.
+     */
+    static class ClockLogTarget extends RollingFileLogTarget {
+
+        /**
+         * Creates a new target.
+         *
+         * @param file  the file.
+         * @param rotationInterval  the rotation interval.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        ClockLogTarget(final File file, final long rotationInterval)
+                throws IOException {
+            super(file, 0L, rotationInterval, false, false);
+        }
+
+        /**
+         * Returns the current time.
+         *
+         * @return The time.
+         */
+        long currentTimeMillis() {
+            return now;
+        }
+    }
+
+    /** The directory for the log files. */
+    private File dir;
+
+    /** The log file. */
+    private File file;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RollingFileLogTargetTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RollingFileLogTargetTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a directory for the log files.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    protected void setUp() throws IOException {
+        this.dir = Files.createTempDirectory("jcommon-log").toFile();
+        this.file = new File(this.dir, "test.log");
+    }
+
+    /**
+     * Removes the log files.
+     */
+    protected void tearDown() {
+        final File[] files = this.dir.listFiles();
+        for (int i = 0; i < files.length; i++) {
+            files[i].delete();
+        }
+        this.dir.delete();
+    }
+
+    /**
+     * Reads a file as UTF-8 text.
+     *
+     * @param f  the file.
+     *
+     * @return The text.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static String read(final File f) throws IOException {
+        return new String(Files.readAllBytes(f.toPath()),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks that messages are written (and appended to an existing file).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWrite() throws IOException {
+        final String nl = System.getProperty("line.separator");
+        RollingFileLogTarget target = new RollingFileLogTarget(this.file,
+                0L, 0L, false, false);
+        target.log(LogTarget.DEBUG, "one");
+        target.log(LogTarget.ERROR, "été");
+        assertEquals("", read(this.file));
+        target.flush();
+        assertEquals("DEBUG: one" + nl + "ERROR: été" + nl,
+                read(this.file));
+        target.close();
+        target.log(LogTarget.INFO, "ignored");
+        target.close();
+
+        target = new RollingFileLogTarget(this.file);
+        target.log(LogTarget.INFO, "two", new Exception("failure"));
+        target.close();
+        final String text = read(this.file);
+        assertTrue(text.startsWith("DEBUG: one" + nl + "ERROR: été"
+                + nl + "INFO:  two" + nl + "java.lang.Exception: failure"));
+    }
+
+    /**
+     * Checks that a message larger than the buffer is written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testLargeMessage() throws IOException {
+        final StringBuffer b = new StringBuffer();
+        for (int i = 0; i < 100000; i++) {
+            b.append((char) ('a' + i % 26));
+        }
+        final RollingFileLogTarget target = new RollingFileLogTarget(
+                this.file, 0L, 0L, false, false);
+        target.log(LogTarget.WARN, b);
+        target.close();
+        assertEquals("WARN:  " + b + System.getProperty("line.separator"),
+                read(this.file));
+    }
+
+    /**
+     * Checks the rotation by size.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testSizeRotation() throws IOException {
+        final RollingFileLogTarget target = new RollingFileLogTarget(
+                this.file, 100L, 0L, false, false);
+        for (int i = 0; i < 25; i++) {
+            target.log(LogTarget.INFO, "message " + i);
+        }
+        target.close();
+        final File[] files = this.dir.listFiles();
+        assertTrue(files.length > 2);
+        int lines = 0;
+        for (int i = 0; i < files.length; i++) {
+            if (!files[i].equals(this.file)) {
+                final long size = files[i].length();
+                assertTrue(size >= 100L && size < 120L);
+                assertTrue(files[i].getName().startsWith("test.log."));
+            }
+            lines += read(files[i]).split("\n").length;
+        }
+        assertEquals(25, lines);
+    }
+
+    /**
+     * Checks the timed rotation.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testTimeRotation() throws IOException {
+        now = 1000L;
+        final RollingFileLogTarget target = new ClockLogTarget(this.file,
+                1000L);
+        target.log(LogTarget.INFO, "a");
+        now = 1999L;
+        target.log(LogTarget.INFO, "b");
+        assertEquals(1, this.dir.listFiles().length);
+        now = 2000L;
+        target.log(LogTarget.INFO, "c");
+        assertEquals(2, this.dir.listFiles().length);
+
+        // no rotation of an empty file
+        now = 3500L;
+        target.flush();
+        now = 5000L;
+        target.log(LogTarget.INFO, "d");
+        target.close();
+        assertEquals(3, this.dir.listFiles().length);
+        assertTrue(read(this.file).startsWith("INFO:  d"));
+    }
+
+    /**
+     * Checks the compression of a rotated file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testGzip() throws IOException {
+        final File rotated = new File(this.dir, "test.log.1");
+        Files.write(rotated.toPath(), "some text".getBytes("UTF-8"));
+        RollingFileLogTarget.gzip(rotated);
+        assertFalse(rotated.exists());
+        final InputStream in = new GZIPInputStream(new FileInputStream(
+                new File(this.dir, "test.log.1.gz")));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            int b = in.read();
+            while (b >= 0) {
+                out.write(b);
+                b = in.read();
+            }
+        }
+        finally {
+            in.close();
+        }
+        assertEquals("some text", out.toString("UTF-8"));
+    }
+
+}
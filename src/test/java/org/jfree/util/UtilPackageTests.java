@@ -64,15 +64,21 @@ public class UtilPackageTests extends TestCase {
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.util");
         suite.addTestSuite(ArrayUtilitiesTest.class);
+        suite.addTestSuite(AsyncLogTargetTest.class);
         suite.addTestSuite(BooleanListTest.class);
+        suite.addTestSuite(ExtendedConfigurationWrapperTest.class);
+        suite.addTestSuite(LogContextTest.class);
         suite.addTestSuite(ObjectListTest.class);
         suite.addTestSuite(ObjectTableTest.class);
         suite.addTestSuite(ObjectUtilitiesTest.class);
         suite.addTestSuite(PaintListTest.class);
         suite.addTestSuite(PaintUtilitiesTest.class);
+        suite.addTestSuite(ResourceBundleSupportTest.class);
+        suite.addTestSuite(RollingFileLogTargetTest.class);
         suite.addTestSuite(RotationTest.class);
         suite.addTestSuite(ShapeListTest.class);
         suite.addTestSuite(ShapeUtilitiesTest.class);
+        suite.addTestSuite(SoftCacheTest.class);
         suite.addTestSuite(SortOrderTest.class);
         suite.addTestSuite(UnitTypeTest.class);
         return suite;
@@ -0,0 +1,251 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * StaxParserFrontendTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.xml.parser.ObjectStreamReadHandler;
+import org.jfree.xml.parser.RootXmlReadHandlerTest;
+import org.jfree.xml.parser.XmlObjectCallback;
+
+/**
+ * Tests for the {@link StaxParserFrontend} class.
+ */
+public class StaxParserFrontendTest extends TestCase {
+
+    /**
+     * A root handler for a stream of colors.
+     */
+    public static class ColorStreamHandler
+            extends RootXmlReadHandlerTest.TestRootHandler {
+
+        /**
+         * Creates a new handler.
+         */
+        public ColorStreamHandler() {
+            setRootHandler(new ObjectStreamReadHandler(Color.class));
+        }
+
+        /**
+         * Returns a new instance.
+         *
+         * @return The new instance.
+         */
+        public FrontendDefaultHandler newInstance() {
+            return new ColorStreamHandler();
+        }
+    }
+
+    /**
+     * A pull parser frontend for color streams.
+     */
+    static class StaxFrontend extends StaxParserFrontend {
+        /**
+         * Creates a new frontend.
+         */
+        StaxFrontend() {
+            super(new ColorStreamHandler());
+        }
+    }
+
+    /**
+     * A SAX parser frontend for color streams.
+     */
+    static class SaxFrontend extends ParserFrontend {
+        /**
+         * Creates a new frontend.
+         */
+        SaxFrontend() {
+            super(new ColorStreamHandler());
+        }
+    }
+
+    /**
+     * A callback that collects the objects.
+     */
+    static class CollectingCallback implements XmlObjectCallback {
+        /** The objects. */
+        private final ArrayList objects = new ArrayList();
+
+        /**
+         * Collects an object.
+         *
+         * @param tagName  the tag name.
+         * @param object  the object.
+         */
+        public void objectCompleted(final String tagName, final Object object) {
+            assertEquals("color", tagName);
+            this.objects.add(object);
+        }
+    }
+
+    /** A temporary file. */
+    private File file;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(StaxParserFrontendTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public StaxParserFrontendTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the temporary file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    protected void setUp() throws IOException {
+        this.file = File.createTempFile("jcommon", ".xml");
+    }
+
+    /**
+     * Deletes the temporary file.
+     */
+    protected void tearDown() {
+        this.file.delete();
+    }
+
+    /**
+     * Writes the temporary file.
+     *
+     * @param text  the file contents.
+     *
+     * @return The URL of the file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private URL writeFile(final String text) throws IOException {
+        final OutputStream out = new FileOutputStream(this.file);
+        try {
+            out.write(text.getBytes("UTF-8"));
+        }
+        finally {
+            out.close();
+        }
+        return this.file.toURI().toURL();
+    }
+
+    /**
+     * Writes a document with the given number of colors.
+     *
+     * @param count  the number of colors.
+     *
+     * @return The URL of the file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private URL writeColors(final int count) throws IOException {
+        final StringBuffer b = new StringBuffer();
+        b.append("<?xml version='1.0'?>\n<!-- colors -->\n<colors>\n");
+        for (int i = 0; i < count; i++) {
+            b.append("  <color value=\"#0000");
+            b.append(Integer.toHexString(0x100 + i).substring(1));
+            b.append("\"/>\n");
+        }
+        b.append("</colors>\n");
+        return writeFile(b.toString());
+    }
+
+    /**
+     * Checks that the pull parser returns the same result as the SAX parser.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testParse() throws Exception {
+        final URL url = writeColors(5);
+        assertEquals(new SaxFrontend().parse(url, null),
+                new StaxFrontend().parse(url, null));
+        assertEquals(Integer.valueOf(5), new StaxFrontend().parse(url, null));
+    }
+
+    /**
+     * Checks that each top-level object is passed to the callback.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testCallback() throws Exception {
+        final URL url = writeColors(3);
+        final CollectingCallback callback = new CollectingCallback();
+        final Object result = new StaxFrontend().parse(url, null, callback);
+        assertEquals(Integer.valueOf(3), result);
+        assertEquals(3, callback.objects.size());
+        assertEquals(new Color(0, 0, 0), callback.objects.get(0));
+        assertEquals(new Color(0, 0, 2), callback.objects.get(2));
+    }
+
+    /**
+     * Checks that a malformed document is reported.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testMalformed() throws IOException {
+        final URL url = writeFile("<colors>\n<color value=\"#ff0000\">\n</colors>");
+        try {
+            new StaxFrontend().parse(url, null);
+            fail("Expected an ElementDefinitionException.");
+        }
+        catch (ElementDefinitionException e) {
+            // expected
+        }
+    }
+
+}
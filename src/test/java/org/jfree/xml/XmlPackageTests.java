@@ -0,0 +1,104 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * XmlPackageTests.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ * 17-Oct-2026 : Added the property accessor and object factory tests;
+ * 17-Oct-2026 : Added the class factory tests;
+ * 17-Oct-2026 : Added StaxParserFrontendTest;
+ * 17-Oct-2026 : Added the XML writer tests;
+ *
+ */
+
+package org.jfree.xml;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.xml.factory.objects.BeanObjectDescriptionTest;
+import org.jfree.xml.factory.objects.ClassFactoryCollectorTest;
+import org.jfree.xml.factory.objects.ClassFactoryImplTest;
+import org.jfree.xml.parser.RootXmlReadHandlerTest;
+import org.jfree.xml.util.GenericObjectFactoryTest;
+import org.jfree.xml.util.PropertyAccessorTest;
+import org.jfree.xml.writer.Utf8WriterTest;
+import org.jfree.xml.writer.XMLWriterTest;
+
+/**
+ * A collection of tests for the org.jfree.xml package and its subpackages.
+ * <P>
+ * These tests can be run using JUnit (http://www.junit.org).
+ */
+public class XmlPackageTests extends TestCase {
+
+    /**
+     * Returns a test suite to the JUnit test runner.
+     *
+     * @return the test suite.
+     */
+    public static Test suite() {
+        final TestSuite suite = new TestSuite("org.jfree.xml");
+        suite.addTestSuite(BeanObjectDescriptionTest.class);
+        suite.addTestSuite(ClassFactoryCollectorTest.class);
+        suite.addTestSuite(ClassFactoryImplTest.class);
+        suite.addTestSuite(GenericObjectFactoryTest.class);
+        suite.addTestSuite(PropertyAccessorTest.class);
+        suite.addTestSuite(RootXmlReadHandlerTest.class);
+        suite.addTestSuite(StaxParserFrontendTest.class);
+        suite.addTestSuite(Utf8WriterTest.class);
+        suite.addTestSuite(XMLWriterTest.class);
+        return suite;
+    }
+
+    /**
+     * Constructs the test suite.
+     *
+     * @param name  the suite name.
+     */
+    public XmlPackageTests(final String name) {
+        super(name);
+    }
+
+    /**
+     * Runs the test suite using the JUnit text-based runner.
+     *
+     * @param args  ignored.
+     */
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+}
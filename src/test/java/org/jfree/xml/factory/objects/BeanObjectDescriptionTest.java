@@ -0,0 +1,138 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * BeanObjectDescriptionTest.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.factory.objects;
+
+import java.awt.Color;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link BeanObjectDescription} class.
+ */
+public class BeanObjectDescriptionTest extends TestCase {
+
+    /**
+     * A bean for the tests.
+     */
+    public static class TestBean {
+        /** The width. */
+        private int width;
+        /** The name. */
+        private String name;
+        /** The color. */
+        private Color color;
+
+        public int getWidth() {
+            return this.width;
+        }
+        public void setWidth(final int width) {
+            this.width = width;
+        }
+        public String getName() {
+            return this.name;
+        }
+        public void setName(final String name) {
+            this.name = name;
+        }
+        public Color getColor() {
+            return this.color;
+        }
+        public void setColor(final Color color) {
+            this.color = color;
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(BeanObjectDescriptionTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public BeanObjectDescriptionTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks that an object is copied through its description.
+     *
+     * @throws ObjectFactoryException if there is a problem.
+     */
+    public void testRoundTrip() throws ObjectFactoryException {
+        final TestBean bean = new TestBean();
+        bean.setName("x");
+        bean.setWidth(7);
+        bean.setColor(Color.red);
+        final BeanObjectDescription description
+                = new BeanObjectDescription(TestBean.class);
+        description.setParameterFromObject(bean);
+        assertEquals(Integer.valueOf(7), description.getParameter("width"));
+
+        final TestBean copy = (TestBean) description.getInstance()
+                .createObject();
+        assertEquals("x", copy.getName());
+        assertEquals(7, copy.getWidth());
+        assertEquals(Color.red, copy.getColor());
+    }
+
+    /**
+     * Checks that unset parameters leave the bean properties unchanged.
+     */
+    public void testUnsetParameters() {
+        final BeanObjectDescription description
+                = new BeanObjectDescription(TestBean.class);
+        description.setParameter("name", "y");
+        final TestBean bean = (TestBean) description.createObject();
+        assertEquals("y", bean.getName());
+        assertEquals(0, bean.getWidth());
+        assertNull(bean.getColor());
+    }
+
+}
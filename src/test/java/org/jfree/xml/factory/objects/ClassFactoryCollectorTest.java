@@ -0,0 +1,113 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * ClassFactoryCollectorTest.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.factory.objects;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the superclass lookup of the {@link ClassFactoryCollector} class.
+ */
+public class ClassFactoryCollectorTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ClassFactoryCollectorTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ClassFactoryCollectorTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks the lookup through the collected factories.
+     */
+    public void testSuperClassLookup() {
+        final ClassFactoryCollector collector = new ClassFactoryCollector();
+        assertNull(collector.getSuperClassObjectDescription
+                (Integer.class, null));
+        final ClassFactoryImplTest.TestClassFactory factory
+                = new ClassFactoryImplTest.TestClassFactory();
+        factory.register(Number.class);
+        factory.register(Integer.class);
+        collector.addFactory(factory);
+        assertEquals(Integer.class, collector.getSuperClassObjectDescription
+                (Integer.class, null).getObjectClass());
+        assertEquals(Number.class, collector.getSuperClassObjectDescription
+                (Long.class, null).getObjectClass());
+        assertNull(collector.getSuperClassObjectDescription
+                (String.class, null));
+    }
+
+    /**
+     * Checks that registrations in a nested factory are noticed.
+     */
+    public void testNestedRegistration() {
+        final ClassFactoryImplTest.TestClassFactory factory
+                = new ClassFactoryImplTest.TestClassFactory();
+        final ClassFactoryCollector inner = new ClassFactoryCollector();
+        inner.addFactory(factory);
+        final ClassFactoryCollector outer = new ClassFactoryCollector();
+        outer.addFactory(inner);
+        assertNull(outer.getSuperClassObjectDescription(ArrayList.class, null));
+
+        factory.register(AbstractList.class);
+        assertEquals(AbstractList.class, outer.getSuperClassObjectDescription
+                (ArrayList.class, null).getObjectClass());
+        factory.register(ArrayList.class);
+        assertEquals(ArrayList.class, outer.getSuperClassObjectDescription
+                (ArrayList.class, null).getObjectClass());
+    }
+
+}
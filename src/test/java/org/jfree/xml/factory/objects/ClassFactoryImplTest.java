@@ -0,0 +1,128 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * ClassFactoryImplTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.factory.objects;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the superclass lookup of the {@link ClassFactoryImpl} class.
+ */
+public class ClassFactoryImplTest extends TestCase {
+
+    /**
+     * A class factory that registers bean descriptions on request.
+     */
+    static class TestClassFactory extends ClassFactoryImpl {
+        /**
+         * Registers a bean description for the given class.
+         *
+         * @param c  the class.
+         */
+        void register(final Class c) {
+            registerClass(c, new BeanObjectDescription(c, false));
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ClassFactoryImplTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ClassFactoryImplTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks that the nearest registered superclass is found.
+     */
+    public void testSuperClassLookup() {
+        final TestClassFactory factory = new TestClassFactory();
+        factory.register(Number.class);
+        assertEquals(Number.class, factory.getSuperClassObjectDescription
+                (Integer.class, null).getObjectClass());
+        assertNull(factory.getSuperClassObjectDescription(String.class, null));
+        factory.register(Integer.class);
+        assertEquals(Integer.class, factory.getSuperClassObjectDescription
+                (Integer.class, null).getObjectClass());
+    }
+
+    /**
+     * Checks that a known superclass description is only replaced by a more
+     * specific one.
+     */
+    public void testKnownSuperClass() {
+        final TestClassFactory factory = new TestClassFactory();
+        factory.register(AbstractList.class);
+        final ObjectDescription known
+                = new BeanObjectDescription(Object.class, false);
+        assertEquals(AbstractList.class, factory.getSuperClassObjectDescription
+                (ArrayList.class, known).getObjectClass());
+        final ObjectDescription specific
+                = new BeanObjectDescription(ArrayList.class, false);
+        assertEquals(ArrayList.class, factory.getSuperClassObjectDescription
+                (ArrayList.class, specific).getObjectClass());
+    }
+
+    /**
+     * Checks that each lookup returns a new description instance.
+     */
+    public void testNewInstances() {
+        final TestClassFactory factory = new TestClassFactory();
+        factory.register(Number.class);
+        assertNotSame(factory.getSuperClassObjectDescription(Long.class, null),
+                factory.getSuperClassObjectDescription(Long.class, null));
+    }
+
+}
@@ -0,0 +1,216 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * RootXmlReadHandlerTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.parser;
+
+import java.awt.Color;
+import java.awt.Paint;
+import java.util.List;
+import java.util.Vector;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.xml.FrontendDefaultHandler;
+import org.jfree.xml.parser.coretypes.ColorReadHandler;
+import org.jfree.xml.parser.coretypes.GradientPaintReadHandler;
+import org.jfree.xml.parser.coretypes.ListReadHandler;
+import org.jfree.xml.util.ObjectFactory;
+import org.jfree.xml.util.SimpleObjectFactory;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * Tests for the {@link RootXmlReadHandler} class.
+ */
+public class RootXmlReadHandlerTest extends TestCase {
+
+    /**
+     * A root handler with the default mappings only.
+     */
+    public static class TestRootHandler extends RootXmlReadHandler {
+
+        /** The object factory. */
+        private final SimpleObjectFactory factory = new SimpleObjectFactory();
+
+        /**
+         * Creates a new handler with the default mappings.
+         */
+        public TestRootHandler() {
+            addDefaultMappings();
+        }
+
+        /**
+         * Returns the object factory.
+         *
+         * @return The object factory.
+         */
+        public ObjectFactory getFactoryLoader() {
+            return this.factory;
+        }
+
+        /**
+         * Returns a new instance.
+         *
+         * @return The new instance.
+         */
+        public FrontendDefaultHandler newInstance() {
+            return new TestRootHandler();
+        }
+    }
+
+    /**
+     * A root handler that counts the handlers it loads.
+     */
+    public static class LoadingRootHandler extends TestRootHandler {
+
+        /** The number of handlers loaded. */
+        private int loaded;
+
+        /**
+         * Loads a handler class.
+         *
+         * @param className  the class name.
+         *
+         * @return The handler.
+         *
+         * @throws XmlReaderException if there is a problem.
+         */
+        protected XmlReadHandler loadHandlerClass(final String className)
+            throws XmlReaderException {
+            this.loaded++;
+            return super.loadHandlerClass(className);
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RootXmlReadHandlerTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RootXmlReadHandlerTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the attributes for a multiplexed element.
+     *
+     * @param type  the value of the type attribute.
+     *
+     * @return The attributes.
+     */
+    private static AttributesImpl type(final String type) {
+        final AttributesImpl atts = new AttributesImpl();
+        atts.addAttribute("", "type", "type", "CDATA", type);
+        return atts;
+    }
+
+    /**
+     * Checks that each call creates a new handler of the mapped class.
+     *
+     * @throws XmlReaderException if there is a problem.
+     */
+    public void testCreateHandler() throws XmlReaderException {
+        final RootXmlReadHandler root = new TestRootHandler();
+        final XmlReadHandler h1 = root.createHandler(Paint.class, "paint",
+                type("color"));
+        final XmlReadHandler h2 = root.createHandler(Paint.class, "paint",
+                type("color"));
+        assertTrue(h1 instanceof ColorReadHandler);
+        assertTrue(h2 instanceof ColorReadHandler);
+        assertNotSame(h1, h2);
+        assertTrue(root.createHandler(List.class, "list", type("vector"))
+                instanceof ListReadHandler);
+        assertTrue(root.createHandler(Vector.class, "list",
+                new AttributesImpl()) instanceof ListReadHandler);
+    }
+
+    /**
+     * Checks that a multiplexed element without a type is reported.
+     */
+    public void testMissingType() {
+        final RootXmlReadHandler root = new TestRootHandler();
+        try {
+            root.createHandler(Paint.class, "paint", new AttributesImpl());
+            fail("Expected an XmlReaderException.");
+        }
+        catch (XmlReaderException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Checks that a new mapping replaces the resolved handler.
+     *
+     * @throws XmlReaderException if there is a problem.
+     */
+    public void testMappingChange() throws XmlReaderException {
+        final RootXmlReadHandler root = new TestRootHandler();
+        assertTrue(root.createHandler(Color.class, "color",
+                new AttributesImpl()) instanceof ColorReadHandler);
+        root.addManualMapping(Color.class, GradientPaintReadHandler.class);
+        assertTrue(root.createHandler(Color.class, "color",
+                new AttributesImpl()) instanceof GradientPaintReadHandler);
+    }
+
+    /**
+     * Checks that an overridden loadHandlerClass() creates the handlers.
+     *
+     * @throws XmlReaderException if there is a problem.
+     */
+    public void testLoadHandlerClassOverride() throws XmlReaderException {
+        final LoadingRootHandler root = new LoadingRootHandler();
+        assertTrue(root.createHandler(Paint.class, "paint", type("color"))
+                instanceof ColorReadHandler);
+        assertTrue(root.createHandler(Paint.class, "paint", type("color"))
+                instanceof ColorReadHandler);
+        assertEquals(2, root.loaded);
+    }
+
+}
@@ -0,0 +1,176 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * GenericObjectFactoryTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.util;
+
+import java.awt.Color;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link GenericObjectFactory} class.
+ */
+public class GenericObjectFactoryTest extends TestCase {
+
+    /**
+     * A bean with a constructor for the tests.
+     */
+    public static class TestBean {
+        /** The width. */
+        private int width;
+        /** The name. */
+        private String name;
+        /** The color. */
+        private Color color;
+
+        public TestBean() {
+        }
+        public TestBean(final String name, final int width) {
+            this.name = name;
+            this.width = width;
+        }
+        public int getWidth() {
+            return this.width;
+        }
+        public void setWidth(final int width) {
+            this.width = width;
+        }
+        public String getName() {
+            return this.name;
+        }
+        public void setName(final String name) {
+            this.name = name;
+        }
+        public Color getColor() {
+            return this.color;
+        }
+        public void setColor(final Color color) {
+            this.color = color;
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(GenericObjectFactoryTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public GenericObjectFactoryTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a factory that uses the two argument constructor.
+     *
+     * @return The factory.
+     *
+     * @throws ObjectDescriptionException if there is a problem.
+     */
+    private static GenericObjectFactory createFactory()
+        throws ObjectDescriptionException {
+        return new GenericObjectFactory(TestBean.class, null,
+                new ConstructorDefinition[] {
+                    new ConstructorDefinition("name", String.class),
+                    new ConstructorDefinition("width", Integer.TYPE)},
+                new PropertyDefinition[0], new LookupDefinition[0],
+                new AttributeDefinition[0],
+                new String[] {"name", "width", "color"});
+    }
+
+    /**
+     * Checks creating an object and writing its properties.
+     *
+     * @throws ObjectDescriptionException if there is a problem.
+     */
+    public void testCreateObject() throws ObjectDescriptionException {
+        final GenericObjectFactory factory = createFactory().getInstance();
+        factory.setProperty("name", "x");
+        factory.setProperty("width", Integer.valueOf(7));
+        factory.setProperty("color", Color.red);
+        final TestBean bean = (TestBean) factory.createObject();
+        factory.writeObjectProperties(bean);
+        assertEquals("x", bean.getName());
+        assertEquals(7, bean.getWidth());
+        assertEquals(Color.red, bean.getColor());
+    }
+
+    /**
+     * Checks reading the properties of an object.
+     *
+     * @throws ObjectDescriptionException if there is a problem.
+     */
+    public void testReadProperties() throws ObjectDescriptionException {
+        final TestBean bean = new TestBean("y", 3);
+        bean.setColor(Color.blue);
+        final GenericObjectFactory factory = createFactory().getInstance();
+        factory.readProperties(bean);
+        assertEquals("y", factory.getProperty("name"));
+        assertEquals(Integer.valueOf(3), factory.getProperty("width"));
+        assertEquals(Color.blue, factory.getProperty("color"));
+    }
+
+    /**
+     * Checks that a missing constructor argument is reported.
+     *
+     * @throws ObjectDescriptionException if there is a problem.
+     */
+    public void testMissingProperty() throws ObjectDescriptionException {
+        final GenericObjectFactory factory = createFactory().getInstance();
+        factory.setProperty("name", "x");
+        try {
+            factory.createObject();
+            fail("Expected an ObjectDescriptionException.");
+        }
+        catch (ObjectDescriptionException e) {
+            // expected
+        }
+    }
+
+}
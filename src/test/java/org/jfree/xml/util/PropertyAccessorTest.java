@@ -0,0 +1,169 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * PropertyAccessorTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.util;
+
+import java.awt.Color;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link PropertyAccessor} class.
+ */
+public class PropertyAccessorTest extends TestCase {
+
+    /**
+     * A bean for the tests.
+     */
+    public static class TestBean {
+        /** The width. */
+        private int width;
+        /** The name. */
+        private String name;
+        /** The color. */
+        private Color color;
+
+        public int getWidth() {
+            return this.width;
+        }
+        public void setWidth(final int width) {
+            this.width = width;
+        }
+        public String getName() {
+            return this.name;
+        }
+        public void setName(final String name) {
+            if ("invalid".equals(name)) {
+                throw new IllegalArgumentException(name);
+            }
+            this.name = name;
+        }
+        public Color getColor() {
+            return this.color;
+        }
+        public void setColor(final Color color) {
+            this.color = color;
+        }
+        public int getArea() {
+            return this.width * this.width;
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(PropertyAccessorTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public PropertyAccessorTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks that the accessors of a public bean are bound.
+     *
+     * @throws IntrospectionException if there is a problem.
+     */
+    public void testBound() throws IntrospectionException {
+        final PropertyDescriptor[] pds = Introspector.getBeanInfo
+                (TestBean.class, Object.class).getPropertyDescriptors();
+        assertEquals(4, pds.length);
+        for (int i = 0; i < pds.length; i++) {
+            assertTrue(pds[i].getName(), new PropertyAccessor(pds[i]).isBound());
+        }
+        final PropertyAccessor area = new PropertyAccessor
+                (new PropertyDescriptor("area", TestBean.class, "getArea", null));
+        assertTrue(area.isReadable());
+        assertFalse(area.isWritable());
+    }
+
+    /**
+     * Checks reading and writing values, including primitive values.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testGetSetValue() throws Exception {
+        final TestBean bean = new TestBean();
+        final PropertyAccessor width = new PropertyAccessor
+                (new PropertyDescriptor("width", TestBean.class));
+        final PropertyAccessor color = new PropertyAccessor
+                (new PropertyDescriptor("color", TestBean.class));
+        width.setValue(bean, Integer.valueOf(42));
+        color.setValue(bean, Color.red);
+        assertEquals(42, bean.getWidth());
+        assertEquals(Integer.valueOf(42), width.getValue(bean));
+        assertEquals(Color.red, color.getValue(bean));
+        color.setValue(bean, null);
+        assertNull(color.getValue(bean));
+    }
+
+    /**
+     * Checks that exceptions of the accessor methods are wrapped like those
+     * of a reflective call.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testException() throws Exception {
+        final PropertyAccessor name = new PropertyAccessor
+                (new PropertyDescriptor("name", TestBean.class));
+        try {
+            name.setValue(new TestBean(), "invalid");
+            fail("Expected an InvocationTargetException.");
+        }
+        catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+}
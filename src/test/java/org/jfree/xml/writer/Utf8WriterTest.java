@@ -0,0 +1,152 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * Utf8WriterTest.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link Utf8Writer} class.
+ */
+public class Utf8WriterTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(Utf8WriterTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public Utf8WriterTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a random text with one, two, three and four byte characters.
+     *
+     * @param random  the random number generator.
+     * @param length  the number of chars.
+     *
+     * @return The text.
+     */
+    private static String createText(final Random random, final int length) {
+        final StringBuffer b = new StringBuffer();
+        for (int i = 0; i < length; i++) {
+            final int k = random.nextInt(10);
+            if (k < 6) {
+                b.append((char) ('a' + random.nextInt(26)));
+            }
+            else if (k < 7) {
+                b.append('\u00e9');
+            }
+            else if (k < 8) {
+                b.append('\u4e2d');
+            }
+            else if (k < 9) {
+                b.append('\ud83d');
+            }
+            else {
+                b.append('\ude00');
+            }
+        }
+        return b.toString();
+    }
+
+    /**
+     * Checks that the output equals the encoding of the JDK, when the text
+     * is written in pieces of random length (which split surrogate pairs).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEncoding() throws IOException {
+        final Random random = new Random(1);
+        for (int t = 0; t < 200; t++) {
+            final String text = createText(random, random.nextInt(30000));
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final Utf8Writer writer = new Utf8Writer(out);
+            int pos = 0;
+            while (pos < text.length()) {
+                final int n = Math.min(text.length() - pos,
+                        random.nextInt(5000) + 1);
+                if (random.nextBoolean()) {
+                    writer.write(text, pos, n);
+                }
+                else {
+                    writer.write(text.toCharArray(), pos, n);
+                }
+                pos += n;
+            }
+            writer.close();
+            assertTrue(Arrays.equals(text.getBytes("UTF-8"),
+                    out.toByteArray()));
+        }
+    }
+
+    /**
+     * Checks writing single chars.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testSingleChars() throws IOException {
+        final String text = "a\u00e9\u4e2d\ud83d\ude00";
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Utf8Writer writer = new Utf8Writer(out);
+        for (int i = 0; i < text.length(); i++) {
+            writer.write(text.charAt(i));
+        }
+        writer.close();
+        assertTrue(Arrays.equals(text.getBytes("UTF-8"), out.toByteArray()));
+    }
+
+}
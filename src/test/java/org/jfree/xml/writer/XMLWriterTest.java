@@ -0,0 +1,152 @@
+/* ========================================================================
+ * JCommon : a free general purpose class library for the Java(tm) platform
+ * ========================================================================
+ *
+ * (C) Copyright 2000-2014, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jcommon/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * XMLWriterTest.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.xml.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests for the {@link XMLWriter} class.
+ */
+public class XMLWriterTest extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XMLWriterTest.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XMLWriterTest(final String name) {
+        super(name);
+    }
+
+    /**
+     * Checks the output of a small document.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testDocument() throws IOException {
+        final StringWriter out = new StringWriter();
+        final XMLWriter writer = new XMLWriter(out, "  ");
+        writer.writeXmlDeclaration();
+        final AttributeList attributes = new AttributeList();
+        attributes.setAttribute("name", "a<b & \"c\"");
+        attributes.setAttribute("id", "1");
+        writer.writeTag("root", false);
+        writer.writeTag("item", attributes, false);
+        writer.writeText("x");
+        writer.writeNormalizedText(" <y> & z");
+        writer.writeCloseTag("item");
+        writer.writeTag("empty", "k", "v'", true);
+        writer.writeCloseTag("root");
+        writer.close();
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + XMLWriterSupport.getLineSeparator()
+                + "<root>  <item name=\"a&lt;b &amp; &quot;c&quot;\" id=\"1\">"
+                + "x &lt;y&gt; &amp; z</item>  <empty k=\"v'\"/></root>",
+                out.toString());
+    }
+
+    /**
+     * Checks the escaping of special characters.
+     */
+    public void testNormalize() {
+        assertEquals("a\tb c&lt;&gt;&amp;&quot;'\u00e9",
+                XMLWriterSupport.normalize("a\tb c<>&\"'\u00e9"));
+        assertEquals("plain", XMLWriterSupport.normalize("plain"));
+        assertEquals("", XMLWriterSupport.normalize(""));
+        assertEquals("", XMLWriterSupport.normalize(null));
+    }
+
+    /**
+     * Checks that attribute list subclasses are written through their
+     * accessor methods.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testAttributeListSubclasses() throws IOException {
+        final XMLWriterSupport support = new XMLWriterSupport();
+        final StringWriter out = new StringWriter();
+        final AttributeList plain = new AttributeList();
+        plain.setAttribute("a", "1<");
+        final AttributeList unsynchronized = new UnsynchronizedAttributeList();
+        unsynchronized.setAttribute("b", "2&");
+        final AttributeList prefixed = new AttributeList() {
+            public String getAttribute(final String name) {
+                return "X" + super.getAttribute(name);
+            }
+        };
+        prefixed.setAttribute("c", "3");
+        support.writeTag(out, "t", plain, true);
+        support.writeTag(out, "t", unsynchronized, true);
+        support.writeTag(out, "t", prefixed, true);
+        assertEquals("<t a=\"1&lt;\"/><t b=\"2&amp;\"/><t c=\"X3\"/>",
+                out.toString());
+    }
+
+    /**
+     * Checks that the output stream receives UTF-8 encoded text.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testOutputStream() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final XMLWriter writer = new XMLWriter(out);
+        writer.writeTag("t", "v", "\u00e9\u4e2d\ud83d\ude00", true);
+        writer.close();
+        assertEquals("<t v=\"\u00e9\u4e2d\ud83d\ude00\"/>",
+                new String(out.toByteArray(), "UTF-8"));
+    }
+
+}